@@ -14,5 +14,12 @@ public final class PostConstants {
 		private Status() {}
 	}
 
+	/** 목록 API 키셋 페이지 크기 */
+	public static final class Paging {
+		public static final int DEFAULT_PAGE_SIZE = 20;
+		public static final int MAX_PAGE_SIZE = 100;
+		private Paging() {}
+	}
+
 	private PostConstants() {}
 }
@@ -9,6 +9,7 @@ public final class Errors {
 	public static final URI TYPE_FORBIDDEN    = URI.create("https://api.example.com/errors/forbidden");
 	public static final URI TYPE_UNAUTHORIZED = URI.create("https://api.example.com/errors/unauthorized");
 	public static final URI TYPE_BAD_REQUEST = URI.create("https://api.example.com/errors/bad-request");
+	public static final URI TYPE_TOO_MANY_REQUESTS = URI.create("https://api.example.com/errors/too-many-requests");
 
 	private Errors() {}
 }
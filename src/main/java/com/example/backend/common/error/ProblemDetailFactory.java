@@ -52,6 +52,11 @@ public class ProblemDetailFactory {
 			"Unauthorized", detail, request);
 	}
 
+	public static ProblemDetail createTooManyRequests(String detail, HttpServletRequest request) {
+		return create(HttpStatus.TOO_MANY_REQUESTS, Errors.TYPE_TOO_MANY_REQUESTS,
+			"Too Many Requests", detail, request);
+	}
+
 	public static ProblemDetail createInternalError(HttpServletRequest request) {
 		ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
 		pd.setTitle("Internal Server Error");
@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -158,6 +159,20 @@ public class ProblemDetailsAdvice {
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(pd);
 	}
 	
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ProblemDetail> handleTooManyRequests(TooManyRequestsException ex, HttpServletRequest req) {
+		log.warn("429 TooManyRequests: req={}, code={}, retryAfter={}s, msg={}",
+				req(req), ex.getCode(), ex.getRetryAfterSeconds(), ex.getMessage());
+		
+		ProblemDetail pd = ProblemDetailFactory.createTooManyRequests(ex.getMessage(), req);
+		pd.setProperty("code", ex.getCode());
+		pd.setProperty("retryAfterSeconds", ex.getRetryAfterSeconds());
+		
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+				.body(pd);
+	}
+	
 	@ExceptionHandler({UnauthorizedException.class, AuthenticationException.class})
 	public ResponseEntity<ProblemDetail> handleUnauthorized(RuntimeException ex, HttpServletRequest req) {
 		String detail = ex.getMessage() != null ? ex.getMessage() : "인증이 필요합니다.";
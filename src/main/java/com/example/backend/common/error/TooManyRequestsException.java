@@ -0,0 +1,16 @@
+package com.example.backend.common.error;
+
+/** 서버 측 버퍼/구독 한도 초과 (429 + Retry-After) */
+public class TooManyRequestsException extends RuntimeException {
+	private final String code;
+	private final long retryAfterSeconds;
+
+	public TooManyRequestsException(String message, String code, long retryAfterSeconds) {
+		super(message);
+		this.code = code;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public String getCode() { return code; }
+	public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
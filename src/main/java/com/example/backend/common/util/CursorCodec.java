@@ -0,0 +1,54 @@
+package com.example.backend.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+import com.example.backend.common.error.BadRequestException;
+
+/**
+ * 키셋 페이지네이션용 불투명(opaque) 커서 토큰 인코더
+ * - 클라이언트는 토큰 내부 구조(정렬 키)를 알 필요가 없고, 서버는 버전 접두사로 형식 변경에 대비한다.
+ */
+public final class CursorCodec {
+
+	private static final String VERSION = "v1";
+	private static final String SEPARATOR = "|";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private CursorCodec() {}
+
+	public static String encode(Object... keys) {
+		StringBuilder sb = new StringBuilder(VERSION);
+		for (Object key : keys) {
+			sb.append(SEPARATOR).append(key);
+		}
+		return ENCODER.encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 토큰을 정렬 키 배열로 복원한 뒤 parser 로 변환한다.
+	 * 형식/파싱 오류는 모두 400(INVALID_CURSOR)으로 통일.
+	 */
+	public static <T> T decode(String token, int keyCount, Function<String[], T> parser) {
+		try {
+			String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != keyCount + 1 || !VERSION.equals(parts[0])) {
+				throw invalid();
+			}
+			String[] keys = new String[keyCount];
+			System.arraycopy(parts, 1, keys, 0, keyCount);
+			return parser.apply(keys);
+		} catch (BadRequestException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw invalid();
+		}
+	}
+
+	private static BadRequestException invalid() {
+		return new BadRequestException("유효하지 않은 커서입니다.", "INVALID_CURSOR", "cursor");
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.backend.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * zlib(Deflater/Inflater) 바이트 압축 유틸
+ * - TEXT 컬럼 압축(CompressedTextConverter)과 채팅 아카이브 세그먼트가 함께 사용한다.
+ * - 손상된 입력은 IllegalStateException 으로 통일
+ */
+public final class DeflateCodec {
+
+	private static final int BUFFER_SIZE = 4096;
+
+	private DeflateCodec() {}
+
+	public static byte[] deflate(byte[] raw, int level) {
+		Deflater deflater = new Deflater(level);
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	public static byte[] inflate(byte[] compressed) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!inflater.finished()) {
+				int n = inflater.inflate(buffer);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalStateException("압축 데이터가 손상되었습니다.");
+				}
+				out.write(buffer, 0, n);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("압축 데이터가 손상되었습니다.", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.backend.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 채팅 검색용 토크나이저
+ * - 글자/숫자 연속 구간을 문자 체계(script)가 바뀌는 곳에서 나눈다.
+ * - 한글/한자/가나 구간은 문자 bigram ("시험을" → "시험", "험을"), 한 글자 구간은 그 글자 하나
+ * - 그 밖의 구간(영문/숫자)은 소문자 단어 하나
+ * - 형태소 분석 없이 조사/어미가 붙은 형태도 부분 일치하도록 하기 위함
+ */
+public final class KoreanNgramTokenizer {
+
+	private KoreanNgramTokenizer() {}
+
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+		String normalized = text.toLowerCase(Locale.ROOT);
+		int runStart = -1;
+		boolean runCjk = false;
+
+		for (int i = 0; i < normalized.length(); ) {
+			int cp = normalized.codePointAt(i);
+			boolean wordChar = Character.isLetterOrDigit(cp);
+			boolean cjk = wordChar && isCjk(cp);
+			if (runStart >= 0 && (!wordChar || cjk != runCjk)) {
+				emit(normalized, runStart, i, runCjk, tokens);
+				runStart = -1;
+			}
+			if (wordChar && runStart < 0) {
+				runStart = i;
+				runCjk = cjk;
+			}
+			i += Character.charCount(cp);
+		}
+		if (runStart >= 0) {
+			emit(normalized, runStart, normalized.length(), runCjk, tokens);
+		}
+		return tokens;
+	}
+
+	/** 한 글자짜리 한글/한자/가나 토큰인지 (색인에는 bigram 으로만 들어가므로 검색 시 접두어로 넓혀야 함) */
+	public static boolean isSingleCjk(String token) {
+		return token.codePointCount(0, token.length()) == 1 && isCjk(token.codePointAt(0));
+	}
+
+	private static void emit(String text, int start, int end, boolean cjk, List<String> tokens) {
+		if (!cjk) {
+			tokens.add(text.substring(start, end));
+			return;
+		}
+		int first = start;
+		int second = text.offsetByCodePoints(first, 1);
+		if (second >= end) {
+			tokens.add(text.substring(first, end));
+			return;
+		}
+		while (second < end) {
+			int next = text.offsetByCodePoints(second, 1);
+			tokens.add(text.substring(first, next));
+			first = second;
+			second = next;
+		}
+	}
+
+	private static boolean isCjk(int codePoint) {
+		Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+		return script == Character.UnicodeScript.HANGUL
+			|| script == Character.UnicodeScript.HAN
+			|| script == Character.UnicodeScript.HIRAGANA
+			|| script == Character.UnicodeScript.KATAKANA;
+	}
+}
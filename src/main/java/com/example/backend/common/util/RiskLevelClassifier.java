@@ -0,0 +1,120 @@
+package com.example.backend.common.util;
+
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.example.backend.dto.chat.RiskLevel;
+
+/**
+ * 세션의 위험요인 문자열을 RiskLevel 로 정규화
+ * - 점수: "0.85" 같은 0.0~1.0 소수, 또는 "85%" 같은 백분율 (JSON/텍스트 형식 모두) 중 최댓값
+ * - 점수가 없거나 낮아도 위험 키워드가 있으면 그 수준 이상으로 올린다. (분류 화면에서 누락 방지)
+ * - primary_risk/risk_factors 는 저장 경로에 따라 서로 바뀌어 들어오므로 두 값을 모두 본다.
+ */
+public final class RiskLevelClassifier {
+
+	static final double HIGH_THRESHOLD = 0.7;
+	static final double MEDIUM_THRESHOLD = 0.4;
+	static final int LABEL_MAX_LENGTH = 100;
+
+	private static final Pattern FRACTION = Pattern.compile("(?<![\\d.])([01]\\.\\d+)(?![\\d.%])");
+	private static final Pattern PERCENT = Pattern.compile("(?<![\\d.])(\\d{1,3}(?:\\.\\d+)?)\\s*%");
+
+	private static final String[] HIGH_KEYWORDS = {"자살", "자해", "극단적", "죽고 싶", "suicid", "self-harm"};
+	private static final String[] MEDIUM_KEYWORDS = {"우울", "불안", "공황", "폭력", "학대", "depress", "anxiety"};
+
+	private RiskLevelClassifier() {}
+
+	public record Classification(RiskLevel level, Double score, String primaryRisk) {}
+
+	public static Classification classify(String primaryRisk, String riskFactors) {
+		OptionalDouble primaryScore = maxScore(primaryRisk);
+		OptionalDouble factorScore = maxScore(riskFactors);
+
+		Double score = null;
+		if (primaryScore.isPresent() || factorScore.isPresent()) {
+			score = Math.max(primaryScore.orElse(0.0), factorScore.orElse(0.0));
+		}
+
+		RiskLevel level = RiskLevel.max(fromScore(score), fromKeywords(primaryRisk));
+		level = RiskLevel.max(level, fromKeywords(riskFactors));
+		if (level == RiskLevel.NONE && score == null && (hasText(primaryRisk) || hasText(riskFactors))) {
+			level = RiskLevel.LOW;
+		}
+		return new Classification(level, score, label(primaryRisk, primaryScore, riskFactors, factorScore));
+	}
+
+	static OptionalDouble maxScore(String text) {
+		if (!hasText(text)) {
+			return OptionalDouble.empty();
+		}
+		double max = -1;
+		Matcher fraction = FRACTION.matcher(text);
+		while (fraction.find()) {
+			double value = Double.parseDouble(fraction.group(1));
+			if (value <= 1.0) {
+				max = Math.max(max, value);
+			}
+		}
+		Matcher percent = PERCENT.matcher(text);
+		while (percent.find()) {
+			double value = Double.parseDouble(percent.group(1));
+			if (value <= 100) {
+				max = Math.max(max, value / 100.0);
+			}
+		}
+		return max < 0 ? OptionalDouble.empty() : OptionalDouble.of(max);
+	}
+
+	static RiskLevel fromScore(Double score) {
+		if (score == null || score <= 0) {
+			return RiskLevel.NONE;
+		}
+		if (score >= HIGH_THRESHOLD) {
+			return RiskLevel.HIGH;
+		}
+		return score >= MEDIUM_THRESHOLD ? RiskLevel.MEDIUM : RiskLevel.LOW;
+	}
+
+	private static RiskLevel fromKeywords(String text) {
+		if (!hasText(text)) {
+			return RiskLevel.NONE;
+		}
+		String normalized = text.toLowerCase(Locale.ROOT);
+		if (containsAny(normalized, HIGH_KEYWORDS)) {
+			return RiskLevel.HIGH;
+		}
+		return containsAny(normalized, MEDIUM_KEYWORDS) ? RiskLevel.MEDIUM : RiskLevel.NONE;
+	}
+
+	/** 점수 목록이 아닌 쪽(단일 위험요인 이름)을 표시용으로 사용 */
+	private static String label(String primaryRisk, OptionalDouble primaryScore, String riskFactors, OptionalDouble factorScore) {
+		String label;
+		if (hasText(primaryRisk) && primaryScore.isEmpty()) {
+			label = primaryRisk;
+		} else if (hasText(riskFactors) && factorScore.isEmpty()) {
+			label = riskFactors;
+		} else if (hasText(primaryRisk) || hasText(riskFactors)) {
+			label = hasText(primaryRisk) ? primaryRisk : riskFactors;
+		} else {
+			return null;
+		}
+		label = label.strip();
+		return label.length() > LABEL_MAX_LENGTH ? label.substring(0, LABEL_MAX_LENGTH) : label;
+	}
+
+	private static boolean containsAny(String text, String[] keywords) {
+		for (String keyword : keywords) {
+			if (text.contains(keyword)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasText(String text) {
+		return text != null && !text.isBlank();
+	}
+}
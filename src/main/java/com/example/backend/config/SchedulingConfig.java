@@ -0,0 +1,27 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 배치성/주기 작업(@Scheduled) 활성화
+ * - 배치 작업은 cron 기본 "-"(비활성화)이며 설정으로 켠다. 버퍼 flush, 집계 fold, SSE heartbeat 등은 기본으로 돈다.
+ * - 작업이 여러 개라 스레드 1개짜리 기본 스케줄러로는 긴 배치가 다른 작업을 밀어내므로 풀 크기를 정해 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(Math.max(1, poolSize));
+		scheduler.setThreadNamePrefix("scheduling-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(10);
+		return scheduler;
+	}
+}
@@ -0,0 +1,355 @@
+package com.example.backend.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "chat")
+public class ChatProperties {
+
+	private final Ingest ingest = new Ingest();
+	private final History history = new History();
+	private final WriteBehind writeBehind = new WriteBehind();
+	private final OwnershipCache ownershipCache = new OwnershipCache();
+	private final Deletion deletion = new Deletion();
+	private final Stats stats = new Stats();
+	private final Compression compression = new Compression();
+	private final Archive archive = new Archive();
+	private final Search search = new Search();
+	private final RiskTimeline riskTimeline = new RiskTimeline();
+	private final Events events = new Events();
+	private final Tail tail = new Tail();
+	private final Context context = new Context();
+	private final Bootstrap bootstrap = new Bootstrap();
+	private final Dedup dedup = new Dedup();
+	private final Stream stream = new Stream();
+	private final Sequence sequence = new Sequence();
+
+	public Ingest getIngest() { return ingest; }
+	public History getHistory() { return history; }
+	public WriteBehind getWriteBehind() { return writeBehind; }
+	public OwnershipCache getOwnershipCache() { return ownershipCache; }
+	public Deletion getDeletion() { return deletion; }
+	public Stats getStats() { return stats; }
+	public Compression getCompression() { return compression; }
+	public Archive getArchive() { return archive; }
+	public Search getSearch() { return search; }
+	public RiskTimeline getRiskTimeline() { return riskTimeline; }
+	public Events getEvents() { return events; }
+	public Tail getTail() { return tail; }
+	public Context getContext() { return context; }
+	public Bootstrap getBootstrap() { return bootstrap; }
+	public Dedup getDedup() { return dedup; }
+	public Stream getStream() { return stream; }
+	public Sequence getSequence() { return sequence; }
+
+	/** FastAPI → Spring 메시지 일괄 저장 설정 */
+	public static class Ingest {
+		private int maxBatchSize = 500;  // 요청 1건에 허용되는 최대 메시지 수
+		private int jdbcBatchSize = 100; // executeBatch 1회당 행 수
+
+		public int getMaxBatchSize() { return maxBatchSize; }
+		public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+		public int getJdbcBatchSize() { return jdbcBatchSize; }
+		public void setJdbcBatchSize(int jdbcBatchSize) { this.jdbcBatchSize = jdbcBatchSize; }
+	}
+
+	/** 메시지 이력 커서 페이지 설정 */
+	public static class History {
+		private int defaultPageSize = 50;
+		private int maxPageSize = 200;
+
+		public int getDefaultPageSize() { return defaultPageSize; }
+		public void setDefaultPageSize(int defaultPageSize) { this.defaultPageSize = defaultPageSize; }
+		public int getMaxPageSize() { return maxPageSize; }
+		public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+	}
+
+	/** 메시지 저장 write-behind(비동기 그룹 커밋) 설정 */
+	public static class WriteBehind {
+		private boolean enabled = false;
+		private int capacity = 10_000;         // 대기열 최대 길이 (초과 시 429)
+		private int batchSize = 200;           // 한 트랜잭션에 커밋할 최대 행 수
+		private long lingerMs = 20;            // 배치를 채우기 위해 기다리는 최대 시간
+		private long retryAfterSeconds = 1;    // 429 응답의 Retry-After
+		private int maxFlushAttempts = 3;      // 플러시 실패 시 재시도 횟수
+		private long shutdownTimeoutMs = 30_000;
+
+		public boolean isEnabled() { return enabled; }
+		public void setEnabled(boolean enabled) { this.enabled = enabled; }
+		public int getCapacity() { return capacity; }
+		public void setCapacity(int capacity) { this.capacity = capacity; }
+		public int getBatchSize() { return batchSize; }
+		public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+		public long getLingerMs() { return lingerMs; }
+		public void setLingerMs(long lingerMs) { this.lingerMs = lingerMs; }
+		public long getRetryAfterSeconds() { return retryAfterSeconds; }
+		public void setRetryAfterSeconds(long retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+		public int getMaxFlushAttempts() { return maxFlushAttempts; }
+		public void setMaxFlushAttempts(int maxFlushAttempts) { this.maxFlushAttempts = maxFlushAttempts; }
+		public long getShutdownTimeoutMs() { return shutdownTimeoutMs; }
+		public void setShutdownTimeoutMs(long shutdownTimeoutMs) { this.shutdownTimeoutMs = shutdownTimeoutMs; }
+	}
+
+	/** 세션 소유자(sessionId → userEmail) 캐시 설정 */
+	public static class OwnershipCache {
+		private int maxEntries = 10_000;
+		private long ttlSeconds = 600;
+
+		public int getMaxEntries() { return maxEntries; }
+		public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+		public long getTtlSeconds() { return ttlSeconds; }
+		public void setTtlSeconds(long ttlSeconds) { this.ttlSeconds = ttlSeconds; }
+	}
+
+	/** 세션 삭제 설정 */
+	public static class Deletion {
+		private int chunkSize = 1000;          // DELETE 1문장(=1트랜잭션)당 최대 메시지 수
+		private int maxBulkSessions = 100;     // 일괄 삭제 요청 1건당 최대 세션 수
+
+		public int getChunkSize() { return chunkSize; }
+		public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+		public int getMaxBulkSessions() { return maxBulkSessions; }
+		public void setMaxBulkSessions(int maxBulkSessions) { this.maxBulkSessions = maxBulkSessions; }
+	}
+
+	/** 세션 메시지 통계 재계산 설정 */
+	public static class Stats {
+		private String reconcileCron = "-";    // "-" 이면 주기 실행 안 함
+		private int reconcileChunkSize = 500;  // UPDATE 1문장당 세션 수
+
+		public String getReconcileCron() { return reconcileCron; }
+		public void setReconcileCron(String reconcileCron) { this.reconcileCron = reconcileCron; }
+		public int getReconcileChunkSize() { return reconcileChunkSize; }
+		public void setReconcileChunkSize(int reconcileChunkSize) { this.reconcileChunkSize = reconcileChunkSize; }
+	}
+
+	/** 메시지 본문/세션 분석 TEXT 컬럼 압축 설정 */
+	public static class Compression {
+		private boolean enabled = true;             // false 면 새로 쓰는 값만 원문 저장 (기존 압축 행은 계속 읽힘)
+		private int thresholdBytes = 512;           // UTF-8 기준 이 크기 이상만 압축 시도
+		private int level = 6;                      // Deflater 압축 레벨 (1~9)
+		private boolean recompressOnStartup = false; // 기동 시 기존 행 재압축 작업 1회 실행
+		private int recompressChunkSize = 500;      // 재압축 작업 1회 조회/갱신 행 수
+
+		public boolean isEnabled() { return enabled; }
+		public void setEnabled(boolean enabled) { this.enabled = enabled; }
+		public int getThresholdBytes() { return thresholdBytes; }
+		public void setThresholdBytes(int thresholdBytes) { this.thresholdBytes = thresholdBytes; }
+		public int getLevel() { return level; }
+		public void setLevel(int level) { this.level = level; }
+		public boolean isRecompressOnStartup() { return recompressOnStartup; }
+		public void setRecompressOnStartup(boolean recompressOnStartup) { this.recompressOnStartup = recompressOnStartup; }
+		public int getRecompressChunkSize() { return recompressChunkSize; }
+		public void setRecompressChunkSize(int recompressChunkSize) { this.recompressChunkSize = recompressChunkSize; }
+	}
+
+	/** 오래된 세션 메시지 콜드 아카이브(로컬 세그먼트 파일) 설정 */
+	public static class Archive {
+		private String directory = "data/chat-archive";
+		private String cron = "-";                  // "-" 이면 주기 실행 안 함
+		private int olderThanDays = 180;            // 마지막 메시지가 이 기간보다 오래된 세션만 대상
+		private int candidateChunkSize = 100;       // 대상 세션 조회 1회당 세션 수
+		private long segmentMaxBytes = 256L * 1024 * 1024; // 세그먼트 파일 최대 크기 (초과 시 새 세그먼트)
+		private int blockMessages = 100;            // 레코드 안 압축 블록당 메시지 수 (페이지 조회는 걸친 블록만 압축 해제)
+
+		public String getDirectory() { return directory; }
+		public void setDirectory(String directory) { this.directory = directory; }
+		public String getCron() { return cron; }
+		public void setCron(String cron) { this.cron = cron; }
+		public int getOlderThanDays() { return olderThanDays; }
+		public void setOlderThanDays(int olderThanDays) { this.olderThanDays = olderThanDays; }
+		public int getCandidateChunkSize() { return candidateChunkSize; }
+		public void setCandidateChunkSize(int candidateChunkSize) { this.candidateChunkSize = candidateChunkSize; }
+		public long getSegmentMaxBytes() { return segmentMaxBytes; }
+		public void setSegmentMaxBytes(long segmentMaxBytes) { this.segmentMaxBytes = segmentMaxBytes; }
+		public int getBlockMessages() { return blockMessages; }
+		public void setBlockMessages(int blockMessages) { this.blockMessages = blockMessages; }
+	}
+
+	/** 사용자별 메시지 전문 검색(메모리 역색인) 설정 */
+	public static class Search {
+		private int maxUsers = 500;            // 메모리에 유지할 사용자 색인 수 (LRU)
+		private long maxIndexBytes = 256L * 1024 * 1024; // 사용자 색인 추정 크기 합계 상한 (초과 시 LRU 제거, 0 이하 = 무제한)
+		private int bufferDocs = 256;          // 이 수만큼 쌓이면 세그먼트로 봉인
+		private int maxSegments = 8;           // 초과 시 백그라운드 병합 대상
+		private long mergeIntervalMs = 10_000; // 병합 작업 주기
+		private int defaultLimit = 20;
+		private int maxLimit = 100;
+		private int maxQueryLength = 200;
+
+		public int getMaxUsers() { return maxUsers; }
+		public void setMaxUsers(int maxUsers) { this.maxUsers = maxUsers; }
+		public long getMaxIndexBytes() { return maxIndexBytes; }
+		public void setMaxIndexBytes(long maxIndexBytes) { this.maxIndexBytes = maxIndexBytes; }
+		public int getBufferDocs() { return bufferDocs; }
+		public void setBufferDocs(int bufferDocs) { this.bufferDocs = bufferDocs; }
+		public int getMaxSegments() { return maxSegments; }
+		public void setMaxSegments(int maxSegments) { this.maxSegments = maxSegments; }
+		public long getMergeIntervalMs() { return mergeIntervalMs; }
+		public void setMergeIntervalMs(long mergeIntervalMs) { this.mergeIntervalMs = mergeIntervalMs; }
+		public int getDefaultLimit() { return defaultLimit; }
+		public void setDefaultLimit(int defaultLimit) { this.defaultLimit = defaultLimit; }
+		public int getMaxLimit() { return maxLimit; }
+		public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+		public int getMaxQueryLength() { return maxQueryLength; }
+		public void setMaxQueryLength(int maxQueryLength) { this.maxQueryLength = maxQueryLength; }
+	}
+
+	/** 위험도 타임라인 (risk_timeline) 설정 */
+	public static class RiskTimeline {
+		private String backfillCron = "-";   // 기존 세션 일괄 반영 주기 (기본 비활성화)
+		private int backfillChunkSize = 500; // 백필 청크(트랜잭션)당 세션 수
+		private int defaultPageSize = 50;
+		private int maxPageSize = 200;
+
+		public String getBackfillCron() { return backfillCron; }
+		public void setBackfillCron(String backfillCron) { this.backfillCron = backfillCron; }
+		public int getBackfillChunkSize() { return backfillChunkSize; }
+		public void setBackfillChunkSize(int backfillChunkSize) { this.backfillChunkSize = backfillChunkSize; }
+		public int getDefaultPageSize() { return defaultPageSize; }
+		public void setDefaultPageSize(int defaultPageSize) { this.defaultPageSize = defaultPageSize; }
+		public int getMaxPageSize() { return maxPageSize; }
+		public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+	}
+
+	/** 세션별 새 메시지 SSE 구독 설정 (노드 단위) */
+	public static class Events {
+		private int maxSubscribers = 2_000;          // 노드당 동시 구독 수 (초과 시 429)
+		private long timeoutMs = 30 * 60 * 1000L;    // 연결 최대 유지 시간, 이후 클라이언트가 Last-Event-ID 로 재연결
+		private long heartbeatIntervalMs = 15_000;   // 프록시 유휴 타임아웃 방지용 주석 이벤트 주기
+		private long reconnectDelayMs = 3_000;       // 클라이언트 재연결 대기 (SSE retry 필드)
+		private int replayLimit = 500;               // 재연결 시 다시 보내는 최대 메시지 수 (초과 시 resync 이벤트)
+		private int dispatchQueueCapacity = 10_000;  // 전송 대기 작업 수 (초과 시 해당 세션 구독을 끊어 재연결 유도)
+		private long retryAfterSeconds = 5;          // 429 응답의 Retry-After
+
+		public int getMaxSubscribers() { return maxSubscribers; }
+		public void setMaxSubscribers(int maxSubscribers) { this.maxSubscribers = maxSubscribers; }
+		public long getTimeoutMs() { return timeoutMs; }
+		public void setTimeoutMs(long timeoutMs) { this.timeoutMs = timeoutMs; }
+		public long getHeartbeatIntervalMs() { return heartbeatIntervalMs; }
+		public void setHeartbeatIntervalMs(long heartbeatIntervalMs) { this.heartbeatIntervalMs = heartbeatIntervalMs; }
+		public long getReconnectDelayMs() { return reconnectDelayMs; }
+		public void setReconnectDelayMs(long reconnectDelayMs) { this.reconnectDelayMs = reconnectDelayMs; }
+		public int getReplayLimit() { return replayLimit; }
+		public void setReplayLimit(int replayLimit) { this.replayLimit = replayLimit; }
+		public int getDispatchQueueCapacity() { return dispatchQueueCapacity; }
+		public void setDispatchQueueCapacity(int dispatchQueueCapacity) { this.dispatchQueueCapacity = dispatchQueueCapacity; }
+		public long getRetryAfterSeconds() { return retryAfterSeconds; }
+		public void setRetryAfterSeconds(long retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+	}
+
+	/** 활성 세션 최근 메시지 링 버퍼 설정 */
+	public static class Tail {
+		private boolean enabled = true;
+		private int messagesPerSession = 64;         // 세션당 보관 메시지 수 (기본 페이지 크기 + 1 이상 권장)
+		private long maxBytes = 64L * 1024 * 1024;   // 전체 추정 메모리 상한 (초과 시 LRU 제거)
+
+		public boolean isEnabled() { return enabled; }
+		public void setEnabled(boolean enabled) { this.enabled = enabled; }
+		public int getMessagesPerSession() { return messagesPerSession; }
+		public void setMessagesPerSession(int messagesPerSession) { this.messagesPerSession = messagesPerSession; }
+		public long getMaxBytes() { return maxBytes; }
+		public void setMaxBytes(long maxBytes) { this.maxBytes = maxBytes; }
+	}
+
+	/** LLM 워커용 컨텍스트 창(요약 + 예산 내 최근 메시지) 설정 */
+	public static class Context {
+		private int defaultMaxTokens = 4000;   // 예산 파라미터가 없을 때
+		private int maxTokens = 100_000;       // 요청 가능한 토큰 예산 상한
+		private int maxChars = 400_000;        // 요청 가능한 문자 예산 상한
+		private double charsPerToken = 2.0;    // 토큰 추정치 = ceil(문자 수 / charsPerToken)
+		private int scanChunkSize = 50;        // 최신 → 과거 키셋 조회 1회당 행 수
+
+		public int getDefaultMaxTokens() { return defaultMaxTokens; }
+		public void setDefaultMaxTokens(int defaultMaxTokens) { this.defaultMaxTokens = defaultMaxTokens; }
+		public int getMaxTokens() { return maxTokens; }
+		public void setMaxTokens(int maxTokens) { this.maxTokens = maxTokens; }
+		public int getMaxChars() { return maxChars; }
+		public void setMaxChars(int maxChars) { this.maxChars = maxChars; }
+		public double getCharsPerToken() { return charsPerToken; }
+		public void setCharsPerToken(double charsPerToken) { this.charsPerToken = charsPerToken; }
+		public int getScanChunkSize() { return scanChunkSize; }
+		public void setScanChunkSize(int scanChunkSize) { this.scanChunkSize = scanChunkSize; }
+	}
+
+	/** 대화 시작용 묶음 조회(프로필 + 최근 세션 + 최근 위험도) 설정 */
+	public static class Bootstrap {
+		private int maxConcurrency = 8;      // 하위 조회를 동시에 실행하는 스레드 수 (노드 단위)
+		private int queueCapacity = 64;      // 대기 가능한 하위 조회 수 (초과 시 해당 항목은 missing)
+		private long timeoutMs = 800;        // 요청 시작부터 하위 조회별 마감 시간 (넘기면 해당 항목은 missing)
+		private int recentSessions = 5;      // 함께 돌려줄 최근 세션 요약 수
+
+		public int getMaxConcurrency() { return maxConcurrency; }
+		public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+		public int getQueueCapacity() { return queueCapacity; }
+		public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+		public long getTimeoutMs() { return timeoutMs; }
+		public void setTimeoutMs(long timeoutMs) { this.timeoutMs = timeoutMs; }
+		public int getRecentSessions() { return recentSessions; }
+		public void setRecentSessions(int recentSessions) { this.recentSessions = recentSessions; }
+	}
+
+	/** 반복되는 메시지 본문 내용 주소 저장(chat_message_blobs) 설정 */
+	public static class Dedup {
+		private boolean enabled = false;                // 켜면 새로 쓰는 메시지부터 적용 (기존 참조 행은 꺼도 계속 읽힘)
+		private int thresholdBytes = 128;               // UTF-8 기준 이 크기 이상인 본문만 blob 참조로 저장
+		private long cacheMaxBytes = 16L * 1024 * 1024; // 자주 읽히는 blob 본문 메모리 캐시 상한
+		private String backfillCron = "-";              // 기존 행을 참조로 바꾸는 작업 주기 ("-" 이면 실행 안 함)
+		private int backfillChunkSize = 500;            // 백필 1회 조회/갱신 행 수
+		private long refFlushIntervalMs = 1000;         // 커밋된 ref_count 증감을 모아 반영하는 주기
+
+		public boolean isEnabled() { return enabled; }
+		public void setEnabled(boolean enabled) { this.enabled = enabled; }
+		public int getThresholdBytes() { return thresholdBytes; }
+		public void setThresholdBytes(int thresholdBytes) { this.thresholdBytes = thresholdBytes; }
+		public long getCacheMaxBytes() { return cacheMaxBytes; }
+		public void setCacheMaxBytes(long cacheMaxBytes) { this.cacheMaxBytes = cacheMaxBytes; }
+		public String getBackfillCron() { return backfillCron; }
+		public void setBackfillCron(String backfillCron) { this.backfillCron = backfillCron; }
+		public int getBackfillChunkSize() { return backfillChunkSize; }
+		public void setBackfillChunkSize(int backfillChunkSize) { this.backfillChunkSize = backfillChunkSize; }
+		public long getRefFlushIntervalMs() { return refFlushIntervalMs; }
+		public void setRefFlushIntervalMs(long refFlushIntervalMs) { this.refFlushIntervalMs = refFlushIntervalMs; }
+	}
+
+	/** AI 응답 스트리밍(chat_message_chunks 추가 후 완료 시 본문으로 합침) 설정 */
+	public static class Stream {
+		private int maxChunkChars = 4000;       // 청크 1건 최대 문자 수
+		private int maxChunks = 10000;          // 메시지 1건당 최대 청크 수 (seq 는 0 ~ maxChunks-1)
+		private long staleAfterMs = 300000;     // 이 시간 동안 완료되지 않은 스트림은 있는 청크로 완료 처리
+		private long sweepIntervalMs = 60000;   // 방치된 스트림 정리 주기
+		private int sweepBatchSize = 100;       // 정리 1회당 최대 메시지 수
+
+		public int getMaxChunkChars() { return maxChunkChars; }
+		public void setMaxChunkChars(int maxChunkChars) { this.maxChunkChars = maxChunkChars; }
+		public int getMaxChunks() { return maxChunks; }
+		public void setMaxChunks(int maxChunks) { this.maxChunks = maxChunks; }
+		public long getStaleAfterMs() { return staleAfterMs; }
+		public void setStaleAfterMs(long staleAfterMs) { this.staleAfterMs = staleAfterMs; }
+		public long getSweepIntervalMs() { return sweepIntervalMs; }
+		public void setSweepIntervalMs(long sweepIntervalMs) { this.sweepIntervalMs = sweepIntervalMs; }
+		public int getSweepBatchSize() { return sweepBatchSize; }
+		public void setSweepBatchSize(int sweepBatchSize) { this.sweepBatchSize = sweepBatchSize; }
+	}
+
+	/** 세션별 메시지 순번(chat_messages.seq) 할당 설정 */
+	public static class Sequence {
+		private int stripes = 64;                 // 세션 id 해시로 나누는 잠금 수 (전역 잠금 없음)
+		private long lockTimeoutMs = 5000;        // 같은 잠금 대기 최대 시간 (넘기면 저장 실패 → 재시도)
+		private int cacheSessions = 10000;        // 마지막 순번을 기억하는 세션 수 (LRU, miss 면 인덱스에서 MAX(seq))
+		private boolean backfillOnStartup = true; // 기동 후 순번 없는 기존 행에 순번 부여 (1회)
+		private int backfillChunkSize = 500;      // 백필 UPDATE 배치 크기
+
+		public int getStripes() { return stripes; }
+		public void setStripes(int stripes) { this.stripes = stripes; }
+		public long getLockTimeoutMs() { return lockTimeoutMs; }
+		public void setLockTimeoutMs(long lockTimeoutMs) { this.lockTimeoutMs = lockTimeoutMs; }
+		public int getCacheSessions() { return cacheSessions; }
+		public void setCacheSessions(int cacheSessions) { this.cacheSessions = cacheSessions; }
+		public boolean isBackfillOnStartup() { return backfillOnStartup; }
+		public void setBackfillOnStartup(boolean backfillOnStartup) { this.backfillOnStartup = backfillOnStartup; }
+		public int getBackfillChunkSize() { return backfillChunkSize; }
+		public void setBackfillChunkSize(int backfillChunkSize) { this.backfillChunkSize = backfillChunkSize; }
+	}
+}
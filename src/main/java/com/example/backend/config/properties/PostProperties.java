@@ -0,0 +1,74 @@
+package com.example.backend.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "post")
+public class PostProperties {
+
+	private final Views views = new Views();
+	private final Counters counters = new Counters();
+	private final Ranking ranking = new Ranking();
+
+	public Views getViews() { return views; }
+	public Counters getCounters() { return counters; }
+	public Ranking getRanking() { return ranking; }
+
+	public static class Views {
+		private boolean enabled = true;         // 상세 조회 시 조회수 집계 (false 면 집계하지 않음)
+		private long flushIntervalMs = 5000;    // 모아둔 증가분을 DB 에 반영하는 주기
+		private int flushBatchSize = 500;       // UPDATE ... CASE 1문장에 담는 게시글 수
+
+		public boolean isEnabled() { return enabled; }
+		public void setEnabled(boolean enabled) { this.enabled = enabled; }
+		public long getFlushIntervalMs() { return flushIntervalMs; }
+		public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+		public int getFlushBatchSize() { return flushBatchSize; }
+		public void setFlushBatchSize(int flushBatchSize) { this.flushBatchSize = flushBatchSize; }
+	}
+
+	public static class Counters {
+		private int shards = 16;                // 게시글·카운터당 슬롯 수 (같은 게시글 동시 증가가 나눠지는 행 수)
+		private long foldIntervalMs = 60000;    // 슬롯 합계를 posts.like_count / comment_count 로 옮기는 주기
+		private int foldBatchSize = 500;        // 1 트랜잭션에서 옮기는 게시글 수
+		private long cacheTtlMs = 2000;         // 미반영 슬롯 합계 캐시 유효 시간
+		private int cachePosts = 10000;         // 캐시하는 게시글 수 (LRU)
+
+		public int getShards() { return shards; }
+		public void setShards(int shards) { this.shards = shards; }
+		public long getFoldIntervalMs() { return foldIntervalMs; }
+		public void setFoldIntervalMs(long foldIntervalMs) { this.foldIntervalMs = foldIntervalMs; }
+		public int getFoldBatchSize() { return foldBatchSize; }
+		public void setFoldBatchSize(int foldBatchSize) { this.foldBatchSize = foldBatchSize; }
+		public long getCacheTtlMs() { return cacheTtlMs; }
+		public void setCacheTtlMs(long cacheTtlMs) { this.cacheTtlMs = cacheTtlMs; }
+		public int getCachePosts() { return cachePosts; }
+		public void setCachePosts(int cachePosts) { this.cachePosts = cachePosts; }
+	}
+
+	public static class Ranking {
+		private int topK = 1000;                 // 메모리에 유지하는 인기 게시글 수
+		private double halfLifeHours = 24;       // 점수가 절반이 되는 경과 시간
+		private double likeWeight = 1.0;
+		private double commentWeight = 2.0;
+		private double viewWeight = 0.05;
+		private int lookbackDays = 30;           // 재구성 시 읽는 게시글 범위 (작성일 기준)
+		private long rebuildIntervalMs = 300000; // DB 에서 다시 계산하는 주기
+
+		public int getTopK() { return topK; }
+		public void setTopK(int topK) { this.topK = topK; }
+		public double getHalfLifeHours() { return halfLifeHours; }
+		public void setHalfLifeHours(double halfLifeHours) { this.halfLifeHours = halfLifeHours; }
+		public double getLikeWeight() { return likeWeight; }
+		public void setLikeWeight(double likeWeight) { this.likeWeight = likeWeight; }
+		public double getCommentWeight() { return commentWeight; }
+		public void setCommentWeight(double commentWeight) { this.commentWeight = commentWeight; }
+		public double getViewWeight() { return viewWeight; }
+		public void setViewWeight(double viewWeight) { this.viewWeight = viewWeight; }
+		public int getLookbackDays() { return lookbackDays; }
+		public void setLookbackDays(int lookbackDays) { this.lookbackDays = lookbackDays; }
+		public long getRebuildIntervalMs() { return rebuildIntervalMs; }
+		public void setRebuildIntervalMs(long rebuildIntervalMs) { this.rebuildIntervalMs = rebuildIntervalMs; }
+	}
+}
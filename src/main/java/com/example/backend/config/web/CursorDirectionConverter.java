@@ -0,0 +1,20 @@
+package com.example.backend.config.web;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.dto.common.CursorDirection;
+
+@Component
+public class CursorDirectionConverter implements Converter<String, CursorDirection> {
+	@Override
+	public CursorDirection convert(String source) {
+		if (source == null) return null;
+		String s = source.trim().toUpperCase();
+		return switch (s) {
+			case "BEFORE", "PREV", "OLDER" -> CursorDirection.BEFORE;
+			case "AFTER", "NEXT", "NEWER" -> CursorDirection.AFTER;
+			default -> throw new IllegalArgumentException("direction must be before or after");
+		};
+	}
+}
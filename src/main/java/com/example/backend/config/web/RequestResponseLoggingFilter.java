@@ -3,6 +3,7 @@ package com.example.backend.config.web;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -24,6 +25,15 @@ import lombok.extern.slf4j.Slf4j;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
 
+	// 응답 전체를 메모리에 캐싱하면 안 되는 스트리밍 엔드포인트
+	private static final List<String> STREAMING_PATH_SUFFIXES = List.of("/export", "/events");
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String uri = request.getRequestURI();
+		return STREAMING_PATH_SUFFIXES.stream().anyMatch(uri::endsWith);
+	}
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request,
 		HttpServletResponse response,
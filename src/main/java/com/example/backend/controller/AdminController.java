@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -30,8 +31,12 @@ import com.example.backend.dto.admin.DailyMetricPoint;
 import com.example.backend.dto.admin.UserDistribution;
 import com.example.backend.dto.admin.VisibilityUpdateRequest;
 import com.example.backend.dto.admin.WeeklyMetricPoint;
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
 import com.example.backend.dto.common.ApiResponse;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.service.AdminQueryService;
+import com.example.backend.service.RiskTimelineService;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
@@ -47,6 +52,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminController {
 
     private final AdminQueryService adminQueryService;
+    private final RiskTimelineService riskTimelineService;
 
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<AdminStats>> getAdminStats() {
@@ -109,6 +115,21 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success(null, "게시글이 성공적으로 삭제되었습니다."));
     }
 
+    /** 위험 세션 분류 화면: minLevel(기본 HIGH) 이상, 최신순 커서 페이지 */
+    @GetMapping("/risk-timeline")
+    public ResponseEntity<ApiResponse<CursorPage<RiskTimelineEntry>>> riskTimeline(
+        @RequestParam(required = false) RiskLevel minLevel,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<RiskTimelineEntry> page = riskTimelineService.getTriagePage(minLevel, from, to, cursor, size);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(ApiResponse.success(page));
+    }
+
     @GetMapping("/metrics/today")
     public ResponseEntity<ApiResponse<DailyMetricPoint>> todayMetrics() {
         DailyMetricPoint today = adminQueryService.getTodayMetrics();
@@ -1,8 +1,14 @@
 package com.example.backend.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -11,22 +17,46 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.backend.common.error.NotFoundException;
+import com.example.backend.dto.chat.ChatBootstrap;
+import com.example.backend.dto.chat.ChatContextWindow;
+import com.example.backend.dto.chat.ChatMessageBatchResult;
+import com.example.backend.dto.chat.ChatMessageChunkRequest;
 import com.example.backend.dto.chat.ChatMessageDto;
 import com.example.backend.dto.chat.ChatMessageRequest;
+import com.example.backend.dto.chat.ChatMessageStreamCompleteRequest;
+import com.example.backend.dto.chat.ChatMessageStreamState;
+import com.example.backend.dto.chat.ChatSearchHit;
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.dto.chat.ChatSessionBulkDeleteRequest;
+import com.example.backend.dto.chat.ChatSessionBulkDeleteResult;
 import com.example.backend.dto.chat.ChatSessionDto;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.dto.chat.RiskTimelineEntry;
 import com.example.backend.dto.chat.SessionRequest;
 import com.example.backend.dto.common.ApiResponse;
+import com.example.backend.dto.common.CursorDirection;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.entity.ChatMessageEntity;
 import com.example.backend.entity.ChatSessionEntity;
 import com.example.backend.security.SecurityUtil;
+import com.example.backend.service.ChatBootstrapService;
+import com.example.backend.service.ChatEventHub;
+import com.example.backend.service.ChatExportService;
+import com.example.backend.service.ChatMessageStreamService;
+import com.example.backend.service.ChatSearchService;
 import com.example.backend.service.ChatService;
 import com.example.backend.service.DailyMetricsService;
+import com.example.backend.service.RiskTimelineService;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -41,6 +71,12 @@ public class ChatController {
     private final DailyMetricsService dailyMetricsService;
     private final SecurityUtil securityUtil;
     private final ChatService chatService;
+    private final ChatExportService chatExportService;
+    private final ChatSearchService chatSearchService;
+    private final RiskTimelineService riskTimelineService;
+    private final ChatEventHub chatEventHub;
+    private final ChatBootstrapService chatBootstrapService;
+    private final ChatMessageStreamService chatMessageStreamService;
     
     @PostMapping("/session/save")
     public ResponseEntity<ChatSessionEntity> receiveAnalysis(@RequestBody SessionRequest sessionRequest) {
@@ -53,13 +89,54 @@ public class ChatController {
     }
     
     @PostMapping("/message/save")
-    public ResponseEntity<ChatMessageEntity> saveMessage(@RequestBody ChatMessageRequest request) {
+    public ResponseEntity<?> saveMessage(@RequestBody ChatMessageRequest request) {
         log.info("FastAPI 메시지 저장 - sessionId: {}", request.getSessionId());
         
+        if (chatService.isWriteBehindEnabled()) {
+            // 그룹 커밋 전이므로 messageId 는 비어 있다. (등록 시점 DTO 사본)
+            return ResponseEntity.accepted().body(chatService.enqueueMessage(request));
+        }
         ChatMessageEntity saved = chatService.saveMessage(request);
         return ResponseEntity.ok(saved);
     }
     
+    @PostMapping("/message/save/batch")
+    public ResponseEntity<List<ChatMessageBatchResult>> saveMessages(@RequestBody List<ChatMessageRequest> requests) {
+        log.info("FastAPI 메시지 일괄 저장 - count: {}", requests.size());
+        
+        List<ChatMessageBatchResult> results = chatService.saveMessages(requests);
+        return ResponseEntity.ok(results);
+    }
+    
+    /** FastAPI 스트리밍 응답 시작: 본문 없는 메시지 행을 만들고 messageId 를 돌려준다. */
+    @PostMapping("/message/stream")
+    public ResponseEntity<ChatMessageEntity> startMessageStream(@RequestBody ChatMessageRequest request) {
+        log.info("FastAPI 스트리밍 메시지 시작 - sessionId: {}", request.getSessionId());
+        
+        ChatMessageEntity started = chatMessageStreamService.start(request);
+        return ResponseEntity.ok(started);
+    }
+    
+    @PostMapping("/message/stream/{messageId}/chunks")
+    public ResponseEntity<Void> appendMessageChunk(
+            @PathVariable Long messageId,
+            @RequestBody ChatMessageChunkRequest request
+    ) {
+        chatMessageStreamService.append(messageId, request);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping("/message/stream/{messageId}/complete")
+    public ResponseEntity<ChatMessageEntity> completeMessageStream(
+            @PathVariable Long messageId,
+            @RequestBody(required = false) ChatMessageStreamCompleteRequest request
+    ) {
+        log.info("FastAPI 스트리밍 메시지 완료 - messageId: {}", messageId);
+        
+        ChatMessageEntity completed = chatMessageStreamService.complete(messageId, request);
+        return ResponseEntity.ok(completed);
+    }
+    
     @GetMapping("/analysis/search")
     public ResponseEntity<List<ChatSessionEntity>> getCounsellings(
             @RequestParam String email,
@@ -82,17 +159,130 @@ public class ChatController {
                 .body(sessions);
     }
     
+    /**
+     * 사이드바용 세션 목록 (경량 프로젝션 + 커서 페이지, 최신순)
+     */
+    @GetMapping("/sessions/summaries")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CursorPage<ChatSessionSummaryDto>>> getChatSessionSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        String email = securityUtil.requirePrincipalEmail(authentication);
+        CursorPage<ChatSessionSummaryDto> page = chatService.getSessionSummaryPage(email, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(page, "세션 목록을 성공적으로 조회했습니다."));
+    }
+    
+    /**
+     * 대화 시작용 묶음 조회 (FastAPI 워커가 사용자 토큰으로 호출)
+     * - 프로필/최근 세션 요약/최근 위험도를 서버에서 동시에 조회, 마감 내 못 받은 항목은 missing
+     */
+    @GetMapping("/bootstrap")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ChatBootstrap>> bootstrap(Authentication authentication) {
+        String email = securityUtil.requirePrincipalEmail(authentication);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(chatBootstrapService.load(email)));
+    }
+    
+    /**
+     * 본인 상담 기록 전문 검색 (메시지 단위, 점수순)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<ChatSearchHit>>> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication
+    ) {
+        String email = securityUtil.requirePrincipalEmail(authentication);
+        List<ChatSearchHit> hits = chatSearchService.search(email, q, limit);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(hits, "검색 결과 " + hits.size() + "건"));
+    }
+    
+    /**
+     * 본인 위험도 타임라인 (세션별 정규화된 위험 수준, 최신순 커서 페이지, from/to 는 날짜 포함 범위)
+     */
+    @GetMapping("/risk-timeline")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CursorPage<RiskTimelineEntry>>> getRiskTimeline(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        String email = securityUtil.requirePrincipalEmail(authentication);
+        CursorPage<RiskTimelineEntry> page = riskTimelineService.getUserTimeline(email, from, to, cursor, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(page));
+    }
+    
     @GetMapping("/messages/{sessionId}")
     @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<ChatMessageDto>>> getMessages(
+    public ResponseEntity<ApiResponse<CursorPage<ChatMessageDto>>> getMessages(
             @PathVariable String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "BEFORE") CursorDirection direction,
+            @RequestParam(required = false) Integer size,
             Authentication authentication
     ) {
-        List<ChatMessageDto> result =
-                chatService.getMessagesBySessionId(sessionId, authentication.getName());
+        CursorPage<ChatMessageDto> result =
+                chatService.getMessagePage(sessionId, authentication.getName(), cursor, direction, size);
         return ok(result, "메시지를 성공적으로 조회했습니다.");
     }
     
+    /** 스트리밍 중인 메시지의 현재 본문 (afterSeq 이후 조각만, 완료되면 전체 본문) */
+    @GetMapping("/messages/{sessionId}/stream/{messageId}")
+    @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ChatMessageStreamState>> getMessageStream(
+            @PathVariable String sessionId,
+            @PathVariable Long messageId,
+            @RequestParam(required = false) Integer afterSeq,
+            Authentication authentication
+    ) {
+        ChatMessageStreamState state =
+                chatMessageStreamService.getState(sessionId, messageId, afterSeq, authentication.getName());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(state));
+    }
+    
+    /** LLM 워커용: 세션 요약 + 문자/토큰 예산 안에 들어가는 최근 메시지 */
+    @GetMapping("/sessions/{sessionId}/context")
+    @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ChatContextWindow>> getContextWindow(
+            @PathVariable String sessionId,
+            @RequestParam(required = false) Integer maxChars,
+            @RequestParam(required = false) Integer maxTokens,
+            Authentication authentication
+    ) {
+        ChatContextWindow window = chatService.getContextWindow(sessionId, authentication.getName(), maxChars, maxTokens);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(window));
+    }
+    
+    /** 메시지 순번 빈 구간 (정상이면 빈 목록, 유실 점검용) */
+    @GetMapping("/sessions/{sessionId}/sequence-gaps")
+    @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<ChatSequenceGap>>> getSequenceGaps(
+            @PathVariable String sessionId,
+            Authentication authentication
+    ) {
+        List<ChatSequenceGap> gaps = chatService.getSequenceGaps(sessionId, authentication.getName());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(gaps));
+    }
+    
     @GetMapping("/sessions/{sessionId}")
     @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<ChatSessionDto>> getChatSession(
@@ -104,6 +294,51 @@ public class ChatController {
         return ok(session, "세션을 성공적으로 조회했습니다.");
     }
     
+    /**
+     * 세션 새 메시지 실시간 구독 (SSE, event: message, id: 변경 시각+messageId 커서)
+     * - 재연결 시 브라우저가 보내는 Last-Event-ID(또는 lastEventId 파라미터) 이후 메시지를 먼저 다시 보낸다.
+     * - 소유권은 구독 시 한 번만 확인하므로 메시지 목록 재조회 폴링을 대체한다.
+     */
+    @GetMapping(value = "/sessions/{sessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
+    public SseEmitter subscribeSessionEvents(
+            @PathVariable String sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId,
+            HttpServletResponse response
+    ) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setHeader("X-Accel-Buffering", "no"); // 프록시 응답 버퍼링 해제
+        return chatEventHub.subscribe(sessionId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+    
+    /**
+     * 세션 상담 기록 NDJSON 스트리밍 내보내기 (한 줄 = ChatMessageDto 1건)
+     */
+    @GetMapping(value = "/sessions/{sessionId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("@chatAuth.canAccessSession(#sessionId, authentication.name) or hasRole('ADMIN')")
+    public void exportSession(
+            @PathVariable String sessionId,
+            HttpServletResponse response
+    ) throws IOException {
+        prepareNdjson(response, "chat-" + sessionId + ".ndjson");
+        chatExportService.exportSession(sessionId, response.getOutputStream());
+    }
+    
+    /**
+     * 로그인 사용자의 전체 세션 상담 기록 NDJSON 스트리밍 내보내기
+     */
+    @GetMapping(value = "/sessions/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public void exportMySessions(
+            Authentication authentication,
+            HttpServletResponse response
+    ) throws IOException {
+        String email = securityUtil.requirePrincipalEmail(authentication);
+        prepareNdjson(response, "chat-history.ndjson");
+        chatExportService.exportUserSessions(email, response.getOutputStream());
+    }
+    
     @DeleteMapping("/sessions/{sessionId}")
     @PreAuthorize("@chatAuth.canDeleteSession(#sessionId, authentication.name) or hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<String>> deleteSession(
@@ -114,6 +349,28 @@ public class ChatController {
         return ok("세션이 삭제되었습니다.");
     }
     
+    /**
+     * 본인 세션 일괄 삭제 (소유하지 않은 ID 는 skipped)
+     */
+    @PostMapping("/sessions/bulk-delete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ChatSessionBulkDeleteResult>> deleteSessions(
+            @Valid @RequestBody ChatSessionBulkDeleteRequest request,
+            Authentication authentication
+    ) {
+        String email = securityUtil.requirePrincipalEmail(authentication);
+        ChatSessionBulkDeleteResult result = chatService.deleteSessions(request.sessionIds(), email);
+        return ok(result, "세션 " + result.deleted().size() + "개가 삭제되었습니다.");
+    }
+    
+    private void prepareNdjson(HttpServletResponse response, String filename) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+    }
+    
     private <T> ResponseEntity<ApiResponse<T>> ok(T data, String message) {
         return ResponseEntity.ok(ApiResponse.success(data, message));
     }
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.dto.common.ApiResponse;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.dto.post.CreateRequest;
 import com.example.backend.dto.post.Detail;
 import com.example.backend.dto.post.Summary;
@@ -44,18 +45,32 @@ public class PostController {
     private final PostService postService;
     private final SecurityUtil securityUtil;
 
+    /** 목록 API 는 최신순 키셋 페이지 (nextCursor 로 더 오래된 게시글 조회) */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Detail>>> getAllPosts() {
-        List<Detail> posts = postService.getAllPosts();
+    public ResponseEntity<ApiResponse<CursorPage<Detail>>> getAllPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<Detail> posts = postService.getAllPosts(cursor, size);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
     @GetMapping("/public")
-    public ResponseEntity<ApiResponse<List<Summary>>> getPublicPosts() {
-        List<Summary> publicPosts = postService.getPublicPosts();
+    public ResponseEntity<ApiResponse<CursorPage<Summary>>> getPublicPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<Summary> publicPosts = postService.getPublicPosts(cursor, size);
         return ResponseEntity.ok(ApiResponse.success(publicPosts));
     }
 
+    /** 인기 게시글 (메모리 순위, nextCursor 로 다음 순위 구간) */
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<CursorPage<Summary>>> getPopularPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<Summary> popularPosts = postService.getPopularPosts(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(popularPosts));
+    }
+
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<List<Summary>>> getRecentPosts(@RequestParam(defaultValue = "10") int limit) {
         List<Summary> recentPosts = postService.getRecentPosts(limit);
@@ -63,15 +78,21 @@ public class PostController {
     }
 
     @GetMapping("/user/{email}")
-    public ResponseEntity<ApiResponse<List<Detail>>> getPostsByUser(@PathVariable String email) {
-        List<Detail> userPosts = postService.getPostsByUser(email);
+    public ResponseEntity<ApiResponse<CursorPage<Detail>>> getPostsByUser(
+        @PathVariable String email,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        CursorPage<Detail> userPosts = postService.getPostsByUser(email, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(userPosts));
     }
 
     @GetMapping("/my")
-    public ResponseEntity<ApiResponse<List<Detail>>> getMyPosts(Authentication authentication) {
+    public ResponseEntity<ApiResponse<CursorPage<Detail>>> getMyPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        Authentication authentication) {
         String userEmail = securityUtil.requirePrincipalEmail(authentication);
-        List<Detail> myPosts = postService.getPostsByUser(userEmail);
+        CursorPage<Detail> myPosts = postService.getPostsByUser(userEmail, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(myPosts));
     }
 
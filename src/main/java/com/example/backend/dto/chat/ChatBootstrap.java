@@ -0,0 +1,47 @@
+package com.example.backend.dto.chat;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 대화 시작 시 FastAPI 워커가 한 번에 받는 사용자 맥락
+ * - 마감 시간 안에 끝나지 못한 항목은 null/빈 목록으로 두고 missing 에 이름을 넣는다.
+ */
+@Schema(description = "대화 시작용 사용자 맥락")
+public record ChatBootstrap(
+	@Schema(description = "상담 프로필", nullable = true)
+	UserContext profile,
+
+	@Schema(description = "최근 세션 요약 (최신순)")
+	List<ChatSessionSummaryDto> recentSessions,
+
+	@Schema(description = "가장 최근 위험도", nullable = true)
+	RiskTimelineEntry latestRisk,
+
+	@Schema(description = "시간 초과/실패로 채우지 못한 항목", example = "[\"latestRisk\"]")
+	List<String> missing
+) {
+	public static final String PROFILE = "profile";
+	public static final String RECENT_SESSIONS = "recentSessions";
+	public static final String LATEST_RISK = "latestRisk";
+
+	@Schema(description = "상담 프로필")
+	public record UserContext(
+		@Schema(description = "닉네임")
+		String nickname,
+
+		@Schema(description = "나이")
+		Integer age,
+
+		@Schema(description = "정신 상태")
+		String mentalState,
+
+		@Schema(description = "상담 목표")
+		String chatGoal,
+
+		@Schema(description = "채팅 스타일")
+		String chatStyle
+	) {
+	}
+}
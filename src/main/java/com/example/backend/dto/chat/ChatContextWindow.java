@@ -0,0 +1,30 @@
+package com.example.backend.dto.chat;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * LLM 프롬프트용 컨텍스트 창 (세션 요약 + 예산 안에 들어가는 최근 메시지)
+ */
+@Schema(description = "LLM 컨텍스트 창")
+public record ChatContextWindow(
+	@Schema(description = "세션 ID")
+	String sessionId,
+
+	@Schema(description = "세션 요약 (프롬프트 앞부분, 예산보다 길면 앞부분만)", nullable = true)
+	String summary,
+
+	@Schema(description = "예산 안에 들어가는 최근 메시지 (오래된 → 최신)")
+	List<ChatMessageDto> messages,
+
+	@Schema(description = "사용한 문자 수 (요약 포함)")
+	int usedChars,
+
+	@Schema(description = "사용한 추정 토큰 수 (요약 포함)")
+	int usedTokens,
+
+	@Schema(description = "예산 때문에 더 오래된 메시지를 생략했는지")
+	boolean truncated
+) {
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto.chat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "메시지 일괄 저장 결과 (요청 순서와 동일)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatMessageBatchResult(
+	@Schema(description = "요청 배열 내 위치", example = "0")
+	int index,
+
+	@Schema(description = "처리 결과", allowableValues = {"SAVED", "REJECTED"})
+	Status status,
+
+	@Schema(description = "저장된 메시지 ID (SAVED 인 경우)", example = "1")
+	Long messageId,
+
+	@Schema(description = "거부 사유 (REJECTED 인 경우)")
+	String error
+) {
+	public enum Status { SAVED, REJECTED }
+
+	public static ChatMessageBatchResult saved(int index, Long messageId) {
+		return new ChatMessageBatchResult(index, Status.SAVED, messageId, null);
+	}
+
+	public static ChatMessageBatchResult rejected(int index, String error) {
+		return new ChatMessageBatchResult(index, Status.REJECTED, null, error);
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 스트리밍 응답 조각 (SSE chunk 이벤트 data)
+ */
+@Schema(description = "스트리밍 응답 조각")
+public record ChatMessageChunk(
+	@Schema(description = "메시지 ID", example = "1")
+	Long messageId,
+
+	@Schema(description = "조각 순번", example = "0")
+	int seq,
+
+	@Schema(description = "조각 내용")
+	String content
+) {
+}
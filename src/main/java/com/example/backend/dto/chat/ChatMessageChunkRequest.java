@@ -0,0 +1,13 @@
+package com.example.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "스트리밍 응답 조각 추가 요청")
+public record ChatMessageChunkRequest(
+	@Schema(description = "조각 순번 (0부터 1씩 증가, 같은 순번 재전송은 무시)", example = "0", required = true)
+	Integer seq,
+
+	@Schema(description = "조각 내용 (앞뒤 공백 포함 그대로 이어 붙임)", example = "오늘 많이 ", required = true)
+	String content
+) {
+}
@@ -37,7 +37,10 @@ public record ChatMessageDto(
 
 	@Schema(description = "생성일시")
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-	LocalDateTime createdAt
+	LocalDateTime createdAt,
+
+	@Schema(description = "세션 내 메시지 순번 (1부터, 순번 도입 전 메시지는 백필 전까지 null)", example = "12")
+	Long seq
 ) {
 	// 정적 ObjectMapper 인스턴스
 	@JsonIgnore
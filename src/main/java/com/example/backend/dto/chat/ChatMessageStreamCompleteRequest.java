@@ -0,0 +1,13 @@
+package com.example.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "스트리밍 응답 완료 요청")
+public record ChatMessageStreamCompleteRequest(
+	@Schema(description = "마지막 조각 순번 (주면 0 ~ lastSeq 가 모두 도착했는지 확인)", example = "41", nullable = true)
+	Integer lastSeq,
+
+	@Schema(description = "감정 분석 결과 (JSON)", nullable = true)
+	String emotion
+) {
+}
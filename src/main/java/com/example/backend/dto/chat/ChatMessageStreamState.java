@@ -0,0 +1,26 @@
+package com.example.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 스트리밍 중인(또는 완료된) 메시지의 현재 본문
+ * - 진행 중이면 afterSeq 다음부터 빠짐없이 이어지는 조각까지만 합친 내용
+ */
+@Schema(description = "스트리밍 메시지 상태")
+public record ChatMessageStreamState(
+	@Schema(description = "메시지 ID", example = "1")
+	Long messageId,
+
+	@Schema(description = "세션 ID")
+	String sessionId,
+
+	@Schema(description = "본문 (진행 중이면 afterSeq 이후 이어지는 부분, 완료면 전체)")
+	String content,
+
+	@Schema(description = "content 에 포함된 마지막 조각 순번 (다음 요청의 afterSeq)", nullable = true)
+	Integer lastSeq,
+
+	@Schema(description = "완료 여부 (true 면 content 는 최종 본문 전체)")
+	boolean completed
+) {
+}
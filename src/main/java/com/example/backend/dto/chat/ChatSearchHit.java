@@ -0,0 +1,33 @@
+package com.example.backend.dto.chat;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 채팅 검색 결과 항목 (메시지 단위, 점수 내림차순)
+ */
+@Schema(description = "채팅 검색 결과")
+public record ChatSearchHit(
+	@Schema(description = "세션 ID")
+	String sessionId,
+
+	@Schema(description = "메시지 ID")
+	Long messageId,
+
+	@Schema(description = "메시지 타입")
+	ChatMessageType messageType,
+
+	@Schema(description = "메시지 일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	LocalDateTime createdAt,
+
+	@Schema(description = "BM25 점수")
+	double score,
+
+	@Schema(description = "일치 부분 주변 본문")
+	String snippet
+) {
+}
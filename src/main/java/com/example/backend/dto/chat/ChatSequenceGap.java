@@ -0,0 +1,16 @@
+package com.example.backend.dto.chat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 세션 메시지 순번(seq)에서 비어 있는 구간 (양 끝 포함)
+ */
+@Schema(description = "메시지 순번 빈 구간")
+public record ChatSequenceGap(
+	@Schema(description = "비어 있는 첫 순번", example = "13")
+	long fromSeq,
+
+	@Schema(description = "비어 있는 마지막 순번", example = "14")
+	long toSeq
+) {
+}
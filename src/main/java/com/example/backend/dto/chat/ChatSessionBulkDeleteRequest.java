@@ -0,0 +1,14 @@
+package com.example.backend.dto.chat;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+@Schema(description = "채팅 세션 일괄 삭제 요청")
+public record ChatSessionBulkDeleteRequest(
+	@Schema(description = "삭제할 세션 ID 목록")
+	@NotEmpty(message = "삭제할 세션 ID는 필수입니다.")
+	List<String> sessionIds
+) {
+}
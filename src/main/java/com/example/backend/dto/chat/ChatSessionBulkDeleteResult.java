@@ -0,0 +1,18 @@
+package com.example.backend.dto.chat;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "채팅 세션 일괄 삭제 결과")
+public record ChatSessionBulkDeleteResult(
+	@Schema(description = "삭제된 세션 ID")
+	List<String> deleted,
+
+	@Schema(description = "존재하지 않거나 권한이 없어 건너뛴 세션 ID")
+	List<String> skipped,
+
+	@Schema(description = "삭제된 메시지 수")
+	long deletedMessages
+) {
+}
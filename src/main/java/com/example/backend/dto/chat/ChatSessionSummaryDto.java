@@ -0,0 +1,53 @@
+package com.example.backend.dto.chat;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 세션 목록(사이드바)용 경량 프로젝션
+ * - 분석 TEXT 컬럼은 읽지 않고 저장 시 잘라 둔 summary_preview(최대 PREVIEW_LENGTH 자)만 읽는다.
+ *   (summary 는 압축 저장될 수 있어 DB SUBSTRING 을 쓸 수 없음) 전체 분석은 GET /api/chat/sessions/{sessionId} 에서 조회한다.
+ */
+@Schema(description = "채팅 세션 목록 항목")
+public record ChatSessionSummaryDto(
+	@Schema(description = "세션 ID")
+	String sessionId,
+
+	@Schema(description = "생성일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	LocalDateTime createdAt,
+
+	@Schema(description = "수정일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	LocalDateTime updatedAt,
+
+	@Schema(description = "세션 요약 앞부분")
+	String summaryPreview,
+
+	@Schema(description = "메시지 수")
+	int messageCount,
+
+	@Schema(description = "마지막 메시지 일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	LocalDateTime lastMessageAt,
+
+	@Schema(description = "마지막 메시지 앞부분")
+	String lastMessagePreview
+) {
+	/** 요약/마지막 메시지 미리보기 최대 글자 수 */
+	public static final int PREVIEW_LENGTH = 100;
+
+	public ChatSessionSummaryDto {
+		summaryPreview = truncate(summaryPreview);
+	}
+
+	public static String truncate(String text) {
+		if (text == null || text.length() <= PREVIEW_LENGTH) {
+			return text;
+		}
+		return text.substring(0, PREVIEW_LENGTH);
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto.chat;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정규화된 위험 수준 (선언 순서 = 심각도 오름차순)
+ */
+public enum RiskLevel {
+	NONE,
+	LOW,
+	MEDIUM,
+	HIGH;
+
+	/** 이 수준 이상인 값들 (관리자 분류 화면의 최소 수준 필터용) */
+	public List<RiskLevel> andAbove() {
+		return Arrays.stream(values()).filter(level -> level.compareTo(this) >= 0).toList();
+	}
+
+	public static RiskLevel max(RiskLevel a, RiskLevel b) {
+		return a.compareTo(b) >= 0 ? a : b;
+	}
+}
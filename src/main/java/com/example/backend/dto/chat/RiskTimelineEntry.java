@@ -0,0 +1,41 @@
+package com.example.backend.dto.chat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 위험도 타임라인 항목 (세션 1개 = 1행, 최신순)
+ */
+@Schema(description = "위험도 타임라인 항목")
+public record RiskTimelineEntry(
+	@Schema(description = "세션 ID")
+	String sessionId,
+
+	@Schema(description = "사용자 이메일")
+	String userEmail,
+
+	@Schema(description = "정규화된 위험 수준")
+	RiskLevel riskLevel,
+
+	@Schema(description = "위험요인 점수 중 최댓값 (0.0~1.0, 점수가 없으면 null)")
+	Double riskScore,
+
+	@Schema(description = "가장 심각한 위험요인")
+	String primaryRisk,
+
+	@Schema(description = "상담 일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	LocalDateTime occurredAt
+) {
+	@Schema(description = "상담 날짜")
+	@JsonProperty("date")
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	public LocalDate date() {
+		return occurredAt == null ? null : occurredAt.toLocalDate();
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.backend.dto.common;
+
+/**
+ * 커서 이동 방향
+ * - BEFORE: 커서보다 앞선(오래된) 항목, 커서 없으면 가장 최근 페이지
+ * - AFTER : 커서 이후(최신) 항목, 커서 없으면 가장 처음 페이지
+ */
+public enum CursorDirection {
+	BEFORE,
+	AFTER
+}
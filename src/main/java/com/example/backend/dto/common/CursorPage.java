@@ -0,0 +1,39 @@
+package com.example.backend.dto.common;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 키셋(커서) 기반 페이지 응답
+ * - items 는 화면 표시 순서대로 정렬되어 있다.
+ * - prevCursor/nextCursor 는 각각 첫/마지막 항목 위치를 가리키며 direction=BEFORE/AFTER 와 함께 사용한다.
+ */
+@Schema(description = "커서 기반 페이지")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+	@Schema(description = "페이지 항목")
+	List<T> items,
+
+	@Schema(description = "이전(더 오래된) 페이지 조회용 커서")
+	String prevCursor,
+
+	@Schema(description = "다음(더 최신) 페이지 조회용 커서")
+	String nextCursor,
+
+	@Schema(description = "이전 페이지 존재 여부")
+	boolean hasPrev,
+
+	@Schema(description = "다음 페이지 존재 여부")
+	boolean hasNext
+) {
+	public CursorPage {
+		items = items == null ? List.of() : List.copyOf(items);
+	}
+
+	public static <T> CursorPage<T> empty() {
+		return new CursorPage<>(List.of(), null, null, false, false);
+	}
+}
@@ -23,5 +23,6 @@ public class Detail {
     private LocalDateTime updatedAt;
     private int likeCount;
     private int commentCount;
+    private long viewCount; // DB 값 + 아직 반영되지 않은 증가분 (PostViewCounter)
     private boolean likedByCurrentUser;
 }
@@ -20,4 +20,5 @@ public class Summary {
     private LocalDateTime createdAt;
     private int likeCount;
     private int commentCount;
+    private long viewCount; // DB 값 + 아직 반영되지 않은 증가분 (PostViewCounter)
 }
@@ -0,0 +1,48 @@
+package com.example.backend.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 여러 메시지가 공유하는 본문 (content_hash = SHA-256(UTF-8 본문) hex)
+ * - chat_messages.content_hash 가 이 행을 참조하고, ref_count 는 참조하는 메시지 행 수 (커밋 후 모아서 반영하므로 잠시 늦을 수 있음)
+ * - 읽기/쓰기는 ChatMessageBlobStore(JDBC) 가 담당하며, 엔티티는 스키마 정의용
+ */
+@Entity
+@Table(name = "chat_message_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageBlobEntity {
+
+    @Id
+    @Column(name = "content_hash", length = 64, columnDefinition = "char(64)")
+    private String contentHash;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "byte_length", nullable = false)
+    private int byteLength;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,62 @@
+package com.example.backend.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 스트리밍 중인 AI 응답의 조각 (추가 전용, (message_id, seq) 당 1행)
+ * - 완료 시 seq 순으로 합쳐 chat_messages.message_content 에 한 번 쓰고 지운다.
+ * - 읽기/쓰기는 ChatMessageChunkStore(JDBC) 가 담당하며, 엔티티는 스키마 정의용
+ */
+@Entity
+@IdClass(ChatMessageChunkEntity.Key.class)
+@Table(name = "chat_message_chunks", indexes = {
+    @Index(name = "idx_chat_message_chunks_session", columnList = "session_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessageChunkEntity {
+
+    @Id
+    @Column(name = "message_id")
+    private Long messageId;
+
+    @Id
+    @Column(name = "seq")
+    private Integer seq;
+
+    @Column(name = "session_id", nullable = false, length = 255)
+    private String sessionId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long messageId;
+        private Integer seq;
+    }
+}
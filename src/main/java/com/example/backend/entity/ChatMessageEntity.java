@@ -1,19 +1,32 @@
 package com.example.backend.entity;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import org.hibernate.annotations.CreationTimestamp;
 
 import com.example.backend.dto.chat.ChatMessageType; // ✅ 외부 enum import
+import com.example.backend.entity.converter.CompressedTextConverter;
+import com.example.backend.entity.listener.ChatMessageContentListener;
+import com.example.backend.entity.listener.ChatMessageSequenceListener;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,9 +35,17 @@ import lombok.Setter;
 
 /**
  * 통합 채팅 메시지 엔티티
+ * - messageContent 는 논리 본문. DB 에는 message_content(원문/압축) 또는 content_hash(chat_message_blobs 참조) 중 하나로 저장된다.
  */
 @Entity
-@Table(name = "chat_messages")
+@EntityListeners({ChatMessageSequenceListener.class, ChatMessageContentListener.class})
+@Table(name = "chat_messages", indexes = {
+    @Index(name = "idx_chat_messages_session_created", columnList = "session_id, created_at, message_id"),
+    @Index(name = "idx_chat_messages_streaming", columnList = "streaming, created_at"),
+    @Index(name = "uk_chat_messages_session_seq", columnList = "session_id, seq", unique = true),
+    @Index(name = "idx_chat_messages_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_chat_messages_session_updated", columnList = "session_id, updated_at, message_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,13 +61,48 @@ public class ChatMessageEntity {
     @Column(name = "session_id", nullable = false, length = 255)
     private String sessionId;
 
+    /** 세션 안 순번 (1부터, ChatMessageSequenceAllocator 가 INSERT 직전 부여). 정렬/페이지네이션 키 */
+    @Column(name = "seq")
+    private Long seq;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "message_type", nullable = false, columnDefinition = "enum('AI','USER')")
     private ChatMessageType messageType; // ✅ 내부 enum 제거하고 외부 enum 사용
 
-    @Column(name = "message_content", columnDefinition = "TEXT")
+    @Transient
     private String messageContent;
 
+    /** blob 본문을 묶음 조회로 나중에 채우는 경우 (ChatMessageBlobStore.resolveLater). 첫 getMessageContent 때 실행 */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Runnable contentLoader;
+
+    /** 영속 상태에서 setMessageContent 로 본문을 바꿨는지와 그 전의 content_hash (@PreUpdate 에서 blob 참조를 다시 정한다) */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean contentChanged;
+
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String previousContentHash;
+
+    /** DB 저장값 (blob 참조면 null) — setMessageContent 와 콜백에서 messageContent 와 동기화 */
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "message_content", columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String storedContent;
+
+    /** chat_message_blobs.content_hash (본문을 공유 blob 으로 저장한 경우) */
+    @JsonIgnore
+    @Column(name = "content_hash", length = 64, columnDefinition = "char(64)")
+    private String contentHash;
+
     @Column(name = "emotion", columnDefinition = "TEXT")
     private String emotion;
 
@@ -57,7 +113,88 @@ public class ChatMessageEntity {
     @Builder.Default
     private String chatStyle = "default";
 
+    /** AI 응답 스트리밍 중 (본문은 chat_message_chunks 에 쌓이고 완료 시 합쳐진다) */
+    @Column(name = "streaming", nullable = false, columnDefinition = "boolean default false")
+    private boolean streaming;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    /** 마지막 변경 시각 (삽입, 스트리밍 완료 시 갱신). SSE 이벤트 id 와 재연결 재전송 기준 */
+    @Column(name = "updated_at", columnDefinition = "datetime(6)")
+    private LocalDateTime updatedAt;
+
+    /** updated_at 에 쓸 현재 시각 (DB 정밀도 datetime(6) 에 맞춰 잘라 이벤트 id 와 저장값이 같게) */
+    public static LocalDateTime changedNow() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public String getMessageContent() {
+        Runnable loader = contentLoader;
+        if (loader != null) {
+            loader.run(); // 같은 묶음의 메시지 전체에 fillContent
+        }
+        return messageContent;
+    }
+
+    /**
+     * 본문 변경. 저장 컬럼도 같이 바꿔 dirty checking 에 잡히게 한다. (messageContent 는 @Transient)
+     * - blob 참조였으면 참조를 떼고, 새 본문의 저장 방식은 @PreUpdate(ChatMessageContentListener) 에서 다시 정한다.
+     */
+    public void setMessageContent(String messageContent) {
+        fillContent(messageContent);
+        if (!contentChanged) {
+            previousContentHash = contentHash;
+            contentChanged = true;
+        }
+        contentHash = null;
+        storedContent = messageContent;
+    }
+
+    /** 저장된 본문을 채운다. (blob 조회 결과 — 변경으로 보지 않음) */
+    public void fillContent(String messageContent) {
+        this.messageContent = messageContent;
+        this.contentLoader = null;
+    }
+
+    /** setMessageContent 이후 처음 한 번만 true. previousContentHash 는 그 전 blob 참조 */
+    public boolean takeContentChange() {
+        boolean changed = contentChanged;
+        contentChanged = false;
+        return changed;
+    }
+
+    public String getPreviousContentHash() {
+        return previousContentHash;
+    }
+
+    public void deferContent(Runnable loader) {
+        this.contentLoader = loader;
+    }
+
+    // 엔티티 리스너(ChatMessageContentListener) 다음에 호출된다.
+    @PrePersist
+    void storeContent() {
+        storedContent = contentHash == null ? messageContent : null;
+        contentChanged = false;
+        previousContentHash = null;
+        if (updatedAt == null) {
+            updatedAt = changedNow();
+        }
+    }
+
+    // 엔티티 리스너가 contentHash 를 다시 정한 뒤 호출된다.
+    @PreUpdate
+    void storeUpdatedContent() {
+        storedContent = contentHash == null ? messageContent : null;
+        previousContentHash = null;
+    }
+
+    @PostLoad
+    void loadContent() {
+        if (contentHash == null) {
+            messageContent = storedContent;
+        }
+    }
 }
@@ -7,11 +7,19 @@ import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.entity.converter.CompressedTextConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 /**
@@ -19,14 +27,16 @@ import jakarta.persistence.Table;
  */
 @Slf4j
 @Entity
-@Table(name = "chat_sessions")
+@Table(name = "chat_sessions", indexes = {
+        @Index(name = "idx_chat_sessions_user_created", columnList = "user_email, created_at, session_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @ToString
-public class ChatSessionEntity {
+public class ChatSessionEntity implements Persistable<String> {
 
     @Id
     @Column(name = "session_id")
@@ -38,18 +48,28 @@ public class ChatSessionEntity {
     @Column(name = "user_name", nullable = true, length = 255)
     private String userName;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "summary", columnDefinition = "TEXT", nullable = true)
     private String summary;
 
+    // 세션 목록용 요약 앞부분. summary 는 압축 저장될 수 있어 목록 조회는 이 컬럼만 읽는다. (저장 시 summary 에서 채움)
+    @Column(name = "summary_preview", length = ChatSessionSummaryDto.PREVIEW_LENGTH, nullable = true)
+    @Setter(AccessLevel.NONE)
+    private String summaryPreview;
+
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "emotions", columnDefinition = "TEXT", nullable = true)
     private String emotions;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "primary_risk", columnDefinition = "TEXT", nullable = true)
     private String primaryRisk;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "protective_factors", columnDefinition = "TEXT", nullable = true)
     private String protectiveFactors;
 
+    @Convert(converter = CompressedTextConverter.class)
     @Column(name = "risk_factors", columnDefinition = "TEXT", nullable = true)
     private String riskFactors;
 
@@ -61,11 +81,56 @@ public class ChatSessionEntity {
     @Column(name = "updated_at", nullable = true)
     private LocalDateTime updatedAt;
 
+    // === 메시지 통계 (비정규화) ===
+    // ChatSessionStatsService 의 UPDATE 문으로만 갱신한다. (세션 저장 시 merge 로 덮어쓰지 않도록 insert/update 제외)
+
+    @Column(name = "message_count", insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int messageCount;
+
+    @Column(name = "last_message_at", insertable = false, updatable = false)
+    private LocalDateTime lastMessageAt;
+
+    @Column(name = "last_message_preview", length = 255, insertable = false, updatable = false)
+    private String lastMessagePreview;
+
+    // === 콜드 아카이브 ===
+    // ChatArchiveService 가 메시지를 세그먼트 파일로 옮긴 시각. 통계와 같은 이유로 UPDATE 문으로만 갱신
+
+    @Column(name = "archived_at", insertable = false, updatable = false)
+    private LocalDateTime archivedAt;
+
+    // 아카이브로 옮긴 메시지의 최대 seq. 테이블 행이 지워져도 ChatMessageSequenceAllocator 가 이어서 번호를 매기게 한다.
+    @Column(name = "archived_seq", insertable = false, updatable = false)
+    private Long archivedSeq;
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return sessionId;
+    }
+
+    /**
+     * id 를 직접 할당하므로 save() 가 merge(사전 SELECT) 대신 persist 를 고르도록 created_at 유무로 판정
+     * - 기존 세션을 다시 저장하는 경로는 ChatSessionRepository.upsert 를 사용한다.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return createdAt == null;
+    }
+
     @PrePersist
     protected void onCreate() {
         log.info("\t In Entity: Creating Chat Session Entity {}", sessionId);
         if (this.sessionId == null || this.sessionId.isBlank()) {
             this.sessionId = UUID.randomUUID().toString();
         }
+        this.summaryPreview = ChatSessionSummaryDto.truncate(summary);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.summaryPreview = ChatSessionSummaryDto.truncate(summary);
     }
 }
@@ -0,0 +1,58 @@
+package com.example.backend.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시글 좋아요/댓글 수의 미반영 증가분 슬롯 ((post_id, counter, shard) 당 1행)
+ * - 증가는 임의 슬롯 1행에만 잠금을 걸어 같은 게시글의 동시 증가가 posts 행 하나에 줄 서지 않게 한다.
+ * - 주기적으로 합계를 posts.like_count / comment_count 로 옮기고 슬롯은 비운다. (PostCounterService)
+ * - 읽기/쓰기는 PostCounterStore(JDBC) 가 담당하며, 엔티티는 스키마 정의용
+ */
+@Entity
+@IdClass(PostCounterShardEntity.Key.class)
+@Table(name = "post_counter_shards")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCounterShardEntity {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Column(name = "counter", length = 16)
+    private String counter;
+
+    @Id
+    @Column(name = "shard")
+    private Integer shard;
+
+    @Column(name = "value", nullable = false)
+    private Long value;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long postId;
+        private String counter;
+        private Integer shard;
+    }
+}
@@ -26,7 +26,10 @@ import lombok.Setter;
     @Index(name = "idx_posts_user_id", columnList = "user_id"),
     @Index(name = "idx_posts_created_at", columnList = "created_at"),
     @Index(name = "idx_posts_visibility", columnList = "visibility"),
-    @Index(name = "idx_user_id_visibility", columnList = "user_id, visibility")
+    @Index(name = "idx_user_id_visibility", columnList = "user_id, visibility"),
+    // 목록 키셋 페이지 (InnoDB 보조 인덱스는 PK(post_id)를 포함하므로 (…, created_at, post_id) 순서로 읽힌다)
+    @Index(name = "idx_posts_visibility_created_at", columnList = "visibility, created_at"),
+    @Index(name = "idx_posts_user_id_created_at", columnList = "user_id, created_at")
 })
 @Getter
 @Setter
@@ -0,0 +1,73 @@
+package com.example.backend.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import com.example.backend.dto.chat.RiskLevel;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자별 위험도 타임라인 (chat_sessions 의 위험요인을 정규화해 둔 읽기 전용 사본)
+ * - RiskTimelineService 가 세션 저장/수정/삭제 시 같은 트랜잭션에서 갱신한다.
+ */
+@Entity
+@Table(name = "risk_timeline", indexes = {
+    @Index(name = "idx_risk_timeline_user_occurred", columnList = "user_email, occurred_at, session_id"),
+    @Index(name = "idx_risk_timeline_level_occurred", columnList = "risk_level, occurred_at, session_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RiskTimelineEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "session_id")
+    private String sessionId;
+
+    @Column(name = "user_email", length = 255)
+    private String userEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_level", nullable = false, length = 16)
+    private RiskLevel riskLevel;
+
+    @Column(name = "risk_score")
+    private Double riskScore;
+
+    @Column(name = "primary_risk", length = 100)
+    private String primaryRisk;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Override
+    public String getId() {
+        return sessionId;
+    }
+
+    /** 조회된 행은 updated_at 이 있으므로, 새 행만 사전 SELECT 없이 persist */
+    @Override
+    public boolean isNew() {
+        return updatedAt == null;
+    }
+}
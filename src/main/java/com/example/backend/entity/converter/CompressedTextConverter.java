@@ -0,0 +1,79 @@
+package com.example.backend.entity.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.common.util.DeflateCodec;
+import com.example.backend.config.properties.ChatProperties;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 긴 TEXT 컬럼 투명 압축
+ * - 저장 형식: [MARKER][FORMAT][payload]
+ *   - 'D': payload = base64(zlib deflate(UTF-8))
+ *   - 'P': payload = 원문 (MARKER 로 시작하는 원문을 구분하기 위한 escape)
+ * - MARKER 로 시작하지 않는 값은 압축 도입 전 행으로 보고 그대로 읽는다.
+ * - thresholdBytes 미만이거나 압축해도 줄지 않으면 원문 그대로 저장
+ * - JPA 외 경로(JDBC 배치 INSERT, 재압축 작업)도 같은 빈을 사용한다.
+ */
+@Component
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    public static final char MARKER = '\uE000';
+    public static final char FORMAT_DEFLATE = 'D';
+    public static final char FORMAT_PLAIN = 'P';
+
+    private static final int HEADER_BYTES = 4; // MARKER(UTF-8 3바이트) + FORMAT(1바이트)
+
+    private final ChatProperties.Compression config;
+
+    public CompressedTextConverter(ChatProperties chatProperties) {
+        this.config = chatProperties.getCompression();
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+        if (config.isEnabled() && raw.length >= config.getThresholdBytes()) {
+            String encoded = Base64.getEncoder().encodeToString(DeflateCodec.deflate(raw, config.getLevel()));
+            if (encoded.length() + HEADER_BYTES < raw.length) {
+                return header(FORMAT_DEFLATE) + encoded;
+            }
+        }
+        return isEncoded(attribute) ? header(FORMAT_PLAIN) + attribute : attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        if (dbData == null || !isEncoded(dbData)) {
+            return dbData;
+        }
+        if (dbData.length() < 2) {
+            throw new IllegalStateException("압축 텍스트 헤더가 손상되었습니다.");
+        }
+        char format = dbData.charAt(1);
+        String payload = dbData.substring(2);
+        return switch (format) {
+            case FORMAT_PLAIN -> payload;
+            case FORMAT_DEFLATE -> new String(DeflateCodec.inflate(Base64.getDecoder().decode(payload)), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("알 수 없는 압축 형식: " + format);
+        };
+    }
+
+    /** DB 값이 이미 이 컨버터 형식(헤더 포함)인지 */
+    public static boolean isEncoded(String value) {
+        return value != null && !value.isEmpty() && value.charAt(0) == MARKER;
+    }
+
+    private static String header(char format) {
+        return String.valueOf(MARKER) + format;
+    }
+}
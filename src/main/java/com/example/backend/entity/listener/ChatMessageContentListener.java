@@ -0,0 +1,47 @@
+package com.example.backend.entity.listener;
+
+import java.util.List;
+
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageBlobStore;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * ChatMessageEntity 본문 ↔ chat_message_blobs 참조 연결 (JPA 경로)
+ * - 저장 직전: 대상 본문이면 content_hash 를 정하고 참조 수를 올린다.
+ * - 수정 직전: setMessageContent 로 본문을 바꿨으면 참조를 다시 정하고 이전 참조 수를 내린다.
+ * - 조회 직후: content_hash 로 본문을 채운다. (캐시에 없으면 같은 페이지의 행들과 묶어 첫 접근 때 한 번에 조회)
+ * - JDBC 배치 INSERT 경로는 ChatMessageRepositoryCustomImpl 이 같은 ChatMessageBlobStore 를 직접 호출한다.
+ * - Spring 빈 컨테이너가 생성자 주입으로 만든다. (@Component 로 등록하지 않음)
+ */
+public class ChatMessageContentListener {
+
+    private final ChatMessageBlobStore chatMessageBlobStore;
+
+    public ChatMessageContentListener(ChatMessageBlobStore chatMessageBlobStore) {
+        this.chatMessageBlobStore = chatMessageBlobStore;
+    }
+
+    @PrePersist
+    public void beforeInsert(ChatMessageEntity message) {
+        chatMessageBlobStore.acquire(List.of(message));
+    }
+
+    @PreUpdate
+    public void beforeUpdate(ChatMessageEntity message) {
+        String previousHash = message.getPreviousContentHash();
+        if (message.takeContentChange()) {
+            chatMessageBlobStore.reacquire(message, previousHash);
+        }
+    }
+
+    @PostLoad
+    public void afterLoad(ChatMessageEntity message) {
+        if (message.getContentHash() != null) {
+            chatMessageBlobStore.resolveLater(message);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.entity.listener;
+
+import java.util.List;
+
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageSequenceAllocator;
+
+import jakarta.persistence.PrePersist;
+
+/**
+ * ChatMessageEntity 저장 직전 세션 순번(seq) 부여 (JPA 경로)
+ * - JDBC 배치 INSERT 경로는 ChatMessageRepositoryCustomImpl 이 같은 ChatMessageSequenceAllocator 를 직접 호출한다.
+ * - Spring 빈 컨테이너가 생성자 주입으로 만든다. (@Component 로 등록하지 않음)
+ */
+public class ChatMessageSequenceListener {
+
+    private final ChatMessageSequenceAllocator chatMessageSequenceAllocator;
+
+    public ChatMessageSequenceListener(ChatMessageSequenceAllocator chatMessageSequenceAllocator) {
+        this.chatMessageSequenceAllocator = chatMessageSequenceAllocator;
+    }
+
+    @PrePersist
+    public void beforeInsert(ChatMessageEntity message) {
+        chatMessageSequenceAllocator.assign(List.of(message));
+    }
+}
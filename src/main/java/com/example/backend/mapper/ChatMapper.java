@@ -50,6 +50,12 @@ public abstract class ChatMapper {
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "updatedAt", ignore = true)
 	@Mapping(target = "emotions", expression = "java(emotionParser.format(dto.emotions()))")
+	@Mapping(target = "messageCount", ignore = true) // 메시지 저장 시 집계
+	@Mapping(target = "lastMessageAt", ignore = true)
+	@Mapping(target = "lastMessagePreview", ignore = true)
+	@Mapping(target = "archivedAt", ignore = true) // 아카이브 작업이 설정
+	@Mapping(target = "archivedSeq", ignore = true)
+	@Mapping(target = "summaryPreview", ignore = true) // 저장 시 summary 에서 채움
 	public abstract ChatSessionEntity toEntity(ChatSessionDto dto);
 
 	// === ChatMessage Entity ↔ DTO 변환 ===
@@ -64,6 +70,13 @@ public abstract class ChatMapper {
 	 */
 	@Mapping(target = "messageId", ignore = true) // ID는 자동 생성
 	@Mapping(target = "createdAt", ignore = true) // @CreationTimestamp 사용
+	@Mapping(target = "storedContent", ignore = true) // 저장 시 messageContent 에서 계산
+	@Mapping(target = "contentHash", ignore = true)
+	@Mapping(target = "contentLoader", ignore = true) // 조회 시 blob 묶음 로딩 전용
+	@Mapping(target = "contentChanged", ignore = true) // 영속 엔티티 본문 변경 추적 전용
+	@Mapping(target = "previousContentHash", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true) // 저장/완료 시 설정
+	@Mapping(target = "streaming", ignore = true) // 스트리밍 시작 시에만 true
 	public abstract ChatMessageEntity toMessageEntity(ChatMessageDto dto);
 
 	/**
@@ -82,6 +95,14 @@ public abstract class ChatMapper {
 
 	@Mapping(target = "messageId", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "storedContent", ignore = true) // 저장 시 messageContent 에서 계산
+	@Mapping(target = "contentHash", ignore = true)
+	@Mapping(target = "contentLoader", ignore = true) // 조회 시 blob 묶음 로딩 전용
+	@Mapping(target = "contentChanged", ignore = true) // 영속 엔티티 본문 변경 추적 전용
+	@Mapping(target = "previousContentHash", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true) // 저장/완료 시 설정
+	@Mapping(target = "streaming", ignore = true) // 스트리밍 시작 시에만 true
+	@Mapping(target = "seq", ignore = true) // 저장 시 ChatMessageSequenceAllocator 가 부여
 	public abstract ChatMessageEntity toEntity(ChatMessageRequest request);
 
 	@Mapping(target = "sessionId", ignore = false)
@@ -89,6 +110,12 @@ public abstract class ChatMapper {
 	@Mapping(target = "updatedAt", ignore = true)
 	@Mapping(target = "primaryRisk", expression = "java(toStr(request.getRiskFactors()))")
 	@Mapping(target = "riskFactors", expression = "java(toStr(request.getPrimaryRisk()))")
+	@Mapping(target = "messageCount", ignore = true) // 메시지 저장 시 집계
+	@Mapping(target = "lastMessageAt", ignore = true)
+	@Mapping(target = "lastMessagePreview", ignore = true)
+	@Mapping(target = "archivedAt", ignore = true) // 아카이브 작업이 설정
+	@Mapping(target = "archivedSeq", ignore = true)
+	@Mapping(target = "summaryPreview", ignore = true) // 저장 시 summary 에서 채움
 	public abstract ChatSessionEntity toEntity(SessionRequest request);
 
 	// === 간편 메시지 생성 메서드들 ===
@@ -100,6 +127,14 @@ public abstract class ChatMapper {
 	@Mapping(target = "messageType", constant = "USER")
 	@Mapping(target = "emotion", ignore = true) // 사용자 메시지는 감정 분석 없음
 	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "storedContent", ignore = true) // 저장 시 messageContent 에서 계산
+	@Mapping(target = "contentHash", ignore = true)
+	@Mapping(target = "contentLoader", ignore = true) // 조회 시 blob 묶음 로딩 전용
+	@Mapping(target = "contentChanged", ignore = true) // 영속 엔티티 본문 변경 추적 전용
+	@Mapping(target = "previousContentHash", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true) // 저장/완료 시 설정
+	@Mapping(target = "streaming", ignore = true) // 스트리밍 시작 시에만 true
+	@Mapping(target = "seq", ignore = true) // 저장 시 ChatMessageSequenceAllocator 가 부여
 	public abstract ChatMessageEntity createUserMessage(
 		String sessionId,
 		String messageContent,
@@ -113,6 +148,14 @@ public abstract class ChatMapper {
 	@Mapping(target = "messageId", ignore = true)
 	@Mapping(target = "messageType", constant = "AI")
 	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "storedContent", ignore = true) // 저장 시 messageContent 에서 계산
+	@Mapping(target = "contentHash", ignore = true)
+	@Mapping(target = "contentLoader", ignore = true) // 조회 시 blob 묶음 로딩 전용
+	@Mapping(target = "contentChanged", ignore = true) // 영속 엔티티 본문 변경 추적 전용
+	@Mapping(target = "previousContentHash", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true) // 저장/완료 시 설정
+	@Mapping(target = "streaming", ignore = true) // 스트리밍 시작 시에만 true
+	@Mapping(target = "seq", ignore = true) // 저장 시 ChatMessageSequenceAllocator 가 부여
 	public abstract ChatMessageEntity createAiMessage(
 		String sessionId,
 		String messageContent,
@@ -133,6 +176,7 @@ public abstract class ChatMapper {
 	@Mapping(target = "protectiveFactors", expression = "java(toStr(payload.get(\"protective_factors\")))")
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "updatedAt", ignore = true)
+	@Mapping(target = "summaryPreview", ignore = true) // 저장 시 summary 에서 채움
 	public abstract ChatSessionEntity toAnalysisEntity(Map<String, Object> payload);
 
 	// === 부분 업데이트 (기존) ===
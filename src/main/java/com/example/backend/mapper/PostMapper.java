@@ -1,6 +1,11 @@
 package com.example.backend.mapper;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
@@ -50,6 +55,7 @@ public interface PostMapper {
 	@Mapping(target = "updatedAt", source = "post.updatedAt")
 	@Mapping(target = "likeCount", source = "post.likeCount")
 	@Mapping(target = "commentCount", source = "post.commentCount")
+	@Mapping(target = "viewCount", source = "post.viewCount")
 	@Mapping(target = "likedByCurrentUser", constant = "false") // TODO: 구현
 	Detail toDetail(PostEntity post, UserEntity author);
 
@@ -62,36 +68,54 @@ public interface PostMapper {
 	@Mapping(target = "createdAt", source = "post.createdAt")
 	@Mapping(target = "likeCount", source = "post.likeCount")
 	@Mapping(target = "commentCount", source = "post.commentCount")
+	@Mapping(target = "viewCount", source = "post.viewCount")
 	Summary toSummary(PostEntity post, UserEntity author);
 
 	// ================== 리스트 매핑 (완전히 기존 로직 재현) ==================
 
 	/**
-	 * PostEntity 리스트를 Detail 리스트로 변환 (기존 mapToDetail 로직 재현)
+	 * PostEntity 리스트를 Detail 리스트로 변환 (작성자는 findAllById 한 번으로 조회)
 	 */
 	default List<Detail> toDetailList(List<PostEntity> posts, @Context UserRepository userRepository) {
+		Map<Long, UserEntity> authors = findAuthors(posts, userRepository);
 		return posts.stream()
-			.map(post -> {
-				UserEntity author = userRepository.findById(post.getUserId())
-					.orElse(createDeletedUserPlaceholder()); // ✅ 기존 로직 동일
-				return toDetail(post, author);
-			})
+			.map(post -> toDetail(post, authorOf(post, authors)))
 			.toList();
 	}
 
 	/**
-	 * PostEntity 리스트를 Summary 리스트로 변환 (기존 mapToSummary 로직 재현)
+	 * PostEntity 리스트를 Summary 리스트로 변환 (작성자는 findAllById 한 번으로 조회)
 	 */
 	default List<Summary> toSummaryList(List<PostEntity> posts, @Context UserRepository userRepository) {
+		Map<Long, UserEntity> authors = findAuthors(posts, userRepository);
 		return posts.stream()
-			.map(post -> {
-				UserEntity author = userRepository.findById(post.getUserId())
-					.orElse(createDeletedUserPlaceholder()); // ✅ 기존 로직 동일
-				return toSummary(post, author);
-			})
+			.map(post -> toSummary(post, authorOf(post, authors)))
 			.toList();
 	}
 
+	/**
+	 * 페이지에 등장하는 작성자를 한 번에 조회 (userId → UserEntity, 게시글 수와 무관하게 쿼리 1회)
+	 */
+	default Map<Long, UserEntity> findAuthors(List<PostEntity> posts, @Context UserRepository userRepository) {
+		Set<Long> userIds = posts.stream()
+			.map(PostEntity::getUserId)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+		return userRepository.findAllById(userIds).stream()
+			.collect(Collectors.toMap(UserEntity::getUserId, Function.identity()));
+	}
+
+	/**
+	 * 조회 결과에 없으면 탈퇴한 사용자 (기존 로직 동일)
+	 */
+	default UserEntity authorOf(PostEntity post, Map<Long, UserEntity> authors) {
+		UserEntity author = post.getUserId() != null ? authors.get(post.getUserId()) : null;
+		return author != null ? author : createDeletedUserPlaceholder();
+	}
+
 	/**
 	 * 단일 PostEntity를 Detail로 변환 (기존 mapToDetail 로직 재현)
 	 */
@@ -0,0 +1,446 @@
+package com.example.backend.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메시지 본문 내용 주소 저장소 (chat_message_blobs)
+ * - chat.dedup.enabled 이고 본문이 threshold 이상이면 chat_messages.message_content 대신 content_hash 로 참조한다.
+ * - 저장 트랜잭션은 blob 행을 INSERT IGNORE 로 보장만 한다. (중복이면 공유 잠금만 잡으므로 같은 본문을 쓰는 트랜잭션끼리 기다리지 않음)
+ * - ref_count 는 참조하는 chat_messages 행 수의 근사치. 증감은 커밋 후 메모리에 모았다가 chat.dedup.ref-flush-interval-ms 마다
+ *   해시 순으로 1행씩 autocommit UPDATE 한다. (요청 트랜잭션이 공유 행의 배타 잠금을 잡지 않음)
+ * - 참조가 줄어든 행은 같은 주기에 ref_count <= 0 이고 실제로 참조하는 메시지가 없을 때만 지운다. (ref_count 는 힌트, NOT EXISTS 가 기준)
+ * - 본문은 해시별로 바뀌지 않으므로 자주 읽히는 본문을 LRU(cacheMaxBytes)로 메모리에 둔다.
+ * - 조회 시 캐시에 없는 본문은 같은 스레드에서 이어서 읽힌 행들과 묶어 첫 접근 때 IN 조회 1번으로 채운다.
+ * - JPA 콜백(ChatMessageContentListener) 안에서도 호출되므로 EntityManager 대신 JdbcTemplate 만 사용한다.
+ */
+@Slf4j
+@Repository
+public class ChatMessageBlobStore implements SmartLifecycle {
+
+    // 이미 있으면 무시 (중복 키에는 공유 잠금만 걸린다)
+    private static final String ENSURE_SQL = """
+            INSERT IGNORE INTO chat_message_blobs (content_hash, content, byte_length, ref_count, created_at)
+            VALUES (?, ?, ?, 0, ?)
+            """;
+
+    private static final String ADJUST_SQL =
+            "UPDATE chat_message_blobs SET ref_count = ref_count + ? WHERE content_hash = ?";
+
+    private static final String SELECT_SQL = "SELECT content_hash, content FROM chat_message_blobs WHERE content_hash IN (%s)";
+
+    private static final String REFERENCES_SQL = """
+            SELECT content_hash, COUNT(*) FROM chat_messages
+            WHERE session_id = ? AND message_id BETWEEN ? AND ? AND content_hash IS NOT NULL
+            GROUP BY content_hash
+            FOR UPDATE
+            """;
+
+    private static final String DELETE_MESSAGES_SQL =
+            "DELETE FROM chat_messages WHERE session_id = ? AND message_id BETWEEN ? AND ?";
+
+    private static final String DELETE_UNREFERENCED_SQL = """
+            DELETE FROM chat_message_blobs
+            WHERE content_hash = ? AND ref_count <= 0
+              AND NOT EXISTS (SELECT 1 FROM chat_messages m WHERE m.content_hash = ?)
+            """;
+
+    private static final long ENTRY_OVERHEAD_BYTES = 200;
+    private static final int RESOLVE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter compressedTextConverter;
+    private final ChatProperties.Dedup config;
+    private final Map<String, String> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long cacheBytes;
+    private final Map<String, LongAdder> pendingReferences = new ConcurrentHashMap<>();
+    private final ThreadLocal<ContentBatch> openBatch = new ThreadLocal<>();
+
+    private volatile boolean running;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter referencedCounter;
+
+    public ChatMessageBlobStore(JdbcTemplate jdbcTemplate,
+                                CompressedTextConverter compressedTextConverter,
+                                ChatProperties chatProperties,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compressedTextConverter = compressedTextConverter;
+        this.config = chatProperties.getDedup();
+
+        this.hitCounter = Counter.builder("chat.message_blob.cache")
+                .tag("result", "hit")
+                .description("메시지 본문 blob 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.message_blob.cache")
+                .tag("result", "miss")
+                .description("메시지 본문 blob 캐시 조회 결과")
+                .register(meterRegistry);
+        this.referencedCounter = Counter.builder("chat.message_blob.references")
+                .description("본문 대신 blob 참조로 저장한 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.message_blob.cache.bytes", this, ChatMessageBlobStore::cacheBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chat.message_blob.pending_references", pendingReferences, Map::size)
+                .description("ref_count 미반영 증감이 있는 blob 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /** blob 참조 대상이면 content_hash, 아니면 null */
+    public String hashOf(String content) {
+        if (!config.isEnabled() || content == null) {
+            return null;
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        return raw.length >= config.getThresholdBytes() ? sha256(raw) : null;
+    }
+
+    /**
+     * INSERT 직전: 대상 본문이면 contentHash 를 정하고 blob 행을 해시 순으로 보장한 뒤, 참조 수 증가는 커밋 후로 미룬다.
+     * - 같은 엔티티로 다시 호출(플러시 재시도)해도 그 트랜잭션 기준으로 다시 계산된다. (롤백된 시도의 증가분은 반영되지 않음)
+     */
+    public void acquire(Collection<ChatMessageEntity> messages) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        Map<String, String> contents = new HashMap<>();
+        for (ChatMessageEntity message : messages) {
+            String hash = hashOf(message.getMessageContent());
+            message.setContentHash(hash);
+            if (hash != null) {
+                counts.merge(hash, 1L, Long::sum);
+                contents.putIfAbsent(hash, message.getMessageContent());
+            }
+        }
+        counts.keySet().forEach(hash -> ensure(hash, contents.get(hash)));
+        adjustAfterCommit(counts);
+    }
+
+    /**
+     * 영속 메시지의 본문을 바꾼 경우(UPDATE 직전): 새 본문 기준으로 contentHash 를 다시 정하고, 이전 blob 참조는 커밋 후 하나 줄인다.
+     */
+    public void reacquire(ChatMessageEntity message, String previousHash) {
+        acquire(List.of(message));
+        if (previousHash != null) {
+            adjustAfterCommit(Map.of(previousHash, -1L));
+        }
+    }
+
+    /**
+     * blob 행이 없으면 본문과 함께 생성 (ref_count 0, 호출 트랜잭션 안에서)
+     * - 참조하는 chat_messages 행을 쓰기 전에 호출해야 정리 작업(DELETE_UNREFERENCED_SQL)과 잠금 순서가 맞는다.
+     */
+    public void ensure(String hash, String content) {
+        jdbcTemplate.update(ENSURE_SQL, hash, compressedTextConverter.convertToDatabaseColumn(content),
+                content.getBytes(StandardCharsets.UTF_8).length, Timestamp.valueOf(LocalDateTime.now()));
+        cache(hash, content);
+    }
+
+    /** 참조 수 += count (커밋 후 모아서 반영). blob 행은 ensure 로 먼저 만들어 둔다. */
+    public void addReferences(String hash, int count) {
+        if (count > 0) {
+            adjustAfterCommit(Map.of(hash, (long) count));
+        }
+    }
+
+    /** content_hash 의 본문 (캐시 → DB). 행이 없으면 null */
+    public String resolve(String hash) {
+        return resolveAll(List.of(hash)).get(hash);
+    }
+
+    /** 여러 content_hash 의 본문 (캐시에 없는 것만 IN 조회 1번). 행이 없는 해시는 결과에서 빠진다. */
+    public Map<String, String> resolveAll(Collection<String> hashes) {
+        Map<String, String> contents = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        synchronized (cache) {
+            for (String hash : new TreeSet<>(hashes)) {
+                String cached = cache.get(hash);
+                if (cached != null) {
+                    contents.put(hash, cached);
+                } else {
+                    missing.add(hash);
+                }
+            }
+        }
+        hitCounter.increment(contents.size());
+        if (missing.isEmpty()) {
+            return contents;
+        }
+        missCounter.increment(missing.size());
+        String sql = SELECT_SQL.formatted(String.join(", ", Collections.nCopies(missing.size(), "?")));
+        jdbcTemplate.query(sql, rs -> {
+            String hash = rs.getString(1);
+            String content = compressedTextConverter.convertToEntityAttribute(rs.getString(2));
+            contents.put(hash, content);
+            cache(hash, content);
+        }, missing.toArray());
+        missing.stream()
+                .filter(hash -> !contents.containsKey(hash))
+                .forEach(hash -> log.error("메시지 본문 blob 없음 - contentHash: {}", hash));
+        return contents;
+    }
+
+    /**
+     * 조회 직후(@PostLoad): 캐시에 있으면 바로 채우고, 없으면 같은 스레드의 열린 묶음에 넣어 첫 접근 때 묶음 전체를 한 번에 읽는다.
+     * - 한 페이지를 읽는 동안 콜백이 연달아 불리므로 페이지당 IN 조회 1번이 된다. (묶음당 최대 RESOLVE_BATCH_SIZE 행)
+     */
+    public void resolveLater(ChatMessageEntity message) {
+        String hash = message.getContentHash();
+        synchronized (cache) {
+            String cached = cache.get(hash);
+            if (cached != null) {
+                hitCounter.increment();
+                message.fillContent(cached);
+                return;
+            }
+        }
+        ContentBatch batch = openBatch.get();
+        if (batch == null || !batch.add(message)) {
+            batch = new ContentBatch();
+            batch.add(message);
+            openBatch.set(batch);
+        }
+        message.deferContent(batch);
+    }
+
+    /**
+     * 세션 메시지 id 구간 [fromId, toId] 삭제 (한 트랜잭션, 청크마다 별도 트랜잭션)
+     * - 참조 수를 먼저 세고 삭제한다. 구간 밖(더 큰 id)의 새 메시지는 영향을 받지 않는다.
+     * - blob 행은 여기서 잠그지 않는다. 감소분은 커밋 후 모아서 반영하고, 참조가 없어진 행은 그때 지운다.
+     */
+    @Transactional
+    public int deleteMessages(String sessionId, Long fromId, Long toId) {
+        Map<String, Long> released = new TreeMap<>();
+        jdbcTemplate.query(REFERENCES_SQL, rs -> {
+            released.put(rs.getString(1), -rs.getLong(2));
+        }, sessionId, fromId, toId);
+        int deleted = jdbcTemplate.update(DELETE_MESSAGES_SQL, sessionId, fromId, toId);
+        adjustAfterCommit(released);
+        return deleted;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.dedup.ref-flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (running) {
+            flushReferences();
+        }
+    }
+
+    /**
+     * 모인 ref_count 증감을 해시 순으로 1행씩 반영 (행마다 autocommit 이라 한 번에 잠그는 blob 행은 1개뿐)
+     * - 감소한 행은 ref_count <= 0 이고 참조하는 메시지가 없으면 바로 지운다.
+     * - 실패한 행의 증감은 되돌려 다음 주기에 재시도한다.
+     * @return 반영한 blob 수
+     */
+    public synchronized int flushReferences() {
+        Map<String, Long> deltas = new TreeMap<>();
+        pendingReferences.forEach((hash, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(hash, delta);
+            } else {
+                pendingReferences.remove(hash, adder);
+            }
+        });
+
+        int flushed = 0;
+        for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+            String hash = entry.getKey();
+            long delta = entry.getValue();
+            try {
+                jdbcTemplate.update(ADJUST_SQL, delta, hash);
+                flushed++;
+            } catch (RuntimeException e) {
+                log.warn("blob 참조 수 반영 실패 - contentHash: {}, delta: {}, error: {}", hash, delta, e.getMessage());
+                add(hash, delta); // 다음 주기에 재시도
+                continue;
+            }
+            if (delta < 0) {
+                deleteIfUnreferenced(hash);
+            }
+        }
+        if (flushed > 0) {
+            log.debug("blob 참조 수 반영 - blobs: {}", flushed);
+        }
+        return flushed;
+    }
+
+    private void deleteIfUnreferenced(String hash) {
+        try {
+            if (jdbcTemplate.update(DELETE_UNREFERENCED_SQL, hash, hash) > 0) {
+                evict(hash);
+            }
+        } catch (RuntimeException e) {
+            log.warn("참조 없는 blob 삭제 실패 - contentHash: {}, error: {}", hash, e.getMessage());
+        }
+    }
+
+    /** 커밋된 증감만 모은다. (트랜잭션 밖이면 바로) */
+    private void adjustAfterCommit(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.forEach((hash, delta) -> {
+            if (delta > 0) {
+                referencedCounter.increment(delta);
+            }
+        });
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach(this::add);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deltas.forEach(ChatMessageBlobStore.this::add);
+            }
+        });
+    }
+
+    private void add(String hash, long delta) {
+        pendingReferences.computeIfAbsent(hash, h -> new LongAdder()).add(delta);
+    }
+
+    /** 아직 DB 에 반영되지 않은 참조 수 증감 */
+    public long pendingReferences(String hash) {
+        LongAdder adder = pendingReferences.get(hash);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long cacheBytes() {
+        synchronized (cache) {
+            return cacheBytes;
+        }
+    }
+
+    private void evict(String hash) {
+        synchronized (cache) {
+            String removed = cache.remove(hash);
+            if (removed != null) {
+                cacheBytes -= ENTRY_OVERHEAD_BYTES + 2L * removed.length();
+            }
+        }
+    }
+
+    private void cache(String hash, String content) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * content.length();
+        synchronized (cache) {
+            if (bytes > config.getCacheMaxBytes() || cache.containsKey(hash)) {
+                return;
+            }
+            cache.put(hash, content);
+            cacheBytes += bytes;
+            Iterator<Map.Entry<String, String>> eldest = cache.entrySet().iterator();
+            while (cacheBytes > config.getCacheMaxBytes() && eldest.hasNext()) {
+                cacheBytes -= ENTRY_OVERHEAD_BYTES + 2L * eldest.next().getValue().length();
+                eldest.remove();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        int flushed = flushReferences();
+        log.info("blob 참조 수 집계 종료 - 남은 증감 반영: {}", flushed);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** write-behind 버퍼(마지막 저장으로 참조가 늘 수 있음)보다 늦게 멈추도록 더 낮은 phase */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    /**
+     * 한 스레드에서 이어서 읽힌 blob 참조 메시지 묶음 (첫 getMessageContent 때 한 번에 채움)
+     * - 채운 뒤에는 닫혀서 이후 조회는 새 묶음으로 시작한다.
+     */
+    private final class ContentBatch implements Runnable {
+        private final List<ChatMessageEntity> messages = new ArrayList<>();
+        private boolean resolved;
+
+        synchronized boolean add(ChatMessageEntity message) {
+            if (resolved || messages.size() >= RESOLVE_BATCH_SIZE) {
+                return false;
+            }
+            messages.add(message);
+            return true;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (resolved) {
+                return;
+            }
+            resolved = true;
+            if (openBatch.get() == this) {
+                openBatch.remove();
+            }
+            Map<String, String> contents = resolveAll(messages.stream().map(ChatMessageEntity::getContentHash).toList());
+            messages.forEach(message -> message.fillContent(contents.get(message.getContentHash())));
+            messages.clear();
+        }
+    }
+
+    private static String sha256(byte[] raw) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(raw));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
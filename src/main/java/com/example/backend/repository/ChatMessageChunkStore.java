@@ -0,0 +1,130 @@
+package com.example.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.dto.chat.ChatMessageChunk;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+/**
+ * 스트리밍 응답 조각 저장소 (chat_message_chunks, JDBC)
+ * - 조각은 (message_id, seq) 로 INSERT 만 하고, 같은 순번 재전송은 무시한다. (본문 TEXT 행을 반복해서 다시 쓰지 않음)
+ * - 완료 시 합친 본문을 chat_messages 에 한 번 쓰고 조각을 지운다. (본문 저장 형식은 배치 INSERT 와 동일: 압축 또는 blob 참조)
+ */
+@Repository
+public class ChatMessageChunkStore {
+
+    private static final String HEAD_SQL =
+            "SELECT session_id, streaming FROM chat_messages WHERE message_id = ?";
+
+    // 완료(FOR UPDATE)와 겹치면 INSERT ... SELECT 의 공유 잠금이 완료 커밋까지 기다렸다가 streaming=FALSE 를 보고 0건이 된다.
+    private static final String APPEND_SQL = """
+            INSERT INTO chat_message_chunks (message_id, seq, session_id, content, created_at)
+            SELECT message_id, ?, session_id, ?, ? FROM chat_messages
+            WHERE message_id = ? AND streaming = TRUE
+            ON DUPLICATE KEY UPDATE seq = seq
+            """;
+
+    private static final String CHUNKS_SQL =
+            "SELECT seq, content FROM chat_message_chunks WHERE message_id = ? AND seq > ? ORDER BY seq";
+
+    private static final String COMPLETE_SQL = """
+            UPDATE chat_messages SET message_content = ?, content_hash = ?, emotion = COALESCE(?, emotion), streaming = FALSE,
+              updated_at = ?
+            WHERE message_id = ? AND streaming = TRUE
+            """;
+
+    private static final String DELETE_CHUNKS_SQL = "DELETE FROM chat_message_chunks WHERE message_id = ?";
+
+    private static final String DELETE_SESSION_CHUNKS_SQL = "DELETE FROM chat_message_chunks WHERE session_id = ?";
+
+    // 마지막 조각도 before 이전인 스트림 (조각이 하나도 없으면 시작 시각 기준)
+    private static final String STALE_SQL = """
+            SELECT m.message_id FROM chat_messages m
+            WHERE m.streaming = TRUE AND m.created_at < ?
+              AND NOT EXISTS (SELECT 1 FROM chat_message_chunks c WHERE c.message_id = m.message_id AND c.created_at >= ?)
+            ORDER BY m.message_id LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter compressedTextConverter;
+    private final ChatMessageBlobStore chatMessageBlobStore;
+
+    public ChatMessageChunkStore(JdbcTemplate jdbcTemplate,
+                                 CompressedTextConverter compressedTextConverter,
+                                 ChatMessageBlobStore chatMessageBlobStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compressedTextConverter = compressedTextConverter;
+        this.chatMessageBlobStore = chatMessageBlobStore;
+    }
+
+    public Optional<Head> findHead(Long messageId) {
+        return head(HEAD_SQL, messageId);
+    }
+
+    /** 완료 처리용: 메시지 행을 잠가 그 사이 조각 추가를 막는다. (트랜잭션 안에서 호출) */
+    public Optional<Head> lockHead(Long messageId) {
+        return head(HEAD_SQL + " FOR UPDATE", messageId);
+    }
+
+    /** @return 새로 추가됐으면 true (같은 순번이 이미 있거나 스트리밍 중이 아니면 false) */
+    public boolean append(Long messageId, int seq, String content) {
+        return jdbcTemplate.update(APPEND_SQL, seq, content, Timestamp.valueOf(LocalDateTime.now()), messageId) > 0;
+    }
+
+    /** afterSeq 보다 큰 조각 (seq 순) */
+    public List<ChatMessageChunk> findChunks(Long messageId, int afterSeq) {
+        return jdbcTemplate.query(CHUNKS_SQL,
+                (rs, i) -> new ChatMessageChunk(messageId, rs.getInt(1), rs.getString(2)), messageId, afterSeq);
+    }
+
+    /**
+     * 합친 본문을 한 번 쓰고 조각 삭제 (호출 트랜잭션 안에서)
+     * @return 이번 호출로 완료됐으면 true (이미 완료된 메시지면 false)
+     */
+    public boolean complete(Long messageId, String content, String emotion) {
+        String hash = chatMessageBlobStore.hashOf(content);
+        String stored = hash != null ? null : compressedTextConverter.convertToDatabaseColumn(content);
+        if (hash != null) {
+            chatMessageBlobStore.ensure(hash, content); // 메시지 행에 해시를 쓰기 전에 (blob 정리와 같은 잠금 순서)
+        }
+        boolean completed = jdbcTemplate.update(COMPLETE_SQL, stored, hash, emotion,
+                Timestamp.valueOf(ChatMessageEntity.changedNow()), messageId) > 0;
+        if (completed && hash != null) {
+            chatMessageBlobStore.addReferences(hash, 1);
+        }
+        jdbcTemplate.update(DELETE_CHUNKS_SQL, messageId);
+        return completed;
+    }
+
+    /** before 이후 아무 조각도 들어오지 않은 스트리밍 메시지 id */
+    public List<Long> findStale(LocalDateTime before, int limit) {
+        Timestamp at = Timestamp.valueOf(before);
+        return jdbcTemplate.queryForList(STALE_SQL, Long.class, at, at, limit);
+    }
+
+    /** 세션 삭제 시 남은 조각 정리 */
+    public void deleteSessions(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SESSION_CHUNKS_SQL, sessionIds.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    private Optional<Head> head(String sql, Long messageId) {
+        return jdbcTemplate.query(sql, (rs, i) -> new Head(rs.getString(1), rs.getBoolean(2)), messageId)
+                .stream()
+                .findFirst();
+    }
+
+    /** 메시지 행의 세션과 스트리밍 여부 */
+    public record Head(String sessionId, boolean streaming) {
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.backend.entity.ChatMessageEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity, Long> {
+public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity, Long>, ChatMessageRepositoryCustom {
 
     List<ChatMessageEntity> findBySessionIdOrderByCreatedAtAsc(String sessionId);
 
@@ -18,5 +27,123 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
 
     List<ChatMessageEntity> findBySessionIdAndUserEmailOrderByCreatedAtAsc(String sessionId, String userEmail);
 
-    void deleteAllBySessionId(String sessionId);
+    /** 세션별 마지막 메시지 (created_at, message_id 기준) — 통계 재계산용 */
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId IN :sessionIds AND NOT EXISTS ("
+        + "SELECT 1 FROM ChatMessageEntity n WHERE n.sessionId = m.sessionId AND "
+        + "(n.createdAt > m.createdAt OR (n.createdAt = m.createdAt AND n.messageId > m.messageId)))")
+    List<ChatMessageEntity> findLatestBySessionIds(@Param("sessionIds") List<String> sessionIds);
+
+    // ================== 세트 기반 삭제 (id 구간 단위 청크) ==================
+    // 파생 deleteAllBy... 는 엔티티를 모두 로딩해 건별 DELETE 하므로 사용하지 않는다.
+
+    /** 삭제할 다음 청크의 message_id (오름차순, Pageable 은 LIMIT 용도) */
+    @Query("SELECT m.messageId FROM ChatMessageEntity m WHERE m.sessionId = :sessionId ORDER BY m.messageId ASC")
+    List<Long> findMessageIdChunk(@Param("sessionId") String sessionId, Pageable limit);
+
+    // id 구간 삭제는 blob 참조 해제와 함께 ChatMessageBlobStore.deleteMessages 에서 수행
+
+    // ================== 키셋 페이지네이션 (session_id, seq) ==================
+    // Pageable 은 LIMIT 용도로만 사용 (offset 0, count 쿼리 없음)
+    // 순번만으로 정렬해 (session_id, seq) 유니크 인덱스를 그대로 따라 읽는다. (filesort 없음)
+    // 순번 백필 전의 기존 행(seq IS NULL)이 남은 세션은 findLegacy* 를 쓴다. (ChatService.findPage)
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.seq IS NOT NULL " +
+        "ORDER BY m.seq DESC")
+    List<ChatMessageEntity> findLatestPage(@Param("sessionId") String sessionId, Pageable limit);
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.seq IS NOT NULL " +
+        "ORDER BY m.seq ASC")
+    List<ChatMessageEntity> findFirstPage(@Param("sessionId") String sessionId, Pageable limit);
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.seq < :seq " +
+        "ORDER BY m.seq DESC")
+    List<ChatMessageEntity> findPageBefore(@Param("sessionId") String sessionId,
+        @Param("seq") Long seq,
+        Pageable limit);
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.seq > :seq " +
+        "ORDER BY m.seq ASC")
+    List<ChatMessageEntity> findPageAfter(@Param("sessionId") String sessionId,
+        @Param("seq") Long seq,
+        Pageable limit);
+
+    /** 세션에 순번 없는 기존 행이 남아 있는지 (백필 완료 전). 있으면 findLegacy* 로 페이지를 읽는다. */
+    boolean existsBySessionIdAndSeqIsNull(String sessionId);
+
+    // 백필 전 세션: 순번 없는 기존 행이 순번 있는 행보다 앞이며, 그 안에서는 (created_at, message_id) 순
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId " +
+        "ORDER BY m.seq DESC NULLS LAST, m.createdAt DESC, m.messageId DESC")
+    List<ChatMessageEntity> findLegacyLatestPage(@Param("sessionId") String sessionId, Pageable limit);
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId " +
+        "ORDER BY m.seq ASC NULLS FIRST, m.createdAt ASC, m.messageId ASC")
+    List<ChatMessageEntity> findLegacyFirstPage(@Param("sessionId") String sessionId, Pageable limit);
+
+    /** 커서에 순번이 있지만 세션에 순번 없는 기존 행이 남아 있을 때 (기존 행은 모든 순번보다 앞) */
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId " +
+        "AND (m.seq < :seq OR m.seq IS NULL) " +
+        "ORDER BY m.seq DESC NULLS LAST, m.createdAt DESC, m.messageId DESC")
+    List<ChatMessageEntity> findLegacyPageBeforeSeq(@Param("sessionId") String sessionId,
+        @Param("seq") Long seq,
+        Pageable limit);
+
+    /** 커서가 순번 없는 기존 행일 때 (백필 완료 전) */
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.seq IS NULL " +
+        "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.messageId < :messageId)) " +
+        "ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<ChatMessageEntity> findLegacyPageBefore(@Param("sessionId") String sessionId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("messageId") Long messageId,
+        Pageable limit);
+
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId " +
+        "AND (m.seq IS NOT NULL OR m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.messageId > :messageId)) " +
+        "ORDER BY m.seq ASC NULLS FIRST, m.createdAt ASC, m.messageId ASC")
+    List<ChatMessageEntity> findLegacyPageAfter(@Param("sessionId") String sessionId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("messageId") Long messageId,
+        Pageable limit);
+
+    /** SSE 재연결 (숫자 Last-Event-ID = message_id 를 쓰던 이전 클라이언트용): message_id 이후, id 순 */
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.messageId > :afterId " +
+        "AND m.streaming = false ORDER BY m.messageId ASC")
+    List<ChatMessageEntity> findAfterId(@Param("sessionId") String sessionId,
+        @Param("afterId") Long afterId,
+        Pageable limit);
+
+    /**
+     * SSE 재연결 시 놓친 메시지 (Last-Event-ID = (updated_at, message_id) 이후, 변경 순)
+     * - 스트리밍 응답은 완료 시각으로 잡히므로 message_id 가 앞서도 연결이 끊긴 사이 완료됐으면 다시 보낸다.
+     */
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId AND m.streaming = false " +
+        "AND (m.updatedAt > :updatedAt OR (m.updatedAt = :updatedAt AND m.messageId > :messageId)) " +
+        "ORDER BY m.updatedAt ASC, m.messageId ASC")
+    List<ChatMessageEntity> findChangedAfter(@Param("sessionId") String sessionId,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("messageId") Long messageId,
+        Pageable limit);
+
+    // ================== 전방향 스트리밍 (내보내기 전용) ==================
+    // 읽기 전용 + fetch size 로 행을 나눠 받는다. (MySQL 은 JDBC URL 에 useCursorFetch=true 필요)
+    // 반드시 트랜잭션 안에서 try-with-resources 로 닫아야 한다.
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId = :sessionId " +
+        "ORDER BY m.createdAt ASC, m.messageId ASC")
+    Stream<ChatMessageEntity> streamBySessionId(@Param("sessionId") String sessionId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT m FROM ChatMessageEntity m WHERE m.sessionId IN " +
+        "(SELECT s.sessionId FROM ChatSessionEntity s WHERE s.userEmail = :userEmail) " +
+        "ORDER BY m.sessionId ASC, m.createdAt ASC, m.messageId ASC")
+    Stream<ChatMessageEntity> streamByOwnerEmail(@Param("userEmail") String userEmail);
 }
@@ -0,0 +1,32 @@
+package com.example.backend.repository;
+
+import java.util.List;
+
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.entity.ChatMessageEntity;
+
+/**
+ * Spring Data 파생 쿼리로 표현하기 어려운 chat_messages 전용 연산
+ */
+public interface ChatMessageRepositoryCustom {
+
+    /**
+     * JDBC 배치 INSERT (IDENTITY 키라 Hibernate 배치가 꺼지므로 직접 실행)
+     * - 호출 측 트랜잭션에 참여하며, 생성된 message_id 를 각 엔티티에 채워 넣는다.
+     */
+    void batchInsert(List<ChatMessageEntity> entities, int batchSize);
+
+    /**
+     * 테이블에 남은 행 기준 순번 빈 구간 (seq 순, 최대 limit 개)
+     * - 1 부터 첫 순번 앞까지 비어 있어도 구간으로 본다. 순번 없는 기존 행은 제외
+     */
+    default List<ChatSequenceGap> findSequenceGaps(String sessionId, int limit) {
+        return findSequenceGaps(sessionId, 0, limit);
+    }
+
+    /**
+     * afterSeq 보다 큰 순번만 대상으로 한 빈 구간 (afterSeq + 1 부터 첫 순번 앞까지도 구간)
+     * - 아카이브된 세션은 아카이브의 최대 순번 이후만 테이블에서 계산한다.
+     */
+    List<ChatSequenceGap> findSequenceGaps(String sessionId, long afterSeq, int limit);
+}
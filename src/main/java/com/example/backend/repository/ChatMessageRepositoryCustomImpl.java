@@ -0,0 +1,103 @@
+package com.example.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat_messages
+              (session_id, seq, message_type, message_content, content_hash, emotion, user_email, chat_style, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // (session_id, seq) 유니크 인덱스 순서로 읽으며 바로 앞 순번과 비교
+    private static final String GAPS_SQL = """
+            SELECT prev_seq + 1, seq - 1 FROM (
+              SELECT seq, COALESCE(LAG(seq) OVER (ORDER BY seq), ?) AS prev_seq
+              FROM chat_messages WHERE session_id = ? AND seq > ?
+            ) t
+            WHERE seq > prev_seq + 1
+            ORDER BY seq LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter compressedTextConverter;
+    private final ChatMessageBlobStore chatMessageBlobStore;
+    private final ChatMessageSequenceAllocator chatMessageSequenceAllocator;
+
+    @Override
+    public void batchInsert(List<ChatMessageEntity> entities, int batchSize) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        chatMessageSequenceAllocator.assign(entities); // @PrePersist 대체 (세션별 순번, 전달 순서대로)
+        chatMessageBlobStore.acquire(entities); // @PrePersist 대체 (해시별 참조 수를 배치 전체에 대해 한 번에)
+        int chunkSize = Math.max(1, batchSize);
+        for (int from = 0; from < entities.size(); from += chunkSize) {
+            List<ChatMessageEntity> chunk = entities.subList(from, Math.min(from + chunkSize, entities.size()));
+            jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                    for (ChatMessageEntity entity : chunk) {
+                        bind(ps, entity);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    assignGeneratedKeys(ps, chunk);
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public List<ChatSequenceGap> findSequenceGaps(String sessionId, long afterSeq, int limit) {
+        return jdbcTemplate.query(GAPS_SQL, (rs, i) -> new ChatSequenceGap(rs.getLong(1), rs.getLong(2)),
+                afterSeq, sessionId, afterSeq, limit);
+    }
+
+    private void bind(PreparedStatement ps, ChatMessageEntity entity) throws SQLException {
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(LocalDateTime.now()); // @CreationTimestamp 대체
+        }
+        if (entity.getUpdatedAt() == null) {
+            entity.setUpdatedAt(ChatMessageEntity.changedNow());
+        }
+        ps.setString(1, entity.getSessionId());
+        ps.setLong(2, entity.getSeq());
+        ps.setString(3, entity.getMessageType().name());
+        ps.setString(4, entity.getContentHash() != null
+                ? null
+                : compressedTextConverter.convertToDatabaseColumn(entity.getMessageContent())); // JPA 컨버터와 동일 형식
+        ps.setString(5, entity.getContentHash());
+        ps.setString(6, entity.getEmotion());
+        ps.setString(7, entity.getUserEmail());
+        ps.setString(8, entity.getChatStyle());
+        ps.setTimestamp(9, Timestamp.valueOf(entity.getCreatedAt()));
+        ps.setTimestamp(10, Timestamp.valueOf(entity.getUpdatedAt()));
+    }
+
+    private void assignGeneratedKeys(PreparedStatement ps, List<ChatMessageEntity> chunk) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            int i = 0;
+            while (keys.next() && i < chunk.size()) {
+                chunk.get(i++).setMessageId(keys.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.backend.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 메시지 순번(seq) 할당
+ * - 세션 id 해시로 고른 잠금(stripe)만 잡으므로 다른 세션끼리는 기다리지 않는다. (전역 잠금 없음)
+ * - 잠금은 세션 하나의 순번을 정하는 동안만 잡고 바로 푼다. 한 번에 stripe 1개만 잡으므로 교착도 없다.
+ *   → 같은 세션의 저장 트랜잭션끼리 커밋을 기다리지 않는다. 대신 커밋 순서가 순번 순서와 다를 수 있고,
+ *   롤백된 순번은 빈 번호로 남는다. (같은 세션에 진행 중인 할당이 없을 때만 기억한 순번을 버려 DB 에서 다시 시작)
+ * - 마지막 순번은 LRU 로 기억하고, miss 면 (session_id, seq) 인덱스의 MAX(seq) 와 아카이브된 최대 순번 중 큰 값을 읽는다.
+ *   순번이 없는 기존 행만 있는 세션은 그 행 수 다음부터 시작한다. (백필이 기존 행에 1..n 을 부여)
+ * - 노드 간에는 잠금을 공유하지 않으므로 (session_id, seq) 유니크 인덱스가 충돌을 막고, 다중 인스턴스는 세션 단위 스티키 라우팅을 전제로 한다.
+ * - JPA 콜백(ChatMessageSequenceListener) 안에서도 호출되므로 JdbcTemplate 만 사용한다.
+ */
+@Slf4j
+@Repository
+public class ChatMessageSequenceAllocator {
+
+    // 아카이브로 행이 지워진 세션은 chat_sessions.archived_seq 가 마지막 순번을 대신한다.
+    private static final String MAX_SEQ_SQL = """
+            SELECT GREATEST(COALESCE((SELECT MAX(seq) FROM chat_messages WHERE session_id = ?), 0),
+                            COALESCE((SELECT archived_seq FROM chat_sessions WHERE session_id = ?), 0))
+            """;
+    private static final String LEGACY_COUNT_SQL = "SELECT COUNT(*) FROM chat_messages WHERE session_id = ? AND seq IS NULL";
+
+    private static final String MESSAGE_LOCK_TIMEOUT = "같은 대화의 메시지 저장이 밀려 있습니다. 잠시 후 다시 시도해주세요.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatProperties.Sequence config;
+    private final ReentrantLock[] stripes;
+    private final Map<String, Long> lastSeq;
+    // 세션별 커밋/롤백 전인 할당 수 (lastSeq 로 보호)
+    private final Map<String, Integer> inFlight = new HashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ChatMessageSequenceAllocator(JdbcTemplate jdbcTemplate, ChatProperties chatProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = chatProperties.getSequence();
+        this.stripes = new ReentrantLock[Math.max(1, config.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        int maxSessions = Math.max(1, config.getCacheSessions());
+        this.lastSeq = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSessions;
+            }
+        };
+
+        this.hitCounter = Counter.builder("chat.message_seq.cache")
+                .tag("result", "hit")
+                .description("세션 마지막 순번 캐시 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.message_seq.cache")
+                .tag("result", "miss")
+                .description("세션 마지막 순번 캐시 조회 결과")
+                .register(meterRegistry);
+    }
+
+    /**
+     * INSERT 직전: 순번이 없는 메시지에 세션별로 다음 순번을 부여 (전달 순서대로)
+     * - 잠금을 얻지 못하면 TooManyRequestsException(429)
+     */
+    public void assign(Collection<ChatMessageEntity> messages) {
+        Map<String, List<ChatMessageEntity>> bySession = new LinkedHashMap<>();
+        for (ChatMessageEntity message : messages) {
+            if (message.getSeq() == null) {
+                bySession.computeIfAbsent(message.getSessionId(), id -> new ArrayList<>()).add(message);
+            }
+        }
+        if (bySession.isEmpty()) {
+            return;
+        }
+
+        boolean tracked = TransactionSynchronizationManager.isSynchronizationActive();
+        List<String> assigned = new ArrayList<>(bySession.size());
+        try {
+            bySession.forEach((sessionId, pending) -> {
+                ReentrantLock lock = lock(sessionId);
+                try {
+                    long last = current(sessionId);
+                    for (ChatMessageEntity message : pending) {
+                        message.setSeq(++last);
+                    }
+                    remember(sessionId, last, tracked);
+                    assigned.add(sessionId);
+                } finally {
+                    lock.unlock();
+                }
+            });
+        } finally {
+            if (tracked && !assigned.isEmpty()) {
+                completeAfterTransaction(assigned);
+            }
+        }
+    }
+
+    /** 세션 잠금 안에서 실행 (백필처럼 순번을 직접 쓰는 작업용, 끝나면 기억한 순번을 버린다) */
+    public <T> T withSessionLock(String sessionId, Supplier<T> work) {
+        ReentrantLock lock = lock(sessionId);
+        try {
+            return work.get();
+        } finally {
+            forget(List.of(sessionId));
+            lock.unlock();
+        }
+    }
+
+    /** 세션 삭제/아카이브 후 호출 */
+    public void forget(Collection<String> sessionIds) {
+        synchronized (lastSeq) {
+            sessionIds.forEach(lastSeq::remove);
+        }
+    }
+
+    private long current(String sessionId) {
+        synchronized (lastSeq) {
+            Long cached = lastSeq.get(sessionId);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+        missCounter.increment();
+        Long max = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class, sessionId, sessionId);
+        if (max != null && max > 0) {
+            return max;
+        }
+        Long legacy = jdbcTemplate.queryForObject(LEGACY_COUNT_SQL, Long.class, sessionId);
+        return legacy == null ? 0 : legacy;
+    }
+
+    private void remember(String sessionId, long last, boolean tracked) {
+        synchronized (lastSeq) {
+            lastSeq.put(sessionId, last);
+            if (tracked) {
+                inFlight.merge(sessionId, 1, Integer::sum);
+            }
+        }
+    }
+
+    private ReentrantLock lock(String sessionId) {
+        int index = Math.floorMod(sessionId.hashCode(), stripes.length);
+        ReentrantLock lock = stripes[index];
+        try {
+            if (!lock.tryLock(config.getLockTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                log.warn("메시지 순번 잠금 대기 초과 - stripe: {}, sessionId: {}", index, sessionId);
+                throw new TooManyRequestsException(MESSAGE_LOCK_TIMEOUT, "SEQUENCE_LOCK_TIMEOUT", 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 순번 잠금 대기 중 인터럽트", e);
+        }
+        return lock;
+    }
+
+    /**
+     * 트랜잭션이 끝나면 진행 중 할당 수를 내리고, 롤백이면서 같은 세션에 진행 중인 할당이 더 없을 때만 기억한 순번을 버린다.
+     * - 다른 트랜잭션이 더 큰 순번을 들고 있는데 버리면 DB MAX(seq) 가 그 순번을 아직 못 봐 같은 번호를 다시 줄 수 있다.
+     * - 그래도 겹치면 (session_id, seq) 유니크 인덱스가 막는다.
+     */
+    private void completeAfterTransaction(List<String> sessionIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (lastSeq) {
+                    for (String sessionId : sessionIds) {
+                        Integer remaining = inFlight.computeIfPresent(sessionId, (id, count) -> count > 1 ? count - 1 : null);
+                        if (remaining == null && status != STATUS_COMMITTED) {
+                            lastSeq.remove(sessionId);
+                        }
+                    }
+                }
+            }
+        });
+    }
+}
@@ -3,22 +3,129 @@ package com.example.backend.repository;
 import java.util.List;
 import java.util.Optional;
 
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
 import com.example.backend.dto.chat.RiskAssessment;
 import com.example.backend.entity.ChatSessionEntity;
 
 @Repository
-public interface ChatSessionRepository extends JpaRepository<ChatSessionEntity, String> {  // ❌ Long → ✅ String
+public interface ChatSessionRepository extends JpaRepository<ChatSessionEntity, String>, ChatSessionRepositoryCustom {  // ❌ Long → ✅ String
     Optional<ChatSessionEntity> findBySessionId(String sessionId);  // ❌ findById → ✅ findBySessionId
     List<ChatSessionEntity> findByUserEmailOrderByCreatedAtDesc(String userEmail);
     List<ChatSessionEntity> findAllByUserEmailAndUserNameOrderBySessionIdDesc(String userEmail, String userName);
 
+    /** 세션 전체를 매번 읽는다. 대시보드/관리자 화면은 RiskTimelineService(risk_timeline) 를 사용 */
     @Query("SELECT new com.example.backend.dto.chat.RiskAssessment(c.riskFactors, c.primaryRisk, c.createdAt, c.sessionId, c.userEmail) FROM ChatSessionEntity c WHERE c.userEmail = :userEmail")
     List<RiskAssessment> findRiskAssessmentByUserEmail(@Param("userEmail") String userEmail);
     boolean existsBySessionIdAndUserEmail(String sessionId, String userEmail);
+
+    /** 소유자 판정용 — 엔티티 전체 대신 이메일만 조회 */
+    @Query("SELECT c.userEmail FROM ChatSessionEntity c WHERE c.sessionId = :sessionId")
+    Optional<String> findOwnerEmailBySessionId(@Param("sessionId") String sessionId);
+
+    /** 컨텍스트 창 머리말용 — 분석 TEXT 컬럼 중 요약만 */
+    @Query("SELECT c.summary FROM ChatSessionEntity c WHERE c.sessionId = :sessionId")
+    Optional<String> findSummaryBySessionId(@Param("sessionId") String sessionId);
+
+    /** 일괄 삭제 대상 중 요청자가 소유한 세션만 추린다. */
+    @Query("SELECT c.sessionId FROM ChatSessionEntity c WHERE c.sessionId IN :sessionIds AND c.userEmail = :userEmail")
+    List<String> findOwnedSessionIds(@Param("sessionIds") List<String> sessionIds, @Param("userEmail") String userEmail);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChatSessionEntity c WHERE c.sessionId IN :sessionIds")
+    int deleteAllBySessionIdIn(@Param("sessionIds") List<String> sessionIds);
+
+    // ================== 메시지 통계 (message_count, last_message_at, last_message_preview) ==================
+
+    /**
+     * 새 메시지 반영 (호출 측 트랜잭션에 참여)
+     * - MySQL 은 SET 을 왼쪽부터 갱신된 값으로 평가하므로 preview 를 last_message_at 보다 먼저 둔다.
+     */
+    @Modifying
+    @Query(value = "UPDATE chat_sessions SET "
+            + "last_message_preview = CASE WHEN last_message_at IS NULL OR last_message_at <= :lastAt "
+            + "THEN :preview ELSE last_message_preview END, "
+            + "last_message_at = CASE WHEN last_message_at IS NULL OR last_message_at < :lastAt "
+            + "THEN :lastAt ELSE last_message_at END, "
+            + "message_count = COALESCE(message_count, 0) + :added "
+            + "WHERE session_id = :sessionId", nativeQuery = true)
+    int applyMessageStats(@Param("sessionId") String sessionId,
+                          @Param("added") int added,
+                          @Param("lastAt") LocalDateTime lastAt,
+                          @Param("preview") String preview);
+
+    /**
+     * chat_messages 로부터 개수/마지막 시각을 다시 계산
+     * - 미리보기는 본문이 압축 저장될 수 있어 SQL 로 자르지 않고 updateLastMessagePreview 로 따로 반영
+     * - 아카이브된 세션은 메시지가 테이블에 없으므로 제외 (아카이브 시점 통계 유지)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE chat_sessions s SET "
+            + "s.message_count = (SELECT COUNT(*) FROM chat_messages m WHERE m.session_id = s.session_id), "
+            + "s.last_message_at = (SELECT MAX(m.created_at) FROM chat_messages m WHERE m.session_id = s.session_id) "
+            + "WHERE s.session_id IN (:sessionIds) AND s.archived_at IS NULL", nativeQuery = true)
+    int reconcileStats(@Param("sessionIds") List<String> sessionIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE chat_sessions SET last_message_preview = :preview WHERE session_id = :sessionId",
+            nativeQuery = true)
+    int updateLastMessagePreview(@Param("sessionId") String sessionId, @Param("preview") String preview);
+
+    @Query("SELECT c.sessionId FROM ChatSessionEntity c WHERE c.sessionId > :after ORDER BY c.sessionId ASC")
+    List<String> findSessionIdsAfter(@Param("after") String after, Pageable limit);
+
+    // ================== 콜드 아카이브 ==================
+
+    /** 아카이브 대상: 아직 아카이브되지 않았고 마지막 활동이 cutoff 이전인 세션 (session_id 키셋) */
+    @Query("SELECT c.sessionId FROM ChatSessionEntity c WHERE c.archivedAt IS NULL "
+            + "AND COALESCE(c.lastMessageAt, c.createdAt) < :cutoff AND c.sessionId > :after "
+            + "ORDER BY c.sessionId ASC")
+    List<String> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff,
+                                       @Param("after") String after,
+                                       Pageable limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE chat_sessions SET archived_at = :archivedAt, "
+            + "archived_seq = GREATEST(COALESCE(archived_seq, 0), COALESCE(:archivedSeq, 0)) WHERE session_id = :sessionId",
+            nativeQuery = true)
+    int markArchived(@Param("sessionId") String sessionId, @Param("archivedAt") LocalDateTime archivedAt,
+                     @Param("archivedSeq") Long archivedSeq);
+
+    @Query("SELECT c.sessionId FROM ChatSessionEntity c WHERE c.userEmail = :userEmail AND c.archivedAt IS NOT NULL "
+            + "ORDER BY c.sessionId ASC")
+    List<String> findArchivedSessionIds(@Param("userEmail") String userEmail);
+
+    /** 세션 목록 첫 페이지 (최신순, 분석 TEXT 컬럼 중 요약만) */
+    @Query("SELECT new com.example.backend.dto.chat.ChatSessionSummaryDto("
+            + "c.sessionId, c.createdAt, c.updatedAt, c.summaryPreview, "
+            + "c.messageCount, c.lastMessageAt, c.lastMessagePreview) "
+            + "FROM ChatSessionEntity c WHERE c.userEmail = :userEmail "
+            + "ORDER BY c.createdAt DESC, c.sessionId DESC")
+    List<ChatSessionSummaryDto> findSummaryPage(@Param("userEmail") String userEmail, Pageable pageable);
+
+    /** 키셋 (createdAt, sessionId) 이후의 더 오래된 세션 목록 */
+    @Query("SELECT new com.example.backend.dto.chat.ChatSessionSummaryDto("
+            + "c.sessionId, c.createdAt, c.updatedAt, c.summaryPreview, "
+            + "c.messageCount, c.lastMessageAt, c.lastMessagePreview) "
+            + "FROM ChatSessionEntity c WHERE c.userEmail = :userEmail "
+            + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.sessionId < :sessionId)) "
+            + "ORDER BY c.createdAt DESC, c.sessionId DESC")
+    List<ChatSessionSummaryDto> findSummaryPageBefore(@Param("userEmail") String userEmail,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("sessionId") String sessionId,
+                                                      Pageable pageable);
     Optional<ChatSessionEntity> findBySessionIdAndUserEmail(String sessionId, String userEmail);
 }
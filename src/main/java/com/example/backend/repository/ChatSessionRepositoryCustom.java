@@ -0,0 +1,16 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.ChatSessionEntity;
+
+/**
+ * Spring Data 파생 쿼리로 표현하기 어려운 chat_sessions 전용 연산
+ */
+public interface ChatSessionRepositoryCustom {
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE 1문장으로 세션 저장 (merge 의 사전 SELECT 없음, 동시 저장도 경합 없이 수렴)
+     * - 분석 컬럼(요약/감정/위험요인 등)과 updated_at 만 덮어쓰고 created_at, 메시지 통계, archived_at 은 유지한다.
+     * - 호출 측 트랜잭션에 참여하며, 새로 삽입됐으면 true
+     */
+    boolean upsert(ChatSessionEntity entity);
+}
@@ -0,0 +1,68 @@
+package com.example.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.entity.ChatSessionEntity;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class ChatSessionRepositoryCustomImpl implements ChatSessionRepositoryCustom {
+
+    // 영향 행 수: 삽입 1, 갱신 2 (MySQL)
+    private static final String UPSERT_SQL = """
+            INSERT INTO chat_sessions
+              (session_id, user_email, user_name, summary, summary_preview, emotions, primary_risk, protective_factors,
+               risk_factors, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+              user_email = VALUES(user_email),
+              user_name = VALUES(user_name),
+              summary = VALUES(summary),
+              summary_preview = VALUES(summary_preview),
+              emotions = VALUES(emotions),
+              primary_risk = VALUES(primary_risk),
+              protective_factors = VALUES(protective_factors),
+              risk_factors = VALUES(risk_factors),
+              updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter compressedTextConverter;
+
+    @Override
+    public boolean upsert(ChatSessionEntity entity) {
+        if (entity.getSessionId() == null || entity.getSessionId().isBlank()) {
+            entity.setSessionId(UUID.randomUUID().toString()); // @PrePersist 대체
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        // 텍스트 컬럼은 JPA 컨버터와 동일 형식으로 저장
+        int affected = jdbcTemplate.update(UPSERT_SQL,
+                entity.getSessionId(),
+                entity.getUserEmail(),
+                entity.getUserName(),
+                compressedTextConverter.convertToDatabaseColumn(entity.getSummary()),
+                ChatSessionSummaryDto.truncate(entity.getSummary()),
+                compressedTextConverter.convertToDatabaseColumn(entity.getEmotions()),
+                compressedTextConverter.convertToDatabaseColumn(entity.getPrimaryRisk()),
+                compressedTextConverter.convertToDatabaseColumn(entity.getProtectiveFactors()),
+                compressedTextConverter.convertToDatabaseColumn(entity.getRiskFactors()),
+                timestamp,
+                timestamp);
+
+        boolean inserted = affected == 1;
+        if (inserted) {
+            entity.setCreatedAt(now);
+        }
+        entity.setUpdatedAt(now);
+        return inserted;
+    }
+}
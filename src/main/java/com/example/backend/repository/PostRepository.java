@@ -1,8 +1,8 @@
 package com.example.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -18,8 +18,6 @@ public interface PostRepository extends JpaRepository<PostEntity, Long>, JpaSpec
 
     // ================== 기본 조회 메서드들 (변경 없음) ==================
 
-    List<PostEntity> findAllByOrderByCreatedAtDesc();
-    List<PostEntity> findByVisibilityOrderByCreatedAtDesc(String visibility);
     List<PostEntity> findByVisibility(String visibility);
     List<PostEntity> findByStatusOrderByCreatedAtDesc(String status);
     List<PostEntity> findByVisibilityAndStatusOrderByCreatedAtDesc(String visibility, String status);
@@ -34,11 +32,6 @@ public interface PostRepository extends JpaRepository<PostEntity, Long>, JpaSpec
 
     // ================== ✅ 추가: userId 기반 메서드들 ==================
 
-    /**
-     * 사용자 ID로 게시글 조회 (최신순)
-     */
-    List<PostEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
-
     /**
      * 사용자 ID로 게시글 조회
      */
@@ -59,6 +52,43 @@ public interface PostRepository extends JpaRepository<PostEntity, Long>, JpaSpec
      */
     long countByUserIdAndVisibilityAndStatus(Long userId, String visibility, String status);
 
+    // ================== 키셋 페이지네이션 (created_at, post_id) 최신순 ==================
+    // Pageable 은 LIMIT 용도로만 사용 (offset 0, count 쿼리 없음)
+
+    @Query("SELECT p FROM PostEntity p ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostEntity> findPage(Pageable limit);
+
+    @Query("SELECT p FROM PostEntity p "
+        + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId) "
+        + "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostEntity> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+        @Param("postId") Long postId,
+        Pageable limit);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.visibility = :visibility "
+        + "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostEntity> findPageByVisibility(@Param("visibility") String visibility, Pageable limit);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.visibility = :visibility "
+        + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) "
+        + "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostEntity> findPageByVisibilityBefore(@Param("visibility") String visibility,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("postId") Long postId,
+        Pageable limit);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.userId = :userId "
+        + "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostEntity> findPageByUserId(@Param("userId") Long userId, Pageable limit);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.userId = :userId "
+        + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) "
+        + "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostEntity> findPageByUserIdBefore(@Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("postId") Long postId,
+        Pageable limit);
+
     // ================== 네이티브 쿼리 및 기타 메서드들 (변경 없음) ==================
 
     @Query(value = "SELECT * FROM posts WHERE status = 'active' ORDER BY created_at DESC LIMIT :limit", nativeQuery = true)
@@ -68,14 +98,6 @@ public interface PostRepository extends JpaRepository<PostEntity, Long>, JpaSpec
     @Query("UPDATE PostEntity p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
 
-    @Modifying
-    @Query("UPDATE PostEntity p SET p.likeCount = p.likeCount + :delta WHERE p.id = :id")
-    void updateLikeCount(@Param("id") Long id, @Param("delta") int delta);
-
-    @Modifying
-    @Query("UPDATE PostEntity p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
-    void updateCommentCount(@Param("id") Long id, @Param("delta") int delta);
-
-    @Query("SELECT p FROM PostEntity p WHERE p.status = 'active' AND p.visibility = 'public' ORDER BY p.likeCount DESC, p.createdAt DESC")
-    Page<PostEntity> findPopularPosts(Pageable pageable);
+    // 좋아요/댓글 수 증가는 posts 행을 직접 갱신하지 않고 PostCounterService(슬롯 테이블)로 한다.
+    // 인기순은 DB 정렬 대신 PostRankingService(메모리 top-K)가 제공한다.
 }
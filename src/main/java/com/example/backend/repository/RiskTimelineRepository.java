@@ -0,0 +1,91 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
+import com.example.backend.entity.RiskTimelineEntity;
+
+/**
+ * 위험도 타임라인 조회 (키셋: occurred_at DESC, session_id DESC, 기간은 [from, to))
+ */
+@Repository
+public interface RiskTimelineRepository extends JpaRepository<RiskTimelineEntity, String>, RiskTimelineRepositoryCustom {
+
+    @Query("""
+            SELECT new com.example.backend.dto.chat.RiskTimelineEntry(
+                r.sessionId, r.userEmail, r.riskLevel, r.riskScore, r.primaryRisk, r.occurredAt)
+            FROM RiskTimelineEntity r
+            WHERE r.userEmail = :userEmail AND r.occurredAt >= :from AND r.occurredAt < :to
+            ORDER BY r.occurredAt DESC, r.sessionId DESC
+            """)
+    List<RiskTimelineEntry> findUserPage(@Param("userEmail") String userEmail,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         Pageable pageable);
+
+    /** 기간 제한 없는 최신순 (대화 시작 시 최근 위험도 1건) */
+    @Query("""
+            SELECT new com.example.backend.dto.chat.RiskTimelineEntry(
+                r.sessionId, r.userEmail, r.riskLevel, r.riskScore, r.primaryRisk, r.occurredAt)
+            FROM RiskTimelineEntity r
+            WHERE r.userEmail = :userEmail
+            ORDER BY r.occurredAt DESC, r.sessionId DESC
+            """)
+    List<RiskTimelineEntry> findLatestByUser(@Param("userEmail") String userEmail, Pageable pageable);
+
+    @Query("""
+            SELECT new com.example.backend.dto.chat.RiskTimelineEntry(
+                r.sessionId, r.userEmail, r.riskLevel, r.riskScore, r.primaryRisk, r.occurredAt)
+            FROM RiskTimelineEntity r
+            WHERE r.userEmail = :userEmail AND r.occurredAt >= :from AND r.occurredAt < :to
+              AND (r.occurredAt < :at OR (r.occurredAt = :at AND r.sessionId < :sessionId))
+            ORDER BY r.occurredAt DESC, r.sessionId DESC
+            """)
+    List<RiskTimelineEntry> findUserPageBefore(@Param("userEmail") String userEmail,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("at") LocalDateTime at,
+                                               @Param("sessionId") String sessionId,
+                                               Pageable pageable);
+
+    @Query("""
+            SELECT new com.example.backend.dto.chat.RiskTimelineEntry(
+                r.sessionId, r.userEmail, r.riskLevel, r.riskScore, r.primaryRisk, r.occurredAt)
+            FROM RiskTimelineEntity r
+            WHERE r.riskLevel IN :levels AND r.occurredAt >= :from AND r.occurredAt < :to
+            ORDER BY r.occurredAt DESC, r.sessionId DESC
+            """)
+    List<RiskTimelineEntry> findLevelPage(@Param("levels") Collection<RiskLevel> levels,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          Pageable pageable);
+
+    @Query("""
+            SELECT new com.example.backend.dto.chat.RiskTimelineEntry(
+                r.sessionId, r.userEmail, r.riskLevel, r.riskScore, r.primaryRisk, r.occurredAt)
+            FROM RiskTimelineEntity r
+            WHERE r.riskLevel IN :levels AND r.occurredAt >= :from AND r.occurredAt < :to
+              AND (r.occurredAt < :at OR (r.occurredAt = :at AND r.sessionId < :sessionId))
+            ORDER BY r.occurredAt DESC, r.sessionId DESC
+            """)
+    List<RiskTimelineEntry> findLevelPageBefore(@Param("levels") Collection<RiskLevel> levels,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("at") LocalDateTime at,
+                                                @Param("sessionId") String sessionId,
+                                                Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RiskTimelineEntity r WHERE r.sessionId IN :sessionIds")
+    int deleteAllBySessionIdIn(@Param("sessionIds") Collection<String> sessionIds);
+}
@@ -0,0 +1,20 @@
+package com.example.backend.repository;
+
+import java.util.Collection;
+
+import com.example.backend.entity.RiskTimelineEntity;
+
+/**
+ * Spring Data 파생 쿼리로 표현하기 어려운 risk_timeline 전용 연산
+ */
+public interface RiskTimelineRepositoryCustom {
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE 로 타임라인 행 저장 (사전 SELECT 없음, 같은 세션의 동시 첫 저장도 중복 키 오류 없이 수렴)
+     * - occurred_at 은 행 값이 아니라 chat_sessions.created_at 을 SQL 에서 읽어 쓴다. (없으면 NOW())
+     *   upsert 로 갱신된 세션 엔티티에는 created_at 이 비어 있어 애플리케이션 쪽 값은 믿을 수 없다.
+     * - 세션 행이 없으면 아무것도 쓰지 않는다.
+     * - 호출 측 트랜잭션에 참여한다.
+     */
+    void upsertAll(Collection<RiskTimelineEntity> rows);
+}
@@ -0,0 +1,51 @@
+package com.example.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.entity.RiskTimelineEntity;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class RiskTimelineRepositoryCustomImpl implements RiskTimelineRepositoryCustom {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO risk_timeline
+              (session_id, user_email, risk_level, risk_score, primary_risk, occurred_at, updated_at)
+            SELECT s.session_id, ?, ?, ?, ?, COALESCE(s.created_at, NOW()), ?
+            FROM chat_sessions s
+            WHERE s.session_id = ?
+            ON DUPLICATE KEY UPDATE
+              user_email = VALUES(user_email),
+              risk_level = VALUES(risk_level),
+              risk_score = VALUES(risk_score),
+              primary_risk = VALUES(primary_risk),
+              occurred_at = VALUES(occurred_at),
+              updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Collection<RiskTimelineEntity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = rows.stream()
+                .map(row -> new Object[] {
+                        row.getUserEmail(),
+                        row.getRiskLevel().name(),
+                        row.getRiskScore(),
+                        row.getPrimaryRisk(),
+                        now,
+                        row.getSessionId() })
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+}
@@ -2,11 +2,6 @@ package com.example.backend.security;
 
 import org.springframework.stereotype.Component;
 
-import com.example.backend.entity.ChatSessionEntity;
-import com.example.backend.entity.UserEntity;
-import com.example.backend.repository.ChatSessionRepository;
-import com.example.backend.repository.UserRepository;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,13 +10,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChatAuth {
 
-	private final ChatSessionRepository chatSessionRepository;
-	private final UserRepository userRepository;
+	private final SessionOwnershipCache sessionOwnershipCache;
 
 	/**
 	 * 채팅 세션 접근 권한 확인
 	 * - 세션 소유자(userEmail) 본인만 접근 가능
 	 * - 관리자 권한은 @PreAuthorize의 hasRole('ADMIN')에서 처리
+	 * - 요청자 존재 여부는 JwtAuthenticationFilter 가 이미 확인하므로 소유자 비교만 수행 (SessionOwnershipCache)
 	 */
 	public boolean canAccessSession(String sessionId, String requesterEmail) {
 		log.debug("=== ChatAuth.canAccessSession 호출됨 ===");
@@ -34,19 +29,11 @@ public class ChatAuth {
 			return false;
 		}
 
-		// 1. 요청자 정보 조회
-		UserEntity requester = userRepository.findByEmail(requesterEmail)
-			.orElse(null);
-		if (requester == null) {
-			log.debug("=== 사용자를 찾을 수 없음: {} ===", requesterEmail);
-			return false;
-		}
-
-		// 2. 채팅 세션 조회 및 소유자 확인
-		boolean canAccess = chatSessionRepository.findBySessionId(sessionId)
-			.map(session -> {
-				log.debug("세션 소유자: {}, 요청자: {}", session.getUserEmail(), requesterEmail);
-				return session.getUserEmail().equals(requesterEmail);
+		// 채팅 세션 소유자 확인 (캐시 우선)
+		boolean canAccess = sessionOwnershipCache.ownerOf(sessionId)
+			.map(owner -> {
+				log.debug("세션 소유자: {}, 요청자: {}", owner, requesterEmail);
+				return owner.equals(requesterEmail);
 			})
 			.orElse(false);
 
@@ -49,11 +49,16 @@ public class SecurityConfig {
                     "/api/auth/social/**",
                     "/api/posts/public",
                     "/api/posts/recent",
+                    "/api/posts/popular",
                     "/actuator/health",
                     "/error",
                     "/favicon.ico",
                     "/api/emotion/analyze",
                     "/api/chat/message/save",
+                    "/api/chat/message/save/batch",
+                    "/api/chat/message/stream",
+                    "/api/chat/message/stream/*/chunks",
+                    "/api/chat/message/stream/*/complete",
                     "/api/chat/session/save",
                     "/internal/metrics/http-server-requests",
                     "/api/metrics/**"
@@ -0,0 +1,143 @@
+package com.example.backend.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.repository.ChatSessionRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 세션 소유자(sessionId → userEmail) 캐시
+ * - ChatAuth(@PreAuthorize) 와 ChatService 접근 검증이 함께 사용한다.
+ * - 세션 소유자는 생성 후 바뀌지 않으므로 TTL 동안 DB 조회 없이 판정한다.
+ * - 존재하지 않는 세션(miss)은 캐시하지 않는다. (생성 직후 접근을 막지 않기 위함)
+ * - LRU 로 maxEntries 를 넘지 않게 유지
+ */
+@Slf4j
+@Component
+public class SessionOwnershipCache {
+
+	private final ChatSessionRepository chatSessionRepository;
+	private final long ttlNanos;
+	private final Map<String, Entry> entries;
+
+	/** invalidate 가 일어날 때마다 증가 — 조회 도중 무효화된 값이 다시 캐시되는 것을 막는다. */
+	private final AtomicLong generation = new AtomicLong();
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	private record Entry(String ownerEmail, long expiresAt) {}
+
+	public SessionOwnershipCache(ChatSessionRepository chatSessionRepository,
+		ChatProperties chatProperties,
+		MeterRegistry meterRegistry) {
+		ChatProperties.OwnershipCache config = chatProperties.getOwnershipCache();
+		int maxEntries = Math.max(1, config.getMaxEntries());
+
+		this.chatSessionRepository = chatSessionRepository;
+		this.ttlNanos = TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+		this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+
+		this.hitCounter = Counter.builder("chat.session_owner.cache")
+			.tag("result", "hit")
+			.description("세션 소유자 캐시 조회 결과")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("chat.session_owner.cache")
+			.tag("result", "miss")
+			.description("세션 소유자 캐시 조회 결과")
+			.register(meterRegistry);
+		Gauge.builder("chat.session_owner.cache.size", this, SessionOwnershipCache::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 세션 소유자 이메일 조회 (캐시 → DB)
+	 */
+	public Optional<String> ownerOf(String sessionId) {
+		if (sessionId == null || sessionId.isBlank()) {
+			return Optional.empty();
+		}
+
+		long now = System.nanoTime();
+		synchronized (entries) {
+			Entry cached = entries.get(sessionId);
+			if (cached != null) {
+				if (now - cached.expiresAt() < 0) {
+					hitCounter.increment();
+					return Optional.of(cached.ownerEmail());
+				}
+				entries.remove(sessionId);
+			}
+		}
+
+		missCounter.increment();
+		long observed = generation.get();
+		Optional<String> owner = chatSessionRepository.findOwnerEmailBySessionId(sessionId);
+		owner.ifPresent(email -> {
+			synchronized (entries) {
+				if (generation.get() == observed) {
+					entries.put(sessionId, new Entry(email, System.nanoTime() + ttlNanos));
+				}
+			}
+		});
+		return owner;
+	}
+
+	public boolean isOwner(String sessionId, String email) {
+		if (email == null || email.isBlank()) {
+			return false;
+		}
+		return ownerOf(sessionId).map(email::equals).orElse(false);
+	}
+
+	/**
+	 * 세션 저장/삭제 시 호출
+	 * - 즉시 제거하고, 트랜잭션 안이면 커밋 후 한 번 더 제거해 커밋 전 값이 다시 캐시되지 않게 한다.
+	 */
+	public void invalidate(String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		evict(sessionId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict(sessionId);
+				}
+			});
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private void evict(String sessionId) {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.remove(sessionId);
+		}
+		log.debug("세션 소유자 캐시 무효화 - sessionId: {}", sessionId);
+	}
+}
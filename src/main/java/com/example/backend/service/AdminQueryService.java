@@ -34,6 +34,7 @@ import com.example.backend.dto.user.Profile;
 import com.example.backend.entity.DailyMetricsEntity;
 import com.example.backend.entity.PostEntity;
 import com.example.backend.entity.UserEntity;
+import com.example.backend.mapper.PostMapper;
 import com.example.backend.repository.DailyMetricsRepository;
 import com.example.backend.repository.PostRepository;
 import com.example.backend.repository.UserRepository;
@@ -51,6 +52,7 @@ public class AdminQueryService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final DailyMetricsRepository dailyMetricsRepository;
+    private final PostMapper postMapper;
 
     public AdminStats getAdminStats() {
         long totalUsers = userRepository.count();
@@ -88,7 +90,8 @@ public class AdminQueryService {
     public Page<AdminPostRow> findPosts(AdminPostSearchRequest request, Pageable pageable) {
         Specification<PostEntity> spec = buildPostSpecification(request);
         Page<PostEntity> page = postRepository.findAll(spec, pageable);
-        return page.map(this::toPostRow);
+        Map<Long, UserEntity> authors = postMapper.findAuthors(page.getContent(), userRepository); // 페이지당 작성자 조회 1회
+        return page.map(p -> toPostRow(p, authors.get(p.getUserId())));
     }
 
     public AdminPostDetail getPostDetail(Long id) {
@@ -176,10 +179,7 @@ public class AdminQueryService {
                 .build();
     }
 
-    private AdminPostRow toPostRow(PostEntity p) {
-        UserEntity author = userRepository.findById(p.getUserId())
-                .orElse(null);
-
+    private AdminPostRow toPostRow(PostEntity p, UserEntity author) {
         return AdminPostRow.builder()
                 .id(p.getPostId())
                 .title(p.getTitle())
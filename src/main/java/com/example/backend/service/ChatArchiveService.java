@@ -0,0 +1,100 @@
+package com.example.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageBlobStore;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 세션의 메시지를 ChatArchiveStore 로 옮겨 chat_messages 를 작게 유지
+ * - 순서: 세그먼트 추가(fsync) → archived_at 표시 → 테이블에서 id 구간 청크 삭제
+ * - 중간에 실패해도 아카이브에 전체 사본이 있고, 읽기 경로가 아카이브와 테이블을 message_id 로 합치므로 중복/유실이 없다.
+ * - 세션 통계(message_count 등)는 아카이브 시점 값을 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatArchiveStore chatArchiveStore;
+    private final ChatMessageBlobStore chatMessageBlobStore;
+    private final ChatProperties chatProperties;
+
+    /**
+     * 마지막 활동이 chat.archive.older-than-days 보다 오래된 세션 전체 아카이브
+     * - chat.archive.cron 으로 주기 실행 가능 (기본 비활성화 "-")
+     */
+    @Scheduled(cron = "${chat.archive.cron:-}")
+    public int archiveOldSessions() {
+        ChatProperties.Archive config = chatProperties.getArchive();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(config.getOlderThanDays());
+        int chunkSize = Math.max(1, config.getCandidateChunkSize());
+        String after = "";
+        int archived = 0;
+        long messages = 0;
+
+        while (true) {
+            List<String> sessionIds = chatSessionRepository.findArchiveCandidates(cutoff, after, PageRequest.of(0, chunkSize));
+            if (sessionIds.isEmpty()) {
+                break;
+            }
+            for (String sessionId : sessionIds) {
+                try {
+                    messages += archiveSession(sessionId);
+                    archived++;
+                } catch (RuntimeException e) {
+                    log.warn("세션 아카이브 실패 - sessionId: {}, error: {}", sessionId, e.getMessage());
+                }
+            }
+            after = sessionIds.get(sessionIds.size() - 1);
+        }
+
+        log.info("채팅 아카이브 완료 - sessions: {}, messages: {}, cutoff: {}", archived, messages, cutoff);
+        return archived;
+    }
+
+    /** 세션 1개 아카이브, 옮긴 메시지 수 반환 */
+    public long archiveSession(String sessionId) {
+        List<ChatMessageEntity> messages = chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
+        if (!messages.isEmpty()) {
+            chatArchiveStore.append(sessionId, messages);
+        }
+        Long archivedSeq = messages.stream()
+                .map(ChatMessageEntity::getSeq)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+        chatSessionRepository.markArchived(sessionId, LocalDateTime.now(), archivedSeq);
+        deleteArchivedRows(sessionId, messages);
+
+        log.debug("세션 아카이브 - sessionId: {}, messages: {}", sessionId, messages.size());
+        return messages.size();
+    }
+
+    /**
+     * 아카이브한 message_id 만 구간 청크로 삭제 (청크마다 별도 트랜잭션)
+     * - 아카이브 이후 들어온 메시지는 id 가 더 크므로 구간에 포함되지 않는다.
+     */
+    private void deleteArchivedRows(String sessionId, List<ChatMessageEntity> messages) {
+        List<Long> ids = messages.stream().map(ChatMessageEntity::getMessageId).sorted().toList();
+        int chunkSize = Math.max(1, chatProperties.getDeletion().getChunkSize());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            chatMessageBlobStore.deleteMessages(sessionId, chunk.get(0), chunk.get(chunk.size() - 1));
+        }
+    }
+}
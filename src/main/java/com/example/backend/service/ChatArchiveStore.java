@@ -0,0 +1,584 @@
+package com.example.backend.service;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.common.util.DeflateCodec;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.entity.ChatMessageEntity;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 콜드 아카이브 (로컬 디스크, append-only 세그먼트)
+ * - 세션 1개 = 레코드 1개: [헤더][블록 디렉터리][순번 빈 구간][블록 ...]
+ *   메시지는 MESSAGE_ORDER 로 정렬해 block-messages 건씩 블록(zlib(JSON 배열) + crc32)으로 나누고,
+ *   디렉터리에 블록별 첫/마지막 정렬 키를 둬 페이지 조회는 커서가 걸친 블록만 압축을 푼다. (readPage)
+ * - 이전 형식(CHA1, 레코드 전체가 한 블록)도 그대로 읽는다.
+ * - 세그먼트마다 오프셋 인덱스 파일(.idx)을 두고, 기동 시 전부 읽어 sessionId → 위치 맵을 만든다.
+ * - 읽기는 세그먼트를 read-only mmap 해 레코드 구간만 slice 한다.
+ * - 삭제는 인덱스에 tombstone 을 추가하고 레코드 바이트를 0 으로 덮어쓴다. (공간 회수는 하지 않음)
+ * - 단일 인스턴스 전제: 여러 노드가 같은 디렉터리를 공유하면 안 된다.
+ */
+@Slf4j
+@Component
+public class ChatArchiveStore {
+
+    /** 메시지 정렬: 순번(없으면 앞) → 생성 시각 → id. ChatService 의 페이지 정렬과 같다. */
+    static final Comparator<ChatMessageEntity> MESSAGE_ORDER = Comparator
+            .comparing(ChatMessageEntity::getSeq, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ChatMessageEntity::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ChatMessageEntity::getMessageId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final int RECORD_MAGIC = 0x43484131; // "CHA1" (이전 형식, 읽기만)
+    private static final int RECORD_HEADER_BYTES = 16;
+    private static final int BLOCKED_MAGIC = 0x43484132; // "CHA2"
+    private static final int BLOCKED_HEADER_BYTES = 20;  // magic, blockCount, gapCount, maxSeq
+    private static final int KEY_BYTES = 28;             // seq, epochSecond, nano, messageId
+    private static final int BLOCK_ENTRY_BYTES = KEY_BYTES * 2 + 16;
+    private static final int GAP_BYTES = 16;
+    private static final int MAX_STORED_GAPS = 1000;
+    private static final long NULL_KEY = Long.MIN_VALUE;
+    private static final int TOMBSTONE = -1;
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final TypeReference<List<ArchivedMessage>> MESSAGE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long segmentMaxBytes;
+    private final int compressionLevel;
+    private final int blockMessages;
+
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappings = new ConcurrentHashMap<>();
+
+    // 쓰기 상태 (this 로 보호)
+    private int activeSegment = 1;
+    private FileChannel activeData;
+    private FileChannel activeIndex;
+
+    public ChatArchiveStore(ChatProperties chatProperties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(chatProperties.getArchive().getDirectory());
+        this.segmentMaxBytes = Math.min(Integer.MAX_VALUE, Math.max(1, chatProperties.getArchive().getSegmentMaxBytes()));
+        this.compressionLevel = chatProperties.getCompression().getLevel();
+        this.blockMessages = Math.max(1, chatProperties.getArchive().getBlockMessages());
+    }
+
+    /** 인덱스 파일을 세그먼트 순서대로 재생해 위치 맵 복원 (디렉터리가 없으면 빈 아카이브) */
+    @PostConstruct
+    public synchronized void open() {
+        index.clear();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        for (Map.Entry<Integer, Path> segment : listSegments().entrySet()) {
+            activeSegment = Math.max(activeSegment, segment.getKey());
+            replayIndex(segment.getKey(), segment.getValue());
+        }
+        log.info("채팅 아카이브 로드 - directory: {}, sessions: {}, activeSegment: {}", directory, index.size(), activeSegment);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeActive();
+        mappings.clear();
+    }
+
+    public boolean contains(String sessionId) {
+        return index.containsKey(sessionId);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 세션 메시지를 레코드 1개로 추가 (fsync 후 인덱스 반영)
+     * - 같은 세션을 다시 아카이브하면 새 레코드가 이전 레코드를 대체한다.
+     */
+    public synchronized void append(String sessionId, List<ChatMessageEntity> messages) {
+        try {
+            ByteBuffer record = encode(messages.stream().sorted(MESSAGE_ORDER).toList());
+            int length = record.remaining();
+
+            FileChannel data = writableSegment(length);
+            long offset = data.size();
+            writeFully(data, record, offset);
+            data.force(false);
+
+            appendIndexEntry(sessionId, offset, length);
+            Location previous = index.put(sessionId, new Location(activeSegment, offset, length));
+            if (previous != null) {
+                scrub(previous);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 쓰기 실패: " + sessionId, e);
+        }
+    }
+
+    /** 아카이브된 세션 메시지 전체 (MESSAGE_ORDER 순). 없으면 empty */
+    public Optional<List<ChatMessageEntity>> read(String sessionId) {
+        Parsed parsed = parse(sessionId);
+        if (parsed == null) {
+            return Optional.empty();
+        }
+        List<ChatMessageEntity> messages = new ArrayList<>();
+        parsed.blocks().forEach(block -> messages.addAll(inflate(sessionId, parsed.record(), block)));
+        return Optional.of(messages);
+    }
+
+    /**
+     * 아카이브된 세션 메시지를 블록 단위로 풀면서 순회 (MESSAGE_ORDER 순). 없으면 empty
+     * - 소비하는 동안 힙에는 블록 하나(block-messages 건)만 올라간다. 내보내기처럼 세션 전체를 한 번 훑는 곳에서 사용
+     */
+    public Optional<Stream<ChatMessageEntity>> stream(String sessionId) {
+        Parsed parsed = parse(sessionId);
+        if (parsed == null) {
+            return Optional.empty();
+        }
+        return Optional.of(parsed.blocks().stream()
+                .flatMap(block -> inflate(sessionId, parsed.record(), block).stream()));
+    }
+
+    /**
+     * 커서 다음(forward) 또는 이전(backward) 메시지 최대 limit 건 (forward 는 오래된 → 최신, backward 는 최신 → 오래된)
+     * - 블록 디렉터리의 첫/마지막 키로 커서에 닿지 않는 블록은 건너뛰므로 압축 해제량은 세션 크기가 아니라 limit 에 비례한다.
+     * - cursor 가 null 이면 처음(forward) 또는 끝(backward)부터. 커서 자체는 포함하지 않는다.
+     */
+    public Optional<List<ChatMessageEntity>> readPage(String sessionId, ChatMessageEntity cursor, boolean forward, int limit) {
+        Parsed parsed = parse(sessionId);
+        if (parsed == null) {
+            return Optional.empty();
+        }
+        List<Block> blocks = parsed.blocks();
+        List<ChatMessageEntity> page = new ArrayList<>(limit);
+        for (int b = 0; b < blocks.size() && page.size() < limit; b++) {
+            Block block = blocks.get(forward ? b : blocks.size() - 1 - b);
+            if (cursor != null && forward && block.last() != null && MESSAGE_ORDER.compare(block.last(), cursor) <= 0) {
+                continue; // 블록 전체가 커서 이전
+            }
+            if (cursor != null && !forward && block.first() != null && MESSAGE_ORDER.compare(block.first(), cursor) >= 0) {
+                continue; // 블록 전체가 커서 이후
+            }
+            List<ChatMessageEntity> messages = inflate(sessionId, parsed.record(), block);
+            for (int i = 0; i < messages.size() && page.size() < limit; i++) {
+                ChatMessageEntity message = messages.get(forward ? i : messages.size() - 1 - i);
+                int order = cursor == null ? 0 : MESSAGE_ORDER.compare(message, cursor);
+                if (cursor == null || (forward ? order > 0 : order < 0)) {
+                    page.add(message);
+                }
+            }
+        }
+        return Optional.of(page);
+    }
+
+    /**
+     * 키(seq, createdAt, messageId)가 가리키는 메시지 1건. 키 범위에 드는 블록만 압축을 푼다.
+     * - 검색 결과처럼 본문 없이 키만 들고 있는 곳에서 본문을 읽을 때 사용
+     */
+    public Optional<ChatMessageEntity> find(String sessionId, ChatMessageEntity key) {
+        Parsed parsed = parse(sessionId);
+        if (parsed == null) {
+            return Optional.empty();
+        }
+        for (Block block : parsed.blocks()) {
+            if ((block.first() != null && MESSAGE_ORDER.compare(block.first(), key) > 0)
+                    || (block.last() != null && MESSAGE_ORDER.compare(block.last(), key) < 0)) {
+                continue;
+            }
+            Optional<ChatMessageEntity> found = inflate(sessionId, parsed.record(), block).stream()
+                    .filter(message -> key.getMessageId().equals(message.getMessageId()))
+                    .findFirst();
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 아카이브된 메시지의 최대 순번과 순번 빈 구간 (아카이브 시 계산해 둔 값, 최대 MAX_STORED_GAPS 개)
+     * - 이전 형식 레코드는 전체를 읽어 계산한다.
+     */
+    public Optional<SequenceSummary> sequenceSummary(String sessionId) {
+        Parsed parsed = parse(sessionId);
+        if (parsed == null) {
+            return Optional.empty();
+        }
+        if (parsed.summary() != null) {
+            return Optional.of(parsed.summary());
+        }
+        return read(sessionId).map(ChatArchiveStore::summarize);
+    }
+
+    /** 세션 아카이브 제거 (tombstone + 레코드 바이트 0 으로 덮어쓰기) */
+    public synchronized boolean remove(String sessionId) {
+        Location location = index.get(sessionId);
+        if (location == null) {
+            return false;
+        }
+        try {
+            appendIndexEntry(sessionId, 0, TOMBSTONE);
+            index.remove(sessionId);
+            scrub(location);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 삭제 실패: " + sessionId, e);
+        }
+    }
+
+    // ===== 레코드 형식 =====
+
+    /** [magic][blockCount][gapCount][maxSeq][블록 엔트리 × blockCount][빈 구간 × gapCount][블록 데이터 ...] */
+    private ByteBuffer encode(List<ChatMessageEntity> sorted) throws IOException {
+        List<byte[]> compressedBlocks = new ArrayList<>();
+        List<int[]> blockMeta = new ArrayList<>(); // rawLength, crc
+        for (int from = 0; from < sorted.size(); from += blockMessages) {
+            List<ChatMessageEntity> chunk = sorted.subList(from, Math.min(from + blockMessages, sorted.size()));
+            byte[] raw = objectMapper.writeValueAsBytes(chunk.stream().map(ArchivedMessage::of).toList());
+            byte[] compressed = DeflateCodec.deflate(raw, compressionLevel);
+            CRC32 crc = new CRC32();
+            crc.update(compressed);
+            compressedBlocks.add(compressed);
+            blockMeta.add(new int[]{raw.length, (int) crc.getValue()});
+        }
+        SequenceSummary summary = summarize(sorted);
+
+        int headerBytes = BLOCKED_HEADER_BYTES + BLOCK_ENTRY_BYTES * compressedBlocks.size() + GAP_BYTES * summary.gaps().size();
+        int total = headerBytes + compressedBlocks.stream().mapToInt(b -> b.length).sum();
+        ByteBuffer record = ByteBuffer.allocate(total)
+                .putInt(BLOCKED_MAGIC)
+                .putInt(compressedBlocks.size())
+                .putInt(summary.gaps().size())
+                .putLong(summary.maxSeq());
+        int dataOffset = headerBytes;
+        for (int b = 0; b < compressedBlocks.size(); b++) {
+            int from = b * blockMessages;
+            putKey(record, sorted.get(from));
+            putKey(record, sorted.get(Math.min(from + blockMessages, sorted.size()) - 1));
+            record.putInt(dataOffset)
+                    .putInt(compressedBlocks.get(b).length)
+                    .putInt(blockMeta.get(b)[0])
+                    .putInt(blockMeta.get(b)[1]);
+            dataOffset += compressedBlocks.get(b).length;
+        }
+        summary.gaps().forEach(gap -> record.putLong(gap.fromSeq()).putLong(gap.toSeq()));
+        compressedBlocks.forEach(record::put);
+        return record.flip();
+    }
+
+    /** 레코드 헤더/블록 디렉터리만 읽는다. (블록 압축은 풀지 않음) 없으면 null */
+    private Parsed parse(String sessionId) {
+        Location location = index.get(sessionId);
+        if (location == null) {
+            return null;
+        }
+        ByteBuffer record = slice(location);
+        int magic = record.getInt();
+        if (magic == RECORD_MAGIC) {
+            int rawLength = record.getInt();
+            int compressedLength = record.getInt();
+            int crc = record.getInt();
+            return new Parsed(record, List.of(new Block(null, null, RECORD_HEADER_BYTES, compressedLength, rawLength, crc)), null);
+        }
+        if (magic != BLOCKED_MAGIC) {
+            throw new IllegalStateException("채팅 아카이브 레코드가 손상되었습니다: " + sessionId);
+        }
+        int blockCount = record.getInt();
+        int gapCount = record.getInt();
+        long maxSeq = record.getLong();
+        List<Block> blocks = new ArrayList<>(blockCount);
+        for (int b = 0; b < blockCount; b++) {
+            ChatMessageEntity first = getKey(record);
+            ChatMessageEntity last = getKey(record);
+            blocks.add(new Block(first, last, record.getInt(), record.getInt(), record.getInt(), record.getInt()));
+        }
+        List<ChatSequenceGap> gaps = new ArrayList<>(gapCount);
+        for (int g = 0; g < gapCount; g++) {
+            gaps.add(new ChatSequenceGap(record.getLong(), record.getLong()));
+        }
+        return new Parsed(record, blocks, new SequenceSummary(maxSeq, gaps));
+    }
+
+    private List<ChatMessageEntity> inflate(String sessionId, ByteBuffer record, Block block) {
+        byte[] compressed = new byte[block.compressedLength()];
+        record.get(block.offset(), compressed);
+
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        if ((int) crc.getValue() != block.crc()) {
+            throw new IllegalStateException("채팅 아카이브 체크섬 불일치: " + sessionId);
+        }
+        byte[] raw = DeflateCodec.inflate(compressed);
+        if (raw.length != block.rawLength()) {
+            throw new IllegalStateException("채팅 아카이브 길이 불일치: " + sessionId);
+        }
+        try {
+            return objectMapper.readValue(raw, MESSAGE_LIST).stream()
+                    .map(ArchivedMessage::toEntity)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 역직렬화 실패: " + sessionId, e);
+        }
+    }
+
+    /** 정렬된 메시지의 최대 순번과 1 부터의 빈 구간 (순번 없는 메시지 제외) */
+    private static SequenceSummary summarize(List<ChatMessageEntity> sorted) {
+        List<ChatSequenceGap> gaps = new ArrayList<>();
+        long prev = 0;
+        for (ChatMessageEntity message : sorted) {
+            Long seq = message.getSeq();
+            if (seq == null) {
+                continue;
+            }
+            if (seq > prev + 1 && gaps.size() < MAX_STORED_GAPS) {
+                gaps.add(new ChatSequenceGap(prev + 1, seq - 1));
+            }
+            prev = Math.max(prev, seq);
+        }
+        return new SequenceSummary(prev, gaps);
+    }
+
+    private static void putKey(ByteBuffer buffer, ChatMessageEntity message) {
+        LocalDateTime createdAt = message.getCreatedAt();
+        buffer.putLong(message.getSeq() == null ? NULL_KEY : message.getSeq())
+                .putLong(createdAt == null ? NULL_KEY : createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt == null ? 0 : createdAt.getNano())
+                .putLong(message.getMessageId() == null ? NULL_KEY : message.getMessageId());
+    }
+
+    private static ChatMessageEntity getKey(ByteBuffer buffer) {
+        long seq = buffer.getLong();
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long messageId = buffer.getLong();
+        return ChatMessageEntity.builder()
+                .seq(seq == NULL_KEY ? null : seq)
+                .createdAt(epochSecond == NULL_KEY ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC))
+                .messageId(messageId == NULL_KEY ? null : messageId)
+                .build();
+    }
+
+    // ===== 세그먼트 파일 =====
+
+    private Map<Integer, Path> listSegments() {
+        Map<Integer, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("\\d+\\" + INDEX_SUFFIX))
+                    .forEach(name -> segments.put(
+                            Integer.parseInt(name.substring(0, name.length() - INDEX_SUFFIX.length())),
+                            directory.resolve(name)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 디렉터리 조회 실패: " + directory, e);
+        }
+        return segments;
+    }
+
+    /** 인덱스 엔트리: [idLength:short][sessionId:UTF-8][offset:long][length:int] (length=-1 은 tombstone) */
+    private void replayIndex(int segment, Path indexFile) {
+        long dataSize = sizeOf(dataPath(segment));
+        try (InputStream in = Files.newInputStream(indexFile);
+             DataInputStream entries = new DataInputStream(new BufferedInputStream(in))) {
+            while (true) {
+                byte[] id = new byte[entries.readUnsignedShort()];
+                entries.readFully(id);
+                long offset = entries.readLong();
+                int length = entries.readInt();
+
+                String sessionId = new String(id, StandardCharsets.UTF_8);
+                if (length == TOMBSTONE) {
+                    index.remove(sessionId);
+                } else if (offset + length <= dataSize) {
+                    index.put(sessionId, new Location(segment, offset, length));
+                }
+            }
+        } catch (EOFException e) {
+            // 마지막 엔트리가 잘린 경우 포함 — 완전한 엔트리까지만 반영
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 인덱스 로드 실패: " + indexFile, e);
+        }
+    }
+
+    private FileChannel writableSegment(int recordBytes) throws IOException {
+        if (activeData == null) {
+            openActive();
+        }
+        if (activeData.size() > 0 && activeData.size() + recordBytes > segmentMaxBytes) {
+            closeActive();
+            activeSegment++;
+            openActive();
+            log.info("채팅 아카이브 새 세그먼트 - segment: {}", activeSegment);
+        }
+        return activeData;
+    }
+
+    private void openActive() throws IOException {
+        Files.createDirectories(directory);
+        activeData = FileChannel.open(dataPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeIndex = FileChannel.open(indexPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void closeActive() {
+        try {
+            if (activeData != null) {
+                activeData.close();
+            }
+            if (activeIndex != null) {
+                activeIndex.close();
+            }
+        } catch (IOException e) {
+            log.warn("채팅 아카이브 세그먼트 닫기 실패 - segment: {}, error: {}", activeSegment, e.getMessage());
+        } finally {
+            activeData = null;
+            activeIndex = null;
+        }
+    }
+
+    private void appendIndexEntry(String sessionId, long offset, int length) throws IOException {
+        if (activeIndex == null) {
+            openActive();
+        }
+        byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(Short.BYTES + id.length + Long.BYTES + Integer.BYTES)
+                .putShort((short) id.length)
+                .put(id)
+                .putLong(offset)
+                .putInt(length)
+                .flip();
+        while (entry.hasRemaining()) {
+            activeIndex.write(entry);
+        }
+        activeIndex.force(false);
+    }
+
+    /** 삭제/대체된 레코드 구간을 0 으로 덮어쓴다. (mmap 된 페이지에도 그대로 반영됨) */
+    private void scrub(Location location) throws IOException {
+        ByteBuffer zeros = ByteBuffer.allocate(location.length());
+        if (location.segment() == activeSegment && activeData != null) {
+            writeFully(activeData, zeros, location.offset());
+            activeData.force(false);
+            return;
+        }
+        try (FileChannel data = FileChannel.open(dataPath(location.segment()), StandardOpenOption.WRITE)) {
+            writeFully(data, zeros, location.offset());
+            data.force(false);
+        }
+    }
+
+    /** 세그먼트를 mmap 해 레코드 구간만 잘라낸다. 활성 세그먼트가 자라 매핑 밖이면 다시 매핑 */
+    private ByteBuffer slice(Location location) {
+        long end = location.offset() + location.length();
+        MappedByteBuffer mapped = mappings.get(location.segment());
+        if (mapped == null || mapped.capacity() < end) {
+            mapped = mappings.compute(location.segment(), (segment, current) ->
+                    current != null && current.capacity() >= end ? current : map(segment));
+        }
+        return mapped.slice((int) location.offset(), location.length());
+    }
+
+    private MappedByteBuffer map(int segment) {
+        try (FileChannel channel = FileChannel.open(dataPath(segment), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 아카이브 세그먼트 매핑 실패: " + segment, e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path dataPath(int segment) {
+        return directory.resolve(segmentName(segment) + DATA_SUFFIX);
+    }
+
+    private Path indexPath(int segment) {
+        return directory.resolve(segmentName(segment) + INDEX_SUFFIX);
+    }
+
+    private static String segmentName(int segment) {
+        return String.format("%06d", segment);
+    }
+
+    private record Location(int segment, long offset, int length) {}
+
+    /** first/last 는 블록 첫/마지막 메시지의 정렬 키 (이전 형식은 null = 건너뛰기 판단 불가) */
+    private record Block(ChatMessageEntity first, ChatMessageEntity last, int offset, int compressedLength,
+                         int rawLength, int crc) {}
+
+    /** summary 는 이전 형식이면 null */
+    private record Parsed(ByteBuffer record, List<Block> blocks, SequenceSummary summary) {}
+
+    public record SequenceSummary(long maxSeq, List<ChatSequenceGap> gaps) {}
+
+    /** 아카이브 직렬화 형식 (엔티티와 분리해 컬럼 추가/변경에 영향받지 않도록) */
+    record ArchivedMessage(Long messageId, String sessionId, ChatMessageType messageType, String messageContent,
+                           String emotion, String userEmail, String chatStyle, LocalDateTime createdAt, Long seq) {
+
+        static ArchivedMessage of(ChatMessageEntity entity) {
+            return new ArchivedMessage(entity.getMessageId(), entity.getSessionId(), entity.getMessageType(),
+                    entity.getMessageContent(), entity.getEmotion(), entity.getUserEmail(),
+                    entity.getChatStyle(), entity.getCreatedAt(), entity.getSeq());
+        }
+
+        ChatMessageEntity toEntity() {
+            return ChatMessageEntity.builder()
+                    .messageId(messageId)
+                    .sessionId(sessionId)
+                    .messageType(messageType)
+                    .messageContent(messageContent)
+                    .emotion(emotion)
+                    .userEmail(userEmail)
+                    .chatStyle(chatStyle)
+                    .createdAt(createdAt)
+                    .seq(seq) // 순번 도입 전 아카이브는 null
+                    .build();
+        }
+    }
+}
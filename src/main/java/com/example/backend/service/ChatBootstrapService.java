@@ -0,0 +1,146 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatBootstrap;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.dto.chat.RiskTimelineEntry;
+import com.example.backend.repository.ChatSessionRepository;
+import com.example.backend.repository.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대화 시작용 묶음 조회 (프로필 + 최근 세션 요약 + 최근 위험도)
+ * - 세 조회를 전용 풀(max-concurrency 스레드, queue-capacity 대기)에서 동시에 실행한다.
+ * - 요청 시작부터 timeout-ms 안에 끝나지 않았거나 실패/대기열 초과인 항목은 비워 두고 missing 에 넣는다.
+ *   (워커는 빠진 항목 없이 대화를 시작할 수 있고, 필요하면 개별 API 로 다시 조회)
+ * - 각 조회는 남은 마감 시간을 timeout 으로 건 읽기 전용 트랜잭션에서 실행해, DB 쿼리 자체에 statement timeout 이 붙는다.
+ *   (마감을 넘긴 조회가 결과만 버려진 채 풀 스레드와 커넥션을 계속 잡고 있지 않음)
+ */
+@Slf4j
+@Service
+public class ChatBootstrapService {
+
+    private final UserRepository userRepository;
+    private final ChatSessionRepository chatSessionRepository;
+    private final RiskTimelineService riskTimelineService;
+    private final PlatformTransactionManager transactionManager;
+    private final ChatProperties.Bootstrap config;
+    private final ThreadPoolExecutor executor;
+
+    public ChatBootstrapService(UserRepository userRepository,
+                                ChatSessionRepository chatSessionRepository,
+                                RiskTimelineService riskTimelineService,
+                                PlatformTransactionManager transactionManager,
+                                ChatProperties chatProperties) {
+        this.userRepository = userRepository;
+        this.chatSessionRepository = chatSessionRepository;
+        this.riskTimelineService = riskTimelineService;
+        this.transactionManager = transactionManager;
+        this.config = chatProperties.getBootstrap();
+
+        int threads = Math.max(1, config.getMaxConcurrency());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-bootstrap-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public ChatBootstrap load(String userEmail) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMs());
+
+        CompletableFuture<ChatBootstrap.UserContext> profile = submit(deadline, () -> userRepository.findByEmail(userEmail)
+                .map(user -> new ChatBootstrap.UserContext(
+                        user.getNickname(), user.getAge(), user.getMentalState(), user.getChatGoal(), user.getChatStyle()))
+                .orElse(null));
+        CompletableFuture<List<ChatSessionSummaryDto>> recentSessions = submit(deadline, () -> chatSessionRepository
+                .findSummaryPage(userEmail, PageRequest.of(0, Math.max(1, config.getRecentSessions()))));
+        CompletableFuture<RiskTimelineEntry> latestRisk =
+                submit(deadline, () -> riskTimelineService.getLatest(userEmail).orElse(null));
+
+        List<String> missing = new ArrayList<>(3);
+        ChatBootstrap bootstrap = new ChatBootstrap(
+                await(ChatBootstrap.PROFILE, profile, deadline, missing),
+                orEmpty(await(ChatBootstrap.RECENT_SESSIONS, recentSessions, deadline, missing)),
+                await(ChatBootstrap.LATEST_RISK, latestRisk, deadline, missing),
+                List.copyOf(missing));
+
+        if (!missing.isEmpty()) {
+            log.warn("대화 시작 조회 일부 누락 - userEmail: {}, missing: {}", userEmail, missing);
+        }
+        return bootstrap;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(long deadline, Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(() -> withDeadline(deadline, call), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 남은 마감 시간을 트랜잭션 timeout 으로 걸고 실행한다.
+     * - 그 안의 JPA/JdbcTemplate 쿼리에 남은 시간만큼 statement timeout 이 걸린다. (JDBC 단위가 초라 올림, 최소 1초)
+     * - 대기열에서 마감을 넘긴 조회는 DB 에 가지 않는다.
+     */
+    private <T> T withDeadline(long deadline, Supplier<T> call) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+            throw new TransactionTimedOutException("대화 시작 조회 마감 초과 (실행 전)");
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMs + 999)));
+        return template.execute(status -> call.get());
+    }
+
+    /** 공통 마감 시각까지 기다리고, 못 받으면 missing 에 기록 (DB 쪽 조회는 statement timeout 으로 끊김) */
+    private static <T> T await(String part, CompletableFuture<T> future, long deadline, List<String> missing) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.debug("대화 시작 조회 시간 초과 - part: {}", part);
+        } catch (ExecutionException e) {
+            log.warn("대화 시작 조회 실패 - part: {}, error: {}", part, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        missing.add(part);
+        return null;
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+}
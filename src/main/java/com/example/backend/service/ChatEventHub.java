@@ -0,0 +1,363 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.backend.common.error.BadRequestException;
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.common.util.CursorCodec;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageChunk;
+import com.example.backend.dto.chat.ChatMessageDto;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 새 메시지 SSE 팬아웃 허브 (프로세스 내, 노드 단위)
+ * - 메시지 저장 경로가 커밋 후 publishAfterCommit 으로 넘기면, 단일 전송 스레드가 해당 세션 구독자에게 보낸다.
+ *   (요청/write-behind 스레드는 느린 클라이언트를 기다리지 않고, 세션 안의 전송 순서가 유지된다)
+ * - 이벤트 id = (updated_at, message_id) 커서. 재연결 시 Last-Event-ID 이후 변경된 메시지를 DB 에서 다시 보낸 뒤 실시간 전송으로 이어진다.
+ *   스트리밍 응답은 완료 시 updated_at 이 갱신되므로, 시작 때 받은 message_id 가 앞서도 연결이 끊긴 사이 완료됐으면 재전송된다.
+ * - 중복 제거는 연결별로 이미 보낸 이벤트 id 집합으로 한다.
+ * - 스트리밍 응답 조각은 id 없는 chunk 이벤트로 보낸다. (재연결 시 재전송하지 않으며, 완료되면 message 이벤트로 전체 본문이 온다)
+ * - 다른 노드에서 저장된 메시지는 전달되지 않으므로, 다중 인스턴스에서는 세션 단위 스티키 라우팅이 필요하다.
+ */
+@Slf4j
+@Component
+public class ChatEventHub {
+
+    static final String EVENT_MESSAGE = "message";
+    static final String EVENT_RESYNC = "resync";
+    static final String EVENT_CHUNK = "chunk";
+
+    private static final int SENT_ID_CAPACITY = 1_024; // 연결별로 기억하는 보낸 id 수 (재전송 구간 중복 제거용)
+
+    private static final String MESSAGE_SUBSCRIBERS_FULL = "실시간 연결 수가 한도에 도달했습니다. 잠시 후 다시 시도해주세요.";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMapper chatMapper;
+    private final ChatProperties.Events config;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+
+    public ChatEventHub(ChatMessageRepository chatMessageRepository,
+                        ChatMapper chatMapper,
+                        ChatProperties chatProperties,
+                        MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMapper = chatMapper;
+        this.config = chatProperties.getEvents();
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getDispatchQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "chat-events");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("chat.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("SSE 구독 중인 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 구독 등록
+     * - 구독을 먼저 등록한 뒤 놓친 메시지를 보낸다. 재전송이 끝날 때까지 실시간 메시지는 연결별 대기 목록에 쌓였다가
+     *   재전송 뒤에 순서대로 나가며, 양쪽에 모두 있는 메시지는 보낸 id 집합으로 한 번만 보낸다.
+     * - 노드 한도를 넘으면 TooManyRequestsException(429)
+     */
+    public SseEmitter subscribe(String sessionId, String lastEventId) {
+        if (subscriberCount.incrementAndGet() > config.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new TooManyRequestsException(MESSAGE_SUBSCRIBERS_FULL, "SSE_SUBSCRIBERS_FULL", config.getRetryAfterSeconds());
+        }
+
+        SseEmitter emitter = new SseEmitter(config.getTimeoutMs());
+        boolean resume = lastEventId != null && !lastEventId.isBlank();
+        Subscriber subscriber = new Subscriber(sessionId, emitter, resume);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+        subscribers.compute(sessionId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        try {
+            subscriber.send(SseEmitter.event().reconnectTime(config.getReconnectDelayMs()).comment("connected"));
+            if (resume) {
+                replay(subscriber, lastEventId);
+            }
+        } catch (RuntimeException e) {
+            subscriber.complete();
+            throw e;
+        }
+        log.debug("SSE 구독 - sessionId: {}, lastEventId: {}, subscribers: {}", sessionId, lastEventId, subscriberCount.get());
+        return emitter;
+    }
+
+    /** 저장 트랜잭션이 커밋된 뒤 구독자에게 전송 (롤백된 메시지는 보내지 않음) */
+    public void publishAfterCommit(Collection<ChatMessageEntity> messages) {
+        if (messages.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        List<Event> events = toEvents(List.copyOf(messages));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(events);
+            }
+        });
+    }
+
+    /** 스트리밍 응답 조각 전송 (타이핑 진행 표시용, 대기열이 차면 버린다) */
+    public void publishChunk(String sessionId, ChatMessageChunk chunk) {
+        if (!subscribers.containsKey(sessionId)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> subscribers.getOrDefault(sessionId, Set.of()).forEach(subscriber -> subscriber.send(SseEmitter.event()
+                    .name(EVENT_CHUNK)
+                    .data(chunk, MediaType.APPLICATION_JSON))));
+        } catch (RejectedExecutionException e) {
+            log.debug("SSE 조각 전송 생략 (대기열 초과) - sessionId: {}, messageId: {}", sessionId, chunk.messageId());
+        }
+    }
+    
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 프록시/로드밸런서 유휴 타임아웃 방지 + 끊긴 연결 정리
+     * - 전송은 전송 스레드에 맡긴다. (느린 연결이 스케줄러 스레드를 붙잡지 않도록, 대기열이 차 있으면 이번 회차는 생략)
+     */
+    @Scheduled(fixedDelayString = "${chat.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> subscribers.values().forEach(set -> set.forEach(
+                    subscriber -> subscriber.send(SseEmitter.event().comment("heartbeat")))));
+        } catch (RejectedExecutionException e) {
+            log.debug("SSE heartbeat 생략 (대기열 초과)");
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::complete));
+    }
+
+    private void dispatch(List<Event> events) {
+        Map<String, List<Event>> bySession = new LinkedHashMap<>();
+        for (Event event : events) {
+            String sessionId = event.message().sessionId();
+            if (subscribers.containsKey(sessionId)) {
+                bySession.computeIfAbsent(sessionId, id -> new ArrayList<>()).add(event);
+            }
+        }
+        if (bySession.isEmpty()) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> bySession.forEach(this::deliver));
+        } catch (RejectedExecutionException e) {
+            // 전송이 밀린 경우 해당 세션 연결을 끊어 Last-Event-ID 재연결로 누락분을 받게 한다.
+            log.warn("SSE 전송 대기열 초과 - sessions: {}", bySession.keySet());
+            bySession.keySet().forEach(sessionId ->
+                    subscribers.getOrDefault(sessionId, Set.of()).forEach(Subscriber::complete));
+        }
+    }
+
+    private void deliver(String sessionId, List<Event> events) {
+        for (Subscriber subscriber : subscribers.getOrDefault(sessionId, Set.of())) {
+            subscriber.sendMessages(events);
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        int limit = Math.max(1, config.getReplayLimit());
+        List<ChatMessageEntity> missed;
+        try {
+            missed = findMissed(subscriber.sessionId, lastEventId.trim(), PageRequest.of(0, limit + 1));
+        } catch (BadRequestException e) {
+            missed = null; // 알 수 없는 id 형식
+        }
+        if (missed == null || missed.size() > limit) {
+            // 너무 많이 놓쳤으면 전체 조회 API 로 다시 맞추도록 알린다.
+            subscriber.send(SseEmitter.event().name(EVENT_RESYNC).data(lastEventId));
+            subscriber.finishReplay(List.of());
+            return;
+        }
+        subscriber.finishReplay(toEvents(missed));
+    }
+
+    /** 숫자면 이전 형식(message_id), 아니면 (updated_at, message_id) 커서 */
+    private List<ChatMessageEntity> findMissed(String sessionId, String lastEventId, PageRequest limit) {
+        if (!lastEventId.isEmpty() && lastEventId.chars().allMatch(Character::isDigit)) {
+            return chatMessageRepository.findAfterId(sessionId, Long.parseLong(lastEventId), limit);
+        }
+        return CursorCodec.decode(lastEventId, 2, keys -> chatMessageRepository.findChangedAfter(
+                sessionId, LocalDateTime.parse(keys[0]), Long.parseLong(keys[1]), limit));
+    }
+
+    private List<Event> toEvents(List<ChatMessageEntity> messages) {
+        List<ChatMessageDto> dtos = chatMapper.toMessageDtoList(messages);
+        List<Event> events = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            ChatMessageEntity message = messages.get(i);
+            if (message.getMessageId() != null) {
+                events.add(new Event(eventId(message), dtos.get(i)));
+            }
+        }
+        return events;
+    }
+
+    static String eventId(ChatMessageEntity message) {
+        return message.getUpdatedAt() == null
+                ? String.valueOf(message.getMessageId())
+                : CursorCodec.encode(message.getUpdatedAt(), message.getMessageId());
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.sessionId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 구독 1개. 전송은 연결 단위로 직렬화하고, 이미 보낸 id 는 건너뛴다.
+     * - 재전송 중(pending != null)에 들어온 실시간 메시지는 pending 에 모았다가 finishReplay 에서 재전송분 뒤에 보낸다.
+     */
+    /** SSE message 이벤트 1건 (id = eventId) */
+    private record Event(String id, ChatMessageDto message) {
+    }
+
+    private final class Subscriber {
+        private final String sessionId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Set<String> sentIds = new LinkedHashSet<>();
+        private List<Event> pending;
+
+        Subscriber(String sessionId, SseEmitter emitter, boolean replaying) {
+            this.sessionId = sessionId;
+            this.emitter = emitter;
+            this.pending = replaying ? new ArrayList<>() : null;
+        }
+
+        synchronized void sendMessages(List<Event> events) {
+            if (pending == null) {
+                sendNow(events);
+                return;
+            }
+            if (pending.size() + events.size() > Math.max(1, config.getReplayLimit())) {
+                // 재전송이 끝나기 전에 너무 많이 쌓이면 끊어서 Last-Event-ID 재연결로 다시 받게 한다.
+                complete();
+                return;
+            }
+            pending.addAll(events);
+        }
+
+        /** 놓친 메시지를 보낸 뒤 그동안 쌓인 실시간 메시지를 이어서 보내고 실시간 전송으로 전환 */
+        synchronized void finishReplay(List<Event> missed) {
+            List<Event> buffered = pending == null ? List.of() : pending;
+            pending = null;
+            sendNow(missed);
+            sendNow(buffered);
+        }
+
+        private void sendNow(List<Event> events) {
+            for (Event event : events) {
+                if (closed.get()) {
+                    return;
+                }
+                if (sentIds.contains(event.id())) {
+                    continue;
+                }
+                if (!send(SseEmitter.event()
+                        .id(event.id())
+                        .name(EVENT_MESSAGE)
+                        .data(event.message(), MediaType.APPLICATION_JSON))) {
+                    return;
+                }
+                remember(event.id());
+            }
+        }
+
+        private void remember(String eventId) {
+            sentIds.add(eventId);
+            if (sentIds.size() > SENT_ID_CAPACITY) {
+                Iterator<String> oldest = sentIds.iterator();
+                oldest.next();
+                oldest.remove();
+            }
+        }
+
+        synchronized boolean send(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return false;
+            }
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패, 구독 해제 - sessionId: {}, error: {}", sessionId, e.getMessage());
+                complete();
+                return false;
+            }
+        }
+
+        void complete() {
+            unregister(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 emitter
+            }
+        }
+    }
+}
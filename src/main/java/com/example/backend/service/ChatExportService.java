@@ -0,0 +1,109 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.dto.chat.ChatMessageDto;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상담 기록 NDJSON 내보내기
+ * - 리포지토리 Stream 으로 한 행씩 읽어 바로 응답에 쓰고, 영속성 컨텍스트에서 즉시 분리한다.
+ * - 세션 길이와 무관하게 힙 사용량이 일정하다.
+ * - 아카이브된 세션은 아카이브 레코드를 블록 단위로 먼저 쓰고, 테이블 행은 그 세션 아카이브의 최대 message_id 이하를 건너뛴다.
+ *   (아카이브는 그 시점의 세션 메시지 전체를 옮기므로 이후 들어온 행은 id 가 더 크다. 세션마다 id 하나만 기억한다.)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatExportService {
+
+    private static final int FLUSH_EVERY = 200;
+    private static final byte NEWLINE = '\n';
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMapper chatMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ChatArchiveStore chatArchiveStore;
+    private final ChatSessionRepository chatSessionRepository;
+
+    @Transactional(readOnly = true)
+    public long exportSession(String sessionId, OutputStream out) throws IOException {
+        log.debug("세션 내보내기 - sessionId: {}", sessionId);
+        Map<String, Long> archivedUpTo = new HashMap<>();
+        long count = writeArchived(sessionId, archivedUpTo, out);
+        try (Stream<ChatMessageEntity> rows = chatMessageRepository.streamBySessionId(sessionId)) {
+            count += writeNdjson(skipArchived(rows, archivedUpTo), out);
+            log.info("세션 내보내기 완료 - sessionId: {}, messages: {}", sessionId, count);
+            return count;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportUserSessions(String userEmail, OutputStream out) throws IOException {
+        log.debug("사용자 전체 세션 내보내기 - userEmail: {}", userEmail);
+        Map<String, Long> archivedUpTo = new HashMap<>();
+        long count = 0;
+        for (String sessionId : chatSessionRepository.findArchivedSessionIds(userEmail)) {
+            count += writeArchived(sessionId, archivedUpTo, out);
+        }
+        try (Stream<ChatMessageEntity> rows = chatMessageRepository.streamByOwnerEmail(userEmail)) {
+            count += writeNdjson(skipArchived(rows, archivedUpTo), out);
+            log.info("사용자 전체 세션 내보내기 완료 - userEmail: {}, messages: {}", userEmail, count);
+            return count;
+        }
+    }
+
+    /** 아카이브 레코드를 블록 단위로 쓰고, 쓴 메시지의 최대 message_id 를 세션별로 남긴다. */
+    private long writeArchived(String sessionId, Map<String, Long> archivedUpTo, OutputStream out) throws IOException {
+        Optional<Stream<ChatMessageEntity>> archived = chatArchiveStore.stream(sessionId);
+        if (archived.isEmpty()) {
+            return 0;
+        }
+        try (Stream<ChatMessageEntity> messages = archived.get()) {
+            return writeNdjson(messages.peek(m -> archivedUpTo.merge(sessionId, m.getMessageId(), Math::max)), out);
+        }
+    }
+
+    private static Stream<ChatMessageEntity> skipArchived(Stream<ChatMessageEntity> rows, Map<String, Long> archivedUpTo) {
+        return archivedUpTo.isEmpty() ? rows
+                : rows.filter(m -> m.getMessageId() > archivedUpTo.getOrDefault(m.getSessionId(), 0L));
+    }
+
+    private long writeNdjson(Stream<ChatMessageEntity> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ChatMessageDto.class);
+        Iterator<ChatMessageEntity> it = rows.iterator();
+        long count = 0;
+        while (it.hasNext()) {
+            ChatMessageEntity entity = it.next();
+            ChatMessageDto dto = chatMapper.toMessageDto(entity);
+            entityManager.detach(entity);
+
+            out.write(writer.writeValueAsBytes(dto));
+            out.write(NEWLINE);
+            if (++count % FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+        return count;
+    }
+}
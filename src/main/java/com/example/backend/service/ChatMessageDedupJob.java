@@ -0,0 +1,109 @@
+package com.example.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.converter.CompressedTextConverter;
+import com.example.backend.repository.ChatMessageBlobStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 chat_messages 본문을 chat_message_blobs 참조로 바꾸는 백필 작업
+ * - PK 키셋으로 청크 단위 조회 → 대상 행만 content_hash 로 바꾸고 참조 수를 올린다. (청크마다 한 트랜잭션)
+ * - UPDATE 는 읽은 저장값과 같고 아직 참조가 아닐 때만 적용하며, 실제로 바뀐 행만 참조 수에 더한다.
+ * - chat.dedup.backfill-cron 으로 실행 (기본 "-" = 비활성화), chat.dedup.enabled=false 면 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+public class ChatMessageDedupJob {
+
+    private static final String SELECT_SQL = """
+            SELECT message_id, message_content FROM chat_messages
+            WHERE message_id > ? AND content_hash IS NULL AND message_content IS NOT NULL
+            ORDER BY message_id LIMIT ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE chat_messages SET message_content = NULL, content_hash = ?
+            WHERE message_id = ? AND content_hash IS NULL AND message_content = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageBlobStore chatMessageBlobStore;
+    private final CompressedTextConverter compressedTextConverter;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatProperties.Dedup config;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ChatMessageDedupJob(JdbcTemplate jdbcTemplate,
+                               ChatMessageBlobStore chatMessageBlobStore,
+                               CompressedTextConverter compressedTextConverter,
+                               PlatformTransactionManager transactionManager,
+                               ChatProperties chatProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatMessageBlobStore = chatMessageBlobStore;
+        this.compressedTextConverter = compressedTextConverter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = chatProperties.getDedup();
+    }
+
+    @Scheduled(cron = "${chat.dedup.backfill-cron:-}")
+    public long backfill() {
+        if (!chatMessageBlobStore.isEnabled() || !running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int chunkSize = Math.max(1, config.getBackfillChunkSize());
+            long lastId = 0;
+            long referenced = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_SQL,
+                        (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)}, lastId, chunkSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                Long converted = transactionTemplate.execute(status -> convert(rows));
+                referenced += converted == null ? 0 : converted;
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+            log.info("메시지 본문 blob 백필 완료 - referenced: {}", referenced);
+            return referenced;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long convert(List<Object[]> rows) {
+        // 행 단위 UPDATE: 배치 결과가 SUCCESS_NO_INFO 일 수 있어 실제로 바뀐 행을 확실히 세기 위함
+        // blob 행은 메시지 행에 해시를 쓰기 전에 보장한다. (blob 정리와 같은 잠금 순서)
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            String stored = (String) row[1];
+            String content = compressedTextConverter.convertToEntityAttribute(stored);
+            String hash = chatMessageBlobStore.hashOf(content);
+            if (hash == null) {
+                continue;
+            }
+            if (!counts.containsKey(hash)) {
+                chatMessageBlobStore.ensure(hash, content);
+                counts.put(hash, 0);
+            }
+            if (jdbcTemplate.update(UPDATE_SQL, hash, row[0], stored) > 0) {
+                counts.merge(hash, 1, Integer::sum);
+            }
+        }
+        counts.forEach(chatMessageBlobStore::addReferences);
+        return counts.values().stream().mapToLong(Integer::longValue).sum();
+    }
+}
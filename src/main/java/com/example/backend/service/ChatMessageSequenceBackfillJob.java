@@ -0,0 +1,139 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.repository.ChatMessageSequenceAllocator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 순번(seq) 도입 전 행에 세션별 1..n 을 부여하는 1회성 백그라운드 작업
+ * - 세션 id 키셋으로 순번 없는 세션을 찾고, 세션마다 순번 잠금 안에서 한 트랜잭션으로 (created_at, message_id) 순 번호를 쓴다.
+ * - 새 메시지는 기존 행 수 다음 순번부터 받으므로(ChatMessageSequenceAllocator) 1..n 이 그대로 앞에 들어간다.
+ *   이미 그 범위에 순번이 있으면(예상 밖 상태) 건너뛰고 경고만 남긴다.
+ * - chat.sequence.backfill-on-startup=true 이면 기동 완료 후 한 번 실행
+ */
+@Slf4j
+@Component
+public class ChatMessageSequenceBackfillJob {
+
+    private static final String SESSIONS_SQL = """
+            SELECT DISTINCT session_id FROM chat_messages
+            WHERE seq IS NULL AND session_id > ? ORDER BY session_id LIMIT ?
+            """;
+    private static final String LEGACY_SQL =
+            "SELECT message_id FROM chat_messages WHERE session_id = ? AND seq IS NULL ORDER BY created_at, message_id";
+    private static final String MIN_SEQ_SQL = "SELECT MIN(seq) FROM chat_messages WHERE session_id = ?";
+    private static final String UPDATE_SQL = "UPDATE chat_messages SET seq = ? WHERE message_id = ? AND seq IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageSequenceAllocator chatMessageSequenceAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatProperties chatProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ChatMessageSequenceBackfillJob(JdbcTemplate jdbcTemplate,
+                                          ChatMessageSequenceAllocator chatMessageSequenceAllocator,
+                                          PlatformTransactionManager transactionManager,
+                                          ChatProperties chatProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatMessageSequenceAllocator = chatMessageSequenceAllocator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chatProperties = chatProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (chatProperties.getSequence().isBackfillOnStartup()) {
+            startAsync();
+        }
+    }
+
+    /** 이미 실행 중이면 false */
+    public boolean startAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread worker = new Thread(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("메시지 순번 백필 작업 실패", e);
+            } finally {
+                running.set(false);
+            }
+        }, "chat-seq-backfill");
+        worker.setDaemon(true);
+        worker.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    long run() {
+        int chunkSize = chunkSize();
+        String lastId = "";
+        long sessions = 0;
+        long numbered = 0;
+
+        while (true) {
+            List<String> sessionIds = jdbcTemplate.queryForList(SESSIONS_SQL, String.class, lastId, chunkSize);
+            if (sessionIds.isEmpty()) {
+                break;
+            }
+            for (String sessionId : sessionIds) {
+                try {
+                    numbered += chatMessageSequenceAllocator.withSessionLock(sessionId,
+                            () -> transactionTemplate.execute(status -> backfillSession(sessionId)));
+                    sessions++;
+                } catch (RuntimeException e) {
+                    log.warn("메시지 순번 백필 실패 - sessionId: {}, error: {}", sessionId, e.getMessage());
+                }
+            }
+            lastId = sessionIds.get(sessionIds.size() - 1);
+        }
+
+        log.info("메시지 순번 백필 완료 - sessions: {}, messages: {}", sessions, numbered);
+        return numbered;
+    }
+
+    /** 세션 하나의 순번 없는 행에 1..n 부여 (순번 잠금 + 트랜잭션 안에서 호출) */
+    long backfillSession(String sessionId) {
+        List<Long> ids = jdbcTemplate.queryForList(LEGACY_SQL, Long.class, sessionId);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long minSeq = jdbcTemplate.queryForObject(MIN_SEQ_SQL, Long.class, sessionId);
+        if (minSeq != null && minSeq <= ids.size()) {
+            log.warn("메시지 순번 백필 건너뜀 - sessionId: {}, legacy: {}, minSeq: {}", sessionId, ids.size(), minSeq);
+            return 0;
+        }
+
+        List<Object[]> updates = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            updates.add(new Object[]{i + 1L, ids.get(i)});
+        }
+        int chunkSize = chunkSize();
+        for (int from = 0; from < updates.size(); from += chunkSize) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates.subList(from, Math.min(from + chunkSize, updates.size())));
+        }
+        return ids.size();
+    }
+
+    private int chunkSize() {
+        return Math.max(1, chatProperties.getSequence().getBackfillChunkSize());
+    }
+}
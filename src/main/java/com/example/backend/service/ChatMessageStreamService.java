@@ -0,0 +1,236 @@
+package com.example.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.common.error.BadRequestException;
+import com.example.backend.common.error.ConflictException;
+import com.example.backend.common.error.ForbiddenException;
+import com.example.backend.common.error.NotFoundException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageChunk;
+import com.example.backend.dto.chat.ChatMessageChunkRequest;
+import com.example.backend.dto.chat.ChatMessageRequest;
+import com.example.backend.dto.chat.ChatMessageStreamCompleteRequest;
+import com.example.backend.dto.chat.ChatMessageStreamState;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageChunkStore;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.security.SessionOwnershipCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 응답 스트리밍 저장 (FastAPI 워커용)
+ * - start: 본문 없는 메시지 행(streaming=true)을 만들어 messageId 를 돌려준다.
+ * - append: 조각을 chat_message_chunks 에 추가만 한다. (본문 행은 건드리지 않음) 구독자에게는 SSE chunk 이벤트로 보낸다.
+ * - complete: 조각을 seq 순으로 합쳐 본문에 한 번 쓰고 조각을 지운 뒤, 일반 저장과 같은 후속 처리(통계/검색/SSE/링 버퍼)를 한다.
+ * - 읽는 쪽은 getState 로 진행 중인 본문을 afterSeq 이후부터 받아 이어 붙인다.
+ * - 일정 시간 조각이 없는 스트림은 주기 작업이 있는 조각까지로 완료 처리한다.
+ */
+@Slf4j
+@Service
+public class ChatMessageStreamService {
+
+    private static final String MESSAGE_NOT_FOUND = "메시지를 찾을 수 없습니다: ";
+    private static final String MESSAGE_SESSION_ACCESS_FORBIDDEN = "세션 접근 권한이 없습니다.";
+    private static final String MESSAGE_SESSION_ID_REQUIRED = "세션 ID는 필수입니다.";
+    private static final String MESSAGE_TYPE_REQUIRED = "메시지 타입은 필수입니다.";
+    private static final String MESSAGE_INVALID_SEQ = "조각 순번은 0 이상 %d 미만이어야 합니다.";
+    private static final String MESSAGE_CHUNK_REQUIRED = "조각 내용은 필수입니다.";
+    private static final String MESSAGE_CHUNK_TOO_LONG = "조각 1건은 최대 %d자입니다.";
+    private static final String MESSAGE_STREAM_COMPLETED = "이미 완료된 스트리밍 메시지입니다.";
+    private static final String MESSAGE_STREAM_INCOMPLETE = "도착하지 않은 조각이 있습니다. (다음 순번: %d)";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageChunkStore chatMessageChunkStore;
+    private final ChatMapper chatMapper;
+    private final ChatSessionStatsService chatSessionStatsService;
+    private final ChatSearchService chatSearchService;
+    private final ChatEventHub chatEventHub;
+    private final ChatMessageTailCache chatMessageTailCache;
+    private final SessionOwnershipCache sessionOwnershipCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatProperties.Stream config;
+
+    public ChatMessageStreamService(ChatMessageRepository chatMessageRepository,
+                                    ChatMessageChunkStore chatMessageChunkStore,
+                                    ChatMapper chatMapper,
+                                    ChatSessionStatsService chatSessionStatsService,
+                                    ChatSearchService chatSearchService,
+                                    ChatEventHub chatEventHub,
+                                    ChatMessageTailCache chatMessageTailCache,
+                                    SessionOwnershipCache sessionOwnershipCache,
+                                    PlatformTransactionManager transactionManager,
+                                    ChatProperties chatProperties) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageChunkStore = chatMessageChunkStore;
+        this.chatMapper = chatMapper;
+        this.chatSessionStatsService = chatSessionStatsService;
+        this.chatSearchService = chatSearchService;
+        this.chatEventHub = chatEventHub;
+        this.chatMessageTailCache = chatMessageTailCache;
+        this.sessionOwnershipCache = sessionOwnershipCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = chatProperties.getStream();
+    }
+
+    /** 스트리밍 메시지 시작 (요청의 messageContent 는 무시) */
+    @Transactional
+    public ChatMessageEntity start(ChatMessageRequest request) {
+        if (request == null || request.getSessionId() == null || request.getSessionId().isBlank()) {
+            throw new BadRequestException(MESSAGE_SESSION_ID_REQUIRED, "INVALID_MESSAGE", "sessionId");
+        }
+        if (request.getMessageType() == null) {
+            throw new BadRequestException(MESSAGE_TYPE_REQUIRED, "INVALID_MESSAGE", "messageType");
+        }
+
+        ChatMessageEntity entity = chatMapper.toEntity(request);
+        entity.setMessageContent(null);
+        entity.setStreaming(true);
+        ChatMessageEntity saved = chatMessageRepository.save(entity);
+
+        log.debug("스트리밍 메시지 시작 - messageId: {}, sessionId: {}", saved.getMessageId(), saved.getSessionId());
+        return saved;
+    }
+
+    /**
+     * 조각 추가 (트랜잭션 없이 INSERT 1문장)
+     * - 같은 순번 재전송은 무시하고, 완료된 메시지에 추가하면 ConflictException(409)
+     */
+    public void append(Long messageId, ChatMessageChunkRequest request) {
+        int seq = validateChunk(request);
+        ChatMessageChunkStore.Head head = chatMessageChunkStore.findHead(messageId)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_NOT_FOUND + messageId));
+        if (!head.streaming()) {
+            throw new ConflictException(MESSAGE_STREAM_COMPLETED, "STREAM_COMPLETED", "messageId");
+        }
+
+        if (chatMessageChunkStore.append(messageId, seq, request.content())) {
+            chatEventHub.publishChunk(head.sessionId(), new ChatMessageChunk(messageId, seq, request.content()));
+        } else if (!chatMessageChunkStore.findHead(messageId).map(ChatMessageChunkStore.Head::streaming).orElse(false)) {
+            // 확인과 추가 사이에 완료된 경우
+            throw new ConflictException(MESSAGE_STREAM_COMPLETED, "STREAM_COMPLETED", "messageId");
+        }
+    }
+
+    /**
+     * 스트리밍 완료: 조각을 합쳐 본문 저장
+     * - lastSeq 를 주면 0 ~ lastSeq 가 모두 있어야 한다. (없으면 BadRequestException, 조각은 그대로 유지)
+     * - 이미 완료된 메시지면 저장된 메시지를 그대로 돌려준다. (재시도 허용)
+     */
+    @Transactional
+    public ChatMessageEntity complete(Long messageId, ChatMessageStreamCompleteRequest request) {
+        Integer lastSeq = request == null ? null : request.lastSeq();
+        String emotion = request == null ? null : request.emotion();
+        return compact(messageId, lastSeq, emotion, true);
+    }
+
+    /**
+     * 진행 중인 본문 조회 (afterSeq 다음부터 빠짐없이 이어지는 조각까지)
+     * - 완료된 메시지면 전체 본문과 completed=true
+     * - 조회 사이 완료 여부를 다시 확인하므로 한 트랜잭션(같은 스냅샷)으로 묶지 않는다.
+     */
+    public ChatMessageStreamState getState(String sessionId, Long messageId, Integer afterSeq, String userEmail) {
+        if (!sessionOwnershipCache.isOwner(sessionId, userEmail)) {
+            throw new ForbiddenException(MESSAGE_SESSION_ACCESS_FORBIDDEN);
+        }
+        ChatMessageChunkStore.Head head = chatMessageChunkStore.findHead(messageId)
+                .filter(found -> sessionId.equals(found.sessionId()))
+                .orElseThrow(() -> new NotFoundException(MESSAGE_NOT_FOUND + messageId));
+
+        if (head.streaming()) {
+            int from = afterSeq == null ? -1 : Math.max(-1, afterSeq);
+            List<ChatMessageChunk> chunks = contiguous(chatMessageChunkStore.findChunks(messageId, from), from + 1);
+            if (!chunks.isEmpty() || chatMessageChunkStore.findHead(messageId).map(ChatMessageChunkStore.Head::streaming).orElse(false)) {
+                Integer last = chunks.isEmpty() ? afterSeq : Integer.valueOf(chunks.get(chunks.size() - 1).seq());
+                return new ChatMessageStreamState(messageId, sessionId, join(chunks), last, false);
+            }
+            // 조회 사이에 완료되어 조각이 지워진 경우 → 완료 본문으로 응답
+        }
+        ChatMessageEntity message = chatMessageRepository.findById(messageId)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_NOT_FOUND + messageId));
+        return new ChatMessageStreamState(messageId, sessionId, message.getMessageContent(), null, true);
+    }
+
+    /** 일정 시간 조각이 들어오지 않은 스트림을 있는 조각까지로 완료 (메시지마다 별도 트랜잭션) */
+    @Scheduled(fixedDelayString = "${chat.stream.sweep-interval-ms:60000}")
+    public int completeStale() {
+        LocalDateTime before = LocalDateTime.now().minusNanos(config.getStaleAfterMs() * 1_000_000L);
+        List<Long> stale = chatMessageChunkStore.findStale(before, Math.max(1, config.getSweepBatchSize()));
+        for (Long messageId : stale) {
+            transactionTemplate.executeWithoutResult(status -> compact(messageId, null, null, false));
+        }
+        if (!stale.isEmpty()) {
+            log.warn("방치된 스트리밍 메시지 완료 처리 - count: {}", stale.size());
+        }
+        return stale.size();
+    }
+
+    private ChatMessageEntity compact(Long messageId, Integer lastSeq, String emotion, boolean strict) {
+        ChatMessageChunkStore.Head head = chatMessageChunkStore.lockHead(messageId)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_NOT_FOUND + messageId));
+        if (!head.streaming()) {
+            return chatMessageRepository.findById(messageId)
+                    .orElseThrow(() -> new NotFoundException(MESSAGE_NOT_FOUND + messageId));
+        }
+
+        List<ChatMessageChunk> chunks = chatMessageChunkStore.findChunks(messageId, -1);
+        if (strict) {
+            List<ChatMessageChunk> arrived = contiguous(chunks, 0);
+            int expected = lastSeq == null ? chunks.size() : lastSeq + 1;
+            if (arrived.size() != chunks.size() || arrived.size() < expected) {
+                throw new BadRequestException(MESSAGE_STREAM_INCOMPLETE.formatted(arrived.size()), "STREAM_INCOMPLETE", "lastSeq");
+            }
+        }
+        String content = join(chunks);
+        chatMessageChunkStore.complete(messageId, content, emotion);
+
+        ChatMessageEntity completed = chatMessageRepository.findById(messageId)
+                .orElseThrow(() -> new NotFoundException(MESSAGE_NOT_FOUND + messageId));
+        List<ChatMessageEntity> saved = List.of(completed);
+        chatSessionStatsService.applyMessages(saved);
+        chatSearchService.indexAfterCommit(saved);
+        chatEventHub.publishAfterCommit(saved);
+        chatMessageTailCache.appendAfterCommit(saved);
+
+        log.info("스트리밍 메시지 완료 - messageId: {}, chunks: {}, length: {}", messageId, chunks.size(), content.length());
+        return completed;
+    }
+
+    private int validateChunk(ChatMessageChunkRequest request) {
+        int maxChunks = config.getMaxChunks();
+        if (request == null || request.seq() == null || request.seq() < 0 || request.seq() >= maxChunks) {
+            throw new BadRequestException(MESSAGE_INVALID_SEQ.formatted(maxChunks), "INVALID_CHUNK", "seq");
+        }
+        if (request.content() == null) {
+            throw new BadRequestException(MESSAGE_CHUNK_REQUIRED, "INVALID_CHUNK", "content");
+        }
+        if (request.content().length() > config.getMaxChunkChars()) {
+            throw new BadRequestException(MESSAGE_CHUNK_TOO_LONG.formatted(config.getMaxChunkChars()), "INVALID_CHUNK", "content");
+        }
+        return request.seq();
+    }
+
+    /** firstSeq 부터 순번이 끊기지 않는 앞부분 */
+    private static List<ChatMessageChunk> contiguous(List<ChatMessageChunk> chunks, int firstSeq) {
+        int count = 0;
+        while (count < chunks.size() && chunks.get(count).seq() == firstSeq + count) {
+            count++;
+        }
+        return chunks.subList(0, count);
+    }
+
+    private static String join(List<ChatMessageChunk> chunks) {
+        StringBuilder content = new StringBuilder();
+        chunks.forEach(chunk -> content.append(chunk.content()));
+        return content.toString();
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageDto;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 세션의 최근 메시지 N건 링 버퍼 (세션 → 마지막 N개 ChatMessageDto)
+ * - 메시지 저장 경로(단건/일괄/write-behind)가 커밋 후 appendAfterCommit 으로 넣는다. (write-through)
+ * - 최신 페이지 조회가 처음 miss 나면 DB 에서 읽은 페이지로 seed 하고, 이후에는 MySQL 없이 응답한다.
+ * - 쓰기는 seed 여부와 무관하게 항목을 만들어 모아두므로, seed 시점의 DB 스냅샷이 조금 오래돼도 id 기준 병합으로 빠지지 않는다.
+ * - 항목은 "세션 전체" 이거나 "마지막 N개 이상" 둘 중 하나일 때만 응답에 사용한다.
+ * - 전체 추정 바이트가 maxBytes 를 넘으면 LRU 로 세션 단위 제거
+ */
+@Slf4j
+@Component
+public class ChatMessageTailCache {
+
+    private static final Comparator<ChatMessageDto> ORDER = Comparator
+            .comparing(ChatMessageDto::seq, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ChatMessageDto::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ChatMessageDto::messageId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+    private static final long MESSAGE_OVERHEAD_BYTES = 96;
+
+    private final ChatMapper chatMapper;
+    private final ChatProperties.Tail config;
+    private final Map<String, Tail> tails = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private volatile long evictions;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ChatMessageTailCache(ChatMapper chatMapper, ChatProperties chatProperties, MeterRegistry meterRegistry) {
+        this.chatMapper = chatMapper;
+        this.config = chatProperties.getTail();
+
+        this.hitCounter = Counter.builder("chat.message_tail.cache")
+                .tag("result", "hit")
+                .description("최근 메시지 링 버퍼 조회 결과")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.message_tail.cache")
+                .tag("result", "miss")
+                .description("최근 메시지 링 버퍼 조회 결과")
+                .register(meterRegistry);
+        Gauge.builder("chat.message_tail.cache.hit_ratio", this, ChatMessageTailCache::hitRatio)
+                .description("누적 hit / (hit + miss)")
+                .register(meterRegistry);
+        Gauge.builder("chat.message_tail.cache.bytes", this, ChatMessageTailCache::bytes)
+                .description("링 버퍼 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chat.message_tail.cache.sessions", this, ChatMessageTailCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("chat.message_tail.cache.evictions", this, cache -> cache.evictions)
+                .description("메모리 한도로 제거된 세션 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 마지막 limit 건 (오래된 → 최신). 세션 전체가 limit 보다 짧으면 전체.
+     * - 응답할 수 없으면 빈 값을 돌려주고, 이후 쓰기/seed 를 받을 항목을 만들어 둔다.
+     */
+    public Optional<List<ChatMessageDto>> latest(String sessionId, int limit) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        synchronized (tails) {
+            Tail tail = tails.get(sessionId);
+            if (tail != null && tail.seeded && ((tail.complete && !tail.truncated) || tail.messages.size() >= limit)) {
+                hitCounter.increment();
+                int from = Math.max(0, tail.messages.size() - limit);
+                return Optional.of(List.copyOf(tail.messages.subList(from, tail.messages.size())));
+            }
+            if (tail == null) {
+                put(sessionId, new Tail());
+            }
+        }
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * DB 에서 읽은 최신 페이지로 채움
+     * @param page     오래된 → 최신 순
+     * @param complete 세션의 첫 메시지까지 포함하는지 (더 오래된 메시지가 없음)
+     */
+    public void seed(String sessionId, List<ChatMessageDto> page, boolean complete) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        synchronized (tails) {
+            Tail tail = tails.get(sessionId);
+            if (tail == null) {
+                // latest() 이후 제거된 경우: 그 사이 쓰기를 모을 수 없었으므로 채우지 않는다.
+                return;
+            }
+            tail.seeded = true;
+            tail.complete = complete;
+            merge(sessionId, tail, page);
+        }
+    }
+
+    /** 저장 트랜잭션이 커밋된 뒤 반영 (롤백된 메시지는 넣지 않음) */
+    public void appendAfterCommit(Collection<ChatMessageEntity> messages) {
+        if (!config.isEnabled() || messages.isEmpty()) {
+            return;
+        }
+        List<ChatMessageDto> dtos = chatMapper.toMessageDtoList(List.copyOf(messages));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(dtos);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(dtos);
+            }
+        });
+    }
+
+    public void evict(Collection<String> sessionIds) {
+        synchronized (tails) {
+            sessionIds.forEach(this::remove);
+        }
+    }
+
+    public int size() {
+        synchronized (tails) {
+            return tails.size();
+        }
+    }
+
+    public long bytes() {
+        synchronized (tails) {
+            return totalBytes;
+        }
+    }
+
+    double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private void append(List<ChatMessageDto> dtos) {
+        Map<String, List<ChatMessageDto>> bySession = new LinkedHashMap<>();
+        for (ChatMessageDto dto : dtos) {
+            if (dto.messageId() != null) {
+                bySession.computeIfAbsent(dto.sessionId(), id -> new ArrayList<>()).add(dto);
+            }
+        }
+        synchronized (tails) {
+            bySession.forEach((sessionId, added) -> {
+                Tail tail = tails.get(sessionId);
+                if (tail == null) {
+                    tail = new Tail();
+                    put(sessionId, tail);
+                }
+                merge(sessionId, tail, added);
+            });
+        }
+    }
+
+    /** id 기준 합집합 → 정렬 → 마지막 N개 유지 */
+    private void merge(String sessionId, Tail tail, List<ChatMessageDto> added) {
+        Map<Long, ChatMessageDto> byId = new LinkedHashMap<>();
+        tail.messages.forEach(message -> byId.put(message.messageId(), message));
+        added.forEach(message -> byId.put(message.messageId(), message));
+
+        List<ChatMessageDto> merged = new ArrayList<>(byId.values());
+        merged.sort(ORDER);
+        int capacity = Math.max(1, config.getMessagesPerSession());
+        if (merged.size() > capacity) {
+            merged = new ArrayList<>(merged.subList(merged.size() - capacity, merged.size()));
+            tail.truncated = true;
+        }
+        tail.messages = merged;
+
+        totalBytes -= tail.bytes;
+        tail.bytes = estimate(merged);
+        totalBytes += tail.bytes;
+        evictOverBudget(sessionId);
+    }
+
+    private void put(String sessionId, Tail tail) {
+        tail.bytes = ENTRY_OVERHEAD_BYTES;
+        totalBytes += tail.bytes;
+        tails.put(sessionId, tail);
+        evictOverBudget(sessionId);
+    }
+
+    private void remove(String sessionId) {
+        Tail removed = tails.remove(sessionId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    /** 가장 오래 쓰이지 않은 세션부터 제거 (방금 갱신한 세션은 마지막까지 남김) */
+    private void evictOverBudget(String current) {
+        Iterator<Map.Entry<String, Tail>> iterator = tails.entrySet().iterator();
+        while (totalBytes > config.getMaxBytes() && iterator.hasNext()) {
+            Map.Entry<String, Tail> eldest = iterator.next();
+            if (eldest.getKey().equals(current)) {
+                continue;
+            }
+            totalBytes -= eldest.getValue().bytes;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private static long estimate(List<ChatMessageDto> messages) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (ChatMessageDto message : messages) {
+            bytes += MESSAGE_OVERHEAD_BYTES
+                    + 2L * (length(message.messageContent()) + length(message.emotion())
+                    + length(message.sessionId()) + length(message.userEmail()) + length(message.chatStyle()));
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static final class Tail {
+        private List<ChatMessageDto> messages = List.of();
+        private boolean seeded;
+        private boolean complete;   // seed 한 페이지가 세션 첫 메시지까지 포함
+        private boolean truncated;  // 용량 초과로 앞부분을 버린 적 있음
+        private long bytes;
+    }
+}
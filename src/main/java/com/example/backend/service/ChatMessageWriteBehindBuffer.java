@@ -0,0 +1,254 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * - 요청 스레드는 유한 큐에 넣기만 하고, 단일 writer 스레드가 batchSize 또는 linger 단위로 모아 한 트랜잭션에 커밋한다.
+ * - 큐가 가득 차면 즉시 429(Retry-After) 로 거절해 메모리를 무한정 늘리지 않는다.
+ * - 종료 시 웹 서버가 먼저 멈춘 뒤(phase 가 더 낮음) 남은 큐를 모두 플러시한다.
+ * - chat.write-behind.enabled=false 이면 스레드를 띄우지 않으며 offer 는 사용되지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindBuffer implements SmartLifecycle {
+
+    private static final String MESSAGE_QUEUE_FULL = "메시지 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSessionStatsService chatSessionStatsService;
+    private final ChatSearchService chatSearchService;
+    private final ChatEventHub chatEventHub;
+    private final ChatMessageTailCache chatMessageTailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatProperties.WriteBehind config;
+    private final int jdbcBatchSize;
+    private final BlockingQueue<ChatMessageEntity> queue;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ChatMessageWriteBehindBuffer(ChatMessageRepository chatMessageRepository,
+                                        ChatSessionStatsService chatSessionStatsService,
+                                        ChatSearchService chatSearchService,
+                                        ChatEventHub chatEventHub,
+                                        ChatMessageTailCache chatMessageTailCache,
+                                        PlatformTransactionManager transactionManager,
+                                        ChatProperties chatProperties,
+                                        MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatSessionStatsService = chatSessionStatsService;
+        this.chatSearchService = chatSearchService;
+        this.chatEventHub = chatEventHub;
+        this.chatMessageTailCache = chatMessageTailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = chatProperties.getWriteBehind();
+        this.jdbcBatchSize = chatProperties.getIngest().getJdbcBatchSize();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getCapacity()));
+
+        Gauge.builder("chat.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("write-behind 대기열에 쌓인 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.write_behind.flush")
+                .description("그룹 커밋 1회 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.write_behind.batch.size")
+                .description("그룹 커밋 1회당 메시지 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.write_behind.rejected")
+                .description("대기열 초과로 429 응답한 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.write_behind.dropped")
+                .description("재시도 후에도 저장하지 못한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 메시지를 대기열에 넣는다. 가득 차 있으면 기다리지 않고 429 로 거절.
+     */
+    public void offer(ChatMessageEntity entity) {
+        if (!running || !queue.offer(entity)) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(MESSAGE_QUEUE_FULL, "WRITE_BEHIND_FULL", config.getRetryAfterSeconds());
+        }
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    // ===== writer =====
+
+    private void runWriter() {
+        int maxBatch = Math.max(1, config.getBatchSize());
+        List<ChatMessageEntity> batch = new ArrayList<>(maxBatch);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessageEntity first = queue.poll(config.getLingerMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch, maxBatch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 강제 중단 시에도 모아둔 배치와 남은 큐는 최대한 플러시한다.
+                Thread.currentThread().interrupt();
+                drainRemaining(batch, maxBatch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** linger 시간 안에 도착한 메시지를 batchSize 까지 모은다. */
+    private void fillBatch(List<ChatMessageEntity> batch, int maxBatch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getLingerMs());
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0 || !running) {
+                return;
+            }
+            ChatMessageEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void drainRemaining(List<ChatMessageEntity> batch, int maxBatch) {
+        if (!batch.isEmpty()) {
+            flush(batch);
+            batch.clear();
+        }
+        while (queue.drainTo(batch, maxBatch) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<ChatMessageEntity> batch) {
+        int attempts = Math.max(1, config.getMaxFlushAttempts());
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                    chatMessageRepository.batchInsert(batch, jdbcBatchSize);
+                    chatSessionStatsService.applyMessages(batch);
+                    chatSearchService.indexAfterCommit(batch);
+                    chatEventHub.publishAfterCommit(batch);
+                    chatMessageTailCache.appendAfterCommit(batch);
+                }));
+                batchSizeSummary.record(batch.size());
+                log.debug("write-behind 플러시 완료 - count: {}", batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("write-behind 플러시 실패 ({}/{}) - count: {}, error: {}",
+                        attempt, attempts, batch.size(), e.getMessage());
+                // 롤백된 시도에서 받은 id/순번/blob 참조를 버려야 재시도 때 다시 할당된다.
+                batch.forEach(m -> {
+                    m.setMessageId(null);
+                    m.setSeq(null);
+                    m.setContentHash(null);
+                });
+                if (!backoff(attempt)) {
+                    break;
+                }
+            }
+        }
+        droppedCounter.increment(batch.size());
+        log.error("write-behind 메시지 유실 - count: {}, sessions: {}", batch.size(),
+                batch.stream().map(ChatMessageEntity::getSessionId).distinct().toList());
+    }
+
+    private boolean backoff(int attempt) {
+        if (!running) {
+            return true; // 종료 중에는 대기 없이 곧바로 재시도
+        }
+        try {
+            Thread.sleep(Math.min(1_000L, 100L * attempt));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ===== lifecycle =====
+
+    @Override
+    public void start() {
+        if (!config.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "chat-write-behind");
+        writer.setDaemon(false);
+        writer.start();
+        log.info("write-behind 버퍼 시작 - capacity: {}, batchSize: {}, lingerMs: {}",
+                config.getCapacity(), config.getBatchSize(), config.getLingerMs());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        log.info("write-behind 버퍼 종료 - 남은 메시지 플러시: {}", queue.size());
+        try {
+            writer.join(config.getShutdownTimeoutMs());
+            if (writer.isAlive()) {
+                log.error("write-behind 종료 시간 초과 - 남은 메시지: {}", queue.size());
+                writer.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버(graceful shutdown) 보다 늦게 멈추도록 더 낮은 phase */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,558 @@
+package com.example.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.common.util.KoreanNgramTokenizer;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.dto.chat.ChatSearchHit;
+import com.example.backend.entity.ChatMessageEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 메시지 역색인 (메모리)
+ * - 사용자 색인 = 불변 세그먼트 목록 + 쓰기 버퍼. 버퍼가 bufferDocs 에 닿거나 검색 직전에 세그먼트로 봉인한다.
+ * - 세그먼트가 maxSegments 를 넘으면 mergeSegments(백그라운드) 가 하나로 합치며 삭제된 세션 문서를 버린다.
+ * - 점수는 BM25 (k1=1.2, b=0.75), 통계(N, df, 평균 길이)는 사용자 색인 전체 기준
+ * - 문서는 키(messageId, seq, createdAt)와 토큰 수만 들고 본문은 두지 않는다. 본문/스니펫은 결과 건만 ChatSearchService 가 읽는다.
+ * - 사용자 색인은 LRU 로 maxUsers 개, 추정 크기 합계 maxIndexBytes 까지만 유지하고,
+ *   처음 검색할 때 ChatSearchService 가 DB/아카이브에서 만든다.
+ */
+@Slf4j
+@Component
+public class ChatSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SNIPPET_RADIUS = 40;
+    // 크기 추정용 (객체 헤더/참조 포함 대략값)
+    private static final long DOCUMENT_BYTES = 160;
+    private static final long TERM_BYTES = 120;
+    private static final long POSTING_ENTRY_BYTES = 8;
+
+    private final ChatProperties.Search config;
+    private final Map<String, UserIndex> users;
+
+    public ChatSearchIndex(ChatProperties chatProperties) {
+        this.config = chatProperties.getSearch();
+        int maxUsers = Math.max(1, config.getMaxUsers());
+        this.users = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserIndex> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 사용자 색인을 가져오고, 없으면 loader 가 넘겨주는 메시지로 만든다.
+     * - loader 는 메시지를 하나씩 넘기고, 색인은 토큰화 후 본문을 버린다. (전체 본문을 한꺼번에 들지 않음)
+     * - 만드는 동안 들어온 add 는 보류했다가 loader 결과 뒤에 반영한다. (messageId 로 중복 제거)
+     * - 스트리밍 중인 메시지(본문이 아직 비어 있음)는 색인하지 않는다. 완료 시 add 로 최종 본문이 들어온다.
+     */
+    public UserIndex getOrLoad(String userEmail, Consumer<Consumer<ChatMessageEntity>> loader) {
+        UserIndex index;
+        boolean created = false;
+        synchronized (users) {
+            index = users.get(userEmail);
+            if (index == null) {
+                index = new UserIndex();
+                users.put(userEmail, index);
+                created = true;
+            }
+        }
+        if (created) {
+            try {
+                index.load(loader, config.getBufferDocs());
+            } catch (RuntimeException e) {
+                synchronized (users) {
+                    users.remove(userEmail, index);
+                }
+                index.fail();
+                throw e;
+            }
+            enforceBudget(index);
+        }
+        index.awaitLoaded();
+        return index;
+    }
+
+    /** 이미 메모리에 있는 사용자 색인에만 반영 (없으면 다음 검색 때 DB 에서 만들어진다) */
+    public void add(Collection<ChatMessageEntity> messages) {
+        for (ChatMessageEntity message : messages) {
+            if (message.getUserEmail() == null || message.getMessageId() == null || message.isStreaming()) {
+                continue;
+            }
+            UserIndex index;
+            synchronized (users) {
+                index = users.get(message.getUserEmail());
+            }
+            if (index != null) {
+                index.add(Indexed.of(message), config.getBufferDocs());
+            }
+        }
+    }
+
+    /** 삭제된 세션의 문서를 검색 결과에서 제외 (실제 제거는 병합 때) */
+    public void removeSessions(Collection<String> sessionIds) {
+        List<UserIndex> loaded;
+        synchronized (users) {
+            loaded = new ArrayList<>(users.values());
+        }
+        loaded.forEach(index -> index.removeSessions(sessionIds));
+    }
+
+    /** 세그먼트가 많은 사용자 색인을 하나로 병합하고 크기 상한을 맞춘다. (ChatSearchService 가 주기적으로 호출) */
+    public int mergeSegments() {
+        List<UserIndex> loaded;
+        synchronized (users) {
+            loaded = new ArrayList<>(users.values());
+        }
+        int merged = 0;
+        for (UserIndex index : loaded) {
+            if (index.segmentCount() > config.getMaxSegments() && index.merge()) {
+                merged++;
+            }
+        }
+        enforceBudget(null);
+        return merged;
+    }
+
+    public int userCount() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    /** 메모리에 있는 사용자 색인의 추정 크기 합계 */
+    public long estimatedBytes() {
+        synchronized (users) {
+            return users.values().stream().mapToLong(UserIndex::estimatedBytes).sum();
+        }
+    }
+
+    public void evict(String userEmail) {
+        synchronized (users) {
+            users.remove(userEmail);
+        }
+    }
+
+    /** 추정 크기 합계가 maxIndexBytes 를 넘으면 오래 안 쓴 사용자 색인부터 버린다. (keep 과 로딩 중인 색인은 제외) */
+    private void enforceBudget(UserIndex keep) {
+        long maxBytes = config.getMaxIndexBytes();
+        if (maxBytes <= 0) {
+            return;
+        }
+        int evicted = 0;
+        long total;
+        synchronized (users) {
+            total = users.values().stream().mapToLong(UserIndex::estimatedBytes).sum();
+            Iterator<UserIndex> eldest = users.values().iterator();
+            while (total > maxBytes && eldest.hasNext()) {
+                UserIndex index = eldest.next();
+                if (index == keep || !index.isLoaded()) {
+                    continue;
+                }
+                total -= index.estimatedBytes();
+                eldest.remove();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("검색 색인 크기 상한 초과로 사용자 색인 제거 - evicted: {}, estimatedBytes: {}", evicted, total);
+        }
+    }
+
+    // ===== 사용자 색인 =====
+
+    public static final class UserIndex {
+
+        private final List<Indexed> buffer = new ArrayList<>();
+        private final Set<Long> indexedIds = new HashSet<>();
+        private final Set<String> deletedSessions = new HashSet<>();
+        private final List<Indexed> pending = new ArrayList<>();
+        private volatile List<Segment> segments = List.of();
+        private boolean loaded;
+        private boolean failed;
+
+        /** 잠금 밖에서 세그먼트를 만들고, 마지막에 보류된 add 를 이어 붙인다. */
+        private void load(Consumer<Consumer<ChatMessageEntity>> loader, int bufferDocs) {
+            Set<Long> ids = new HashSet<>();
+            List<Indexed> batch = new ArrayList<>();
+            List<Segment> built = new ArrayList<>();
+            loader.accept(message -> {
+                // 스트리밍 자리표시 행을 넣으면 messageId 중복 제거 때문에 완료 후 본문이 색인되지 않는다.
+                if (message.getMessageId() == null || message.isStreaming() || !ids.add(message.getMessageId())) {
+                    return;
+                }
+                batch.add(Indexed.of(message));
+                if (batch.size() >= Math.max(1, bufferDocs)) {
+                    built.add(Segment.of(batch));
+                    batch.clear();
+                }
+            });
+            if (!batch.isEmpty()) {
+                built.add(Segment.of(batch));
+            }
+            Segment initial = Segment.merge(built, Set.of());
+
+            synchronized (this) {
+                indexedIds.addAll(ids);
+                if (initial.documents.length > 0) {
+                    segments = List.of(initial);
+                }
+                pending.forEach(indexed -> append(indexed, bufferDocs));
+                pending.clear();
+                seal();
+                loaded = true;
+                notifyAll();
+            }
+        }
+
+        private synchronized void fail() {
+            failed = true;
+            notifyAll();
+        }
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        private synchronized void awaitLoaded() {
+            while (!loaded && !failed) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("검색 색인 로딩 대기 중 중단되었습니다.", e);
+                }
+            }
+            if (!loaded) {
+                throw new IllegalStateException("검색 색인을 만들지 못했습니다.");
+            }
+        }
+
+        private synchronized void add(Indexed indexed, int bufferDocs) {
+            if (!loaded) {
+                pending.add(indexed);
+                return;
+            }
+            append(indexed, bufferDocs);
+        }
+
+        private void append(Indexed indexed, int bufferDocs) {
+            Document document = indexed.document();
+            if (deletedSessions.contains(document.sessionId()) || !indexedIds.add(document.messageId())) {
+                return;
+            }
+            buffer.add(indexed);
+            if (buffer.size() >= Math.max(1, bufferDocs)) {
+                seal();
+            }
+        }
+
+        private synchronized void removeSessions(Collection<String> sessionIds) {
+            deletedSessions.addAll(sessionIds);
+        }
+
+        /** 버퍼를 불변 세그먼트로 봉인 */
+        private synchronized void seal() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            List<Segment> next = new ArrayList<>(segments);
+            next.add(Segment.of(buffer));
+            segments = List.copyOf(next);
+            buffer.clear();
+        }
+
+        private int segmentCount() {
+            return segments.size();
+        }
+
+        /** 세그먼트 + 버퍼(토큰 빈도 포함)의 추정 크기 */
+        private synchronized long estimatedBytes() {
+            long bytes = 0;
+            for (Segment segment : segments) {
+                bytes += segment.estimatedBytes;
+            }
+            for (Indexed indexed : buffer) {
+                bytes += DOCUMENT_BYTES + indexed.frequencies().size() * TERM_BYTES;
+            }
+            return bytes;
+        }
+
+        /** 현재 세그먼트들을 하나로 합친다. 합치는 동안 봉인된 세그먼트는 뒤에 그대로 둔다. */
+        private boolean merge() {
+            List<Segment> snapshot = segments;
+            Set<String> deleted;
+            synchronized (this) {
+                deleted = Set.copyOf(deletedSessions);
+            }
+            Segment merged = Segment.merge(snapshot, deleted);
+
+            synchronized (this) {
+                if (segments.size() < snapshot.size() || !segments.subList(0, snapshot.size()).equals(snapshot)) {
+                    return false;
+                }
+                List<Segment> next = new ArrayList<>();
+                if (merged.documents.length > 0) {
+                    next.add(merged);
+                }
+                next.addAll(segments.subList(snapshot.size(), segments.size()));
+                segments = List.copyOf(next);
+            }
+            return true;
+        }
+
+        /** BM25 상위 limit 건 (점수 내림차순, 스니펫 없음) */
+        public List<Match> search(String query, int limit) {
+            List<String> queryTerms = KoreanNgramTokenizer.tokenize(query);
+            if (queryTerms.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            seal();
+            List<Segment> snapshot = segments;
+            Set<String> deleted;
+            synchronized (this) {
+                deleted = Set.copyOf(deletedSessions);
+            }
+            Set<String> terms = expand(queryTerms, snapshot);
+
+            long docCount = 0;
+            long totalLength = 0;
+            Map<String, Integer> documentFrequency = new HashMap<>();
+            for (Segment segment : snapshot) {
+                docCount += segment.documents.length;
+                totalLength += segment.totalLength;
+                for (String term : terms) {
+                    Posting posting = segment.postings.get(term);
+                    if (posting != null) {
+                        documentFrequency.merge(term, posting.docs.length, Integer::sum);
+                    }
+                }
+            }
+            if (documentFrequency.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / Math.max(1, docCount);
+
+            PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+            for (Segment segment : snapshot) {
+                double[] scores = new double[segment.documents.length];
+                for (Map.Entry<String, Integer> df : documentFrequency.entrySet()) {
+                    Posting posting = segment.postings.get(df.getKey());
+                    if (posting == null) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (docCount - df.getValue() + 0.5) / (df.getValue() + 0.5));
+                    for (int i = 0; i < posting.docs.length; i++) {
+                        int doc = posting.docs[i];
+                        double tf = posting.freqs[i];
+                        double norm = K1 * (1 - B + B * segment.documents[doc].length() / averageLength);
+                        scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+                for (int doc = 0; doc < scores.length; doc++) {
+                    if (scores[doc] <= 0 || deleted.contains(segment.documents[doc].sessionId())) {
+                        continue;
+                    }
+                    top.offer(new Scored(segment.documents[doc], scores[doc]));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Scored scored = top.poll();
+                Document d = scored.document();
+                matches.add(new Match(d.sessionId(), d.messageId(), d.seq(), d.messageType(), d.createdAt(), scored.score()));
+            }
+            Collections.reverse(matches);
+            return matches;
+        }
+
+        /** 한 글자 한글/한자 검색어는 그 글자로 시작하는 색인 term 전체로 넓힌다. ("불" → "불안", "불면", ...) */
+        private static Set<String> expand(List<String> queryTerms, List<Segment> segments) {
+            Set<String> terms = new LinkedHashSet<>();
+            for (String term : queryTerms) {
+                if (!KoreanNgramTokenizer.isSingleCjk(term)) {
+                    terms.add(term);
+                    continue;
+                }
+                for (Segment segment : segments) {
+                    terms.addAll(segment.postings.subMap(term, true, term + Character.MAX_VALUE, false).keySet());
+                }
+            }
+            return terms;
+        }
+    }
+
+    /** 검색 일치 1건 (본문 없이 키와 점수만, ChatSearchService 가 본문을 읽어 스니펫을 붙인다) */
+    public record Match(String sessionId, Long messageId, Long seq, ChatMessageType messageType,
+                        LocalDateTime createdAt, double score) {
+
+        /** 아카이브 블록을 찾을 때 쓰는 정렬 키 */
+        ChatMessageEntity toKey() {
+            return ChatMessageEntity.builder()
+                    .messageId(messageId)
+                    .sessionId(sessionId)
+                    .seq(seq)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        ChatSearchHit toHit(String snippet) {
+            return new ChatSearchHit(sessionId, messageId, messageType, createdAt, score, snippet);
+        }
+    }
+
+    // ===== 세그먼트 =====
+
+    /** 불변 세그먼트: 문서 배열 + term(정렬) → (문서 번호[], 빈도[]) */
+    private static final class Segment {
+        private final Document[] documents;
+        private final NavigableMap<String, Posting> postings;
+        private final long totalLength;
+        private final long estimatedBytes;
+
+        private Segment(Document[] documents, NavigableMap<String, Posting> postings, long totalLength) {
+            this.documents = documents;
+            this.postings = postings;
+            this.totalLength = totalLength;
+            long bytes = documents.length * DOCUMENT_BYTES;
+            for (Map.Entry<String, Posting> entry : postings.entrySet()) {
+                bytes += TERM_BYTES + entry.getKey().length() * 2L + entry.getValue().docs.length * POSTING_ENTRY_BYTES;
+            }
+            this.estimatedBytes = bytes;
+        }
+
+        static Segment of(List<Indexed> source) {
+            Document[] documents = new Document[source.size()];
+            Map<String, List<int[]>> building = new HashMap<>();
+            long totalLength = 0;
+
+            for (int doc = 0; doc < source.size(); doc++) {
+                Indexed indexed = source.get(doc);
+                documents[doc] = indexed.document();
+                totalLength += indexed.document().length();
+                for (Map.Entry<String, Integer> entry : indexed.frequencies().entrySet()) {
+                    building.computeIfAbsent(entry.getKey(), t -> new ArrayList<>()).add(new int[]{doc, entry.getValue()});
+                }
+            }
+            return new Segment(documents, toPostings(building), totalLength);
+        }
+
+        /** 세그먼트들의 posting 을 문서 번호만 다시 매겨 이어 붙인다. (본문 없이 병합, 삭제된 세션 문서는 버림) */
+        static Segment merge(List<Segment> sources, Set<String> deleted) {
+            if (sources.size() == 1 && deleted.isEmpty()) {
+                return sources.get(0);
+            }
+            List<Document> documents = new ArrayList<>();
+            List<int[]> remaps = new ArrayList<>(sources.size());
+            long totalLength = 0;
+            for (Segment segment : sources) {
+                int[] remap = new int[segment.documents.length];
+                for (int doc = 0; doc < remap.length; doc++) {
+                    Document document = segment.documents[doc];
+                    if (deleted.contains(document.sessionId())) {
+                        remap[doc] = -1;
+                        continue;
+                    }
+                    remap[doc] = documents.size();
+                    documents.add(document);
+                    totalLength += document.length();
+                }
+                remaps.add(remap);
+            }
+
+            Map<String, List<int[]>> building = new HashMap<>();
+            for (int s = 0; s < sources.size(); s++) {
+                int[] remap = remaps.get(s);
+                for (Map.Entry<String, Posting> entry : sources.get(s).postings.entrySet()) {
+                    Posting posting = entry.getValue();
+                    for (int i = 0; i < posting.docs.length; i++) {
+                        int doc = remap[posting.docs[i]];
+                        if (doc >= 0) {
+                            building.computeIfAbsent(entry.getKey(), t -> new ArrayList<>()).add(new int[]{doc, posting.freqs[i]});
+                        }
+                    }
+                }
+            }
+            return new Segment(documents.toArray(Document[]::new), toPostings(building), totalLength);
+        }
+
+        private static NavigableMap<String, Posting> toPostings(Map<String, List<int[]>> building) {
+            NavigableMap<String, Posting> postings = new TreeMap<>();
+            building.forEach((term, entries) -> {
+                int[] docs = new int[entries.size()];
+                int[] freqs = new int[entries.size()];
+                for (int i = 0; i < entries.size(); i++) {
+                    docs[i] = entries.get(i)[0];
+                    freqs[i] = entries.get(i)[1];
+                }
+                postings.put(term, new Posting(docs, freqs));
+            });
+            return postings;
+        }
+    }
+
+    private record Posting(int[] docs, int[] freqs) {}
+
+    private record Scored(Document document, double score) {}
+
+    /** 색인 문서 = 메시지 1건의 키 (length 는 토큰 수) */
+    private record Document(Long messageId, Long seq, String sessionId, ChatMessageType messageType,
+                            LocalDateTime createdAt, int length) {}
+
+    /** 봉인 전 문서 (토큰 빈도를 함께 들고, 봉인되면 빈도는 posting 으로 옮겨진다) */
+    private record Indexed(Document document, Map<String, Integer> frequencies) {
+
+        static Indexed of(ChatMessageEntity message) {
+            List<String> tokens = KoreanNgramTokenizer.tokenize(message.getMessageContent());
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+            Document document = new Document(message.getMessageId(), message.getSeq(), message.getSessionId(),
+                    message.getMessageType(), message.getCreatedAt(), tokens.size());
+            return new Indexed(document, frequencies);
+        }
+    }
+
+    /** 첫 일치 위치 주변 본문 (일치가 없으면 앞부분) */
+    static String snippet(String content, Collection<String> terms) {
+        String lower = content.toLowerCase(Locale.ROOT);
+        int at = -1;
+        for (String term : terms) {
+            int found = lower.indexOf(term);
+            if (found >= 0 && (at < 0 || found < at)) {
+                at = found;
+            }
+        }
+        int start = Math.max(0, at - SNIPPET_RADIUS);
+        int end = Math.min(content.length(), Math.max(at, 0) + SNIPPET_RADIUS * 2);
+        String window = content.substring(start, end);
+        return (start > 0 ? "…" : "") + window + (end < content.length() ? "…" : "");
+    }
+}
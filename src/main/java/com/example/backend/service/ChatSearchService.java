@@ -0,0 +1,180 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.common.error.BadRequestException;
+import com.example.backend.common.util.KoreanNgramTokenizer;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatSearchHit;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 채팅 전문 검색
+ * - 검색 시 사용자 색인이 메모리에 없으면 아카이브 + 테이블(본인 세션 메시지)에서 한 번 만든다.
+ * - 색인은 키만 들고 있으므로 결과 건의 본문은 검색마다 테이블/아카이브에서 읽어 스니펫을 만든다.
+ * - 이후에는 메시지 저장 경로(단건/일괄/write-behind)가 커밋 후 indexAfterCommit 으로 증분 반영한다.
+ * - 세션 삭제는 removeSessions 로 즉시 결과에서 제외, 세그먼트 병합은 mergeSegments 가 주기적으로 수행
+ */
+@Slf4j
+@Service
+public class ChatSearchService {
+
+    private static final String MESSAGE_QUERY_EMPTY = "검색어를 입력해주세요.";
+    private static final String MESSAGE_QUERY_TOO_LONG = "검색어는 최대 %d자입니다.";
+
+    private final ChatSearchIndex chatSearchIndex;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatArchiveStore chatArchiveStore;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ChatProperties.Search config;
+
+    public ChatSearchService(ChatSearchIndex chatSearchIndex,
+                             ChatMessageRepository chatMessageRepository,
+                             ChatSessionRepository chatSessionRepository,
+                             ChatArchiveStore chatArchiveStore,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ChatProperties chatProperties) {
+        this.chatSearchIndex = chatSearchIndex;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatSessionRepository = chatSessionRepository;
+        this.chatArchiveStore = chatArchiveStore;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.config = chatProperties.getSearch();
+    }
+
+    public List<ChatSearchHit> search(String userEmail, String query, Integer limit) {
+        String normalized = query == null ? "" : query.strip();
+        if (normalized.isEmpty()) {
+            throw new BadRequestException(MESSAGE_QUERY_EMPTY, "EMPTY_QUERY", "q");
+        }
+        if (normalized.length() > config.getMaxQueryLength()) {
+            throw new BadRequestException(MESSAGE_QUERY_TOO_LONG.formatted(config.getMaxQueryLength()), "QUERY_TOO_LONG", "q");
+        }
+
+        long started = System.nanoTime();
+        List<ChatSearchIndex.Match> matches = chatSearchIndex
+                .getOrLoad(userEmail, sink -> loadUserMessages(userEmail, sink))
+                .search(normalized, resolveLimit(limit));
+        List<ChatSearchHit> hits = withSnippets(matches, normalized);
+
+        log.debug("채팅 검색 - userEmail: {}, hits: {}, tookMs: {}",
+                userEmail, hits.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return hits;
+    }
+
+    /** 저장 트랜잭션이 커밋된 뒤 색인에 반영 (롤백된 메시지는 색인되지 않음) */
+    public void indexAfterCommit(Collection<ChatMessageEntity> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            chatSearchIndex.add(messages);
+            return;
+        }
+        List<ChatMessageEntity> committed = List.copyOf(messages);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                chatSearchIndex.add(committed);
+            }
+        });
+    }
+
+    public void removeSessions(Collection<String> sessionIds) {
+        if (!sessionIds.isEmpty()) {
+            chatSearchIndex.removeSessions(sessionIds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.search.merge-interval-ms:10000}")
+    public void mergeSegments() {
+        int merged = chatSearchIndex.mergeSegments();
+        if (merged > 0) {
+            log.debug("검색 세그먼트 병합 - users: {}", merged);
+        }
+    }
+
+    /** 아카이브된 세션(세션 단위) + 테이블의 본인 세션 메시지(스트림)를 하나씩 색인에 넘긴다. (넘긴 엔티티는 즉시 분리) */
+    private void loadUserMessages(String userEmail, Consumer<ChatMessageEntity> sink) {
+        long[] count = {0};
+        for (String sessionId : chatSessionRepository.findArchivedSessionIds(userEmail)) {
+            chatArchiveStore.stream(sessionId).ifPresent(messages -> {
+                try (messages) {
+                    messages.forEach(message -> {
+                        sink.accept(message);
+                        count[0]++;
+                    });
+                }
+            });
+        }
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ChatMessageEntity> rows = chatMessageRepository.streamByOwnerEmail(userEmail)) {
+                rows.forEach(message -> {
+                    sink.accept(message);
+                    entityManager.detach(message);
+                    count[0]++;
+                });
+            }
+        });
+        log.info("검색 색인 생성 - userEmail: {}, messages: {}", userEmail, count[0]);
+    }
+
+    /**
+     * 색인은 본문을 들고 있지 않으므로 결과 건의 본문만 읽어 스니펫을 붙인다. (테이블 → 아카이브 블록 순)
+     * - 그 사이 삭제되어 본문이 없는 건은 결과에서 뺀다.
+     */
+    private List<ChatSearchHit> withSnippets(List<ChatSearchIndex.Match> matches, String query) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> contents = new HashMap<>();
+        List<Long> ids = matches.stream().map(ChatSearchIndex.Match::messageId).toList();
+        readOnlyTransaction.executeWithoutResult(status -> chatMessageRepository.findAllById(ids)
+                .forEach(message -> contents.put(message.getMessageId(), message.getMessageContent())));
+
+        List<String> terms = KoreanNgramTokenizer.tokenize(query);
+        List<ChatSearchHit> hits = new ArrayList<>(matches.size());
+        for (ChatSearchIndex.Match match : matches) {
+            String content = contents.containsKey(match.messageId())
+                    ? contents.get(match.messageId())
+                    : chatArchiveStore.find(match.sessionId(), match.toKey())
+                            .map(ChatMessageEntity::getMessageContent)
+                            .orElse(null);
+            if (content != null || contents.containsKey(match.messageId())) {
+                hits.add(match.toHit(ChatSearchIndex.snippet(content == null ? "" : content, terms)));
+            }
+        }
+        return hits;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return config.getDefaultLimit();
+        }
+        return Math.max(1, Math.min(limit, config.getMaxLimit()));
+    }
+}
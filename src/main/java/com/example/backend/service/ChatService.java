@@ -1,23 +1,45 @@
 package com.example.backend.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.common.error.BadRequestException;
 import com.example.backend.common.error.ForbiddenException;
 import com.example.backend.common.error.NotFoundException;
+import com.example.backend.common.util.CursorCodec;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatContextWindow;
+import com.example.backend.dto.chat.ChatMessageBatchResult;
 import com.example.backend.dto.chat.ChatMessageDto;
 import com.example.backend.dto.chat.ChatMessageRequest;
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.dto.chat.ChatSessionBulkDeleteResult;
 import com.example.backend.dto.chat.ChatSessionDto;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
 import com.example.backend.dto.chat.SessionRequest;
+import com.example.backend.dto.common.CursorDirection;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.entity.ChatMessageEntity;
 import com.example.backend.entity.ChatSessionEntity;
 import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageBlobStore;
+import com.example.backend.repository.ChatMessageChunkStore;
 import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatMessageSequenceAllocator;
 import com.example.backend.repository.ChatSessionRepository;
+import com.example.backend.security.SessionOwnershipCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,10 +52,31 @@ public class ChatService {
     private static final String MESSAGE_SESSION_NOT_FOUND = "세션을 찾을 수 없습니다: ";
     private static final String MESSAGE_SESSION_UPDATE_FORBIDDEN = "세션 수정 권한이 없습니다.";
     private static final String MESSAGE_SESSION_ACCESS_FORBIDDEN = "세션 접근 권한이 없습니다.";
+    private static final String MESSAGE_BATCH_EMPTY = "저장할 메시지가 없습니다.";
+    private static final String MESSAGE_BATCH_TOO_LARGE = "한 번에 저장할 수 있는 메시지는 최대 %d건입니다.";
+    private static final String MESSAGE_SESSION_ID_REQUIRED = "세션 ID는 필수입니다.";
+    private static final String MESSAGE_TYPE_REQUIRED = "메시지 타입은 필수입니다.";
+    private static final String MESSAGE_BULK_DELETE_TOO_LARGE = "한 번에 삭제할 수 있는 세션은 최대 %d개입니다.";
+    private static final String MESSAGE_INVALID_BUDGET = "예산은 1 이상이어야 합니다.";
+    private static final int MAX_SEQUENCE_GAPS = 100;
+    
+    private static final Comparator<ChatMessageEntity> MESSAGE_ORDER = ChatArchiveStore.MESSAGE_ORDER;
     
     private final ChatMessageRepository chatMessageRepository;
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMapper chatMapper;
+    private final ChatProperties chatProperties;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final SessionOwnershipCache sessionOwnershipCache;
+    private final ChatSessionStatsService chatSessionStatsService;
+    private final ChatArchiveStore chatArchiveStore;
+    private final ChatSearchService chatSearchService;
+    private final RiskTimelineService riskTimelineService;
+    private final ChatEventHub chatEventHub;
+    private final ChatMessageTailCache chatMessageTailCache;
+    private final ChatMessageBlobStore chatMessageBlobStore;
+    private final ChatMessageChunkStore chatMessageChunkStore;
+    private final ChatMessageSequenceAllocator chatMessageSequenceAllocator;
     
     @Transactional
     public ChatMessageEntity saveMessage(ChatMessageRequest request) {
@@ -41,25 +84,283 @@ public class ChatService {
         
         ChatMessageEntity entity = chatMapper.toEntity(request);
         ChatMessageEntity saved = chatMessageRepository.save(entity);
+        chatSessionStatsService.applyMessage(saved);
+        chatSearchService.indexAfterCommit(List.of(saved));
+        chatEventHub.publishAfterCommit(List.of(saved));
+        chatMessageTailCache.appendAfterCommit(List.of(saved));
         
         log.info("메시지 저장 완료 - messageId: {}, sessionId: {}", saved.getMessageId(), saved.getSessionId());
         return saved;
     }
     
+    public boolean isWriteBehindEnabled() {
+        return writeBehindBuffer.isEnabled();
+    }
+    
+    /**
+     * 메시지 비동기 저장 (write-behind 모드)
+     * - 검증/매핑만 요청 스레드에서 수행하고 INSERT 는 버퍼가 그룹 커밋한다.
+     * - createdAt 은 수신 시각으로 고정해 커밋 순서와 무관하게 대화 순서를 보존한다.
+     * - 대기열이 가득 차면 TooManyRequestsException(429)
+     * - 응답은 등록 전에 만든 DTO 사본 (엔티티는 등록 후 writer 스레드가 messageId/seq 등을 채우므로 응답 직렬화와 공유하지 않는다)
+     */
+    public ChatMessageDto enqueueMessage(ChatMessageRequest request) {
+        String rejection = validateMessageRequest(request);
+        if (rejection != null) {
+            throw new BadRequestException(rejection, "INVALID_MESSAGE", null);
+        }
+        
+        ChatMessageEntity entity = chatMapper.toEntity(request);
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(LocalDateTime.now());
+        }
+        ChatMessageDto accepted = chatMapper.toMessageDto(entity);
+        writeBehindBuffer.offer(entity);
+        
+        log.debug("메시지 저장 대기열 등록 - sessionId: {}, depth: {}", accepted.sessionId(), writeBehindBuffer.depth());
+        return accepted;
+    }
+    
+    /**
+     * 메시지 일괄 저장 (FastAPI 워커용)
+     * - 유효한 항목만 한 트랜잭션에서 JDBC 배치로 INSERT, 결과는 요청 순서 그대로 반환
+     * - 항목 단위 검증 실패는 REJECTED 로 표시하고 나머지는 계속 저장
+     */
+    @Transactional
+    public List<ChatMessageBatchResult> saveMessages(List<ChatMessageRequest> requests) {
+        validateBatchSize(requests);
+        log.debug("메시지 일괄 저장 요청 - count: {}", requests.size());
+        
+        ChatMessageBatchResult[] results = new ChatMessageBatchResult[requests.size()];
+        List<ChatMessageEntity> accepted = new ArrayList<>(requests.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+        
+        for (int i = 0; i < requests.size(); i++) {
+            String rejection = validateMessageRequest(requests.get(i));
+            if (rejection != null) {
+                results[i] = ChatMessageBatchResult.rejected(i, rejection);
+                continue;
+            }
+            accepted.add(chatMapper.toEntity(requests.get(i)));
+            acceptedIndexes.add(i);
+        }
+        
+        chatMessageRepository.batchInsert(accepted, chatProperties.getIngest().getJdbcBatchSize());
+        if (!accepted.isEmpty()) {
+            chatSessionStatsService.applyMessages(accepted);
+            chatSearchService.indexAfterCommit(accepted);
+            chatEventHub.publishAfterCommit(accepted);
+            chatMessageTailCache.appendAfterCommit(accepted);
+        }
+        
+        for (int i = 0; i < accepted.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = ChatMessageBatchResult.saved(index, accepted.get(i).getMessageId());
+        }
+        
+        log.info("메시지 일괄 저장 완료 - saved: {}, rejected: {}", accepted.size(), requests.size() - accepted.size());
+        return Arrays.asList(results);
+    }
+    
     @Deprecated
     @Transactional(readOnly = true)
     public List<ChatMessageEntity> getMessagesBySessionId(String sessionId) {
         log.debug("메시지 조회 - sessionId: {}", sessionId);
-        return chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
+        return loadSessionMessages(sessionId);
     }
     
+    /**
+     * 세션 메시지 커서 페이지 조회 (키셋: created_at, message_id)
+     * - 세션 길이와 무관하게 LIMIT pageSize+1 만 읽는다.
+     * - 아카이브된 세션은 커서가 걸친 아카이브 블록과 테이블 키셋 결과를 합쳐 같은 규칙으로 자른다.
+     * - 커서 없는 최신 페이지는 ChatMessageTailCache 에서 응답하고, miss 면 읽은 pageSize+1 건으로 채운다.
+     * - 빈 페이지는 요청 커서를 prevCursor/nextCursor 로 돌려준다. (AFTER 폴링이 같은 위치에서 계속 이어짐)
+     * - 반환 items 는 항상 오래된 → 최신 순
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ChatMessageDto> getMessagePage(String sessionId, String userEmail,
+                                                     String cursor, CursorDirection direction, Integer size) {
+        log.debug("메시지 페이지 조회 - sessionId: {}, direction: {}, size: {}", sessionId, direction, size);
+        
+        validateSessionAccess(sessionId, userEmail);
+        
+        int pageSize = resolvePageSize(size);
+        boolean forward = direction == CursorDirection.AFTER;
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        MessageCursor at = hasCursor ? MessageCursor.decode(cursor) : null;
+        boolean latestPage = !hasCursor && !forward;
+        
+        if (latestPage) {
+            Optional<List<ChatMessageDto>> tail = chatMessageTailCache.latest(sessionId, pageSize + 1);
+            if (tail.isPresent()) {
+                return tailPage(tail.get(), pageSize);
+            }
+        }
+        
+        List<ChatMessageEntity> rows = findPageWithArchive(sessionId, at, forward, pageSize + 1);
+        
+        boolean more = rows.size() > pageSize;
+        List<ChatMessageEntity> page = new ArrayList<>(more ? rows.subList(0, pageSize) : rows);
+        if (!forward) {
+            Collections.reverse(page);
+        }
+        if (page.isEmpty()) {
+            return emptyPage(hasCursor ? cursor : null, forward);
+        }
+        
+        List<ChatMessageDto> items;
+        if (latestPage) {
+            // 다음 latest(pageSize+1) 가 hit 하도록 읽은 pageSize+1 건 전체로 채운다.
+            List<ChatMessageEntity> fetched = new ArrayList<>(rows);
+            Collections.reverse(fetched);
+            List<ChatMessageDto> tail = chatMapper.toMessageDtoList(fetched);
+            chatMessageTailCache.seed(sessionId, tail, !more);
+            items = List.copyOf(tail.subList(tail.size() - page.size(), tail.size()));
+        } else {
+            items = chatMapper.toMessageDtoList(page);
+        }
+        return new CursorPage<>(
+                items,
+                MessageCursor.of(page.get(0)).encode(),
+                MessageCursor.of(page.get(page.size() - 1)).encode(),
+                forward ? hasCursor : more,
+                forward ? more : hasCursor);
+    }
+    
+    /** 링 버퍼의 마지막 pageSize+1 건으로 최신 페이지 구성 (더 오래된 메시지 존재 여부 = 1건 더 있는지) */
+    private static CursorPage<ChatMessageDto> tailPage(List<ChatMessageDto> tail, int pageSize) {
+        boolean more = tail.size() > pageSize;
+        List<ChatMessageDto> items = more ? tail.subList(tail.size() - pageSize, tail.size()) : tail;
+        if (items.isEmpty()) {
+            return emptyPage(null, false);
+        }
+        return new CursorPage<>(
+                items,
+                MessageCursor.of(items.get(0)).encode(),
+                MessageCursor.of(items.get(items.size() - 1)).encode(),
+                more,
+                false);
+    }
+    
+    /**
+     * 빈 메시지 페이지: 요청 커서 위치를 그대로 유지
+     * - AFTER 면 앞(요청 커서 이전)은 있고 뒤는 아직 없음, BEFORE 면 그 반대
+     * - 커서 없는 요청(빈 세션)은 돌려줄 위치가 없으므로 다음에도 커서 없이 처음부터 조회한다.
+     */
+    private static CursorPage<ChatMessageDto> emptyPage(String cursor, boolean forward) {
+        if (cursor == null) {
+            return CursorPage.empty();
+        }
+        return new CursorPage<>(List.of(), cursor, cursor, forward, !forward);
+    }
+    
+    /**
+     * 세션 메시지 순번(seq) 빈 구간 (최대 MAX_SEQUENCE_GAPS 개, seq 순)
+     * - 정상이면 빈 목록. 롤백된 저장은 순번을 소비하지 않으므로 구간이 있으면 유실/수동 삭제를 뜻한다.
+     * - 아카이브된 세션은 아카이브 시 계산해 둔 구간 + 아카이브 최대 순번 이후 테이블 행의 구간
+     */
+    @Transactional(readOnly = true)
+    public List<ChatSequenceGap> getSequenceGaps(String sessionId, String userEmail) {
+        validateSessionAccess(sessionId, userEmail);
+        
+        Optional<ChatArchiveStore.SequenceSummary> archived = chatArchiveStore.sequenceSummary(sessionId);
+        if (archived.isEmpty()) {
+            return chatMessageRepository.findSequenceGaps(sessionId, MAX_SEQUENCE_GAPS);
+        }
+        List<ChatSequenceGap> gaps = new ArrayList<>(archived.get().gaps());
+        if (gaps.size() < MAX_SEQUENCE_GAPS) {
+            gaps.addAll(chatMessageRepository.findSequenceGaps(
+                    sessionId, archived.get().maxSeq(), MAX_SEQUENCE_GAPS - gaps.size()));
+        }
+        return gaps.size() > MAX_SEQUENCE_GAPS ? List.copyOf(gaps.subList(0, MAX_SEQUENCE_GAPS)) : gaps;
+    }
+    
+    /**
+     * LLM 프롬프트용 컨텍스트 창 (세션 요약 + 예산 안에 들어가는 최근 메시지)
+     * - 요약이 먼저 예산을 차지하고, 메시지는 최신 → 과거 순으로 scan-chunk-size 건씩 키셋 조회하며
+     *   예산을 넘는 첫 메시지에서 멈춘다. (중간 메시지를 건너뛰지 않음)
+     * - 첫 청크는 활성 세션이면 ChatMessageTailCache 에서 읽는다.
+     * - maxChars / maxTokens 중 주어진 것 모두를 지키고, 둘 다 없으면 chat.context.default-max-tokens
+     * - 반환 messages 는 오래된 → 최신 순
+     */
+    @Transactional(readOnly = true)
+    public ChatContextWindow getContextWindow(String sessionId, String userEmail, Integer maxChars, Integer maxTokens) {
+        validateSessionAccess(sessionId, userEmail);
+        
+        ContextBudget budget = resolveContextBudget(maxChars, maxTokens);
+        String summary = chatSessionRepository.findSummaryBySessionId(sessionId)
+                .filter(text -> !text.isBlank())
+                .map(budget::consumeTruncated)
+                .orElse(null);
+        
+        int chunkSize = Math.max(1, chatProperties.getContext().getScanChunkSize());
+        
+        List<ChatMessageDto> window = new ArrayList<>();
+        boolean truncated = false;
+        boolean exhausted = false;
+        MessageCursor before = null;
+        while (!truncated && !exhausted) {
+            List<ChatMessageDto> chunk = contextChunk(sessionId, before, chunkSize);
+            exhausted = chunk.size() < chunkSize;
+            for (ChatMessageDto message : chunk) {
+                if (!budget.consume(message.messageContent())) {
+                    truncated = true;
+                    break;
+                }
+                window.add(message);
+            }
+            if (!chunk.isEmpty()) {
+                before = MessageCursor.of(chunk.get(chunk.size() - 1));
+            }
+        }
+        Collections.reverse(window);
+        
+        log.debug("컨텍스트 창 조회 - sessionId: {}, messages: {}, usedChars: {}, truncated: {}",
+                sessionId, window.size(), budget.usedChars, truncated);
+        return new ChatContextWindow(sessionId, summary, window, budget.usedChars, budget.usedTokens, truncated);
+    }
+    
+    /** 최신 → 과거 순 청크. 첫 청크는 링 버퍼 hit 면 DB 를 읽지 않고, miss 면 읽은 청크로 채운다. */
+    private List<ChatMessageDto> contextChunk(String sessionId, MessageCursor before, int chunkSize) {
+        if (before == null) {
+            Optional<List<ChatMessageDto>> tail = chatMessageTailCache.latest(sessionId, chunkSize);
+            if (tail.isPresent()) {
+                List<ChatMessageDto> newestFirst = new ArrayList<>(tail.get());
+                Collections.reverse(newestFirst);
+                return newestFirst;
+            }
+            List<ChatMessageDto> newestFirst =
+                    chatMapper.toMessageDtoList(findPageWithArchive(sessionId, null, false, chunkSize));
+            List<ChatMessageDto> oldestFirst = new ArrayList<>(newestFirst);
+            Collections.reverse(oldestFirst);
+            chatMessageTailCache.seed(sessionId, oldestFirst, newestFirst.size() < chunkSize);
+            return newestFirst;
+        }
+        return chatMapper.toMessageDtoList(findPageWithArchive(sessionId, before, false, chunkSize));
+    }
+    
+    private ContextBudget resolveContextBudget(Integer maxChars, Integer maxTokens) {
+        if ((maxChars != null && maxChars < 1) || (maxTokens != null && maxTokens < 1)) {
+            throw new BadRequestException(MESSAGE_INVALID_BUDGET, "INVALID_BUDGET", maxChars != null && maxChars < 1 ? "maxChars" : "maxTokens");
+        }
+        ChatProperties.Context config = chatProperties.getContext();
+        int tokens = maxTokens != null ? maxTokens
+                : maxChars != null ? config.getMaxTokens() : config.getDefaultMaxTokens();
+        int chars = maxChars != null ? maxChars : config.getMaxChars();
+        return new ContextBudget(
+                Math.min(chars, config.getMaxChars()),
+                Math.min(tokens, config.getMaxTokens()),
+                config.getCharsPerToken() > 0 ? config.getCharsPerToken() : 1.0);
+    }
+    
+    @Deprecated
     @Transactional(readOnly = true)
     public List<ChatMessageDto> getMessagesBySessionId(String sessionId, String userEmail) {
         log.debug("메시지 조회 - sessionId: {}, userEmail: {}", sessionId, userEmail);
         
         validateSessionAccess(sessionId, userEmail);
         
-        List<ChatMessageEntity> entities = chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
+        List<ChatMessageEntity> entities = loadSessionMessages(sessionId);
         List<ChatMessageDto> messages = chatMapper.toMessageDtoList(entities);
         
         log.info("메시지 {} 건 조회 완료", messages.size());
@@ -70,10 +371,16 @@ public class ChatService {
     public ChatSessionEntity saveSession(SessionRequest request) {
         log.debug("세션 저장 요청 - sessionId: {}, userEmail: {}", request.getSessionId(), request.getUserEmail());
         
-        ChatSessionEntity entity = chatMapper.toEntity(request);
-        ChatSessionEntity saved = chatSessionRepository.save(entity);
+        ChatSessionEntity saved = chatMapper.toEntity(request);
+        boolean inserted = chatSessionRepository.upsert(saved);
+        sessionOwnershipCache.invalidate(saved.getSessionId());
+        // 세션 행보다 먼저 저장된 메시지들을 통계에 반영 (이후 메시지는 저장 경로에서 증분 반영되므로 삽입 시 1회만)
+        if (inserted) {
+            chatSessionStatsService.reconcile(saved.getSessionId());
+        }
+        riskTimelineService.record(saved);
         
-        log.info("세션 저장 완료 - sessionId: {}, userEmail: {}", saved.getSessionId(), saved.getUserEmail());
+        log.info("세션 저장 완료 - sessionId: {}, userEmail: {}, inserted: {}", saved.getSessionId(), saved.getUserEmail(), inserted);
         return saved;
     }
     
@@ -82,8 +389,13 @@ public class ChatService {
     public ChatSessionEntity saveAnalysis(Map<String, Object> payload) {
         log.debug("분석 결과 저장 - payload: {}", payload.keySet());
         
-        ChatSessionEntity entity = chatMapper.toAnalysisEntity(payload);
-        ChatSessionEntity saved = chatSessionRepository.save(entity);
+        ChatSessionEntity saved = chatMapper.toAnalysisEntity(payload);
+        boolean inserted = chatSessionRepository.upsert(saved);
+        sessionOwnershipCache.invalidate(saved.getSessionId());
+        if (inserted) {
+            chatSessionStatsService.reconcile(saved.getSessionId());
+        }
+        riskTimelineService.record(saved);
         
         log.info("분석 결과 저장 완료 - sessionId: {}, userEmail: {}", saved.getSessionId(), saved.getUserEmail());
         return saved;
@@ -99,6 +411,7 @@ public class ChatService {
         
         chatMapper.updateEntity(entity, request);
         ChatSessionEntity updated = chatSessionRepository.save(entity);
+        riskTimelineService.record(updated);
         
         log.info("세션 업데이트 완료 - sessionId: {}", updated.getSessionId());
         return updated;
@@ -142,16 +455,183 @@ public class ChatService {
         return sessions;
     }
     
-    @Transactional
+    /**
+     * 세션 목록 커서 페이지 (최신 → 오래된 순, 키셋: created_at, session_id)
+     * - DTO 프로젝션으로 id/시각/요약 앞부분만 읽는다. (emotions 파싱 없음)
+     * - nextCursor 로 더 오래된 세션을 이어서 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ChatSessionSummaryDto> getSessionSummaryPage(String userEmail, String cursor, Integer size) {
+        log.debug("세션 목록 페이지 조회 - userEmail: {}, size: {}", userEmail, size);
+        
+        int pageSize = resolvePageSize(size);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        
+        List<ChatSessionSummaryDto> rows;
+        if (!hasCursor) {
+            rows = chatSessionRepository.findSummaryPage(userEmail, limit);
+        } else {
+            SessionCursor at = SessionCursor.decode(cursor);
+            rows = chatSessionRepository.findSummaryPageBefore(userEmail, at.createdAt(), at.sessionId(), limit);
+        }
+        
+        boolean more = rows.size() > pageSize;
+        List<ChatSessionSummaryDto> page = more ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return CursorPage.empty();
+        }
+        
+        String nextCursor = more ? SessionCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page, null, nextCursor, hasCursor, more);
+    }
+    
+    /**
+     * 세션 삭제 (세트 기반)
+     * - 메시지는 message_id 구간 청크마다 DELETE 1문장/트랜잭션 1개로 지워 긴 락을 잡지 않는다.
+     * - 세션 행은 마지막에 지우므로 중간에 실패해도 다시 호출하면 이어서 삭제된다.
+     */
     public void deleteSession(String sessionId) {
         log.debug("세션 삭제 - sessionId: {}", sessionId);
         
-        ChatSessionEntity entity = findSessionOrThrow(sessionId);
+        if (!chatSessionRepository.existsById(sessionId)) {
+            throw new NotFoundException(MESSAGE_SESSION_NOT_FOUND + sessionId);
+        }
+        long deletedMessages = purgeSessions(List.of(sessionId));
+        
+        log.info("세션 삭제 완료 - sessionId: {}, messages: {}", sessionId, deletedMessages);
+    }
+    
+    /**
+     * 세션 일괄 삭제
+     * - 요청자가 소유한 세션만 삭제하고 나머지(없음/타인 소유)는 skipped 로 돌려준다.
+     */
+    public ChatSessionBulkDeleteResult deleteSessions(List<String> sessionIds, String requesterEmail) {
+        List<String> requested = sessionIds == null ? List.of() : sessionIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .distinct()
+                .toList();
+        int max = chatProperties.getDeletion().getMaxBulkSessions();
+        if (requested.size() > max) {
+            throw new BadRequestException(String.format(MESSAGE_BULK_DELETE_TOO_LARGE, max), "BULK_DELETE_TOO_LARGE", "sessionIds");
+        }
+        if (requested.isEmpty()) {
+            return new ChatSessionBulkDeleteResult(List.of(), List.of(), 0);
+        }
         
-        chatMessageRepository.deleteAllBySessionId(sessionId);
-        chatSessionRepository.delete(entity);
+        List<String> owned = chatSessionRepository.findOwnedSessionIds(requested, requesterEmail);
+        List<String> skipped = requested.stream().filter(id -> !owned.contains(id)).toList();
+        long deletedMessages = purgeSessions(owned);
         
-        log.info("세션 삭제 완료 - sessionId: {}", sessionId);
+        log.info("세션 일괄 삭제 완료 - deleted: {}, skipped: {}, messages: {}", owned.size(), skipped.size(), deletedMessages);
+        return new ChatSessionBulkDeleteResult(owned, skipped, deletedMessages);
+    }
+    
+    private long purgeSessions(List<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        long deletedMessages = 0;
+        for (String sessionId : sessionIds) {
+            deletedMessages += deleteMessagesInChunks(sessionId);
+            chatArchiveStore.remove(sessionId);
+        }
+        chatMessageChunkStore.deleteSessions(sessionIds);
+        riskTimelineService.remove(sessionIds);
+        chatSessionRepository.deleteAllBySessionIdIn(sessionIds);
+        sessionIds.forEach(sessionOwnershipCache::invalidate);
+        chatSearchService.removeSessions(sessionIds);
+        chatMessageTailCache.evict(sessionIds);
+        chatMessageSequenceAllocator.forget(sessionIds);
+        return deletedMessages;
+    }
+    
+    private long deleteMessagesInChunks(String sessionId) {
+        int chunkSize = Math.max(1, chatProperties.getDeletion().getChunkSize());
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long deleted = 0;
+        
+        while (true) {
+            List<Long> ids = chatMessageRepository.findMessageIdChunk(sessionId, chunk);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += chatMessageBlobStore.deleteMessages(sessionId, ids.get(0), ids.get(ids.size() - 1));
+            if (ids.size() < chunkSize) {
+                return deleted;
+            }
+        }
+    }
+    
+    /**
+     * 반환 순서: 정방향은 오래된 → 최신, 역방향은 최신 → 오래된 (LIMIT pageSize+1)
+     * - 순번 없는 기존 행이 남은 세션(백필 전)만 (seq, created_at, message_id) 정렬 쿼리를 쓰고, 나머지는 순번만으로 읽는다.
+     */
+    private List<ChatMessageEntity> findPage(String sessionId, MessageCursor at, boolean forward, Pageable limit) {
+        if (at != null && at.seq() == null) {
+            return forward
+                    ? chatMessageRepository.findLegacyPageAfter(sessionId, at.createdAt(), at.messageId(), limit)
+                    : chatMessageRepository.findLegacyPageBefore(sessionId, at.createdAt(), at.messageId(), limit);
+        }
+        if (at != null && forward) {
+            return chatMessageRepository.findPageAfter(sessionId, at.seq(), limit); // 기존 행은 모든 순번보다 앞
+        }
+        boolean legacy = chatMessageRepository.existsBySessionIdAndSeqIsNull(sessionId);
+        if (at == null) {
+            if (legacy) {
+                return forward
+                        ? chatMessageRepository.findLegacyFirstPage(sessionId, limit)
+                        : chatMessageRepository.findLegacyLatestPage(sessionId, limit);
+            }
+            return forward
+                    ? chatMessageRepository.findFirstPage(sessionId, limit)
+                    : chatMessageRepository.findLatestPage(sessionId, limit);
+        }
+        return legacy
+                ? chatMessageRepository.findLegacyPageBeforeSeq(sessionId, at.seq(), limit)
+                : chatMessageRepository.findPageBefore(sessionId, at.seq(), limit);
+    }
+    
+    /**
+     * findPage 와 같은 정렬/개수 규칙에 아카이브를 더한 페이지
+     * - 테이블은 같은 키셋 쿼리, 아카이브는 커서가 걸친 블록만 읽어(readPage) 각각 limit 건을 받고,
+     *   message_id 로 중복을 없앤 뒤 앞에서 limit 건을 자른다. (세션 크기와 무관한 비용)
+     */
+    private List<ChatMessageEntity> findPageWithArchive(String sessionId, MessageCursor at, boolean forward, int limit) {
+        List<ChatMessageEntity> hot = findPage(sessionId, at, forward, PageRequest.of(0, limit));
+        if (!chatArchiveStore.contains(sessionId)) {
+            return hot;
+        }
+        return chatArchiveStore.readPage(sessionId, at == null ? null : at.toKey(), forward, limit)
+                .map(archived -> {
+                    Map<Long, ChatMessageEntity> byId = new LinkedHashMap<>();
+                    archived.forEach(m -> byId.put(m.getMessageId(), m));
+                    hot.forEach(m -> byId.putIfAbsent(m.getMessageId(), m));
+                    return byId.values().stream()
+                            .sorted(forward ? MESSAGE_ORDER : MESSAGE_ORDER.reversed())
+                            .limit(limit)
+                            .toList();
+                })
+                .orElse(hot);
+    }
+    
+    /** 세션 전체 메시지 (아카이브된 세션이면 아카이브 + 아카이브 이후 테이블에 쌓인 메시지) */
+    private List<ChatMessageEntity> loadSessionMessages(String sessionId) {
+        List<ChatMessageEntity> hot = chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(sessionId);
+        return chatArchiveStore.read(sessionId)
+                .map(archived -> mergeArchived(archived, hot))
+                .orElse(hot);
+    }
+    
+    /** message_id 기준 중복 제거 (아카이브 직후 테이블 삭제가 끝나기 전 상태 포함) */
+    private static List<ChatMessageEntity> mergeArchived(List<ChatMessageEntity> archived, List<ChatMessageEntity> hot) {
+        if (hot.isEmpty()) {
+            return archived;
+        }
+        Map<Long, ChatMessageEntity> byId = new LinkedHashMap<>();
+        archived.forEach(m -> byId.put(m.getMessageId(), m));
+        hot.forEach(m -> byId.putIfAbsent(m.getMessageId(), m));
+        return byId.values().stream().sorted(MESSAGE_ORDER).toList();
     }
     
     private ChatSessionEntity findSessionOrThrow(String sessionId) {
@@ -160,15 +640,118 @@ public class ChatService {
     }
     
     private void validateSessionAccess(String sessionId, String userEmail) {
-        boolean exists = chatSessionRepository.existsBySessionIdAndUserEmail(sessionId, userEmail);
-        if (!exists) {
+        if (!sessionOwnershipCache.isOwner(sessionId, userEmail)) {
             throw new ForbiddenException(MESSAGE_SESSION_ACCESS_FORBIDDEN);
         }
     }
     
+    private int resolvePageSize(Integer size) {
+        ChatProperties.History history = chatProperties.getHistory();
+        if (size == null) {
+            return history.getDefaultPageSize();
+        }
+        return Math.max(1, Math.min(size, history.getMaxPageSize()));
+    }
+    
+    private void validateBatchSize(List<ChatMessageRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException(MESSAGE_BATCH_EMPTY, "EMPTY_BATCH", "messages");
+        }
+        int max = chatProperties.getIngest().getMaxBatchSize();
+        if (requests.size() > max) {
+            throw new BadRequestException(MESSAGE_BATCH_TOO_LARGE.formatted(max), "BATCH_TOO_LARGE", "messages");
+        }
+    }
+    
+    private String validateMessageRequest(ChatMessageRequest request) {
+        if (request == null || request.getSessionId() == null || request.getSessionId().isBlank()) {
+            return MESSAGE_SESSION_ID_REQUIRED;
+        }
+        if (request.getMessageType() == null) {
+            return MESSAGE_TYPE_REQUIRED;
+        }
+        return null;
+    }
+    
     private void validateSessionOwner(ChatSessionEntity entity, String requestedEmail) {
         if (requestedEmail != null && !entity.getUserEmail().equals(requestedEmail)) {
             throw new ForbiddenException(MESSAGE_SESSION_UPDATE_FORBIDDEN);
         }
     }
+    
+    /** 남은 문자/추정 토큰 예산 (토큰 = ceil(문자 수 / charsPerToken)) */
+    private static final class ContextBudget {
+        private final double charsPerToken;
+        private int charsLeft;
+        private int tokensLeft;
+        private int usedChars;
+        private int usedTokens;
+        
+        ContextBudget(int chars, int tokens, double charsPerToken) {
+            this.charsLeft = chars;
+            this.tokensLeft = tokens;
+            this.charsPerToken = charsPerToken;
+        }
+        
+        boolean consume(String text) {
+            int chars = text == null ? 0 : text.length();
+            int tokens = (int) Math.ceil(chars / charsPerToken);
+            if (chars > charsLeft || tokens > tokensLeft) {
+                return false;
+            }
+            charsLeft -= chars;
+            tokensLeft -= tokens;
+            usedChars += chars;
+            usedTokens += tokens;
+            return true;
+        }
+        
+        /** 남은 예산에 맞게 앞부분만 남기고 차감 */
+        String consumeTruncated(String text) {
+            int allowed = (int) Math.min(charsLeft, Math.floor(tokensLeft * charsPerToken));
+            String fitted = text.length() <= allowed ? text : text.substring(0, allowed);
+            consume(fitted);
+            return fitted;
+        }
+    }
+    
+    /** 메시지 커서 = (seq, created_at, message_id), 순번 없는 기존 행이면 seq 는 null */
+    private record MessageCursor(Long seq, LocalDateTime createdAt, Long messageId) {
+        static MessageCursor of(ChatMessageEntity entity) {
+            return new MessageCursor(entity.getSeq(), entity.getCreatedAt(), entity.getMessageId());
+        }
+        
+        static MessageCursor of(ChatMessageDto dto) {
+            return new MessageCursor(dto.seq(), dto.createdAt(), dto.messageId());
+        }
+        
+        static MessageCursor decode(String token) {
+            return CursorCodec.decode(token, 3, keys -> new MessageCursor(
+                    "null".equals(keys[0]) ? null : Long.parseLong(keys[0]),
+                    LocalDateTime.parse(keys[1]), Long.parseLong(keys[2])));
+        }
+        
+        String encode() {
+            return CursorCodec.encode(seq, createdAt, messageId);
+        }
+        
+        ChatMessageEntity toKey() {
+            return ChatMessageEntity.builder().seq(seq).createdAt(createdAt).messageId(messageId).build();
+        }
+    }
+    
+    private record SessionCursor(LocalDateTime createdAt, String sessionId) {
+        static SessionCursor of(ChatSessionSummaryDto dto) {
+            return new SessionCursor(dto.createdAt(), dto.sessionId());
+        }
+        
+        static SessionCursor decode(String token) {
+            return CursorCodec.decode(token, 2,
+                    keys -> new SessionCursor(LocalDateTime.parse(keys[0]), keys[1]));
+        }
+        
+        String encode() {
+            return CursorCodec.encode(createdAt, sessionId);
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package com.example.backend.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 메시지 통계(messageCount, lastMessageAt, lastMessagePreview) 관리
+ * - 메시지 저장 경로(단건/일괄/write-behind)는 같은 트랜잭션 안에서 applyMessages 를 호출한다.
+ * - 세션 행은 보통 대화가 끝난 뒤 생성되므로, 세션 행이 새로 삽입될 때 reconcile 로 이미 쌓인 메시지를 반영한다.
+ */
+@Slf4j
+@Service
+public class ChatSessionStatsService {
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatProperties chatProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChatSessionStatsService(ChatSessionRepository chatSessionRepository,
+                                   ChatMessageRepository chatMessageRepository,
+                                   ChatProperties chatProperties,
+                                   PlatformTransactionManager transactionManager) {
+        this.chatSessionRepository = chatSessionRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatProperties = chatProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 저장된 메시지를 세션 통계에 반영 (세션당 UPDATE 1문장)
+     * - 세션 행이 아직 없으면 0건 갱신되고, 세션 저장 시 reconcile 로 맞춰진다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyMessages(Collection<ChatMessageEntity> messages) {
+        Map<String, SessionDelta> deltas = new LinkedHashMap<>();
+        for (ChatMessageEntity message : messages) {
+            deltas.computeIfAbsent(message.getSessionId(), id -> new SessionDelta()).add(message);
+        }
+        deltas.forEach((sessionId, delta) -> chatSessionRepository.applyMessageStats(
+                sessionId, delta.count, delta.latest.getCreatedAt(), preview(delta.latest.getMessageContent())));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyMessage(ChatMessageEntity message) {
+        applyMessages(List.of(message));
+    }
+
+    /** 단일 세션 통계 재계산 */
+    @Transactional
+    public void reconcile(String sessionId) {
+        reconcileChunk(List.of(sessionId));
+    }
+
+    /**
+     * 전체 세션 통계 재계산 (세션 id 키셋 순회, 청크마다 별도 트랜잭션)
+     * - chat.stats.reconcile-cron 으로 주기 실행 가능 (기본 비활성화 "-")
+     */
+    @Scheduled(cron = "${chat.stats.reconcile-cron:-}")
+    public int reconcileAll() {
+        int chunkSize = Math.max(1, chatProperties.getStats().getReconcileChunkSize());
+        String after = "";
+        int reconciled = 0;
+
+        while (true) {
+            List<String> sessionIds = chatSessionRepository.findSessionIdsAfter(after, PageRequest.of(0, chunkSize));
+            if (sessionIds.isEmpty()) {
+                break;
+            }
+            // 자기 호출은 프록시를 거치지 않으므로 청크 트랜잭션은 TransactionTemplate 으로 연다.
+            Integer chunk = transactionTemplate.execute(status -> reconcileChunk(sessionIds));
+            reconciled += chunk == null ? 0 : chunk;
+            after = sessionIds.get(sessionIds.size() - 1);
+        }
+
+        log.info("세션 통계 재계산 완료 - sessions: {}", reconciled);
+        return reconciled;
+    }
+
+    /**
+     * 개수/마지막 시각은 SQL 집계로, 미리보기는 본문을 컨버터로 읽어(압축 해제) 반영
+     */
+    private int reconcileChunk(List<String> sessionIds) {
+        int updated = chatSessionRepository.reconcileStats(sessionIds);
+        for (ChatMessageEntity latest : chatMessageRepository.findLatestBySessionIds(sessionIds)) {
+            chatSessionRepository.updateLastMessagePreview(latest.getSessionId(), preview(latest.getMessageContent()));
+        }
+        return updated;
+    }
+
+    static String preview(String content) {
+        return ChatSessionSummaryDto.truncate(content);
+    }
+
+    private static final class SessionDelta {
+        private static final Comparator<ChatMessageEntity> ORDER = Comparator
+                .comparing(ChatMessageEntity::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ChatMessageEntity::getMessageId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private int count;
+        private ChatMessageEntity latest;
+
+        void add(ChatMessageEntity message) {
+            count++;
+            if (latest == null || ORDER.compare(message, latest) >= 0) {
+                latest = message;
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축 도입 전 행을 CompressedTextConverter 형식으로 다시 쓰는 1회성 백그라운드 작업
+ * - PK 키셋으로 청크 단위 조회 → 바뀌는 값만 JDBC 배치 UPDATE (청크마다 자동 커밋)
+ * - UPDATE 는 읽은 원문과 같을 때만 적용해 그 사이의 수정 내용을 덮어쓰지 않는다.
+ * - chat.compression.recompress-on-startup=true 이면 기동 완료 후 한 번 실행
+ * - summary_preview 가 비어 있는 세션(컬럼 추가 전 행)이 있으면 재압축 설정과 상관없이 그 부분만 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTextRecompressionJob {
+
+    private static final List<String> SESSION_COLUMNS =
+            List.of("summary", "emotions", "primary_risk", "protective_factors", "risk_factors");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompressedTextConverter compressedTextConverter;
+    private final ChatProperties chatProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (chatProperties.getCompression().isRecompressOnStartup()) {
+            startAsync();
+        } else if (hasMissingSummaryPreviews()) {
+            start(false);
+        }
+    }
+
+    /** 이미 실행 중이면 false */
+    public boolean startAsync() {
+        return start(true);
+    }
+
+    private boolean start(boolean recompress) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread worker = new Thread(() -> {
+            try {
+                if (recompress) {
+                    run();
+                } else {
+                    fillSummaryPreviews();
+                }
+            } catch (RuntimeException e) {
+                log.error("TEXT 재압축 작업 실패", e);
+            } finally {
+                running.set(false);
+            }
+        }, "chat-text-recompress");
+        worker.setDaemon(true);
+        worker.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    long run() {
+        log.info("TEXT 재압축 작업 시작");
+        long messages = recompressMessages();
+        long sessions = recompressSessions();
+        log.info("TEXT 재압축 작업 완료 - messages: {}, sessionColumns: {}", messages, sessions);
+        fillSummaryPreviews();
+        return messages + sessions;
+    }
+
+    private boolean hasMissingSummaryPreviews() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM chat_sessions WHERE summary_preview IS NULL AND summary IS NOT NULL)",
+                Boolean.class));
+    }
+
+    /**
+     * summary_preview 가 없는 세션에 요약 앞부분을 채운다. (세션 목록은 이 컬럼만 읽음)
+     * - UPDATE 는 읽은 요약이 그대로일 때만 적용해 그 사이 upsert 가 쓴 값을 덮어쓰지 않는다.
+     */
+    long fillSummaryPreviews() {
+        int chunkSize = chunkSize();
+        String lastId = "";
+        long filled = 0;
+
+        while (true) {
+            List<String[]> rows = jdbcTemplate.query(
+                    "SELECT session_id, summary FROM chat_sessions WHERE session_id > ? "
+                            + "AND summary_preview IS NULL AND summary IS NOT NULL ORDER BY session_id LIMIT ?",
+                    (rs, i) -> new String[]{rs.getString(1), rs.getString(2)},
+                    lastId, chunkSize);
+            if (rows.isEmpty()) {
+                log.info("세션 요약 미리보기 채우기 완료 - sessions: {}", filled);
+                return filled;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (String[] row : rows) {
+                String preview = ChatSessionSummaryDto.truncate(compressedTextConverter.convertToEntityAttribute(row[1]));
+                updates.add(new Object[]{preview, row[0], row[1]});
+            }
+            jdbcTemplate.batchUpdate("UPDATE chat_sessions SET summary_preview = ? "
+                    + "WHERE session_id = ? AND summary_preview IS NULL AND summary = ?", updates);
+            filled += updates.size();
+            lastId = rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    long recompressMessages() {
+        int chunkSize = chunkSize();
+        long lastId = 0;
+        long rewritten = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT message_id, message_content FROM chat_messages WHERE message_id > ? ORDER BY message_id LIMIT ?",
+                    (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                    lastId, chunkSize);
+            if (rows.isEmpty()) {
+                return rewritten;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            for (Object[] row : rows) {
+                String raw = (String) row[1];
+                String encoded = reencode(raw);
+                if (encoded != null) {
+                    updates.add(new Object[]{encoded, row[0], raw});
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE chat_messages SET message_content = ? WHERE message_id = ? AND message_content = ?",
+                        updates);
+                rewritten += updates.size();
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    long recompressSessions() {
+        int chunkSize = chunkSize();
+        String lastId = "";
+        long rewritten = 0;
+
+        while (true) {
+            List<String[]> rows = jdbcTemplate.query(
+                    "SELECT session_id, " + String.join(", ", SESSION_COLUMNS)
+                            + " FROM chat_sessions WHERE session_id > ? ORDER BY session_id LIMIT ?",
+                    (rs, i) -> {
+                        String[] row = new String[SESSION_COLUMNS.size() + 1];
+                        for (int c = 0; c < row.length; c++) {
+                            row[c] = rs.getString(c + 1);
+                        }
+                        return row;
+                    },
+                    lastId, chunkSize);
+            if (rows.isEmpty()) {
+                return rewritten;
+            }
+
+            for (int c = 0; c < SESSION_COLUMNS.size(); c++) {
+                List<Object[]> updates = new ArrayList<>();
+                for (String[] row : rows) {
+                    String raw = row[c + 1];
+                    String encoded = reencode(raw);
+                    if (encoded != null) {
+                        updates.add(new Object[]{encoded, row[0], raw});
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    String column = SESSION_COLUMNS.get(c);
+                    jdbcTemplate.batchUpdate("UPDATE chat_sessions SET " + column + " = ? WHERE session_id = ? AND "
+                            + column + " = ?", updates);
+                    rewritten += updates.size();
+                }
+            }
+            lastId = rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /** 다시 써야 하면 새 값, 아니면 null (이미 헤더가 있거나 임계값 미만) */
+    private String reencode(String raw) {
+        if (raw == null || CompressedTextConverter.isEncoded(raw)) {
+            return null;
+        }
+        String encoded = compressedTextConverter.convertToDatabaseColumn(raw);
+        return encoded.equals(raw) ? null : encoded;
+    }
+
+    private int chunkSize() {
+        return Math.max(1, chatProperties.getCompression().getRecompressChunkSize());
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.properties.PostProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 좋아요/댓글 수 분산 카운터 (post_counter_shards)
+ * - 증가는 post.counters.shards 개 슬롯 중 임의 1행에 INSERT ... ON DUPLICATE KEY UPDATE 로 더한다.
+ *   같은 게시글에 몰린 좋아요도 슬롯 수만큼 행이 나뉘어 posts 행 하나의 잠금에 줄 서지 않는다.
+ * - 읽기 값은 posts 컬럼 + 슬롯 합계이며, 슬롯 합계는 post.counters.cache-ttl-ms 동안 캐시한다.
+ *   캐시 항목은 접기 세대를 함께 기억해, 접기가 시작되면 커밋 전부터 쓰이지 않는다. (posts 와 캐시에 두 번 세지지 않도록)
+ *   접기 세대는 노드 메모리 값이라 이 보장은 접기를 실행한 노드 안에서만 성립한다. 다른 노드가 접으면 이 노드의 캐시 항목은
+ *   TTL 이 끝날 때까지 이미 posts 로 옮겨진 값을 한 번 더 더해 보일 수 있다. (최대 cache-ttl-ms, DB 값 자체는 정확)
+ * - post.counters.fold-interval-ms 마다 슬롯 합계를 posts.like_count / comment_count 로 옮긴다.
+ *   (인기순 정렬 등 posts 컬럼을 보는 쿼리는 접기 주기만큼 늦게 반영된다)
+ */
+@Slf4j
+@Service
+public class PostCounterService {
+
+    public enum Kind {
+        LIKE("like_count"),
+        COMMENT("comment_count");
+
+        private final String column;
+
+        Kind(String column) {
+            this.column = column;
+        }
+    }
+
+    /** 아직 posts 컬럼에 옮겨지지 않은 증가분 */
+    public record Counts(long likes, long comments) {
+        public static final Counts ZERO = new Counts(0, 0);
+
+        Counts plus(Kind kind, long delta) {
+            return kind == Kind.LIKE ? new Counts(likes + delta, comments) : new Counts(likes, comments + delta);
+        }
+    }
+
+    private static final String INCREMENT_SQL = """
+            INSERT INTO post_counter_shards (post_id, counter, shard, value) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE value = value + ?
+            """;
+    private static final String FOLD_POSTS_SQL =
+            "SELECT DISTINCT post_id FROM post_counter_shards WHERE post_id > ? ORDER BY post_id LIMIT ?";
+    private static final String SUBTRACT_SQL =
+            "UPDATE post_counter_shards SET value = value - ? WHERE post_id = ? AND counter = ? AND shard = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRankingService postRankingService;
+    private final TransactionTemplate transactionTemplate;
+    private final PostProperties.Counters config;
+    private final Map<Long, Cached> cache;
+    private final AtomicLong foldGeneration = new AtomicLong(); // 홀수 = 접는 중 (이 노드의 접기만 반영)
+
+    private final Counter foldedCounter;
+
+    public PostCounterService(JdbcTemplate jdbcTemplate, PostRankingService postRankingService,
+                              PlatformTransactionManager transactionManager,
+                              PostProperties postProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postRankingService = postRankingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = postProperties.getCounters();
+        int capacity = Math.max(1, config.getCachePosts());
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                return size() > capacity;
+            }
+        });
+
+        this.foldedCounter = Counter.builder("post.counters.folded")
+                .description("posts 컬럼으로 옮긴 게시글 수")
+                .register(meterRegistry);
+    }
+
+    public void like(Long postId) {
+        increment(postId, Kind.LIKE, 1);
+    }
+
+    public void unlike(Long postId) {
+        increment(postId, Kind.LIKE, -1);
+    }
+
+    public void commentAdded(Long postId) {
+        increment(postId, Kind.COMMENT, 1);
+    }
+
+    public void commentRemoved(Long postId) {
+        increment(postId, Kind.COMMENT, -1);
+    }
+
+    /** 임의 슬롯 1행에 delta 를 더한다. (호출 트랜잭션이 있으면 그 안에서 실행) */
+    public void increment(Long postId, Kind kind, long delta) {
+        if (postId == null || delta == 0) {
+            return;
+        }
+        int shard = ThreadLocalRandom.current().nextInt(Math.max(1, config.getShards()));
+        jdbcTemplate.update(INCREMENT_SQL, postId, kind.name(), shard, delta, delta);
+
+        // 이 인스턴스의 쓰기는 바로 보이게 캐시에 더한다. (다른 인스턴스의 쓰기는 TTL 이 지나야 보임)
+        cache.computeIfPresent(postId, (id, cached) ->
+                new Cached(cached.counts().plus(kind, delta), cached.loadedAt(), cached.generation()));
+        postRankingService.adjust(postId, kind == Kind.LIKE ? delta : 0, kind == Kind.COMMENT ? delta : 0);
+    }
+
+    public Counts pending(Long postId) {
+        return postId == null ? Counts.ZERO : pending(List.of(postId)).getOrDefault(postId, Counts.ZERO);
+    }
+
+    /**
+     * 게시글별 미반영 증가분 (캐시에 없거나 만료된 게시글만 1쿼리로 읽는다)
+     * - 접는 중이거나 다른 세대에 채운 캐시 항목은 쓰지 않고, 접는 중에 읽은 값은 캐시하지 않는다.
+     */
+    public Map<Long, Counts> pending(Collection<Long> postIds) {
+        Map<Long, Counts> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        long generation = foldGeneration.get();
+        boolean folding = (generation & 1) == 1;
+        for (Long postId : postIds) {
+            Cached cached = folding ? null : cache.get(postId);
+            if (cached != null && cached.generation() == generation && now - cached.loadedAt() < config.getCacheTtlMs()) {
+                result.put(postId, cached.counts());
+            } else if (postId != null) {
+                misses.add(postId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Counts> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT post_id, counter, SUM(value) FROM post_counter_shards WHERE post_id IN ("
+                        + placeholders(misses.size()) + ") GROUP BY post_id, counter",
+                rs -> {
+                    long postId = rs.getLong(1);
+                    Kind kind = Kind.valueOf(rs.getString(2));
+                    loaded.merge(postId, Counts.ZERO.plus(kind, rs.getLong(3)),
+                            (a, b) -> new Counts(a.likes() + b.likes(), a.comments() + b.comments()));
+                },
+                misses.toArray());
+        for (Long postId : misses) {
+            Counts counts = loaded.getOrDefault(postId, Counts.ZERO);
+            if (!folding) {
+                cache.put(postId, new Cached(counts, now, generation));
+            }
+            result.put(postId, counts);
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${post.counters.fold-interval-ms:60000}")
+    public void scheduledFold() {
+        try {
+            fold();
+        } catch (RuntimeException e) {
+            log.warn("게시글 카운터 접기 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 슬롯 합계를 posts 컬럼으로 옮긴다.
+     * - post_id 키셋으로 fold-batch-size 건씩, 게시글 묶음마다 한 트랜잭션에서
+     *   슬롯 행을 잠그고(FOR UPDATE) 읽은 값만큼 posts 에 더한 뒤 슬롯에서 같은 값을 뺀다.
+     *   그 사이 같은 슬롯 증가는 잠금을 기다렸다가 뒤에 더해지므로 빠지거나 두 번 세지지 않는다.
+     * - 0 이 된 슬롯 행은 지운다.
+     * @return 옮긴 게시글 수
+     */
+    public synchronized long fold() {
+        int batchSize = Math.max(1, config.getFoldBatchSize());
+        long lastId = 0;
+        long folded = 0;
+
+        while (true) {
+            List<Long> postIds = jdbcTemplate.queryForList(FOLD_POSTS_SQL, Long.class, lastId, batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            // 커밋 전에 세대를 올려 두어, 커밋 직후 posts 에 옮긴 값을 이전 캐시 값과 함께 더하는 일이 없게 한다.
+            foldGeneration.incrementAndGet();
+            Integer count;
+            try {
+                count = transactionTemplate.execute(status -> foldBatch(postIds));
+            } finally {
+                foldGeneration.incrementAndGet();
+            }
+            folded += count == null ? 0 : count;
+            lastId = postIds.get(postIds.size() - 1);
+        }
+
+        if (folded > 0) {
+            foldedCounter.increment(folded);
+            log.debug("게시글 카운터 접기 - posts: {}", folded);
+        }
+        return folded;
+    }
+
+    /** 게시글 묶음 하나를 접는다. (트랜잭션 안에서 호출) */
+    int foldBatch(List<Long> postIds) {
+        String in = placeholders(postIds.size());
+        List<Object[]> shards = jdbcTemplate.query(
+                "SELECT post_id, counter, shard, value FROM post_counter_shards WHERE post_id IN (" + in + ") FOR UPDATE",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getInt(3), rs.getLong(4)},
+                postIds.toArray());
+
+        Map<Long, Counts> totals = new LinkedHashMap<>();
+        List<Object[]> subtracts = new ArrayList<>();
+        for (Object[] row : shards) {
+            long value = (Long) row[3];
+            if (value == 0) {
+                continue;
+            }
+            totals.merge((Long) row[0], Counts.ZERO.plus(Kind.valueOf((String) row[1]), value),
+                    (a, b) -> new Counts(a.likes() + b.likes(), a.comments() + b.comments()));
+            subtracts.add(new Object[]{value, row[0], row[1], row[2]});
+        }
+
+        if (!totals.isEmpty()) {
+            jdbcTemplate.update(foldSql(totals.size()), bind(totals));
+            jdbcTemplate.batchUpdate(SUBTRACT_SQL, subtracts);
+        }
+        jdbcTemplate.update("DELETE FROM post_counter_shards WHERE post_id IN (" + in + ") AND value = 0",
+                postIds.toArray());
+        return totals.size();
+    }
+
+    /** UPDATE posts SET like_count = like_count + CASE ..., comment_count = comment_count + CASE ... WHERE post_id IN (...) */
+    private static String foldSql(int size) {
+        String cases = String.join(" ", Collections.nCopies(size, "WHEN ? THEN ?"));
+        return "UPDATE posts SET "
+                + Kind.LIKE.column + " = " + Kind.LIKE.column + " + CASE post_id " + cases + " ELSE 0 END, "
+                + Kind.COMMENT.column + " = " + Kind.COMMENT.column + " + CASE post_id " + cases + " ELSE 0 END"
+                + " WHERE post_id IN (" + placeholders(size) + ")";
+    }
+
+    private static Object[] bind(Map<Long, Counts> totals) {
+        List<Object> args = new ArrayList<>(totals.size() * 5);
+        totals.forEach((postId, counts) -> {
+            args.add(postId);
+            args.add(counts.likes());
+        });
+        totals.forEach((postId, counts) -> {
+            args.add(postId);
+            args.add(counts.comments());
+        });
+        args.addAll(totals.keySet());
+        return args.toArray();
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private record Cached(Counts counts, long loadedAt, long generation) {
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.backend.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.common.constant.PostConstants;
+import com.example.backend.config.properties.PostProperties;
+import com.example.backend.entity.PostEntity;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 게시글 순위 (메모리 top-K)
+ * - 점수 = ln(1 + 좋아요·댓글·조회 가중합) + ln2 × 작성 시각(시간) / half-life
+ *   = (1 + 가중합) × 2^(-경과 시간 / half-life) 의 로그에 시각과 무관한 상수를 더한 값이라,
+ *   새 반응이 없으면 게시글 사이 순서가 시간이 지나도 바뀌지 않는다. (반응이 있을 때만 재계산)
+ * - post.ranking.rebuild-interval-ms 마다 최근 lookback-days 게시글을 DB 에서 훑어 크기 top-K 최소 힙으로 다시 뽑는다.
+ * - 그 사이 상세 조회(offer)·좋아요/댓글 증가(adjust)·수정/삭제(offer/remove)는 메모리 순위에 바로 반영한다.
+ *   재구성이 DB 를 훑는 동안 들어온 변경은 따로 기록해 두었다가 새 순위로 바꾼 직후 다시 적용한다.
+ *   순위 밖 게시글의 좋아요/댓글 증가는 기준 값을 몰라 다음 상세 조회나 재구성 때 반영된다.
+ * - 조회는 DB 정렬 없이 메모리 순위에서 (점수, post_id) 키 다음부터 잘라 준다. (다중 인스턴스에서는 인스턴스마다 따로 유지)
+ *   위치(offset)가 아니라 키로 이어 읽으므로 앞 페이지 게시글이 빠져도 다음 페이지가 밀리지 않는다.
+ * - 기동 직후 스케줄 작업이 처음 만들고, 그 전에 온 조회는 재구성 잠금을 기다린다. (동시 첫 조회가 각자 DB 를 훑지 않음)
+ */
+@Slf4j
+@Service
+public class PostRankingService {
+
+    private static final double LN2 = Math.log(2);
+    private static final String REBUILD_SQL = """
+            SELECT p.post_id, p.created_at,
+                   p.like_count + COALESCE(s.likes, 0), p.comment_count + COALESCE(s.comments, 0), p.view_count
+            FROM posts p
+            LEFT JOIN (SELECT post_id,
+                              SUM(CASE counter WHEN 'LIKE' THEN value ELSE 0 END) AS likes,
+                              SUM(CASE counter WHEN 'COMMENT' THEN value ELSE 0 END) AS comments
+                       FROM post_counter_shards GROUP BY post_id) s ON s.post_id = p.post_id
+            WHERE p.status = 'active' AND p.visibility = 'public' AND p.created_at >= ?
+            """;
+
+    /** 점수 높은 순, 같으면 최신(post_id 큰) 순 */
+    private static final Comparator<Entry> RANK = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostViewCounter postViewCounter;
+    private final PostProperties.Ranking config;
+
+    private final TreeSet<Entry> ranked = new TreeSet<>(RANK);
+    private final Map<Long, Entry> byId = new HashMap<>();
+    private final Object rebuildLock = new Object();
+    private volatile boolean built;
+    /** 재구성 중(DB 스캔 ~ 교체) 들어온 변경. 재구성 중이 아니면 null (this 로 보호) */
+    private List<Runnable> changesDuringRebuild;
+
+    public PostRankingService(JdbcTemplate jdbcTemplate, PostViewCounter postViewCounter,
+                              PostProperties postProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postViewCounter = postViewCounter;
+        this.config = postProperties.getRanking();
+
+        Gauge.builder("post.ranking.size", this, PostRankingService::size)
+                .description("메모리 인기 순위에 있는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /** 순위 키 (점수 높은 순, 같으면 post_id 큰 순) */
+    public record Ranked(long postId, double score) {
+    }
+
+    /**
+     * after 다음 순위부터 최대 limit 건 (after 가 null 이면 1위부터)
+     * - after 게시글이 그 사이 순위에서 빠졌어도 같은 키 다음부터 이어진다.
+     * - 아직 한 번도 만들지 않았으면 한 스레드만 DB 로 만들고 나머지는 기다린다.
+     */
+    public List<Ranked> page(Ranked after, int limit) {
+        if (!built) {
+            synchronized (rebuildLock) {
+                if (!built) {
+                    rebuild();
+                }
+            }
+        }
+        synchronized (this) {
+            Collection<Entry> from = after == null
+                    ? ranked
+                    : ranked.tailSet(new Entry(after.postId(), 0, 0, 0, 0, after.score()), false);
+            List<Ranked> page = new ArrayList<>(Math.min(limit, from.size()));
+            for (Entry entry : from) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                page.add(new Ranked(entry.postId(), entry.score()));
+            }
+            return page;
+        }
+    }
+
+    public synchronized int size() {
+        return ranked.size();
+    }
+
+    /** 게시글의 현재 값으로 점수를 다시 매긴다. (순위 밖이면 최하위보다 높을 때만 들어간다) */
+    public void offer(Long postId, LocalDateTime createdAt, long likes, long comments, long views) {
+        if (postId == null || createdAt == null) {
+            return;
+        }
+        Entry entry = new Entry(postId, hoursOf(createdAt), likes, comments, views, 0).scored(config);
+        apply(() -> put(entry));
+    }
+
+    /** 게시글 저장/수정 후: 공개·활성이면 엔티티 값으로 offer, 아니면 순위에서 제거 */
+    public void offer(PostEntity post) {
+        if (PostConstants.Visibility.PUBLIC.equals(post.getVisibility())
+                && PostConstants.Status.ACTIVE.equals(post.getStatus())) {
+            offer(post.getPostId(), post.getCreatedAt(), count(post.getLikeCount()),
+                    count(post.getCommentCount()), count(post.getViewCount()));
+        } else {
+            remove(post.getPostId());
+        }
+    }
+
+    /** 순위에 있는 게시글의 좋아요/댓글 수 변화 반영 */
+    public void adjust(Long postId, long likesDelta, long commentsDelta) {
+        if (postId == null) {
+            return;
+        }
+        apply(() -> {
+            Entry entry = byId.get(postId);
+            if (entry != null) {
+                put(new Entry(postId, entry.createdHours(), entry.likes() + likesDelta,
+                        entry.comments() + commentsDelta, entry.views(), 0).scored(config));
+            }
+        });
+    }
+
+    public void remove(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        apply(() -> {
+            Entry entry = byId.remove(postId);
+            if (entry != null) {
+                ranked.remove(entry);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${post.ranking.rebuild-interval-ms:300000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위 재구성 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 lookback-days 공개 게시글을 훑어 top-K 만 남긴다.
+     * - 크기 K 최소 힙(가장 낮은 점수가 머리)에 넣고 넘치면 머리를 버리므로 메모리는 K 건으로 고정된다.
+     * - 좋아요/댓글은 posts 값 + 분산 카운터 슬롯 합계, 조회수는 DB 값 + 미반영분
+     * - 스캔은 잠금 밖에서 하므로, 그동안의 offer/adjust/remove 는 기록했다가 교체 직후 순서대로 다시 적용한다.
+     *   (스캔이 이미 읽은 좋아요/댓글 증가가 한 번 더 더해질 수 있지만 다음 재구성 때 DB 값으로 맞춰진다)
+     * @return 순위에 담은 게시글 수
+     */
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            return rebuildLocked();
+        }
+    }
+
+    private int rebuildLocked() {
+        int topK = Math.max(1, config.getTopK());
+        PriorityQueue<Entry> heap = new PriorityQueue<>(topK + 1, RANK.reversed());
+        LocalDateTime since = LocalDateTime.now().minusDays(config.getLookbackDays());
+
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        int replayed;
+        try {
+            jdbcTemplate.query(REBUILD_SQL, rs -> {
+                heap.add(new Entry(rs.getLong(1), hoursOf(rs.getTimestamp(2).toLocalDateTime()),
+                        rs.getLong(3), rs.getLong(4), rs.getLong(5), 0).scored(config));
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            }, since);
+
+            synchronized (this) {
+                ranked.clear();
+                byId.clear();
+                for (Entry entry : heap) {
+                    Entry live = new Entry(entry.postId(), entry.createdHours(), entry.likes(), entry.comments(),
+                            entry.views() + postViewCounter.pending(entry.postId()), 0).scored(config);
+                    ranked.add(live);
+                    byId.put(live.postId(), live);
+                }
+                replayed = changesDuringRebuild.size();
+                changesDuringRebuild.forEach(Runnable::run);
+                built = true;
+            }
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+        log.debug("인기 게시글 순위 재구성 - posts: {}, replayed: {}", heap.size(), replayed);
+        return heap.size();
+    }
+
+    /** 변경을 지금 순위에 적용하고, 재구성 중이면 교체 후 다시 적용하도록 기록한다. */
+    private synchronized void apply(Runnable change) {
+        change.run();
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private void put(Entry entry) {
+        Entry old = byId.remove(entry.postId());
+        if (old != null) {
+            ranked.remove(old);
+        }
+        ranked.add(entry);
+        byId.put(entry.postId(), entry);
+        if (ranked.size() > Math.max(1, config.getTopK())) {
+            byId.remove(ranked.pollLast().postId());
+        }
+    }
+
+    private static double hoursOf(LocalDateTime at) {
+        return at.toEpochSecond(ZoneOffset.UTC) / 3600.0;
+    }
+
+    private static long count(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private record Entry(long postId, double createdHours, long likes, long comments, long views, double score) {
+        Entry scored(PostProperties.Ranking config) {
+            double engagement = config.getLikeWeight() * likes
+                    + config.getCommentWeight() * comments
+                    + config.getViewWeight() * views;
+            double halfLife = config.getHalfLifeHours() > 0 ? config.getHalfLifeHours() : 24;
+            double score = Math.log1p(Math.max(0, engagement)) + LN2 * createdHours / halfLife;
+            return new Entry(postId, createdHours, likes, comments, views, score);
+        }
+    }
+}
@@ -2,15 +2,27 @@ package com.example.backend.service;
 
 import static com.example.backend.common.constant.PostConstants.Visibility.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.backend.common.constant.PostConstants;
 import com.example.backend.common.error.BadRequestException;
 import com.example.backend.common.error.ForbiddenException;
 import com.example.backend.common.error.NotFoundException;
+import com.example.backend.common.util.CursorCodec;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.dto.post.CreateRequest;
 import com.example.backend.dto.post.Detail;
 import com.example.backend.dto.post.Summary;
@@ -32,6 +44,9 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostMapper postMapper; // ✅ PostMapper 주입
+    private final PostViewCounter postViewCounter;
+    private final PostCounterService postCounterService;
+    private final PostRankingService postRankingService;
 
     @Transactional
     public Detail createPost(CreateRequest request, String userEmail) {
@@ -47,6 +62,7 @@ public class PostService {
         // ✅ PostMapper 사용 (기존 로직과 완전히 동일한 결과)
         PostEntity post = postMapper.toEntity(request, user);
         PostEntity savedPost = postRepository.save(post);
+        afterCommit(() -> postRankingService.offer(savedPost));
 
         log.info("게시글 생성 완료 - ID: {}, 사용자: {}", savedPost.getPostId(), userEmail);
 
@@ -69,6 +85,7 @@ public class PostService {
         updatePostFields(post, request); // ✅ 기존 로직 유지
 
         PostEntity updatedPost = postRepository.save(post);
+        afterCommit(() -> postRankingService.offer(updatedPost)); // 비공개로 바뀌면 인기 순위에서 제거
         log.info("게시글 수정 완료 - ID: {}, 수정자: {}", postId, userEmail);
 
         // ✅ PostMapper 사용
@@ -88,40 +105,61 @@ public class PostService {
 
         validateUserPermission(post, userEmail, "삭제"); // ✅ 기존 로직 유지
         postRepository.deleteById(postId);
+        afterCommit(() -> postRankingService.remove(postId));
 
         log.info("게시글 삭제 완료 - ID: {}, 삭제자: {}", postId, userEmail);
     }
 
+    // ================== 목록: 키셋 페이지 (created_at, post_id) 최신순 ==================
+    // LIMIT size+1 만 읽고, nextCursor 로 더 오래된 게시글을 이어서 조회한다.
+
     @Transactional(readOnly = true)
-    public List<Detail> getAllPosts() {
-        List<PostEntity> posts = postRepository.findAllByOrderByCreatedAtDesc();
-        log.debug("[Post#list] found {} posts", posts.size());
+    public CursorPage<Detail> getAllPosts(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        PostCursor at = PostCursor.decodeOrNull(cursor);
 
-        // ✅ PostMapper 사용 (기존 stream().map() 로직과 완전히 동일)
-        return postMapper.toDetailList(posts, userRepository);
+        List<PostEntity> rows = at == null
+            ? postRepository.findPage(limit)
+            : postRepository.findPageBefore(at.createdAt(), at.postId(), limit);
+        log.debug("[Post#list] size: {}, found {} posts", pageSize, rows.size());
+
+        return toPage(rows, pageSize, at != null, posts -> withLiveCounts(postMapper.toDetailList(posts, userRepository)));
     }
 
     @Transactional(readOnly = true)
-    public List<Summary> getPublicPosts() {
-        List<PostEntity> posts = postRepository.findByVisibilityOrderByCreatedAtDesc(PUBLIC);
-        log.debug("[Post#publicList] found {} public posts", posts.size());
-
-        // ✅ PostMapper 사용 (기존 stream().map() 로직과 완전히 동일)
-        return postMapper.toSummaryList(posts, userRepository);
+    public CursorPage<Summary> getPublicPosts(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        PostCursor at = PostCursor.decodeOrNull(cursor);
+
+        List<PostEntity> rows = at == null
+            ? postRepository.findPageByVisibility(PUBLIC, limit)
+            : postRepository.findPageByVisibilityBefore(PUBLIC, at.createdAt(), at.postId(), limit);
+        log.debug("[Post#publicList] size: {}, found {} public posts", pageSize, rows.size());
+
+        return toPage(rows, pageSize, at != null,
+            posts -> withLiveSummaryCounts(postMapper.toSummaryList(posts, userRepository)));
     }
 
     @Transactional(readOnly = true)
-    public List<Detail> getPostsByUser(String userEmail) {
+    public CursorPage<Detail> getPostsByUser(String userEmail, String cursor, Integer size) {
         if (userEmail == null || userEmail.isBlank()) {
             throw new BadRequestException("사용자 이메일은 필수입니다.", "MISSING_USER_EMAIL", "userEmail");
         }
 
-        UserEntity user = userRepository.findByEmail(userEmail).orElse(null);
-        List<PostEntity> posts = postRepository.findByUserIdOrderByCreatedAtDesc(user.getUserId());
-        log.debug("[Post#userList] userEmail: {}, found {} posts", userEmail, posts.size());
+        UserEntity user = userRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다.", "USER_NOT_FOUND", "userEmail"));
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        PostCursor at = PostCursor.decodeOrNull(cursor);
 
-        // ✅ PostMapper 사용 (기존 stream().map() 로직과 완전히 동일)
-        return postMapper.toDetailList(posts, userRepository);
+        List<PostEntity> rows = at == null
+            ? postRepository.findPageByUserId(user.getUserId(), limit)
+            : postRepository.findPageByUserIdBefore(user.getUserId(), at.createdAt(), at.postId(), limit);
+        log.debug("[Post#userList] userEmail: {}, size: {}, found {} posts", userEmail, pageSize, rows.size());
+
+        return toPage(rows, pageSize, at != null, posts -> withLiveCounts(postMapper.toDetailList(posts, userRepository)));
     }
 
     @Transactional(readOnly = true)
@@ -130,14 +168,58 @@ public class PostService {
             return Optional.empty();
         }
 
+        Optional<PostEntity> post = postRepository.findById(postId);
         // ✅ PostMapper 사용 (기존 map(this::mapToDetail) 로직과 완전히 동일)
-        Optional<Detail> result = postRepository.findById(postId)
-            .map(post -> postMapper.toDetail(post, userRepository));
+        Optional<Detail> result = post.map(p -> postMapper.toDetail(p, userRepository));
+        result.ifPresent(detail -> {
+            postViewCounter.record(postId); // 메모리 집계만 (DB 쓰기 없음)
+            withLiveCounts(List.of(detail));
+            if (PUBLIC.equals(detail.getVisibility()) && PostConstants.Status.ACTIVE.equals(post.get().getStatus())) {
+                postRankingService.offer(postId, detail.getCreatedAt(),
+                    detail.getLikeCount(), detail.getCommentCount(), detail.getViewCount());
+            }
+        });
 
         log.debug("[Post#detail] postId: {}, found: {}", postId, result.isPresent());
         return result;
     }
 
+    // ================== 인기 게시글: 메모리 순위 (PostRankingService) ==================
+    // DB 정렬 없이 순위 구간의 id 만 받아 PK 로 읽는다. nextCursor 는 마지막 항목의 순위 키(점수, postId).
+
+    @Transactional(readOnly = true)
+    public CursorPage<Summary> getPopularPosts(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        PostRankingService.Ranked after = decodeRankCursor(cursor);
+
+        List<PostRankingService.Ranked> ranks = postRankingService.page(after, pageSize + 1);
+        boolean more = ranks.size() > pageSize;
+        List<PostRankingService.Ranked> pageRanks = more ? ranks.subList(0, pageSize) : ranks;
+        if (pageRanks.isEmpty()) {
+            return CursorPage.empty();
+        }
+        List<Long> pageIds = pageRanks.stream().map(PostRankingService.Ranked::postId).toList();
+
+        Map<Long, PostEntity> found = postRepository.findAllById(pageIds).stream()
+            .collect(Collectors.toMap(PostEntity::getPostId, Function.identity()));
+        List<PostEntity> posts = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            PostEntity post = found.get(id);
+            if (post != null && PUBLIC.equals(post.getVisibility()) && PostConstants.Status.ACTIVE.equals(post.getStatus())) {
+                posts.add(post);
+            } else {
+                postRankingService.remove(id); // 재구성 전에 삭제/비공개된 게시글
+            }
+        }
+        log.debug("[Post#popular] after: {}, size: {}, found {} posts", after, pageSize, posts.size());
+
+        // 다음 페이지는 이 페이지 마지막 순위 키 다음부터 (빠진 게시글이 있어도 위치가 밀리지 않음)
+        PostRankingService.Ranked last = pageRanks.get(pageRanks.size() - 1);
+        String nextCursor = more ? CursorCodec.encode(last.score(), last.postId()) : null;
+        return new CursorPage<>(withLiveSummaryCounts(postMapper.toSummaryList(posts, userRepository)),
+            null, nextCursor, after != null, more);
+    }
+
     @Transactional(readOnly = true)
     public long getPostCountByVisibility(String userEmail, String visibility) {
         if (userEmail == null || userEmail.isBlank()) {
@@ -160,7 +242,77 @@ public class PostService {
         return postMapper.toSummaryList(posts, userRepository);
     }
 
-    // ================== private helpers (변경 없음) ==================
+    // ================== private helpers ==================
+
+    /** 인기 순위 같은 메모리 상태는 커밋된 변경만 반영한다. (롤백되면 적용하지 않음, 트랜잭션 밖이면 바로 적용) */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /** size+1 건 중 앞 size 건을 DTO 로 바꾸고, 더 있으면 마지막 게시글 위치를 nextCursor 로 */
+    private static <T> CursorPage<T> toPage(List<PostEntity> rows, int pageSize, boolean hasCursor,
+                                            Function<List<PostEntity>, List<T>> mapper) {
+        boolean more = rows.size() > pageSize;
+        List<PostEntity> page = more ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return CursorPage.empty();
+        }
+        String nextCursor = more ? PostCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(page), null, nextCursor, hasCursor, more);
+    }
+
+    /** 아직 posts 에 반영되지 않은 조회수/좋아요/댓글 수를 더해 즉시 반영된 것처럼 보이게 한다. */
+    private List<Detail> withLiveCounts(List<Detail> details) {
+        Map<Long, PostCounterService.Counts> pending = postCounterService.pending(details.stream().map(Detail::getId).toList());
+        details.forEach(d -> {
+            PostCounterService.Counts counts = pending.getOrDefault(d.getId(), PostCounterService.Counts.ZERO);
+            d.setViewCount(d.getViewCount() + postViewCounter.pending(d.getId()));
+            d.setLikeCount(d.getLikeCount() + (int) counts.likes());
+            d.setCommentCount(d.getCommentCount() + (int) counts.comments());
+        });
+        return details;
+    }
+
+    private List<Summary> withLiveSummaryCounts(List<Summary> summaries) {
+        Map<Long, PostCounterService.Counts> pending = postCounterService.pending(summaries.stream().map(Summary::getId).toList());
+        summaries.forEach(s -> {
+            PostCounterService.Counts counts = pending.getOrDefault(s.getId(), PostCounterService.Counts.ZERO);
+            s.setViewCount(s.getViewCount() + postViewCounter.pending(s.getId()));
+            s.setLikeCount(s.getLikeCount() + (int) counts.likes());
+            s.setCommentCount(s.getCommentCount() + (int) counts.comments());
+        });
+        return summaries;
+    }
+
+    /** 인기 게시글 커서 = 순위 키 (점수, postId) */
+    private static PostRankingService.Ranked decodeRankCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        return CursorCodec.decode(token, 2, keys -> {
+            double score = Double.parseDouble(keys[0]);
+            if (!Double.isFinite(score)) {
+                throw new IllegalArgumentException("non-finite score");
+            }
+            return new PostRankingService.Ranked(Long.parseLong(keys[1]), score);
+        });
+    }
+
+    private static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return PostConstants.Paging.DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, PostConstants.Paging.MAX_PAGE_SIZE));
+    }
 
     private void updatePostFields(PostEntity post, UpdateRequest request) {
         if (request.getTitle() != null) {
@@ -195,4 +347,23 @@ public class PostService {
 
         log.debug("게시글 {} 권한 확인 완료 - 사용자: {}, 게시글: {}", action, userEmail, post.getPostId());
     }
+
+    /** 게시글 목록 커서 = (created_at, post_id) */
+    private record PostCursor(LocalDateTime createdAt, Long postId) {
+        static PostCursor of(PostEntity post) {
+            return new PostCursor(post.getCreatedAt(), post.getPostId());
+        }
+
+        static PostCursor decodeOrNull(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            return CursorCodec.decode(token, 2,
+                keys -> new PostCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+        }
+
+        String encode() {
+            return CursorCodec.encode(createdAt, postId);
+        }
+    }
 }
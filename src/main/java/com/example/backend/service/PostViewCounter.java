@@ -0,0 +1,166 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.config.properties.PostProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 write-coalescing 집계기
+ * - 조회 요청은 postId 별 LongAdder 를 올리기만 한다. (DB 쓰기/행 잠금 없음, 같은 게시글 동시 조회도 셀이 나뉘어 경합이 적다)
+ * - post.views.flush-interval-ms 마다 모인 증가분을 UPDATE ... CASE 1문장(flush-batch-size 건씩)으로 반영하고, 실패하면 증가분을 되돌려 다음 주기에 재시도한다.
+ * - 종료 시 웹 서버가 먼저 멈춘 뒤(phase 가 더 낮음) 남은 증가분을 플러시한다.
+ * - 조회 응답은 DB 값 + pending(postId) 로 보여 플러시 주기와 무관하게 즉시 반영된 것처럼 보인다.
+ * - 다중 인스턴스에서는 인스턴스마다 따로 모아 더하므로 합계는 맞고, 다른 인스턴스의 미반영분만 늦게 보인다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter implements SmartLifecycle {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostProperties.Views config;
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final Counter recordedCounter;
+    private final Counter flushedCounter;
+
+    private volatile boolean running;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PostProperties postProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = postProperties.getViews();
+
+        this.recordedCounter = Counter.builder("post.views.recorded")
+                .description("집계한 조회 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("post.views.flushed")
+                .description("DB 에 반영한 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("post.views.pending_posts", pending, Map::size)
+                .description("미반영 증가분이 있는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /** 조회 1건 기록 (DB 접근 없음) */
+    public void record(Long postId) {
+        if (!config.isEnabled() || postId == null) {
+            return;
+        }
+        add(postId, 1);
+        recordedCounter.increment();
+    }
+
+    /** 아직 DB 에 반영되지 않은 증가분 */
+    public long pending(Long postId) {
+        LongAdder adder = postId == null ? null : pending.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        if (running) {
+            flush();
+        }
+    }
+
+    /**
+     * 모인 증가분을 DB 에 반영
+     * - postId 별 sumThenReset 으로 가져가며, 그 사이 들어온 조회는 다음 플러시에 포함된다.
+     * - 증가분이 0 인 항목은 맵에서 제거한다. (제거 직전 LongAdder 를 받아 간 조회 1건이 빠질 수 있는 드문 경합은 허용)
+     * @return 반영한 조회 수
+     */
+    public synchronized long flush() {
+        List<long[]> deltas = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.add(new long[]{postId, delta});
+            } else {
+                pending.remove(postId, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int batchSize = Math.max(1, config.getFlushBatchSize());
+        long flushed = 0;
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<long[]> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                jdbcTemplate.update(updateSql(batch.size()), bind(batch));
+                flushed += batch.stream().mapToLong(d -> d[1]).sum();
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패 - posts: {}, error: {}", batch.size(), e.getMessage());
+                batch.forEach(d -> add(d[0], d[1])); // 다음 주기에 재시도
+            }
+        }
+        flushedCounter.increment(flushed);
+        log.debug("조회수 반영 - posts: {}, views: {}", deltas.size(), flushed);
+        return flushed;
+    }
+
+    private void add(long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /** UPDATE posts SET view_count = view_count + CASE post_id WHEN ? THEN ? ... END WHERE post_id IN (?, ...) */
+    private static String updateSql(int size) {
+        return "UPDATE posts SET view_count = view_count + CASE post_id "
+                + String.join(" ", Collections.nCopies(size, "WHEN ? THEN ?"))
+                + " ELSE 0 END WHERE post_id IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+
+    private static Object[] bind(List<long[]> batch) {
+        Object[] args = new Object[batch.size() * 3];
+        int i = 0;
+        for (long[] d : batch) {
+            args[i++] = d[0];
+            args[i++] = d[1];
+        }
+        for (long[] d : batch) {
+            args[i++] = d[0];
+        }
+        return args;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long flushed = flush();
+        log.info("조회수 집계기 종료 - 남은 조회수 반영: {}", flushed);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버(graceful shutdown) 보다 늦게 멈추도록 더 낮은 phase */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.common.error.BadRequestException;
+import com.example.backend.common.util.CursorCodec;
+import com.example.backend.common.util.RiskLevelClassifier;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
+import com.example.backend.dto.common.CursorPage;
+import com.example.backend.entity.ChatSessionEntity;
+import com.example.backend.entity.RiskTimelineEntity;
+import com.example.backend.repository.ChatSessionRepository;
+import com.example.backend.repository.RiskTimelineRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 위험도 타임라인 (risk_timeline)
+ * - 세션 저장/수정 시 같은 트랜잭션에서 record 로 1행을 갱신하므로, 조회 시 세션 전체를 다시 읽거나 위험요인 문자열을 해석하지 않는다.
+ * - 기존 세션은 backfill 로 한 번 반영 (chat.risk-timeline.backfill-cron)
+ * - 조회는 기간 필터 + 키셋 커서 페이지 (최신순)
+ */
+@Slf4j
+@Service
+public class RiskTimelineService {
+
+    private static final String MESSAGE_INVALID_RANGE = "조회 시작일은 종료일보다 늦을 수 없습니다.";
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private final RiskTimelineRepository riskTimelineRepository;
+    private final ChatSessionRepository chatSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatProperties.RiskTimeline config;
+
+    public RiskTimelineService(RiskTimelineRepository riskTimelineRepository,
+                               ChatSessionRepository chatSessionRepository,
+                               PlatformTransactionManager transactionManager,
+                               ChatProperties chatProperties) {
+        this.riskTimelineRepository = riskTimelineRepository;
+        this.chatSessionRepository = chatSessionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = chatProperties.getRiskTimeline();
+    }
+
+    /**
+     * 세션의 위험요인을 정규화해 타임라인에 반영 (세션 저장 트랜잭션 안에서 호출)
+     * - upsert 1문장이라 사전 조회가 없고, occurred_at 은 세션 행의 created_at 이다. (갱신 경로의 엔티티에는 created_at 이 없음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChatSessionEntity session) {
+        riskTimelineRepository.upsertAll(List.of(toTimeline(session)));
+    }
+
+    @Transactional
+    public void remove(Collection<String> sessionIds) {
+        if (!sessionIds.isEmpty()) {
+            riskTimelineRepository.deleteAllBySessionIdIn(sessionIds);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<RiskTimelineEntry> getUserTimeline(String userEmail, LocalDate from, LocalDate to,
+                                                         String cursor, Integer size) {
+        validateRange(from, to);
+        LocalDateTime start = startOf(from);
+        LocalDateTime end = endOf(to);
+        return page(cursor, size,
+                limit -> riskTimelineRepository.findUserPage(userEmail, start, end, limit),
+                (at, limit) -> riskTimelineRepository.findUserPageBefore(userEmail, start, end, at.occurredAt(), at.sessionId(), limit));
+    }
+
+    /** 사용자의 가장 최근 위험도 (없으면 빈 값) */
+    @Transactional(readOnly = true)
+    public Optional<RiskTimelineEntry> getLatest(String userEmail) {
+        return riskTimelineRepository.findLatestByUser(userEmail, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /** 관리자 분류 화면: minLevel 이상인 세션 전체 (사용자 무관) */
+    @Transactional(readOnly = true)
+    public CursorPage<RiskTimelineEntry> getTriagePage(RiskLevel minLevel, LocalDate from, LocalDate to,
+                                                       String cursor, Integer size) {
+        validateRange(from, to);
+        List<RiskLevel> levels = (minLevel == null ? RiskLevel.HIGH : minLevel).andAbove();
+        LocalDateTime start = startOf(from);
+        LocalDateTime end = endOf(to);
+        return page(cursor, size,
+                limit -> riskTimelineRepository.findLevelPage(levels, start, end, limit),
+                (at, limit) -> riskTimelineRepository.findLevelPageBefore(levels, start, end, at.occurredAt(), at.sessionId(), limit));
+    }
+
+    /**
+     * 기존 세션 전체를 타임라인에 반영 (세션 id 키셋 순회, 청크마다 별도 트랜잭션)
+     * - chat.risk-timeline.backfill-cron 으로 주기 실행 가능 (기본 비활성화 "-")
+     */
+    @Scheduled(cron = "${chat.risk-timeline.backfill-cron:-}")
+    public int backfill() {
+        int chunkSize = Math.max(1, config.getBackfillChunkSize());
+        String after = "";
+        int recorded = 0;
+
+        while (true) {
+            List<String> sessionIds = chatSessionRepository.findSessionIdsAfter(after, PageRequest.of(0, chunkSize));
+            if (sessionIds.isEmpty()) {
+                break;
+            }
+            Integer chunk = transactionTemplate.execute(status -> backfillChunk(sessionIds));
+            recorded += chunk == null ? 0 : chunk;
+            after = sessionIds.get(sessionIds.size() - 1);
+        }
+
+        log.info("위험도 타임라인 백필 완료 - sessions: {}", recorded);
+        return recorded;
+    }
+
+    private int backfillChunk(List<String> sessionIds) {
+        List<RiskTimelineEntity> rows = chatSessionRepository.findAllById(sessionIds).stream()
+                .map(RiskTimelineService::toTimeline)
+                .toList();
+        riskTimelineRepository.upsertAll(rows);
+        return rows.size();
+    }
+
+    private static RiskTimelineEntity toTimeline(ChatSessionEntity session) {
+        RiskLevelClassifier.Classification risk =
+                RiskLevelClassifier.classify(session.getPrimaryRisk(), session.getRiskFactors());
+
+        RiskTimelineEntity row = new RiskTimelineEntity();
+        row.setSessionId(session.getSessionId());
+        row.setUserEmail(session.getUserEmail());
+        row.setRiskLevel(risk.level());
+        row.setRiskScore(risk.score());
+        row.setPrimaryRisk(risk.primaryRisk());
+        return row; // occurred_at 은 upsert 가 chat_sessions.created_at 에서 채운다.
+    }
+
+    private CursorPage<RiskTimelineEntry> page(String cursor, Integer size,
+                                               Function<Pageable, List<RiskTimelineEntry>> first,
+                                               PageQuery before) {
+        int pageSize = resolvePageSize(size);
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<RiskTimelineEntry> rows = hasCursor
+                ? before.find(TimelineCursor.decode(cursor), limit)
+                : first.apply(limit);
+
+        boolean more = rows.size() > pageSize;
+        List<RiskTimelineEntry> page = more ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        String nextCursor = more ? TimelineCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page, null, nextCursor, hasCursor, more);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return config.getDefaultPageSize();
+        }
+        return Math.max(1, Math.min(size, config.getMaxPageSize()));
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException(MESSAGE_INVALID_RANGE, "INVALID_DATE_RANGE", "from");
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate from) {
+        return from == null ? MIN_TIME : from.atStartOfDay();
+    }
+
+    /** 종료일 포함 → 다음 날 0시 미만 */
+    private static LocalDateTime endOf(LocalDate to) {
+        return to == null ? MAX_TIME : to.plusDays(1).atStartOfDay();
+    }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        List<RiskTimelineEntry> find(TimelineCursor at, Pageable limit);
+    }
+
+    /** 타임라인 커서 = (occurred_at, session_id) */
+    private record TimelineCursor(LocalDateTime occurredAt, String sessionId) {
+        static TimelineCursor of(RiskTimelineEntry entry) {
+            return new TimelineCursor(entry.occurredAt(), entry.sessionId());
+        }
+
+        static TimelineCursor decode(String token) {
+            return CursorCodec.decode(token, 2,
+                    keys -> new TimelineCursor(LocalDateTime.parse(keys[0]), keys[1]));
+        }
+
+        String encode() {
+            return CursorCodec.encode(occurredAt, sessionId);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KoreanNgramTokenizer 테스트")
+class KoreanNgramTokenizerTest {
+
+	@Test
+	@DisplayName("한글 구간은 bigram, 영문/숫자 구간은 소문자 단어")
+	void tokenize_mixedScripts() {
+		assertThat(KoreanNgramTokenizer.tokenize("시험을 봤어요 TOEIC 900점!"))
+			.containsExactly("시험", "험을", "봤어", "어요", "toeic", "900", "점");
+	}
+
+	@Test
+	@DisplayName("한 글자 구간과 빈 입력")
+	void tokenize_singleCharAndEmpty() {
+		assertThat(KoreanNgramTokenizer.tokenize("나 ok")).containsExactly("나", "ok");
+		assertThat(KoreanNgramTokenizer.tokenize(null)).isEmpty();
+		assertThat(KoreanNgramTokenizer.tokenize("  ...  ")).isEmpty();
+	}
+}
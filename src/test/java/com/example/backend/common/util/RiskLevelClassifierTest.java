@@ -0,0 +1,43 @@
+package com.example.backend.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.common.util.RiskLevelClassifier.Classification;
+import com.example.backend.dto.chat.RiskLevel;
+
+@DisplayName("RiskLevelClassifier 테스트")
+class RiskLevelClassifierTest {
+
+	@Test
+	@DisplayName("0.0~1.0 점수와 백분율 중 최댓값으로 수준 결정, 점수 목록이 아닌 쪽을 대표 위험요인으로")
+	void classify_byMaxScore() {
+		Classification json = RiskLevelClassifier.classify("{\"불면\": 0.3, \"대인관계\": 0.55}", "대인관계 갈등");
+		assertThat(json.level()).isEqualTo(RiskLevel.MEDIUM);
+		assertThat(json.score()).isEqualTo(0.55);
+		assertThat(json.primaryRisk()).isEqualTo("대인관계 갈등");
+
+		Classification percent = RiskLevelClassifier.classify("학업 스트레스", "학업: 80%, 수면: 20%");
+		assertThat(percent.level()).isEqualTo(RiskLevel.HIGH);
+		assertThat(percent.score()).isEqualTo(0.8);
+		assertThat(percent.primaryRisk()).isEqualTo("학업 스트레스");
+	}
+
+	@Test
+	@DisplayName("점수가 낮아도 위험 키워드가 있으면 수준을 올림")
+	void classify_keywordRaisesLevel() {
+		Classification result = RiskLevelClassifier.classify("자해 사고", "자해: 0.2");
+		assertThat(result.level()).isEqualTo(RiskLevel.HIGH);
+		assertThat(result.score()).isEqualTo(0.2);
+	}
+
+	@Test
+	@DisplayName("점수 없는 텍스트는 LOW, 빈 값은 NONE")
+	void classify_withoutScores() {
+		assertThat(RiskLevelClassifier.classify("진로 고민", null).level()).isEqualTo(RiskLevel.LOW);
+		assertThat(RiskLevelClassifier.classify(null, "  ").level()).isEqualTo(RiskLevel.NONE);
+		assertThat(RiskLevelClassifier.classify("휴식: 0.0", null).level()).isEqualTo(RiskLevel.NONE);
+	}
+}
@@ -34,7 +34,11 @@ import com.example.backend.dto.admin.AdminUserDetail;
 import com.example.backend.dto.admin.AdminUserRow;
 import com.example.backend.dto.admin.AdminUserSearchRequest;
 import com.example.backend.dto.admin.DailyMetricPoint;
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.service.AdminQueryService;
+import com.example.backend.service.RiskTimelineService;
 
 @WebMvcTest(
     controllers = AdminController.class,
@@ -58,6 +62,9 @@ class AdminControllerTest {
     @MockitoBean
     private AdminQueryService adminQueryService;
 
+    @MockitoBean
+    private RiskTimelineService riskTimelineService;
+
     @Test
     @DisplayName("ADMIN 역할 없이 접근 시 403 Forbidden 응답")
     @WithMockUser(roles = "USER")
@@ -289,4 +296,20 @@ class AdminControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.data.content").isArray());
     } // PageImpl + Pageable 명시 [2]
+
+    @WithMockUser(roles = "ADMIN")
+    @Test
+    @DisplayName("GET /api/admin/risk-timeline(minLevel,from,to) → 200 + 커서 페이지")
+    void riskTimeline_ok() throws Exception {
+        var entry = new RiskTimelineEntry("s-1", "u@test.com", RiskLevel.HIGH, 0.9, "자해 사고",
+            java.time.LocalDateTime.of(2025, 3, 2, 9, 0));
+        given(riskTimelineService.getTriagePage(RiskLevel.MEDIUM, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 7), null, null))
+            .willReturn(new CursorPage<>(List.of(entry), null, "next", false, true));
+
+        mockMvc.perform(get("/api/admin/risk-timeline")
+                .param("minLevel", "MEDIUM").param("from", "2025-03-01").param("to", "2025-03-07"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items[0].userEmail").value("u@test.com"))
+            .andExpect(jsonPath("$.data.nextCursor").value("next"));
+    }
 }
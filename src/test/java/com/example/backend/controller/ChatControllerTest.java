@@ -8,18 +8,42 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.dto.chat.ChatMessageBatchResult;
+import com.example.backend.dto.chat.ChatMessageChunkRequest;
+import com.example.backend.dto.chat.ChatBootstrap;
+import com.example.backend.dto.chat.ChatContextWindow;
 import com.example.backend.dto.chat.ChatMessageDto;
 import com.example.backend.dto.chat.ChatMessageRequest;
+import com.example.backend.dto.chat.ChatMessageStreamState;
 import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.dto.chat.ChatSearchHit;
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.dto.chat.ChatSessionBulkDeleteRequest;
+import com.example.backend.dto.chat.ChatSessionBulkDeleteResult;
 import com.example.backend.dto.chat.ChatSessionDto;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
 import com.example.backend.dto.chat.SessionRequest;
+import com.example.backend.dto.common.CursorDirection;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.entity.ChatMessageEntity;
 import com.example.backend.entity.ChatSessionEntity;
 import com.example.backend.security.ChatAuth;
 import com.example.backend.security.SecurityUtil;
+import com.example.backend.service.ChatBootstrapService;
+import com.example.backend.service.ChatEventHub;
+import com.example.backend.service.ChatExportService;
+import com.example.backend.service.ChatMessageStreamService;
+import com.example.backend.service.ChatSearchService;
 import com.example.backend.service.ChatService;
 import com.example.backend.service.DailyMetricsService;
+import com.example.backend.service.RiskTimelineService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +99,24 @@ class ChatControllerTest {
     @MockitoBean
     ChatService chatService;
     
+    @MockitoBean
+    ChatExportService chatExportService;
+    
+    @MockitoBean
+    ChatSearchService chatSearchService;
+    
+    @MockitoBean
+    RiskTimelineService riskTimelineService;
+    
+    @MockitoBean
+    ChatEventHub chatEventHub;
+    
+    @MockitoBean
+    ChatBootstrapService chatBootstrapService;
+    
+    @MockitoBean
+    ChatMessageStreamService chatMessageStreamService;
+    
     @MockitoBean(name = "chatAuth")
     ChatAuth chatAuth;
     
@@ -159,6 +201,76 @@ class ChatControllerTest {
         then(chatService).should().saveMessage(any(ChatMessageRequest.class));
     }
     
+    @Test
+    @DisplayName("POST /api/chat/message/save (write-behind) → 202 + messageId 없음")
+    void saveMessage_writeBehind_accepted() throws Exception {
+        ChatMessageRequest request = ChatMessageRequest.builder()
+                .sessionId(SESSION_ID)
+                .messageType(ChatMessageType.USER)
+                .messageContent(USER_MESSAGE)
+                .build();
+        ChatMessageDto pending = new ChatMessageDto(null, SESSION_ID, ChatMessageType.USER, USER_MESSAGE,
+                null, null, null, LocalDateTime.now(), null);
+        
+        given(chatService.isWriteBehindEnabled()).willReturn(true);
+        given(chatService.enqueueMessage(any(ChatMessageRequest.class))).willReturn(pending);
+        
+        mvc.perform(post(BASE_URL + "/message/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.sessionId").value(SESSION_ID))
+                .andExpect(jsonPath("$.messageId").doesNotExist());
+        
+        then(chatService).should(never()).saveMessage(any());
+    }
+    
+    @Test
+    @DisplayName("POST /api/chat/message/save (대기열 초과) → 429 + Retry-After")
+    void saveMessage_writeBehind_queueFull_tooManyRequests() throws Exception {
+        ChatMessageRequest request = ChatMessageRequest.builder()
+                .sessionId(SESSION_ID)
+                .messageType(ChatMessageType.USER)
+                .messageContent(USER_MESSAGE)
+                .build();
+        
+        given(chatService.isWriteBehindEnabled()).willReturn(true);
+        given(chatService.enqueueMessage(any(ChatMessageRequest.class)))
+                .willThrow(new TooManyRequestsException("메시지 저장 대기열이 가득 찼습니다.", "WRITE_BEHIND_FULL", 2));
+        
+        mvc.perform(post(BASE_URL + "/message/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("WRITE_BEHIND_FULL"));
+    }
+    
+    @Test
+    @DisplayName("POST /api/chat/message/save/batch → 200 + 항목별 결과")
+    void saveMessages_batch_success() throws Exception {
+        ChatMessageRequest request = ChatMessageRequest.builder()
+                .sessionId(SESSION_ID)
+                .messageType(ChatMessageType.USER)
+                .messageContent(USER_MESSAGE)
+                .build();
+        
+        given(chatService.saveMessages(anyList())).willReturn(List.of(
+                ChatMessageBatchResult.saved(0, 10L),
+                ChatMessageBatchResult.rejected(1, "세션 ID는 필수입니다.")));
+        
+        mvc.perform(post(BASE_URL + "/message/save/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(request, new ChatMessageRequest()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("SAVED"))
+                .andExpect(jsonPath("$[0].messageId").value(10))
+                .andExpect(jsonPath("$[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$[1].error").value("세션 ID는 필수입니다."));
+        
+        then(chatService).should().saveMessages(anyList());
+    }
+    
     @Test
     @DisplayName("GET /api/chat/analysis/search → 이메일+이름으로 세션 조회")
     void getCounsellings_success() throws Exception {
@@ -230,6 +342,99 @@ class ChatControllerTest {
         then(chatService).should().getChatSessionsByUserEmail(USER_EMAIL);
     }
     
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/bootstrap → 프로필/최근 세션/최근 위험도 묶음 + missing")
+    void bootstrap_success() throws Exception {
+        given(securityUtil.requirePrincipalEmail(any())).willReturn(USER_EMAIL);
+        given(chatBootstrapService.load(USER_EMAIL)).willReturn(new ChatBootstrap(
+                new ChatBootstrap.UserContext("닉네임", 30, "불안", "수면 개선", "empathetic"),
+                List.of(),
+                null,
+                List.of(ChatBootstrap.LATEST_RISK)));
+        
+        mvc.perform(get(BASE_URL + "/bootstrap"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.profile.chatStyle").value("empathetic"))
+                .andExpect(jsonPath("$.data.recentSessions").isEmpty())
+                .andExpect(jsonPath("$.data.missing[0]").value("latestRisk"));
+        
+        then(chatBootstrapService).should().load(USER_EMAIL);
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/sessions/summaries → 경량 세션 목록 커서 페이지")
+    void getChatSessionSummaries_success() throws Exception {
+        ChatSessionSummaryDto summary = new ChatSessionSummaryDto(
+                SESSION_ID, LocalDateTime.now(), LocalDateTime.now(), "테스트 상담",
+                12, LocalDateTime.now(), USER_MESSAGE);
+        
+        given(securityUtil.requirePrincipalEmail(any())).willReturn(USER_EMAIL);
+        given(chatService.getSessionSummaryPage(USER_EMAIL, "c1", 20))
+                .willReturn(new CursorPage<>(List.of(summary), null, "c2", true, true));
+        
+        mvc.perform(get(BASE_URL + "/sessions/summaries")
+                        .param("cursor", "c1")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.items[0].sessionId").value(SESSION_ID))
+                .andExpect(jsonPath("$.data.items[0].summaryPreview").value("테스트 상담"))
+                .andExpect(jsonPath("$.data.items[0].messageCount").value(12))
+                .andExpect(jsonPath("$.data.items[0].lastMessagePreview").value(USER_MESSAGE))
+                .andExpect(jsonPath("$.data.items[0].emotions").doesNotExist())
+                .andExpect(jsonPath("$.data.nextCursor").value("c2"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+        
+        then(chatService).should(never()).getChatSessionsByUserEmail(any());
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/search → 로그인 사용자 기준 검색 결과")
+    void search_usesPrincipalEmail() throws Exception {
+        ChatSearchHit hit = new ChatSearchHit(SESSION_ID, 7L, ChatMessageType.USER,
+                LocalDateTime.of(2025, 3, 1, 10, 0), 2.5, "내일 시험이 걱정돼요");
+        
+        given(securityUtil.requirePrincipalEmail(any())).willReturn(USER_EMAIL);
+        given(chatSearchService.search(USER_EMAIL, "시험", 5)).willReturn(List.of(hit));
+        
+        mvc.perform(get(BASE_URL + "/search")
+                        .param("q", "시험")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data[0].sessionId").value(SESSION_ID))
+                .andExpect(jsonPath("$.data[0].messageId").value(7))
+                .andExpect(jsonPath("$.data[0].snippet").value("내일 시험이 걱정돼요"));
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/risk-timeline → 로그인 사용자 기준 기간 필터 페이지")
+    void riskTimeline_usesPrincipalEmailAndDateRange() throws Exception {
+        RiskTimelineEntry entry = new RiskTimelineEntry(SESSION_ID, USER_EMAIL, RiskLevel.HIGH, 0.8, "자해 사고",
+                LocalDateTime.of(2025, 3, 1, 10, 0));
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        
+        given(securityUtil.requirePrincipalEmail(any())).willReturn(USER_EMAIL);
+        given(riskTimelineService.getUserTimeline(USER_EMAIL, from, to, null, 10))
+                .willReturn(new CursorPage<>(List.of(entry), null, null, false, false));
+        
+        mvc.perform(get(BASE_URL + "/risk-timeline")
+                        .param("from", "2025-03-01")
+                        .param("to", "2025-03-31")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.items[0].sessionId").value(SESSION_ID))
+                .andExpect(jsonPath("$.data.items[0].riskLevel").value("HIGH"))
+                .andExpect(jsonPath("$.data.items[0].date").value("2025-03-01"));
+    }
+    
     @Test
     @WithMockUser(username = USER_EMAIL, roles = "USER")
     @DisplayName("GET /api/chat/messages/{sessionId} → ApiResponse<List<ChatMessageDto>>")
@@ -242,22 +447,111 @@ class ChatControllerTest {
                 null,
                 USER_EMAIL,
                 "default",
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                1L
         );
         
         given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
-        given(chatService.getMessagesBySessionId(SESSION_ID, USER_EMAIL))
-                .willReturn(List.of(dto));
+        given(chatService.getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, null))
+                .willReturn(new CursorPage<>(List.of(dto), "prev", "next", true, false));
         
         mvc.perform(get(BASE_URL + "/messages/{sessionId}", SESSION_ID)
                         .with(user(USER_EMAIL)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].sessionId").value(SESSION_ID))
-                .andExpect(jsonPath("$.data[0].userEmail").value(USER_EMAIL));
+                .andExpect(jsonPath("$.data.items[0].sessionId").value(SESSION_ID))
+                .andExpect(jsonPath("$.data.items[0].userEmail").value(USER_EMAIL))
+                .andExpect(jsonPath("$.data.prevCursor").value("prev"))
+                .andExpect(jsonPath("$.data.hasPrev").value(true));
         
         then(chatAuth).should().canAccessSession(SESSION_ID, USER_EMAIL);
-        then(chatService).should().getMessagesBySessionId(SESSION_ID, USER_EMAIL);
+        then(chatService).should().getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, null);
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/messages/{sessionId}?cursor&direction=after&size → 커서/방향/크기 전달")
+    void getMessages_withCursor_passesParameters() throws Exception {
+        given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
+        given(chatService.getMessagePage(SESSION_ID, USER_EMAIL, "abc", CursorDirection.AFTER, 20))
+                .willReturn(CursorPage.empty());
+        
+        mvc.perform(get(BASE_URL + "/messages/{sessionId}", SESSION_ID)
+                        .param("cursor", "abc")
+                        .param("direction", "after")
+                        .param("size", "20")
+                        .with(user(USER_EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isEmpty());
+        
+        then(chatService).should().getMessagePage(SESSION_ID, USER_EMAIL, "abc", CursorDirection.AFTER, 20);
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/sessions/{sessionId}/context?maxTokens → 요약 + 예산 내 메시지")
+    void getContextWindow_passesBudget() throws Exception {
+        ChatMessageDto dto = new ChatMessageDto(
+                1L, SESSION_ID, ChatMessageType.USER, USER_MESSAGE, null, USER_EMAIL, "default", LocalDateTime.now(), 1L);
+        given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
+        given(chatService.getContextWindow(SESSION_ID, USER_EMAIL, null, 500))
+                .willReturn(new ChatContextWindow(SESSION_ID, "요약", List.of(dto), 7, 4, true));
+        
+        mvc.perform(get(BASE_URL + "/sessions/{sessionId}/context", SESSION_ID)
+                        .param("maxTokens", "500")
+                        .with(user(USER_EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.summary").value("요약"))
+                .andExpect(jsonPath("$.data.messages[0].messageContent").value(USER_MESSAGE))
+                .andExpect(jsonPath("$.data.truncated").value(true));
+        
+        then(chatService).should().getContextWindow(SESSION_ID, USER_EMAIL, null, 500);
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/sessions/{sessionId}/sequence-gaps → 순번 빈 구간 목록")
+    void getSequenceGaps_returnsGaps() throws Exception {
+        given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
+        given(chatService.getSequenceGaps(SESSION_ID, USER_EMAIL)).willReturn(List.of(new ChatSequenceGap(3, 4)));
+        
+        mvc.perform(get(BASE_URL + "/sessions/{sessionId}/sequence-gaps", SESSION_ID)
+                        .with(user(USER_EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].fromSeq").value(3))
+                .andExpect(jsonPath("$.data[0].toSeq").value(4));
+    }
+    
+    @Test
+    @DisplayName("POST /api/chat/message/stream/{messageId}/chunks → 204")
+    void appendMessageChunk_noContent() throws Exception {
+        ChatMessageChunkRequest request = new ChatMessageChunkRequest(0, "오늘 ");
+        
+        mvc.perform(post(BASE_URL + "/message/stream/{messageId}/chunks", 7L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNoContent());
+        
+        then(chatMessageStreamService).should().append(7L, request);
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/messages/{sessionId}/stream/{messageId}?afterSeq → 진행 중 본문")
+    void getMessageStream_returnsPartialContent() throws Exception {
+        given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
+        given(chatMessageStreamService.getState(SESSION_ID, 7L, 1, USER_EMAIL))
+                .willReturn(new ChatMessageStreamState(7L, SESSION_ID, "하루였네요", 3, false));
+        
+        mvc.perform(get(BASE_URL + "/messages/{sessionId}/stream/{messageId}", SESSION_ID, 7L)
+                        .param("afterSeq", "1")
+                        .with(user(USER_EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.content").value("하루였네요"))
+                .andExpect(jsonPath("$.data.lastSeq").value(3))
+                .andExpect(jsonPath("$.data.completed").value(false));
     }
     
     @Test
@@ -308,6 +602,24 @@ class ChatControllerTest {
         then(chatService).should().deleteSession(SESSION_ID);
     }
     
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("POST /api/chat/sessions/bulk-delete → 본인 세션만 삭제 결과")
+    void deleteSessions_bulk_success() throws Exception {
+        given(securityUtil.requirePrincipalEmail(any())).willReturn(USER_EMAIL);
+        given(chatService.deleteSessions(List.of(SESSION_ID, "other"), USER_EMAIL))
+                .willReturn(new ChatSessionBulkDeleteResult(List.of(SESSION_ID), List.of("other"), 12));
+        
+        mvc.perform(post(BASE_URL + "/sessions/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ChatSessionBulkDeleteRequest(List.of(SESSION_ID, "other")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deleted[0]").value(SESSION_ID))
+                .andExpect(jsonPath("$.data.skipped[0]").value("other"))
+                .andExpect(jsonPath("$.data.deletedMessages").value(12));
+    }
+    
     @Test
     @WithMockUser(username = USER_EMAIL, roles = "USER")
     @DisplayName("GET /api/chat/sessions/{sessionId} (세션 없음) → 404 ProblemDetail")
@@ -329,7 +641,7 @@ class ChatControllerTest {
         given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
         willThrow(new com.example.backend.common.error.NotFoundException(
                 "세션을 찾을 수 없습니다.", "SESSION_NOT_FOUND", "sessionId"))
-                .given(chatService).getMessagesBySessionId(SESSION_ID, USER_EMAIL);
+                .given(chatService).getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, null);
         
         mvc.perform(get(BASE_URL + "/messages/{sessionId}", SESSION_ID)
                         .with(user(USER_EMAIL)))
@@ -344,7 +656,7 @@ class ChatControllerTest {
     void getMessages_forbidden_403() throws Exception {
         willThrow(new com.example.backend.common.error.ForbiddenException(
                 "세션 접근 권한이 없습니다.", "ACCESS_DENIED"))
-                .given(chatService).getMessagesBySessionId(SESSION_ID, USER_EMAIL);
+                .given(chatService).getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, null);
         
         mvc.perform(get(BASE_URL + "/messages/{sessionId}", SESSION_ID)
                         .with(user(USER_EMAIL)))
@@ -369,4 +681,42 @@ class ChatControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
                 .andExpect(jsonPath("$.status").value(404));
     }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/sessions/{sessionId}/export → NDJSON 스트리밍")
+    void exportSession_streamsNdjson() throws Exception {
+        given(chatAuth.canAccessSession(SESSION_ID, USER_EMAIL)).willReturn(true);
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"messageId\":1}\n{\"messageId\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).given(chatExportService).exportSession(eq(SESSION_ID), any(OutputStream.class));
+        
+        String body = mvc.perform(get(BASE_URL + "/sessions/{sessionId}/export", SESSION_ID)
+                        .with(user(USER_EMAIL)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"chat-" + SESSION_ID + ".ndjson\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        
+        assertThat(body.split("\n")).hasSize(2);
+        then(chatExportService).should().exportSession(eq(SESSION_ID), any(OutputStream.class));
+    }
+    
+    @Test
+    @WithMockUser(username = USER_EMAIL, roles = "USER")
+    @DisplayName("GET /api/chat/sessions/export → 로그인 사용자 전체 세션 내보내기")
+    void exportMySessions_usesPrincipalEmail() throws Exception {
+        given(securityUtil.requirePrincipalEmail(any())).willReturn(USER_EMAIL);
+        
+        mvc.perform(get(BASE_URL + "/sessions/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+        
+        then(chatExportService).should().exportUserSessions(eq(USER_EMAIL), any(OutputStream.class));
+    }
 }
@@ -37,6 +37,10 @@ class TestSecurityConfig {
 								// Chat 공개 엔드포인트 (FastAPI ↔ Spring)
 								"/api/chat/session/save",
 								"/api/chat/message/save",
+								"/api/chat/message/save/batch",
+								"/api/chat/message/stream",
+								"/api/chat/message/stream/*/chunks",
+								"/api/chat/message/stream/*/complete",
 								"/api/chat/analysis/search"
 						).permitAll()
 						.anyRequest().authenticated()
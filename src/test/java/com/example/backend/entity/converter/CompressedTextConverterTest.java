@@ -0,0 +1,68 @@
+package com.example.backend.entity.converter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.config.properties.ChatProperties;
+
+@DisplayName("CompressedTextConverter 테스트")
+class CompressedTextConverterTest {
+
+    private static final String LONG_TEXT = "오늘 하루는 어떠셨나요? 편하게 이야기해 주세요. ".repeat(40);
+
+    private ChatProperties chatProperties;
+    private CompressedTextConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        converter = new CompressedTextConverter(chatProperties);
+    }
+
+    @Test
+    @DisplayName("임계값 이상은 압축 형식으로 저장되고 원문으로 복원")
+    void longText_roundTripCompressed() {
+        String stored = converter.convertToDatabaseColumn(LONG_TEXT);
+
+        assertThat(stored.charAt(0)).isEqualTo(CompressedTextConverter.MARKER);
+        assertThat(stored.charAt(1)).isEqualTo(CompressedTextConverter.FORMAT_DEFLATE);
+        assertThat(stored.getBytes(StandardCharsets.UTF_8).length)
+                .isLessThan(LONG_TEXT.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    @DisplayName("짧은 값과 압축 도입 전 행은 그대로")
+    void shortAndLegacyValues_unchanged() {
+        assertThat(converter.convertToDatabaseColumn("안녕하세요")).isEqualTo("안녕하세요");
+        assertThat(converter.convertToEntityAttribute(LONG_TEXT)).isEqualTo(LONG_TEXT);
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("MARKER 로 시작하는 원문은 escape 되어 그대로 복원")
+    void markerPrefixedText_escaped() {
+        String tricky = CompressedTextConverter.MARKER + "원문";
+
+        String stored = converter.convertToDatabaseColumn(tricky);
+
+        assertThat(stored.charAt(1)).isEqualTo(CompressedTextConverter.FORMAT_PLAIN);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(tricky);
+    }
+
+    @Test
+    @DisplayName("비활성화해도 기존 압축 행은 읽을 수 있음")
+    void disabled_stillReadsCompressedRows() {
+        String stored = converter.convertToDatabaseColumn(LONG_TEXT);
+        chatProperties.getCompression().setEnabled(false);
+
+        assertThat(converter.convertToDatabaseColumn(LONG_TEXT)).isEqualTo(LONG_TEXT);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(LONG_TEXT);
+    }
+}
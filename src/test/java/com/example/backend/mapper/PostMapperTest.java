@@ -0,0 +1,54 @@
+package com.example.backend.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.dto.post.Summary;
+import com.example.backend.entity.PostEntity;
+import com.example.backend.entity.UserEntity;
+import com.example.backend.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostMapper 테스트")
+class PostMapperTest {
+
+    private final PostMapper postMapper = new PostMapperImpl();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("목록 변환: 작성자를 findAllById 한 번으로 조회하고 없는 작성자는 탈퇴한 사용자")
+    void toSummaryList_loadsAuthorsOnce() {
+        UserEntity author = UserEntity.builder().userId(1L).email("user@example.com").nickname("작성자").build();
+        List<PostEntity> posts = List.of(post(10L, 1L), post(11L, 1L), post(12L, 2L));
+        when(userRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(author));
+
+        List<Summary> result = postMapper.toSummaryList(posts, userRepository);
+
+        assertThat(result).extracting(Summary::getUserNickname).containsExactly("작성자", "작성자", "탈퇴한 사용자");
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    private static PostEntity post(Long postId, Long userId) {
+        return PostEntity.builder()
+                .postId(postId)
+                .userId(userId)
+                .title("제목 " + postId)
+                .content("내용")
+                .visibility("public")
+                .status("active")
+                .build();
+    }
+}
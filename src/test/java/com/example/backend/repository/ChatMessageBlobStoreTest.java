@@ -0,0 +1,212 @@
+package com.example.backend.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageBlobStore 테스트")
+class ChatMessageBlobStoreTest {
+
+    private static final String LONG_TEXT = "힘든 하루였군요. 천천히 이야기해 주셔도 괜찮아요. ".repeat(10);
+    private static final String OTHER_TEXT = "오늘은 조금 나아졌어요. 산책을 다녀왔고 잠도 잘 잤어요. ".repeat(10);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatProperties chatProperties;
+    private CompressedTextConverter converter;
+    private ChatMessageBlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        chatProperties.getDedup().setEnabled(true);
+        converter = new CompressedTextConverter(chatProperties);
+        store = new ChatMessageBlobStore(jdbcTemplate, converter, chatProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 본문은 해시 하나로 묶고, 저장 시에는 blob 행 보장(INSERT IGNORE)만 하고 참조 수는 모아 둠")
+    void acquire_groupsIdenticalContent() {
+        ChatMessageEntity first = ChatMessageEntity.builder().messageContent(LONG_TEXT).build();
+        ChatMessageEntity second = ChatMessageEntity.builder().messageContent(LONG_TEXT).build();
+        ChatMessageEntity shortOne = ChatMessageEntity.builder().messageContent("짧은 답변").build();
+
+        store.acquire(List.of(first, second, shortOne));
+
+        assertThat(first.getContentHash()).hasSize(64).isEqualTo(second.getContentHash());
+        assertThat(shortOne.getContentHash()).isNull();
+        verify(jdbcTemplate).update(contains("INSERT IGNORE INTO chat_message_blobs"), eq(first.getContentHash()),
+                eq(converter.convertToDatabaseColumn(LONG_TEXT)), anyInt(), any());
+        verifyNoMoreInteractions(jdbcTemplate);
+        assertThat(store.pendingReferences(first.getContentHash())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("영속 메시지 본문 변경: 새 본문으로 참조를 다시 정하고 이전 blob 참조는 하나 줄임")
+    void reacquire_changedContent_movesReference() {
+        String oldHash = store.hashOf(LONG_TEXT);
+        ChatMessageEntity message = ChatMessageEntity.builder().messageId(1L).contentHash(oldHash).build();
+        message.fillContent(LONG_TEXT);
+
+        message.setMessageContent(OTHER_TEXT);
+        assertThat(message.getContentHash()).isNull();
+        assertThat(message.takeContentChange()).isTrue();
+        store.reacquire(message, message.getPreviousContentHash());
+
+        String newHash = store.hashOf(OTHER_TEXT);
+        assertThat(message.getContentHash()).isEqualTo(newHash);
+        assertThat(store.pendingReferences(newHash)).isEqualTo(1);
+        assertThat(store.pendingReferences(oldHash)).isEqualTo(-1);
+        assertThat(message.takeContentChange()).isFalse();
+    }
+
+    @Test
+    @DisplayName("모인 참조 수는 해시 순으로 1행씩 반영")
+    void flushReferences_appliesInHashOrder() {
+        String a = store.hashOf(LONG_TEXT);
+        String b = store.hashOf(OTHER_TEXT);
+        store.addReferences(a, 2);
+        store.addReferences(b, 1);
+
+        int flushed = store.flushReferences();
+
+        assertThat(flushed).isEqualTo(2);
+        String low = a.compareTo(b) < 0 ? a : b;
+        String high = low.equals(a) ? b : a;
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(contains("ref_count = ref_count +"), anyLong(), eq(low));
+        inOrder.verify(jdbcTemplate).update(contains("ref_count = ref_count +"), anyLong(), eq(high));
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM chat_message_blobs"), any(), any());
+        assertThat(store.pendingReferences(a)).isZero();
+    }
+
+    @Test
+    @DisplayName("메시지 삭제는 blob 행을 잠그지 않고, 감소분 반영 시 참조 없는 행만 지움")
+    void deleteMessages_releasesOnFlush() throws Exception {
+        String hash = store.hashOf(LONG_TEXT);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(hash);
+        when(rs.getLong(2)).thenReturn(3L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("GROUP BY content_hash"), any(RowCallbackHandler.class),
+                eq("session-1"), eq(1L), eq(10L));
+        when(jdbcTemplate.update(contains("DELETE FROM chat_messages"), eq("session-1"), eq(1L), eq(10L))).thenReturn(3);
+
+        int deleted = store.deleteMessages("session-1", 1L, 10L);
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(store.pendingReferences(hash)).isEqualTo(-3);
+        verify(jdbcTemplate, never()).update(contains("chat_message_blobs"), any(), any());
+
+        store.flushReferences();
+
+        verify(jdbcTemplate).update(contains("ref_count = ref_count +"), eq(-3L), eq(hash));
+        verify(jdbcTemplate).update(contains("NOT EXISTS"), eq(hash), eq(hash));
+    }
+
+    @Test
+    @DisplayName("반영 실패한 증감은 되돌려 다음 주기에 재시도")
+    void flushReferences_failure_retries() {
+        String hash = store.hashOf(LONG_TEXT);
+        store.addReferences(hash, 2);
+        when(jdbcTemplate.update(contains("ref_count = ref_count +"), eq(2L), eq(hash)))
+                .thenThrow(new IllegalStateException("lock wait timeout"))
+                .thenReturn(1);
+
+        assertThat(store.flushReferences()).isZero();
+        assertThat(store.pendingReferences(hash)).isEqualTo(2);
+        assertThat(store.flushReferences()).isEqualTo(1);
+        assertThat(store.pendingReferences(hash)).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 본문을 그대로 둠")
+    void acquire_disabled_noop() {
+        chatProperties.getDedup().setEnabled(false);
+        ChatMessageEntity message = ChatMessageEntity.builder().messageContent(LONG_TEXT).build();
+
+        store.acquire(List.of(message));
+
+        assertThat(message.getContentHash()).isNull();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("resolve 는 한 번 읽은 본문을 캐시에서 돌려줌")
+    void resolve_cachesContent() throws Exception {
+        String hash = store.hashOf(LONG_TEXT);
+        stubBlobRows(hash, LONG_TEXT);
+
+        assertThat(store.resolve(hash)).isEqualTo(LONG_TEXT);
+        assertThat(store.resolve(hash)).isEqualTo(LONG_TEXT);
+
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), eq(hash));
+        assertThat(store.cacheBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("조회 직후 캐시에 없는 본문들은 첫 접근 때 IN 조회 1번으로 채움")
+    void resolveLater_batchesPage() throws Exception {
+        String a = store.hashOf(LONG_TEXT);
+        String b = store.hashOf(OTHER_TEXT);
+        ResultSet rs = mock(ResultSet.class);
+        String low = a.compareTo(b) < 0 ? a : b;
+        String high = low.equals(a) ? b : a;
+        when(rs.getString(1)).thenReturn(a, b);
+        when(rs.getString(2)).thenReturn(converter.convertToDatabaseColumn(LONG_TEXT),
+                converter.convertToDatabaseColumn(OTHER_TEXT));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("IN (?, ?)"), any(RowCallbackHandler.class), eq(low), eq(high));
+
+        ChatMessageEntity first = ChatMessageEntity.builder().contentHash(a).build();
+        ChatMessageEntity second = ChatMessageEntity.builder().contentHash(b).build();
+        ChatMessageEntity third = ChatMessageEntity.builder().contentHash(a).build();
+        store.resolveLater(first);
+        store.resolveLater(second);
+        store.resolveLater(third);
+        verifyNoInteractions(jdbcTemplate);
+
+        assertThat(first.getMessageContent()).isEqualTo(LONG_TEXT);
+        assertThat(second.getMessageContent()).isEqualTo(OTHER_TEXT);
+        assertThat(third.getMessageContent()).isEqualTo(LONG_TEXT);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(), any());
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    private void stubBlobRows(String hash, String content) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(hash);
+        when(rs.getString(2)).thenReturn(converter.convertToDatabaseColumn(content));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(hash));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.backend.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageSequenceAllocator 테스트")
+class ChatMessageSequenceAllocatorTest {
+
+    private static final String SESSION_ID = "s-1";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatMessageSequenceAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties chatProperties = new ChatProperties();
+        chatProperties.getSequence().setLockTimeoutMs(50);
+        allocator = new ChatMessageSequenceAllocator(jdbcTemplate, chatProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 순번 다음부터 전달 순서대로 부여하고, 이후 호출은 DB 를 다시 읽지 않음")
+    void assign_continuesFromMaxSeq() {
+        when(jdbcTemplate.queryForObject(contains("MAX(seq)"), eq(Long.class), eq(SESSION_ID), eq(SESSION_ID)))
+                .thenReturn(4L);
+        ChatMessageEntity first = message();
+        ChatMessageEntity second = message();
+        ChatMessageEntity third = message();
+
+        allocator.assign(List.of(first, second));
+        allocator.assign(List.of(third));
+
+        assertThat(List.of(first.getSeq(), second.getSeq(), third.getSeq())).containsExactly(5L, 6L, 7L);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("순번 없는 기존 행만 있으면 그 행 수 다음부터 부여")
+    void assign_legacyRowsOnly() {
+        when(jdbcTemplate.queryForObject(contains("MAX(seq)"), eq(Long.class), eq(SESSION_ID), eq(SESSION_ID)))
+                .thenReturn(0L);
+        when(jdbcTemplate.queryForObject(contains("seq IS NULL"), eq(Long.class), eq(SESSION_ID))).thenReturn(3L);
+        ChatMessageEntity message = message();
+
+        allocator.assign(List.of(message));
+
+        assertThat(message.getSeq()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("롤백되면 기억한 순번을 버려 다음 할당은 DB 에서 다시 시작")
+    void assign_rollbackForgetsCachedSeq() {
+        when(jdbcTemplate.queryForObject(contains("MAX(seq)"), eq(Long.class), eq(SESSION_ID), eq(SESSION_ID)))
+                .thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        ChatMessageEntity rolledBack = message();
+
+        allocator.assign(List.of(rolledBack));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        ChatMessageEntity retried = message();
+        allocator.assign(List.of(retried));
+
+        assertThat(rolledBack.getSeq()).isEqualTo(2L);
+        assertThat(retried.getSeq()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("순번을 정하면 바로 잠금을 풀어 같은 세션의 다른 저장은 트랜잭션 종료를 기다리지 않음")
+    void assign_releasesLockAfterAssignment() {
+        when(jdbcTemplate.queryForObject(contains("MAX(seq)"), eq(Long.class), eq(SESSION_ID), eq(SESSION_ID)))
+                .thenReturn(0L);
+        when(jdbcTemplate.queryForObject(contains("seq IS NULL"), eq(Long.class), eq(SESSION_ID))).thenReturn(0L);
+        TransactionSynchronizationManager.initSynchronization();
+        allocator.assign(List.of(message()));
+
+        ChatMessageEntity other = message();
+        CompletableFuture.runAsync(() -> allocator.assign(List.of(other))).join();
+
+        assertThat(other.getSeq()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("같은 세션에 진행 중인 할당이 남아 있으면 롤백해도 순번을 버리지 않음 (빈 번호로 남김)")
+    void assign_rollbackWithOtherInFlight_keepsCachedSeq() {
+        when(jdbcTemplate.queryForObject(contains("MAX(seq)"), eq(Long.class), eq(SESSION_ID), eq(SESSION_ID)))
+                .thenReturn(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        ChatMessageEntity rolledBack = message();
+        ChatMessageEntity pending = message();
+        allocator.assign(List.of(rolledBack));
+        allocator.assign(List.of(pending));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        ChatMessageEntity next = message();
+        allocator.assign(List.of(next));
+
+        assertThat(List.of(rolledBack.getSeq(), pending.getSeq(), next.getSeq())).containsExactly(2L, 3L, 4L);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), eq(Long.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 잠금을 오래 잡고 있으면 429")
+    void assign_lockTimeout_throwsTooManyRequests() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> allocator.withSessionLock(SESSION_ID, () -> {
+            locked.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        locked.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> allocator.assign(List.of(message()))).isInstanceOf(TooManyRequestsException.class);
+        release.countDown();
+        holder.join();
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private static ChatMessageEntity message() {
+        return ChatMessageEntity.builder().sessionId(SESSION_ID).build();
+    }
+}
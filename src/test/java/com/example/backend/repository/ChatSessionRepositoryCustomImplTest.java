@@ -0,0 +1,132 @@
+package com.example.backend.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
+import com.example.backend.entity.ChatSessionEntity;
+import com.example.backend.entity.converter.CompressedTextConverter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatSessionRepositoryCustomImpl 테스트")
+class ChatSessionRepositoryCustomImplTest {
+
+    private static final String SESSION_ID = "session-123";
+    private static final String USER_EMAIL = "test@example.com";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CompressedTextConverter converter;
+    private ChatSessionRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        converter = new CompressedTextConverter(new ChatProperties());
+        repository = new ChatSessionRepositoryCustomImpl(jdbcTemplate, converter);
+    }
+
+    @Test
+    @DisplayName("영향 행 수 1 이면 새 세션으로 보고 created_at 을 채움")
+    void upsert_inserted() {
+        stubAffectedRows(1);
+        ChatSessionEntity session = session(SESSION_ID);
+
+        boolean inserted = repository.upsert(session);
+
+        assertThat(inserted).isTrue();
+        assertThat(session.getCreatedAt()).isNotNull().isEqualTo(session.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("영향 행 수 2 (기존 행 갱신) 이면 created_at 을 건드리지 않음")
+    void upsert_updated() {
+        stubAffectedRows(2);
+        ChatSessionEntity session = session(SESSION_ID);
+
+        boolean inserted = repository.upsert(session);
+
+        assertThat(inserted).isFalse();
+        assertThat(session.getCreatedAt()).isNull();
+        assertThat(session.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("세션 id 가 비어 있으면 UUID 를 발급해 바인딩")
+    void upsert_blankSessionId_generatesId() {
+        stubAffectedRows(1);
+        ChatSessionEntity session = session(" ");
+
+        repository.upsert(session);
+
+        assertThat(session.getSessionId()).isNotBlank().hasSize(36);
+        verify(jdbcTemplate).update(anyString(), eq(session.getSessionId()), any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("한 문장 upsert 로 분석 컬럼만 덮어쓰고 created_at, 통계, archived_at 은 유지")
+    void upsert_singleStatement_keepsCreatedAtAndStats() {
+        stubAffectedRows(2);
+        ChatSessionEntity session = session(SESSION_ID);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        repository.upsert(session);
+
+        verify(jdbcTemplate).update(sql.capture(), eq(SESSION_ID), eq(USER_EMAIL), eq("테스트 사용자"),
+                eq(converter.convertToDatabaseColumn("상담 요약")), eq("상담 요약"), isNull(), isNull(), isNull(), isNull(),
+                any(Timestamp.class), any(Timestamp.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+
+        String statement = sql.getValue();
+        assertThat(statement).startsWith("INSERT INTO chat_sessions").contains("ON DUPLICATE KEY UPDATE");
+        String updateClause = statement.substring(statement.indexOf("ON DUPLICATE KEY UPDATE"));
+        assertThat(updateClause)
+                .contains("summary = VALUES(summary)", "summary_preview = VALUES(summary_preview)",
+                        "updated_at = VALUES(updated_at)")
+                .doesNotContain("created_at", "message_count", "archived_at");
+    }
+
+    @Test
+    @DisplayName("요약은 압축 여부와 상관없이 앞부분을 summary_preview 로 잘라 함께 저장")
+    void upsert_longSummary_storesTruncatedPreview() {
+        stubAffectedRows(1);
+        String summary = "가".repeat(ChatSessionSummaryDto.PREVIEW_LENGTH + 50);
+        ChatSessionEntity session = session(SESSION_ID);
+        session.setSummary(summary);
+
+        repository.upsert(session);
+
+        verify(jdbcTemplate).update(anyString(), eq(SESSION_ID), any(), any(),
+                eq(converter.convertToDatabaseColumn(summary)), eq("가".repeat(ChatSessionSummaryDto.PREVIEW_LENGTH)),
+                any(), any(), any(), any(), any(), any());
+    }
+
+    private void stubAffectedRows(int affected) {
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+                any()))
+                .thenReturn(affected);
+    }
+
+    private static ChatSessionEntity session(String sessionId) {
+        return ChatSessionEntity.builder()
+                .sessionId(sessionId)
+                .userEmail(USER_EMAIL)
+                .userName("테스트 사용자")
+                .summary("상담 요약")
+                .build();
+    }
+}
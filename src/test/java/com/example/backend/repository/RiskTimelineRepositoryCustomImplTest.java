@@ -0,0 +1,65 @@
+package com.example.backend.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.entity.RiskTimelineEntity;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RiskTimelineRepositoryCustomImpl 테스트")
+class RiskTimelineRepositoryCustomImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RiskTimelineRepositoryCustomImpl repository;
+
+    @Test
+    @DisplayName("occurred_at 은 바인딩 값이 아니라 chat_sessions.created_at (없으면 NOW()) 에서 읽음")
+    @SuppressWarnings("unchecked")
+    void upsertAll_readsOccurredAtFromSessionRow() {
+        RiskTimelineEntity row = new RiskTimelineEntity();
+        row.setSessionId("s-1");
+        row.setUserEmail("test@example.com");
+        row.setRiskLevel(RiskLevel.HIGH);
+        row.setRiskScore(0.8);
+        row.setPrimaryRisk("학업 스트레스");
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+
+        repository.upsertAll(List.of(row));
+
+        verify(jdbcTemplate).batchUpdate(sql.capture(), args.capture());
+        assertThat(sql.getValue())
+                .contains("COALESCE(s.created_at, NOW())", "FROM chat_sessions s", "occurred_at = VALUES(occurred_at)");
+        Object[] bound = args.getValue().get(0);
+        assertThat(bound).hasSize(6);
+        assertThat(bound[0]).isEqualTo("test@example.com");
+        assertThat(bound[1]).isEqualTo("HIGH");
+        assertThat(bound[4]).isInstanceOf(Timestamp.class);
+        assertThat(bound[5]).isEqualTo("s-1");
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 쿼리 없음")
+    void upsertAll_empty_noQuery() {
+        repository.upsertAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.repository.ChatSessionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionOwnershipCache 테스트")
+class SessionOwnershipCacheTest {
+
+    private static final String SESSION_ID = "test-session-id";
+    private static final String USER_EMAIL = "test@example.com";
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    private ChatProperties chatProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private SessionOwnershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SessionOwnershipCache(chatSessionRepository, chatProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB 를 거치지 않고 hit 로 집계")
+    void ownerOf_cachesAfterFirstLoad() {
+        when(chatSessionRepository.findOwnerEmailBySessionId(SESSION_ID)).thenReturn(Optional.of(USER_EMAIL));
+
+        assertThat(cache.isOwner(SESSION_ID, USER_EMAIL)).isTrue();
+        assertThat(cache.isOwner(SESSION_ID, "other@example.com")).isFalse();
+
+        verify(chatSessionRepository, times(1)).findOwnerEmailBySessionId(SESSION_ID);
+        assertThat(meterRegistry.counter("chat.session_owner.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("chat.session_owner.cache", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 세션은 캐시하지 않음")
+    void ownerOf_missingSession_notCached() {
+        when(chatSessionRepository.findOwnerEmailBySessionId(SESSION_ID))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(USER_EMAIL));
+
+        assertThat(cache.ownerOf(SESSION_ID)).isEmpty();
+        assertThat(cache.ownerOf(SESSION_ID)).contains(USER_EMAIL);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 다시 DB 에서 조회")
+    void invalidate_forcesReload() {
+        when(chatSessionRepository.findOwnerEmailBySessionId(SESSION_ID)).thenReturn(Optional.of(USER_EMAIL));
+
+        cache.ownerOf(SESSION_ID);
+        cache.invalidate(SESSION_ID);
+        cache.ownerOf(SESSION_ID);
+
+        verify(chatSessionRepository, times(2)).findOwnerEmailBySessionId(SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("maxEntries 를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    void ownerOf_evictsLeastRecentlyUsed() {
+        chatProperties.getOwnershipCache().setMaxEntries(2);
+        cache = new SessionOwnershipCache(chatSessionRepository, chatProperties, new SimpleMeterRegistry());
+        when(chatSessionRepository.findOwnerEmailBySessionId(anyString())).thenReturn(Optional.of(USER_EMAIL));
+
+        cache.ownerOf("s1");
+        cache.ownerOf("s2");
+        cache.ownerOf("s1");
+        cache.ownerOf("s3");
+        cache.ownerOf("s1");
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(chatSessionRepository, times(1)).findOwnerEmailBySessionId("s1");
+    }
+}
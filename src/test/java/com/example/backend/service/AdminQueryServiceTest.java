@@ -5,12 +5,14 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -37,6 +40,8 @@ import com.example.backend.dto.admin.DailyMetricPoint;
 import com.example.backend.entity.DailyMetricsEntity;
 import com.example.backend.entity.PostEntity;
 import com.example.backend.entity.UserEntity;
+import com.example.backend.mapper.PostMapper;
+import com.example.backend.mapper.PostMapperImpl;
 import com.example.backend.repository.DailyMetricsRepository;
 import com.example.backend.repository.PostRepository;
 import com.example.backend.repository.UserRepository;
@@ -72,6 +77,9 @@ class AdminQueryServiceTest {
     @Mock
     private DailyMetricsRepository dailyMetricsRepository;
     
+    @Spy
+    private PostMapper postMapper = new PostMapperImpl(); // MapStruct 생성 구현체 (작성자 일괄 조회는 실제 로직)
+    
     private UserEntity testUser;
     private PostEntity testPost;
     private DailyMetricsEntity testMetrics;
@@ -200,12 +208,13 @@ class AdminQueryServiceTest {
         
         given(postRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .willReturn(postPage);
-        given(userRepository.findById(DEFAULT_USER_ID)).willReturn(Optional.of(testUser));
+        given(userRepository.findAllById(Set.of(DEFAULT_USER_ID))).willReturn(List.of(testUser));
         
         Page<AdminPostRow> result = adminQueryService.findPosts(request, PageRequest.of(0, 20));
         
         assertThat(result.getContent()).hasSize(1);
         assertAdminPostRowDefault(result.getContent().get(0));
+        verify(userRepository, never()).findById(any());
     }
     
     @Test
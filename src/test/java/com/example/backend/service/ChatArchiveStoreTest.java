@@ -0,0 +1,158 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.entity.ChatMessageEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("ChatArchiveStore 테스트")
+class ChatArchiveStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    private ChatProperties chatProperties;
+    private ChatArchiveStore store;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        chatProperties.getArchive().setDirectory(directory.toString());
+        store = reopen();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("추가한 세션을 같은 순서/내용으로 읽음")
+    void append_thenRead_roundTrip() {
+        List<ChatMessageEntity> messages = messages("s-1", 3);
+
+        store.append("s-1", messages);
+
+        List<ChatMessageEntity> read = store.read("s-1").orElseThrow();
+        assertThat(read).extracting(ChatMessageEntity::getMessageId).containsExactly(1L, 2L, 3L);
+        assertThat(read.get(2).getMessageContent()).isEqualTo("메시지 3");
+        assertThat(read.get(2).getCreatedAt()).isEqualTo(messages.get(2).getCreatedAt());
+        assertThat(store.read("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재기동 시 인덱스 파일로 위치를 복원하고 tombstone 을 반영")
+    void reopen_restoresIndexAndTombstones() {
+        store.append("s-1", messages("s-1", 2));
+        store.append("s-2", messages("s-2", 1));
+        assertThat(store.remove("s-1")).isTrue();
+        store.close();
+
+        store = reopen();
+
+        assertThat(store.contains("s-1")).isFalse();
+        assertThat(store.read("s-2").orElseThrow()).hasSize(1);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 아카이브하면 새 레코드로 대체")
+    void append_sameSession_replacesRecord() {
+        store.append("s-1", messages("s-1", 1));
+        store.append("s-1", messages("s-1", 4));
+
+        assertThat(store.read("s-1").orElseThrow()).hasSize(4);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세그먼트 최대 크기를 넘으면 새 세그먼트로 넘어가도 모두 읽힘")
+    void append_rollsOverSegments() throws Exception {
+        store.close();
+        chatProperties.getArchive().setSegmentMaxBytes(64);
+        store = reopen();
+
+        IntStream.rangeClosed(1, 3).forEach(i -> store.append("s-" + i, messages("s-" + i, 2)));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(p -> p.toString().endsWith(".seg")).count()).isEqualTo(3);
+        }
+        IntStream.rangeClosed(1, 3).forEach(i -> assertThat(store.read("s-" + i).orElseThrow()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("커서 페이지 - 블록 경계를 넘어도 키셋 순서대로 limit 건만 읽음")
+    void readPage_seeksAcrossBlocks() {
+        store.close();
+        chatProperties.getArchive().setBlockMessages(2);
+        store = reopen();
+        List<ChatMessageEntity> messages = messages("s-1", 7);
+        store.append("s-1", messages);
+
+        List<ChatMessageEntity> latest = store.readPage("s-1", null, false, 3).orElseThrow();
+        List<ChatMessageEntity> older = store.readPage("s-1", latest.get(2), false, 3).orElseThrow();
+        List<ChatMessageEntity> newer = store.readPage("s-1", messages.get(1), true, 3).orElseThrow();
+        List<ChatMessageEntity> oldest = store.readPage("s-1", messages.get(1), false, 3).orElseThrow();
+
+        assertThat(latest).extracting(ChatMessageEntity::getMessageId).containsExactly(7L, 6L, 5L);
+        assertThat(older).extracting(ChatMessageEntity::getMessageId).containsExactly(4L, 3L, 2L);
+        assertThat(newer).extracting(ChatMessageEntity::getMessageId).containsExactly(3L, 4L, 5L);
+        assertThat(oldest).extracting(ChatMessageEntity::getMessageId).containsExactly(1L);
+        assertThat(store.readPage("unknown", null, true, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순번 요약 - 아카이브 시 계산한 최대 순번과 빈 구간을 재기동 후에도 그대로 반환")
+    void sequenceSummary_storedWithRecord() {
+        List<ChatMessageEntity> messages = messages("s-1", 6).stream()
+                .filter(m -> m.getSeq() != 3L && m.getSeq() != 4L)
+                .toList();
+        store.append("s-1", messages);
+        store.close();
+
+        store = reopen();
+
+        ChatArchiveStore.SequenceSummary summary = store.sequenceSummary("s-1").orElseThrow();
+        assertThat(summary.maxSeq()).isEqualTo(6L);
+        assertThat(summary.gaps()).containsExactly(new ChatSequenceGap(3L, 4L));
+    }
+
+    private ChatArchiveStore reopen() {
+        ChatArchiveStore opened = new ChatArchiveStore(chatProperties, objectMapper);
+        opened.open();
+        return opened;
+    }
+
+    private List<ChatMessageEntity> messages(String sessionId, int count) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> ChatMessageEntity.builder()
+                        .messageId((long) i)
+                        .seq((long) i)
+                        .sessionId(sessionId)
+                        .messageType(i % 2 == 1 ? ChatMessageType.USER : ChatMessageType.AI)
+                        .messageContent("메시지 " + i)
+                        .userEmail("test@example.com")
+                        .createdAt(base.plusMinutes(i))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatBootstrap;
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
+import com.example.backend.entity.UserEntity;
+import com.example.backend.repository.ChatSessionRepository;
+import com.example.backend.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatBootstrapService 테스트")
+class ChatBootstrapServiceTest {
+
+    private static final String USER_EMAIL = "test@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private RiskTimelineService riskTimelineService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatProperties chatProperties;
+    private ChatBootstrapService service;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        chatProperties.getBootstrap().setTimeoutMs(200);
+        service = new ChatBootstrapService(userRepository, chatSessionRepository, riskTimelineService,
+                transactionManager, chatProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("세 항목을 모두 채우면 missing 없음")
+    void load_allParts() {
+        UserEntity user = new UserEntity();
+        user.setChatStyle("empathetic");
+        user.setAge(30);
+        RiskTimelineEntry risk = new RiskTimelineEntry(
+                "s-1", USER_EMAIL, RiskLevel.HIGH, 0.8, "자해 위험", LocalDateTime.now());
+        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(user));
+        when(chatSessionRepository.findSummaryPage(eq(USER_EMAIL), any())).thenReturn(List.of());
+        when(riskTimelineService.getLatest(USER_EMAIL)).thenReturn(Optional.of(risk));
+
+        ChatBootstrap bootstrap = service.load(USER_EMAIL);
+
+        assertThat(bootstrap.profile().chatStyle()).isEqualTo("empathetic");
+        assertThat(bootstrap.profile().age()).isEqualTo(30);
+        assertThat(bootstrap.latestRisk()).isEqualTo(risk);
+        assertThat(bootstrap.missing()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("각 조회는 남은 마감 시간(초 단위 올림)을 timeout 으로 건 읽기 전용 트랜잭션에서 실행")
+    void load_runsEachPartWithStatementTimeout() {
+        when(userRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.empty());
+        when(chatSessionRepository.findSummaryPage(eq(USER_EMAIL), any())).thenReturn(List.of());
+        when(riskTimelineService.getLatest(USER_EMAIL)).thenReturn(Optional.empty());
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+        service.load(USER_EMAIL);
+
+        verify(transactionManager, times(3)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allSatisfy(definition -> {
+            assertThat(definition.isReadOnly()).isTrue();
+            assertThat(definition.getTimeout()).isEqualTo(1); // 200ms → 1초
+        });
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘기거나 실패한 항목만 비우고 missing 에 기록")
+    void load_slowAndFailingParts_reportedAsMissing() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findByEmail(USER_EMAIL)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.empty();
+        });
+        when(chatSessionRepository.findSummaryPage(eq(USER_EMAIL), any())).thenThrow(new IllegalStateException("db down"));
+        when(riskTimelineService.getLatest(USER_EMAIL)).thenReturn(Optional.empty());
+
+        ChatBootstrap bootstrap = service.load(USER_EMAIL);
+        release.countDown();
+
+        assertThat(bootstrap.profile()).isNull();
+        assertThat(bootstrap.recentSessions()).isEmpty();
+        assertThat(bootstrap.latestRisk()).isNull();
+        assertThat(bootstrap.missing()).containsExactly(ChatBootstrap.PROFILE, ChatBootstrap.RECENT_SESSIONS);
+    }
+}
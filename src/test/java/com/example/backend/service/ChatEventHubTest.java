@@ -0,0 +1,117 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.common.util.CursorCodec;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatEventHub 테스트")
+class ChatEventHubTest {
+
+    private static final String SESSION_ID = "s-1";
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMapper chatMapper;
+
+    private ChatProperties chatProperties;
+    private ChatEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        chatProperties.getEvents().setMaxSubscribers(2);
+        chatProperties.getEvents().setReplayLimit(10);
+        hub = new ChatEventHub(chatMessageRepository, chatMapper, chatProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.close();
+    }
+
+    @Test
+    @DisplayName("노드 구독 한도를 넘으면 429, 연결이 끝나면 다시 구독 가능")
+    void subscribe_capPerNode() {
+        hub.subscribe(SESSION_ID, null);
+        hub.subscribe("s-2", null);
+
+        assertThatThrownBy(() -> hub.subscribe("s-3", null))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("code").isEqualTo("SSE_SUBSCRIBERS_FULL");
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+
+        hub.close();
+        assertThat(hub.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("숫자 Last-Event-ID(이전 형식)면 그 message_id 이후 메시지를 조회해 다시 보냄")
+    void subscribe_withLegacyLastEventId_replaysFromMessageId() {
+        ChatMessageEntity missed = ChatMessageEntity.builder().messageId(42L).sessionId(SESSION_ID).build();
+        when(chatMessageRepository.findAfterId(SESSION_ID, 41L, PageRequest.of(0, 11))).thenReturn(List.of(missed));
+
+        hub.subscribe(SESSION_ID, "41");
+
+        verify(chatMessageRepository).findAfterId(SESSION_ID, 41L, PageRequest.of(0, 11));
+        verify(chatMapper).toMessageDtoList(List.of(missed));
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 사이 완료된 스트리밍 응답은 message_id 가 앞서도 변경 시각 기준으로 다시 보냄")
+    void subscribe_withCursor_replaysStreamCompletedWhileDisconnected() {
+        LocalDateTime seenAt = LocalDateTime.of(2026, 5, 1, 10, 0, 0, 123_000);
+        ChatMessageEntity seen = ChatMessageEntity.builder().messageId(41L).sessionId(SESSION_ID).updatedAt(seenAt).build();
+        ChatMessageEntity completed = ChatMessageEntity.builder()
+                .messageId(40L).sessionId(SESSION_ID).updatedAt(seenAt.plusSeconds(5)).build();
+        when(chatMessageRepository.findChangedAfter(SESSION_ID, seenAt, 41L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(completed));
+
+        hub.subscribe(SESSION_ID, ChatEventHub.eventId(seen));
+
+        verify(chatMessageRepository).findChangedAfter(SESSION_ID, seenAt, 41L, PageRequest.of(0, 11));
+        verify(chatMapper).toMessageDtoList(List.of(completed));
+        assertThat(ChatEventHub.eventId(seen)).isEqualTo(CursorCodec.encode(seenAt, 41L));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 Last-Event-ID 는 재조회(resync) 로 돌림")
+    void subscribe_withInvalidLastEventId_resyncs() {
+        hub.subscribe(SESSION_ID, "not-a-cursor");
+
+        verifyNoInteractions(chatMessageRepository);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 발행 시 변환/전송하지 않음")
+    void publish_withoutSubscribers_isNoop() {
+        hub.publishAfterCommit(List.of(ChatMessageEntity.builder().messageId(1L).sessionId(SESSION_ID).build()));
+
+        verify(chatMapper, never()).toMessageDtoList(anyList());
+        verifyNoInteractions(chatMessageRepository);
+    }
+}
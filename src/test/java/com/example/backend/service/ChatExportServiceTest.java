@@ -0,0 +1,160 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.dto.chat.ChatMessageDto;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatExportService 테스트")
+class ChatExportServiceTest {
+    
+    private static final String SESSION_ID = "test-session-id";
+    private static final String USER_EMAIL = "test@example.com";
+    
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    
+    @Mock
+    private ChatMapper chatMapper;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    @Mock
+    private ChatArchiveStore chatArchiveStore;
+    
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    
+    private ChatExportService chatExportService;
+    
+    @BeforeEach
+    void setUp() {
+        chatExportService = new ChatExportService(chatMessageRepository, chatMapper, objectMapper, entityManager,
+                chatArchiveStore, chatSessionRepository);
+    }
+    
+    @Test
+    @DisplayName("세션 내보내기 - 메시지마다 한 줄씩 NDJSON 으로 쓰고 엔티티를 분리")
+    void exportSession_writesOneLinePerMessage() throws Exception {
+        ChatMessageEntity first = message(1L, ChatMessageType.USER, "안녕하세요");
+        ChatMessageEntity second = message(2L, ChatMessageType.AI, "반가워요");
+        when(chatMessageRepository.streamBySessionId(SESSION_ID)).thenReturn(Stream.of(first, second));
+        when(chatMapper.toMessageDto(first)).thenReturn(dto(first));
+        when(chatMapper.toMessageDto(second)).thenReturn(dto(second));
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = chatExportService.exportSession(SESSION_ID, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertThat(firstLine.get("messageId").asLong()).isEqualTo(1L);
+        assertThat(firstLine.get("messageContent").asText()).isEqualTo("안녕하세요");
+        assertThat(objectMapper.readTree(lines[1]).get("messageType").asText()).isEqualTo("AI");
+        
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+    
+    @Test
+    @DisplayName("세션 내보내기 - 아카이브 레코드를 먼저 쓰고 테이블에 남은 같은 메시지는 건너뜀")
+    void exportSession_archived_skipsDuplicateHotRows() throws Exception {
+        ChatMessageEntity archived = message(1L, ChatMessageType.USER, "아카이브");
+        ChatMessageEntity leftover = message(1L, ChatMessageType.USER, "아카이브");
+        ChatMessageEntity newer = message(3L, ChatMessageType.AI, "새 메시지");
+        when(chatArchiveStore.stream(SESSION_ID)).thenReturn(Optional.of(Stream.of(archived)));
+        when(chatMessageRepository.streamBySessionId(SESSION_ID)).thenReturn(Stream.of(leftover, newer));
+        when(chatMapper.toMessageDto(archived)).thenReturn(dto(archived));
+        when(chatMapper.toMessageDto(newer)).thenReturn(dto(newer));
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = chatExportService.exportSession(SESSION_ID, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines[0]).get("messageId").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[1]).get("messageId").asLong()).isEqualTo(3L);
+        verify(chatMapper, never()).toMessageDto(leftover);
+    }
+    
+    @Test
+    @DisplayName("사용자 전체 세션 내보내기 - 세션별 아카이브 최대 id 이하만 건너뛰고 다른 세션 행은 그대로 씀")
+    void exportUserSessions_archived_filtersPerSession() throws Exception {
+        ChatMessageEntity archivedOld = message(5L, ChatMessageType.USER, "아카이브");
+        ChatMessageEntity archivedNew = message(7L, ChatMessageType.AI, "아카이브 답변");
+        ChatMessageEntity leftover = message(7L, ChatMessageType.AI, "아카이브 답변");
+        ChatMessageEntity newer = message(9L, ChatMessageType.USER, "새 메시지");
+        ChatMessageEntity otherSession = message(2L, ChatMessageType.USER, "다른 세션");
+        otherSession.setSessionId("other-session");
+        when(chatSessionRepository.findArchivedSessionIds(USER_EMAIL)).thenReturn(List.of(SESSION_ID));
+        when(chatArchiveStore.stream(SESSION_ID)).thenReturn(Optional.of(Stream.of(archivedNew, archivedOld)));
+        when(chatMessageRepository.streamByOwnerEmail(USER_EMAIL)).thenReturn(Stream.of(leftover, newer, otherSession));
+        when(chatMapper.toMessageDto(any(ChatMessageEntity.class))).thenAnswer(invocation -> dto(invocation.getArgument(0)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = chatExportService.exportUserSessions(USER_EMAIL, out);
+
+        assertThat(count).isEqualTo(4);
+        verify(chatMapper, never()).toMessageDto(leftover);
+        verify(chatMapper).toMessageDto(newer);
+        verify(chatMapper).toMessageDto(otherSession);
+    }
+
+    @Test
+    @DisplayName("사용자 전체 세션 내보내기 - 메시지가 없으면 빈 응답")
+    void exportUserSessions_empty_writesNothing() throws Exception {
+        when(chatMessageRepository.streamByOwnerEmail(USER_EMAIL)).thenReturn(Stream.empty());
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = chatExportService.exportUserSessions(USER_EMAIL, out);
+        
+        assertThat(count).isZero();
+        assertThat(out.size()).isZero();
+        verifyNoInteractions(chatMapper, entityManager);
+    }
+    
+    private ChatMessageEntity message(Long id, ChatMessageType type, String content) {
+        return ChatMessageEntity.builder()
+                .messageId(id)
+                .sessionId(SESSION_ID)
+                .messageType(type)
+                .messageContent(content)
+                .userEmail(USER_EMAIL)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+    }
+    
+    private ChatMessageDto dto(ChatMessageEntity e) {
+        return new ChatMessageDto(e.getMessageId(), e.getSessionId(), e.getMessageType(),
+                e.getMessageContent(), e.getEmotion(), e.getUserEmail(), e.getChatStyle(), e.getCreatedAt(), e.getSeq());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.backend.common.error.BadRequestException;
+import com.example.backend.common.error.ConflictException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageChunk;
+import com.example.backend.dto.chat.ChatMessageChunkRequest;
+import com.example.backend.dto.chat.ChatMessageStreamCompleteRequest;
+import com.example.backend.dto.chat.ChatMessageStreamState;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageChunkStore;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.security.SessionOwnershipCache;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageStreamService 테스트")
+class ChatMessageStreamServiceTest {
+
+    private static final String SESSION_ID = "s-1";
+    private static final String USER_EMAIL = "test@example.com";
+    private static final Long MESSAGE_ID = 7L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageChunkStore chatMessageChunkStore;
+
+    @Mock
+    private ChatMapper chatMapper;
+
+    @Mock
+    private ChatSessionStatsService chatSessionStatsService;
+
+    @Mock
+    private ChatSearchService chatSearchService;
+
+    @Mock
+    private ChatEventHub chatEventHub;
+
+    @Mock
+    private ChatMessageTailCache chatMessageTailCache;
+
+    @Mock
+    private SessionOwnershipCache sessionOwnershipCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChatMessageStreamService(chatMessageRepository, chatMessageChunkStore, chatMapper,
+                chatSessionStatsService, chatSearchService, chatEventHub, chatMessageTailCache,
+                sessionOwnershipCache, transactionManager, new ChatProperties());
+    }
+
+    @Test
+    @DisplayName("새 조각은 저장 후 SSE 로 전송, 같은 순번 재전송은 무시")
+    void append_publishesNewChunkOnly() {
+        when(chatMessageChunkStore.findHead(MESSAGE_ID)).thenReturn(Optional.of(streaming()));
+        when(chatMessageChunkStore.append(MESSAGE_ID, 0, "오늘 ")).thenReturn(true).thenReturn(false);
+
+        service.append(MESSAGE_ID, new ChatMessageChunkRequest(0, "오늘 "));
+        service.append(MESSAGE_ID, new ChatMessageChunkRequest(0, "오늘 "));
+
+        verify(chatEventHub, times(1)).publishChunk(SESSION_ID, new ChatMessageChunk(MESSAGE_ID, 0, "오늘 "));
+    }
+
+    @Test
+    @DisplayName("완료된 메시지에 조각을 추가하면 409")
+    void append_completed_conflict() {
+        when(chatMessageChunkStore.findHead(MESSAGE_ID))
+                .thenReturn(Optional.of(new ChatMessageChunkStore.Head(SESSION_ID, false)));
+
+        assertThatThrownBy(() -> service.append(MESSAGE_ID, new ChatMessageChunkRequest(3, "끝")))
+                .isInstanceOf(ConflictException.class);
+        verify(chatMessageChunkStore, never()).append(anyLong(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("완료: 조각을 순서대로 합쳐 한 번 저장하고 일반 저장 후속 처리")
+    void complete_joinsChunks() {
+        ChatMessageEntity completed = ChatMessageEntity.builder()
+                .messageId(MESSAGE_ID).sessionId(SESSION_ID).messageContent("오늘 하루였네요").build();
+        when(chatMessageChunkStore.lockHead(MESSAGE_ID)).thenReturn(Optional.of(streaming()));
+        when(chatMessageChunkStore.findChunks(MESSAGE_ID, -1)).thenReturn(chunks("오늘 ", "하루", "였네요"));
+        when(chatMessageRepository.findById(MESSAGE_ID)).thenReturn(Optional.of(completed));
+
+        ChatMessageEntity result = service.complete(MESSAGE_ID, new ChatMessageStreamCompleteRequest(2, null));
+
+        assertThat(result).isSameAs(completed);
+        verify(chatMessageChunkStore).complete(MESSAGE_ID, "오늘 하루였네요", null);
+        verify(chatSessionStatsService).applyMessages(List.of(completed));
+        verify(chatEventHub).publishAfterCommit(List.of(completed));
+        verify(chatMessageTailCache).appendAfterCommit(List.of(completed));
+    }
+
+    @Test
+    @DisplayName("완료: lastSeq 까지 도착하지 않았으면 400 이고 조각은 유지")
+    void complete_missingChunk_badRequest() {
+        when(chatMessageChunkStore.lockHead(MESSAGE_ID)).thenReturn(Optional.of(streaming()));
+        when(chatMessageChunkStore.findChunks(MESSAGE_ID, -1)).thenReturn(chunks("오늘 ", "하루"));
+
+        assertThatThrownBy(() -> service.complete(MESSAGE_ID, new ChatMessageStreamCompleteRequest(4, null)))
+                .isInstanceOf(BadRequestException.class);
+        verify(chatMessageChunkStore, never()).complete(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("진행 중 조회: afterSeq 이후 끊기지 않은 조각까지만 합침")
+    void getState_returnsContiguousChunks() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatMessageChunkStore.findHead(MESSAGE_ID)).thenReturn(Optional.of(streaming()));
+        when(chatMessageChunkStore.findChunks(MESSAGE_ID, 0)).thenReturn(List.of(
+                new ChatMessageChunk(MESSAGE_ID, 1, "하루"),
+                new ChatMessageChunk(MESSAGE_ID, 2, "였네요"),
+                new ChatMessageChunk(MESSAGE_ID, 4, "?")));
+
+        ChatMessageStreamState state = service.getState(SESSION_ID, MESSAGE_ID, 0, USER_EMAIL);
+
+        assertThat(state.content()).isEqualTo("하루였네요");
+        assertThat(state.lastSeq()).isEqualTo(2);
+        assertThat(state.completed()).isFalse();
+    }
+
+    private static ChatMessageChunkStore.Head streaming() {
+        return new ChatMessageChunkStore.Head(SESSION_ID, true);
+    }
+
+    private static List<ChatMessageChunk> chunks(String... contents) {
+        return IntStream.range(0, contents.length)
+                .mapToObj(i -> new ChatMessageChunk(MESSAGE_ID, i, contents[i]))
+                .toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageDto;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.mapper.ChatMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageTailCache 테스트")
+class ChatMessageTailCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Mock
+    private ChatMapper chatMapper;
+
+    private ChatProperties chatProperties;
+    private ChatMessageTailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        chatProperties.getTail().setMessagesPerSession(3);
+        cache = new ChatMessageTailCache(chatMapper, chatProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("seed 전에는 miss, seed 후에는 마지막 N건으로 hit")
+    void latest_missThenSeededHit() {
+        assertThat(cache.latest("s-1", 2)).isEmpty();
+
+        cache.seed("s-1", messages("s-1", 1, 2), true);
+
+        assertThat(cache.latest("s-1", 2).orElseThrow()).extracting(ChatMessageDto::messageId).containsExactly(1L, 2L);
+        assertThat(cache.latest("s-1", 5).orElseThrow()).hasSize(2);
+        assertThat(cache.hitRatio()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("세션 일부만 가진 항목은 요청 건수보다 적으면 miss")
+    void latest_partialTail_missWhenShort() {
+        cache.latest("s-1", 2);
+        cache.seed("s-1", messages("s-1", 5, 6), false);
+
+        assertThat(cache.latest("s-1", 2)).isPresent();
+        assertThat(cache.latest("s-1", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("seed 이전 스냅샷이어도 그 사이 커밋된 메시지와 id 기준으로 병합하고 N건으로 자름")
+    void seed_mergesWithAppendedAndTrims() {
+        cache.latest("s-1", 4);
+        List<ChatMessageEntity> written = List.of(ChatMessageEntity.builder().messageId(4L).sessionId("s-1").build());
+        when(chatMapper.toMessageDtoList(written)).thenReturn(messages("s-1", 4));
+        cache.appendAfterCommit(written);
+
+        cache.seed("s-1", messages("s-1", 1, 2, 3), true);
+
+        // 앞부분이 잘렸으므로 세션 전체가 아님 → 3건까지만 응답
+        assertThat(cache.latest("s-1", 3).orElseThrow()).extracting(ChatMessageDto::messageId).containsExactly(2L, 3L, 4L);
+        assertThat(cache.latest("s-1", 4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 가장 오래 쓰이지 않은 세션부터 제거")
+    void maxBytes_evictsLeastRecentlyUsed() {
+        cache.latest("s-1", 1);
+        cache.seed("s-1", messages("s-1", 1), true);
+        long perSession = cache.bytes();
+        chatProperties.getTail().setMaxBytes(perSession * 2);
+
+        cache.latest("s-2", 1);
+        cache.seed("s-2", messages("s-2", 2), true);
+        cache.latest("s-1", 1);
+        cache.latest("s-3", 1);
+        cache.seed("s-3", messages("s-3", 3), true);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.latest("s-1", 1)).isPresent();
+        assertThat(cache.latest("s-3", 1)).isPresent();
+        assertThat(cache.bytes()).isLessThanOrEqualTo(perSession * 2);
+    }
+
+    @Test
+    @DisplayName("삭제된 세션은 제거하고 이후 seed 는 무시")
+    void evict_dropsSession() {
+        cache.latest("s-1", 1);
+        cache.evict(List.of("s-1"));
+        cache.seed("s-1", messages("s-1", 1), true);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+    }
+
+    private List<ChatMessageDto> messages(String sessionId, long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> new ChatMessageDto(id, sessionId, ChatMessageType.USER, "메시지 " + id,
+                        null, "test@example.com", "default", BASE.plusMinutes(id), id))
+                .toList();
+    }
+}
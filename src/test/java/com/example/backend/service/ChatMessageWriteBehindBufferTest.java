@@ -0,0 +1,98 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWriteBehindBuffer 테스트")
+class ChatMessageWriteBehindBufferTest {
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatSessionStatsService chatSessionStatsService;
+
+    @Mock
+    private ChatSearchService chatSearchService;
+
+    @Mock
+    private ChatEventHub chatEventHub;
+
+    @Mock
+    private ChatMessageTailCache chatMessageTailCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMessageWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties chatProperties = new ChatProperties();
+        chatProperties.getWriteBehind().setEnabled(true);
+        chatProperties.getWriteBehind().setLingerMs(5);
+        buffer = new ChatMessageWriteBehindBuffer(chatMessageRepository, chatSessionStatsService, chatSearchService,
+                chatEventHub, chatMessageTailCache, transactionManager, chatProperties, new SimpleMeterRegistry());
+        buffer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("플러시 실패 후 재시도는 롤백된 시도의 id/순번/content_hash 없이 다시 할당받음")
+    void flush_retry_resetsAssignedColumns() {
+        List<Object[]> seenOnInsert = new ArrayList<>();
+        doAnswer(invocation -> {
+            ChatMessageEntity message = invocation.<List<ChatMessageEntity>>getArgument(0).get(0);
+            seenOnInsert.add(new Object[]{message.getMessageId(), message.getSeq(), message.getContentHash()});
+            message.setSeq(7L);
+            message.setContentHash("a".repeat(64));
+            message.setMessageId(100L);
+            if (seenOnInsert.size() == 1) {
+                throw new DataIntegrityViolationException("duplicate (session_id, seq)");
+            }
+            return null;
+        }).when(chatMessageRepository).batchInsert(anyList(), anyInt());
+        ChatMessageEntity message = ChatMessageEntity.builder()
+                .sessionId("s-1")
+                .messageType(ChatMessageType.USER)
+                .messageContent("안녕하세요")
+                .userEmail("test@example.com")
+                .build();
+
+        buffer.offer(message);
+
+        verify(chatMessageRepository, timeout(2_000).times(2)).batchInsert(anyList(), anyInt());
+        buffer.stop();
+
+        assertThat(Arrays.asList(seenOnInsert.get(1))).containsOnlyNulls();
+        assertThat(message.getMessageId()).isEqualTo(100L);
+        verify(chatEventHub).publishAfterCommit(anyList());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.entity.ChatMessageEntity;
+
+@DisplayName("ChatSearchIndex 테스트")
+class ChatSearchIndexTest {
+
+    private static final String USER_EMAIL = "test@example.com";
+
+    private ChatProperties chatProperties;
+    private ChatSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        chatProperties = new ChatProperties();
+        chatProperties.getSearch().setBufferDocs(2);
+        chatProperties.getSearch().setMaxSegments(1);
+        index = new ChatSearchIndex(chatProperties);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한글도 일치하고, 더 많이 일치하는 메시지가 먼저")
+    void search_ranksByBm25() {
+        ChatSearchIndex.UserIndex userIndex = index.getOrLoad(USER_EMAIL, sink -> List.of(
+                message(1L, "s-1", "오늘 날씨가 좋네요"),
+                message(2L, "s-2", "내일 시험이 걱정돼요"),
+                message(3L, "s-3", "시험 시험 또 시험을 봐야 해요")).forEach(sink));
+
+        List<ChatSearchIndex.Match> matches = userIndex.search("시험", 10);
+
+        assertThat(matches).extracting(ChatSearchIndex.Match::messageId).containsExactly(3L, 2L);
+        assertThat(matches.get(1).sessionId()).isEqualTo("s-2");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 검색어는 그 글자로 시작하는 bigram 으로 넓혀 일치")
+    void search_singleHangulCharacter_expandsToBigramPrefix() {
+        ChatSearchIndex.UserIndex userIndex = index.getOrLoad(USER_EMAIL, sink -> List.of(
+                message(1L, "s-1", "요즘 불안해서 잠이 안 와요"),
+                message(2L, "s-2", "불면증이 심해요"),
+                message(3L, "s-3", "오늘은 괜찮아요")).forEach(sink));
+
+        assertThat(userIndex.search("불", 10)).extracting(ChatSearchIndex.Match::messageId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("추정 크기 합계가 상한을 넘으면 오래 안 쓴 사용자 색인부터 제거")
+    void getOrLoad_overByteBudget_evictsLeastRecentlyUsed() {
+        chatProperties.getSearch().setMaxIndexBytes(1);
+        index = new ChatSearchIndex(chatProperties);
+
+        index.getOrLoad("a@example.com", sink -> sink.accept(message(1L, "s-1", "첫 번째 사용자 메시지")));
+        index.getOrLoad("b@example.com", sink -> sink.accept(message(2L, "s-2", "두 번째 사용자 메시지")));
+
+        assertThat(index.userCount()).isEqualTo(1);
+        assertThat(index.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("스니펫은 첫 일치 위치 주변 본문")
+    void snippet_aroundFirstMatch() {
+        String content = "가".repeat(100) + " 시험이 걱정돼요";
+
+        String snippet = ChatSearchIndex.snippet(content, List.of("시험"));
+
+        assertThat(snippet).startsWith("…").contains("시험이 걱정돼요");
+    }
+
+    @Test
+    @DisplayName("로드 후 추가된 메시지는 검색되고, 삭제된 세션은 제외")
+    void addAndRemoveSessions() {
+        ChatSearchIndex.UserIndex userIndex = index.getOrLoad(USER_EMAIL, sink -> {});
+
+        index.add(List.of(message(10L, "s-1", "면접 준비가 힘들어요"), message(11L, "s-2", "면접 결과가 나왔어요")));
+        index.add(List.of(message(10L, "s-1", "면접 준비가 힘들어요")));
+        index.removeSessions(List.of("s-2"));
+
+        assertThat(userIndex.search("면접", 10)).extracting(ChatSearchIndex.Match::messageId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("세그먼트 병합 후에도 같은 결과")
+    void mergeSegments_keepsResults() {
+        ChatSearchIndex.UserIndex userIndex = index.getOrLoad(USER_EMAIL, sink -> IntStream.rangeClosed(1, 7)
+                .mapToObj(i -> message((long) i, "s-" + i, "상담 기록 " + i))
+                .forEach(sink));
+        index.add(List.of(message(8L, "s-8", "상담 예약"), message(9L, "s-9", "상담 후기")));
+        List<ChatSearchIndex.Match> before = userIndex.search("상담", 10);
+
+        assertThat(index.mergeSegments()).isEqualTo(1);
+        assertThat(userIndex.search("상담", 10)).hasSameSizeAs(before).hasSize(9);
+    }
+
+    private ChatMessageEntity message(Long id, String sessionId, String content) {
+        return ChatMessageEntity.builder()
+                .messageId(id)
+                .sessionId(sessionId)
+                .messageType(ChatMessageType.USER)
+                .messageContent(content)
+                .userEmail(USER_EMAIL)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(id))
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.dto.chat.ChatSearchHit;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatSearchService 테스트")
+class ChatSearchServiceTest {
+
+    private static final String USER_EMAIL = "test@example.com";
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private ChatArchiveStore chatArchiveStore;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatSearchService chatSearchService;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties chatProperties = new ChatProperties();
+        chatSearchService = new ChatSearchService(new ChatSearchIndex(chatProperties), chatMessageRepository,
+                chatSessionRepository, chatArchiveStore, entityManager, transactionManager, chatProperties);
+    }
+
+    @Test
+    @DisplayName("BM25 점수순으로 돌려주고, 결과 건의 본문만 읽어 스니펫을 붙임")
+    void search_ranksByBm25WithSnippets() {
+        ChatMessageEntity weather = message(1L, "오늘 날씨가 좋네요", false);
+        ChatMessageEntity once = message(2L, "내일 시험이 걱정돼요", false);
+        ChatMessageEntity often = message(3L, "시험 시험 또 시험을 봐야 해요", false);
+        when(chatMessageRepository.streamByOwnerEmail(USER_EMAIL)).thenReturn(Stream.of(weather, once, often));
+        when(chatMessageRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(once, often));
+
+        List<ChatSearchHit> hits = chatSearchService.search(USER_EMAIL, "시험", 10);
+
+        assertThat(hits).extracting(ChatSearchHit::messageId).containsExactly(3L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        assertThat(hits.get(1).snippet()).contains("시험");
+    }
+
+    @Test
+    @DisplayName("첫 색인 때 스트리밍 중이던 메시지는 건너뛰고, 완료 후 반영된 최종 본문으로 검색됨")
+    void search_streamingAtLoad_indexedOnCompletion() {
+        ChatMessageEntity placeholder = message(5L, null, true);
+        ChatMessageEntity other = message(6L, "오늘은 괜찮아요", false);
+        when(chatMessageRepository.streamByOwnerEmail(USER_EMAIL)).thenReturn(Stream.of(placeholder, other));
+
+        assertThat(chatSearchService.search(USER_EMAIL, "불안", 10)).isEmpty();
+
+        ChatMessageEntity completed = message(5L, "요즘 불안해서 잠이 안 와요", false);
+        when(chatMessageRepository.findAllById(List.of(5L))).thenReturn(List.of(completed));
+        chatSearchService.indexAfterCommit(List.of(completed));
+
+        assertThat(chatSearchService.search(USER_EMAIL, "불안", 10))
+                .extracting(ChatSearchHit::messageId).containsExactly(5L);
+        verify(chatMessageRepository, times(1)).streamByOwnerEmail(anyString());
+    }
+
+    private static ChatMessageEntity message(Long id, String content, boolean streaming) {
+        return ChatMessageEntity.builder()
+                .messageId(id)
+                .sessionId("s-" + id)
+                .messageType(streaming ? ChatMessageType.AI : ChatMessageType.USER)
+                .messageContent(content)
+                .userEmail(USER_EMAIL)
+                .streaming(streaming)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+    }
+}
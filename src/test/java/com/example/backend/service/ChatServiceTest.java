@@ -15,19 +15,35 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import com.example.backend.common.error.BadRequestException;
 import com.example.backend.common.error.NotFoundException;
+import com.example.backend.common.error.TooManyRequestsException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageBatchResult;
+import com.example.backend.dto.chat.ChatContextWindow;
 import com.example.backend.dto.chat.ChatMessageDto;
 import com.example.backend.dto.chat.ChatMessageRequest;
 import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.dto.chat.ChatSequenceGap;
+import com.example.backend.dto.chat.ChatSessionBulkDeleteResult;
 import com.example.backend.dto.chat.ChatSessionDto;
+import com.example.backend.dto.chat.ChatSessionSummaryDto;
 import com.example.backend.dto.chat.SessionRequest;
+import com.example.backend.dto.common.CursorDirection;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.entity.ChatMessageEntity;
 import com.example.backend.entity.ChatSessionEntity;
 import com.example.backend.mapper.ChatMapper;
+import com.example.backend.repository.ChatMessageBlobStore;
+import com.example.backend.repository.ChatMessageChunkStore;
 import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatMessageSequenceAllocator;
 import com.example.backend.repository.ChatSessionRepository;
+import com.example.backend.security.SessionOwnershipCache;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ChatService 테스트")
@@ -48,6 +64,42 @@ class ChatServiceTest {
     @Mock
     private ChatMapper chatMapper;
     
+    @Spy
+    private ChatProperties chatProperties = new ChatProperties();
+    
+    @Mock
+    private ChatMessageWriteBehindBuffer writeBehindBuffer;
+    
+    @Mock
+    private SessionOwnershipCache sessionOwnershipCache;
+    
+    @Mock
+    private ChatSessionStatsService chatSessionStatsService;
+    
+    @Mock
+    private ChatArchiveStore chatArchiveStore;
+    
+    @Mock
+    private ChatSearchService chatSearchService;
+    
+    @Mock
+    private RiskTimelineService riskTimelineService;
+    
+    @Mock
+    private ChatEventHub chatEventHub;
+    
+    @Mock
+    private ChatMessageTailCache chatMessageTailCache;
+    
+    @Mock
+    private ChatMessageBlobStore chatMessageBlobStore;
+    
+    @Mock
+    private ChatMessageChunkStore chatMessageChunkStore;
+    
+    @Mock
+    private ChatMessageSequenceAllocator chatMessageSequenceAllocator;
+    
     @InjectMocks
     private ChatService chatService;
     
@@ -87,6 +139,88 @@ class ChatServiceTest {
         
         verify(chatMapper).toEntity(testMessageRequest);
         verify(chatMessageRepository).save(testUserMessage);
+        verify(chatSessionStatsService).applyMessage(testUserMessage);
+        verify(chatSearchService).indexAfterCommit(List.of(testUserMessage));
+        verify(chatEventHub).publishAfterCommit(List.of(testUserMessage));
+        verify(chatMessageTailCache).appendAfterCommit(List.of(testUserMessage));
+    }
+    
+    @Test
+    @DisplayName("메시지 일괄 저장 - 유효 항목은 배치 저장, 무효 항목은 REJECTED (순서 유지)")
+    void saveMessages_mixedBatch_resultsInRequestOrder() {
+        ChatMessageRequest invalid = ChatMessageRequest.builder()
+                .messageType(ChatMessageType.AI)
+                .messageContent(AI_MESSAGE)
+                .build();
+        ChatMessageRequest aiRequest = ChatMessageRequest.builder()
+                .sessionId(SESSION_ID)
+                .messageType(ChatMessageType.AI)
+                .messageContent(AI_MESSAGE)
+                .build();
+        
+        when(chatMapper.toEntity(testMessageRequest)).thenReturn(testUserMessage);
+        when(chatMapper.toEntity(aiRequest)).thenReturn(testAiMessage);
+        
+        List<ChatMessageBatchResult> results =
+                chatService.saveMessages(List.of(testMessageRequest, invalid, aiRequest));
+        
+        assertThat(results).extracting(ChatMessageBatchResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(ChatMessageBatchResult::status).containsExactly(
+                ChatMessageBatchResult.Status.SAVED,
+                ChatMessageBatchResult.Status.REJECTED,
+                ChatMessageBatchResult.Status.SAVED);
+        assertThat(results.get(0).messageId()).isEqualTo(1L);
+        assertThat(results.get(1).error()).isEqualTo("세션 ID는 필수입니다.");
+        assertThat(results.get(2).messageId()).isEqualTo(2L);
+        
+        verify(chatMessageRepository).batchInsert(List.of(testUserMessage, testAiMessage), 100);
+        verify(chatSessionStatsService).applyMessages(List.of(testUserMessage, testAiMessage));
+        verify(chatMessageRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("메시지 비동기 저장 - 수신 시각을 채워 버퍼에 등록, 즉시 INSERT 하지 않음")
+    void enqueueMessage_offersToBufferWithCreatedAt() {
+        ChatMessageEntity pending = ChatMessageEntity.builder()
+                .sessionId(SESSION_ID)
+                .messageType(ChatMessageType.USER)
+                .messageContent(USER_MESSAGE)
+                .build();
+        when(chatMapper.toEntity(testMessageRequest)).thenReturn(pending);
+        when(chatMapper.toMessageDto(pending)).thenAnswer(inv -> new ChatMessageDto(null, SESSION_ID,
+                ChatMessageType.USER, USER_MESSAGE, null, null, null, pending.getCreatedAt(), null));
+        
+        ChatMessageDto result = chatService.enqueueMessage(testMessageRequest);
+        pending.setMessageId(99L); // writer 스레드가 저장 후 채우는 값
+        
+        assertThat(result.messageId()).isNull();
+        assertThat(result.createdAt()).isNotNull();
+        verify(writeBehindBuffer).offer(pending);
+        verifyNoInteractions(chatMessageRepository);
+    }
+    
+    @Test
+    @DisplayName("메시지 비동기 저장 - 대기열 초과 시 TooManyRequestsException 전파")
+    void enqueueMessage_queueFull_throwsTooManyRequests() {
+        when(chatMapper.toEntity(testMessageRequest)).thenReturn(testUserMessage);
+        doThrow(new TooManyRequestsException("메시지 저장 대기열이 가득 찼습니다.", "WRITE_BEHIND_FULL", 1))
+                .when(writeBehindBuffer).offer(testUserMessage);
+        
+        assertThatThrownBy(() -> chatService.enqueueMessage(testMessageRequest))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(1L);
+    }
+    
+    @Test
+    @DisplayName("메시지 일괄 저장 - 최대 건수 초과 시 BadRequestException")
+    void saveMessages_tooLarge_throwsBadRequest() {
+        chatProperties.getIngest().setMaxBatchSize(1);
+        
+        assertThatThrownBy(() -> chatService.saveMessages(List.of(testMessageRequest, testMessageRequest)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("한 번에 저장할 수 있는 메시지는 최대 1건입니다.");
+        
+        verifyNoInteractions(chatMessageRepository, chatMapper);
     }
     
     @Test
@@ -110,7 +244,7 @@ class ChatServiceTest {
         List<ChatMessageEntity> mockMessages = List.of(testUserMessage, testAiMessage);
         List<ChatMessageDto> mockDtos = List.of(testMessageDto);
         
-        when(chatSessionRepository.existsBySessionIdAndUserEmail(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
         when(chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(SESSION_ID)).thenReturn(mockMessages);
         when(chatMapper.toMessageDtoList(mockMessages)).thenReturn(mockDtos);
         
@@ -118,16 +252,194 @@ class ChatServiceTest {
         
         assertThat(result).hasSize(1);
         
-        verify(chatSessionRepository).existsBySessionIdAndUserEmail(SESSION_ID, USER_EMAIL);
+        verify(sessionOwnershipCache).isOwner(SESSION_ID, USER_EMAIL);
         verify(chatMessageRepository).findBySessionIdOrderByCreatedAtAsc(SESSION_ID);
         verify(chatMapper).toMessageDtoList(mockMessages);
     }
     
+    @Test
+    @DisplayName("세션별 메시지 조회 - 아카이브된 세션은 아카이브와 테이블 잔여분을 중복 없이 합침")
+    void getMessagesBySessionId_archived_mergesWithHotRows() {
+        when(chatArchiveStore.read(SESSION_ID)).thenReturn(Optional.of(List.of(testUserMessage, testAiMessage)));
+        when(chatMessageRepository.findBySessionIdOrderByCreatedAtAsc(SESSION_ID)).thenReturn(List.of(testAiMessage));
+        
+        List<ChatMessageEntity> result = chatService.getMessagesBySessionId(SESSION_ID);
+        
+        assertThat(result).extracting(ChatMessageEntity::getMessageId).containsExactly(1L, 2L);
+    }
+    
+    @Test
+    @DisplayName("메시지 페이지 조회 - 아카이브된 세션은 아카이브 블록과 테이블을 각각 키셋으로 읽어 합침 (전체 로드 없음)")
+    void getMessagePage_archived_seeksArchiveAndHotRows() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatArchiveStore.contains(SESSION_ID)).thenReturn(true);
+        when(chatArchiveStore.readPage(eq(SESSION_ID), isNull(), eq(false), eq(2)))
+                .thenReturn(Optional.of(List.of(testUserMessage)));
+        when(chatArchiveStore.readPage(eq(SESSION_ID), notNull(), eq(false), eq(2)))
+                .thenReturn(Optional.of(List.of(testUserMessage)));
+        when(chatMessageRepository.findLatestPage(SESSION_ID, PageRequest.of(0, 2))).thenReturn(List.of(testAiMessage));
+        when(chatMapper.toMessageDtoList(anyList())).thenReturn(List.of(testMessageDto));
+        
+        CursorPage<ChatMessageDto> latest =
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, 1);
+        chatService.getMessagePage(SESSION_ID, USER_EMAIL, latest.prevCursor(), CursorDirection.BEFORE, 1);
+        
+        assertThat(latest.hasPrev()).isTrue();
+        assertThat(latest.hasNext()).isFalse();
+        verify(chatMapper).toMessageDtoList(List.of(testUserMessage, testAiMessage));
+        verify(chatMapper).toMessageDtoList(List.of(testUserMessage));
+        verify(chatMessageRepository).findPageBefore(SESSION_ID, 2L, PageRequest.of(0, 2));
+        verify(chatArchiveStore, never()).read(any());
+        verify(chatMessageRepository, never()).findBySessionIdOrderByCreatedAtAsc(any());
+    }
+    
+    @Test
+    @DisplayName("순번 빈 구간 - 아카이브된 세션은 저장해 둔 구간 + 아카이브 최대 순번 이후 테이블 구간")
+    void getSequenceGaps_archived_usesStoredSummary() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatArchiveStore.sequenceSummary(SESSION_ID)).thenReturn(Optional.of(
+                new ChatArchiveStore.SequenceSummary(5L, List.of(new ChatSequenceGap(2L, 3L)))));
+        when(chatMessageRepository.findSequenceGaps(SESSION_ID, 5L, 99)).thenReturn(List.of(new ChatSequenceGap(7L, 7L)));
+        
+        List<ChatSequenceGap> gaps = chatService.getSequenceGaps(SESSION_ID, USER_EMAIL);
+        
+        assertThat(gaps).containsExactly(new ChatSequenceGap(2L, 3L), new ChatSequenceGap(7L, 7L));
+        verify(chatArchiveStore, never()).read(any());
+    }
+    
+    @Test
+    @DisplayName("메시지 페이지 조회 - 커서 없음: 최신 페이지를 오래된 순으로 반환")
+    void getMessagePage_latest_reversedWithPrevCursor() {
+        ChatMessageDto aiDto = new ChatMessageDto(
+                2L, SESSION_ID, ChatMessageType.AI, AI_MESSAGE, null, USER_EMAIL, "default", testAiMessage.getCreatedAt(), 2L);
+        
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatMessageRepository.findLatestPage(SESSION_ID, PageRequest.of(0, 2)))
+                .thenReturn(List.of(testAiMessage, testUserMessage));
+        when(chatMapper.toMessageDtoList(List.of(testUserMessage, testAiMessage))).thenReturn(List.of(testMessageDto, aiDto));
+        
+        CursorPage<ChatMessageDto> page =
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, 1);
+        
+        assertThat(page.items()).containsExactly(aiDto);
+        assertThat(page.hasPrev()).isTrue();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.prevCursor()).isNotBlank();
+        verify(chatMessageRepository, never()).findBySessionIdOrderByCreatedAtAsc(any());
+        // 다음 latest(pageSize+1) 가 hit 하도록 읽은 pageSize+1 건 전체로 채움
+        verify(chatMessageTailCache).seed(SESSION_ID, List.of(testMessageDto, aiDto), false);
+    }
+    
+    @Test
+    @DisplayName("메시지 페이지 조회 - 링 버퍼 hit 이면 DB 를 읽지 않음")
+    void getMessagePage_latest_servedFromTail() {
+        ChatMessageDto older = new ChatMessageDto(
+                0L, SESSION_ID, ChatMessageType.AI, AI_MESSAGE, null, USER_EMAIL, "default",
+                testMessageDto.createdAt().minusMinutes(1), null);
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatMessageTailCache.latest(SESSION_ID, 2)).thenReturn(Optional.of(List.of(older, testMessageDto)));
+        
+        CursorPage<ChatMessageDto> page =
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, 1);
+        
+        assertThat(page.items()).containsExactly(testMessageDto);
+        assertThat(page.hasPrev()).isTrue();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.prevCursor()).isNotBlank();
+        verify(chatMessageRepository, never()).findLatestPage(any(), any());
+        verify(chatArchiveStore, never()).read(any());
+    }
+    
+    @Test
+    @DisplayName("컨텍스트 창 - 요약이 먼저 예산을 차지하고 최신 메시지부터 넘치기 전까지만 포함")
+    void getContextWindow_stopsAtBudget() {
+        ChatMessageDto aiDto = new ChatMessageDto(
+                2L, SESSION_ID, ChatMessageType.AI, AI_MESSAGE, null, USER_EMAIL, "default", testAiMessage.getCreatedAt(), 2L);
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatSessionRepository.findSummaryBySessionId(SESSION_ID)).thenReturn(Optional.of("요약"));
+        when(chatMessageRepository.findLatestPage(SESSION_ID, PageRequest.of(0, 50)))
+                .thenReturn(List.of(testAiMessage, testUserMessage));
+        when(chatMapper.toMessageDtoList(List.of(testAiMessage, testUserMessage))).thenReturn(List.of(aiDto, testMessageDto));
+        int budget = "요약".length() + AI_MESSAGE.length() + 1;
+        
+        ChatContextWindow window = chatService.getContextWindow(SESSION_ID, USER_EMAIL, budget, null);
+        
+        assertThat(window.summary()).isEqualTo("요약");
+        assertThat(window.messages()).containsExactly(aiDto);
+        assertThat(window.usedChars()).isEqualTo(budget - 1);
+        assertThat(window.truncated()).isTrue();
+        verify(chatMessageRepository, never()).findPageBefore(any(), any(), any());
+        verify(chatMessageTailCache).seed(SESSION_ID, List.of(testMessageDto, aiDto), true);
+    }
+    
+    @Test
+    @DisplayName("메시지 페이지 조회 - 순번 없는 기존 행이 남은 세션만 (seq, created_at, message_id) 정렬 쿼리로 읽음")
+    void getMessagePage_legacySession_usesLegacyQueries() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatMessageRepository.existsBySessionIdAndSeqIsNull(SESSION_ID)).thenReturn(true);
+        when(chatMessageRepository.findLegacyLatestPage(SESSION_ID, PageRequest.of(0, 2)))
+                .thenReturn(List.of(testAiMessage, testUserMessage));
+        when(chatMapper.toMessageDtoList(anyList())).thenReturn(List.of(testMessageDto));
+        
+        CursorPage<ChatMessageDto> latest =
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, 1);
+        chatService.getMessagePage(SESSION_ID, USER_EMAIL, latest.prevCursor(), CursorDirection.BEFORE, 1);
+        
+        verify(chatMessageRepository).findLegacyPageBeforeSeq(SESSION_ID, 2L, PageRequest.of(0, 2));
+        verify(chatMessageRepository, never()).findLatestPage(any(), any());
+        verify(chatMessageRepository, never()).findPageBefore(any(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("컨텍스트 창 - 예산이 1 미만이면 BadRequestException")
+    void getContextWindow_invalidBudget_throwsBadRequest() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        
+        assertThatThrownBy(() -> chatService.getContextWindow(SESSION_ID, USER_EMAIL, null, 0))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("code").isEqualTo("INVALID_BUDGET");
+    }
+    
+    @Test
+    @DisplayName("메시지 페이지 조회 - 이전 커서로 다음(최신) 페이지 조회")
+    void getMessagePage_afterCursor_roundTrip() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        when(chatMessageRepository.findLatestPage(SESSION_ID, PageRequest.of(0, 2)))
+                .thenReturn(List.of(testUserMessage));
+        when(chatMapper.toMessageDtoList(anyList())).thenReturn(List.of(testMessageDto));
+        
+        CursorPage<ChatMessageDto> first =
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, null, CursorDirection.BEFORE, 1);
+        
+        when(chatMessageRepository.findPageAfter(SESSION_ID, 1L, PageRequest.of(0, 2)))
+                .thenReturn(List.of());
+        
+        CursorPage<ChatMessageDto> next =
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, first.nextCursor(), CursorDirection.AFTER, 1);
+        
+        assertThat(next.items()).isEmpty();
+        assertThat(next.hasNext()).isFalse();
+        assertThat(next.hasPrev()).isTrue();
+        assertThat(next.nextCursor()).isEqualTo(first.nextCursor()); // 폴링이 같은 위치에서 이어짐
+        assertThat(next.prevCursor()).isEqualTo(first.nextCursor());
+    }
+    
+    @Test
+    @DisplayName("메시지 페이지 조회 - 잘못된 커서는 BadRequestException")
+    void getMessagePage_invalidCursor_throwsBadRequest() {
+        when(sessionOwnershipCache.isOwner(SESSION_ID, USER_EMAIL)).thenReturn(true);
+        
+        assertThatThrownBy(() ->
+                chatService.getMessagePage(SESSION_ID, USER_EMAIL, "not-a-cursor", CursorDirection.BEFORE, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+    
     @Test
     @DisplayName("세션 저장 성공 테스트")
     void saveSession_success() {
         when(chatMapper.toEntity(testSessionRequest)).thenReturn(testSession);
-        when(chatSessionRepository.save(testSession)).thenReturn(testSession);
+        when(chatSessionRepository.upsert(testSession)).thenReturn(true);
         
         ChatSessionEntity result = chatService.saveSession(testSessionRequest);
         
@@ -137,7 +449,11 @@ class ChatServiceTest {
         assertThat(result.getUserName()).isEqualTo(USER_NAME);
         
         verify(chatMapper).toEntity(testSessionRequest);
-        verify(chatSessionRepository).save(testSession);
+        verify(chatSessionRepository).upsert(testSession);
+        verify(chatSessionRepository, never()).saveAndFlush(any(ChatSessionEntity.class));
+        verify(sessionOwnershipCache).invalidate(SESSION_ID);
+        verify(chatSessionStatsService).reconcile(SESSION_ID);
+        verify(riskTimelineService).record(testSession);
     }
     
     @Test
@@ -155,7 +471,7 @@ class ChatServiceTest {
         );
         
         when(chatMapper.toAnalysisEntity(payload)).thenReturn(testSession);
-        when(chatSessionRepository.save(testSession)).thenReturn(testSession);
+        when(chatSessionRepository.upsert(testSession)).thenReturn(false);
         
         ChatSessionEntity result = chatService.saveAnalysis(payload);
         
@@ -164,7 +480,10 @@ class ChatServiceTest {
         assertThat(result.getSummary()).isEqualTo("테스트 상담");
         
         verify(chatMapper).toAnalysisEntity(payload);
-        verify(chatSessionRepository).save(testSession);
+        verify(chatSessionRepository).upsert(testSession);
+        verify(chatSessionRepository, never()).saveAndFlush(any(ChatSessionEntity.class));
+        verify(chatSessionStatsService, never()).reconcile(anyString());
+        verify(riskTimelineService).record(testSession);
     }
     
     @Test
@@ -181,6 +500,7 @@ class ChatServiceTest {
         verify(chatSessionRepository).findBySessionId(SESSION_ID);
         verify(chatMapper).updateEntity(testSession, testSessionRequest);
         verify(chatSessionRepository).save(testSession);
+        verify(riskTimelineService).record(testSession);
     }
     
     @Test
@@ -275,6 +595,35 @@ class ChatServiceTest {
         verify(chatMapper).toSessionDtoList(mockEntities);
     }
     
+    @Test
+    @DisplayName("세션 목록 페이지 - 프로젝션만 조회하고 다음 커서로 이어서 조회")
+    void getSessionSummaryPage_keysetRoundTrip() {
+        LocalDateTime now = LocalDateTime.now();
+        ChatSessionSummaryDto newest = new ChatSessionSummaryDto("s3", now, now, "최근 상담", 4, now, "고마워요");
+        ChatSessionSummaryDto middle = new ChatSessionSummaryDto("s2", now.minusDays(1), now, "지난 상담", 2, now, "네");
+        ChatSessionSummaryDto oldest = new ChatSessionSummaryDto("s1", now.minusDays(2), now, "처음 상담", 0, null, null);
+        
+        when(chatSessionRepository.findSummaryPage(USER_EMAIL, PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, middle, oldest));
+        
+        CursorPage<ChatSessionSummaryDto> first = chatService.getSessionSummaryPage(USER_EMAIL, null, 2);
+        
+        assertThat(first.items()).containsExactly(newest, middle);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.hasPrev()).isFalse();
+        
+        when(chatSessionRepository.findSummaryPageBefore(USER_EMAIL, middle.createdAt(), "s2", PageRequest.of(0, 3)))
+                .thenReturn(List.of(oldest));
+        
+        CursorPage<ChatSessionSummaryDto> second = chatService.getSessionSummaryPage(USER_EMAIL, first.nextCursor(), 2);
+        
+        assertThat(second.items()).containsExactly(oldest);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+        verifyNoInteractions(chatMapper);
+        verify(chatSessionRepository, never()).findByUserEmailOrderByCreatedAtDesc(any());
+    }
+    
     @Test
     @DisplayName("사용자 이메일로 세션 조회 - 빈 결과")
     void getChatSessionsByUserEmail_emptyResult_returnsEmptyList() {
@@ -296,13 +645,13 @@ class ChatServiceTest {
     void getMessagesBySessionId_withAuth_forbidden() {
         String otherEmail = "other@example.com";
         
-        when(chatSessionRepository.existsBySessionIdAndUserEmail(SESSION_ID, otherEmail)).thenReturn(false);
+        when(sessionOwnershipCache.isOwner(SESSION_ID, otherEmail)).thenReturn(false);
         
         assertThatThrownBy(() -> chatService.getMessagesBySessionId(SESSION_ID, otherEmail))
                 .isInstanceOf(ForbiddenException.class)
                 .hasMessage("세션 접근 권한이 없습니다.");
         
-        verify(chatSessionRepository).existsBySessionIdAndUserEmail(SESSION_ID, otherEmail);
+        verify(sessionOwnershipCache).isOwner(SESSION_ID, otherEmail);
         verifyNoInteractions(chatMessageRepository, chatMapper);
     }
     
@@ -329,26 +678,69 @@ class ChatServiceTest {
     @Test
     @DisplayName("세션 삭제 성공 테스트")
     void deleteSession_success() {
-        when(chatSessionRepository.findBySessionId(SESSION_ID)).thenReturn(Optional.of(testSession));
+        chatProperties.getDeletion().setChunkSize(2);
+        when(chatSessionRepository.existsById(SESSION_ID)).thenReturn(true);
+        when(chatMessageRepository.findMessageIdChunk(SESSION_ID, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(5L));
+        when(chatMessageBlobStore.deleteMessages(SESSION_ID, 1L, 2L)).thenReturn(2);
+        when(chatMessageBlobStore.deleteMessages(SESSION_ID, 5L, 5L)).thenReturn(1);
         
         chatService.deleteSession(SESSION_ID);
         
-        verify(chatSessionRepository).findBySessionId(SESSION_ID);
-        verify(chatMessageRepository).deleteAllBySessionId(SESSION_ID);
-        verify(chatSessionRepository).delete(testSession);
+        verify(chatMessageBlobStore).deleteMessages(SESSION_ID, 1L, 2L);
+        verify(chatMessageBlobStore).deleteMessages(SESSION_ID, 5L, 5L);
+        verify(chatSessionRepository).deleteAllBySessionIdIn(List.of(SESSION_ID));
+        verify(chatSessionRepository, never()).delete(any(ChatSessionEntity.class));
+        verify(chatArchiveStore).remove(SESSION_ID);
+        verify(sessionOwnershipCache).invalidate(SESSION_ID);
+        verify(chatSearchService).removeSessions(List.of(SESSION_ID));
+        verify(riskTimelineService).remove(List.of(SESSION_ID));
+        verify(chatMessageTailCache).evict(List.of(SESSION_ID));
+        verify(chatMessageSequenceAllocator).forget(List.of(SESSION_ID));
+    }
+    
+    @Test
+    @DisplayName("세션 일괄 삭제 - 소유한 세션만 삭제하고 나머지는 skipped")
+    void deleteSessions_onlyOwned() {
+        String otherSession = "other-session-id";
+        when(chatSessionRepository.findOwnedSessionIds(List.of(SESSION_ID, otherSession), USER_EMAIL))
+                .thenReturn(List.of(SESSION_ID));
+        when(chatMessageRepository.findMessageIdChunk(eq(SESSION_ID), any())).thenReturn(List.of());
+        
+        ChatSessionBulkDeleteResult result =
+                chatService.deleteSessions(List.of(SESSION_ID, otherSession, SESSION_ID), USER_EMAIL);
+        
+        assertThat(result.deleted()).containsExactly(SESSION_ID);
+        assertThat(result.skipped()).containsExactly(otherSession);
+        verify(chatSessionRepository).deleteAllBySessionIdIn(List.of(SESSION_ID));
+        verify(chatMessageRepository, never()).findMessageIdChunk(eq(otherSession), any());
+    }
+    
+    @Test
+    @DisplayName("세션 일괄 삭제 - 최대 개수 초과 시 BadRequestException")
+    void deleteSessions_tooMany_throwsBadRequest() {
+        chatProperties.getDeletion().setMaxBulkSessions(1);
+        
+        assertThatThrownBy(() -> chatService.deleteSessions(List.of("a", "b"), USER_EMAIL))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("한 번에 삭제할 수 있는 세션은 최대 1개입니다.");
+        
+        verifyNoInteractions(chatSessionRepository, chatMessageRepository);
     }
     
     @Test
     @DisplayName("세션 삭제 - 세션 없음 예외")
     void deleteSession_sessionNotFound_throwsException() {
         String missingId = "non-existent-session";
-        when(chatSessionRepository.findBySessionId(missingId)).thenReturn(Optional.empty());
+        when(chatSessionRepository.existsById(missingId)).thenReturn(false);
         
         assertThatThrownBy(() -> chatService.deleteSession(missingId))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("세션을 찾을 수 없습니다: " + missingId);
         
-        verify(chatSessionRepository).findBySessionId(missingId);
+        verify(chatSessionRepository).existsById(missingId);
+        verifyNoInteractions(chatMessageRepository);
     }
     
     private ChatSessionEntity buildSession(LocalDateTime now) {
@@ -370,6 +762,7 @@ class ChatServiceTest {
         return ChatMessageEntity.builder()
                 .messageId(1L)
                 .sessionId(SESSION_ID)
+                .seq(1L)
                 .messageType(ChatMessageType.USER)
                 .messageContent(USER_MESSAGE)
                 .userEmail(USER_EMAIL)
@@ -382,6 +775,7 @@ class ChatServiceTest {
         return ChatMessageEntity.builder()
                 .messageId(2L)
                 .sessionId(SESSION_ID)
+                .seq(2L)
                 .messageType(ChatMessageType.AI)
                 .messageContent(AI_MESSAGE)
                 .emotion("{\"joy\": 0.9}")
@@ -434,7 +828,8 @@ class ChatServiceTest {
                 null,
                 USER_EMAIL,
                 "default",
-                now
+                now,
+                1L
         );
     }
     
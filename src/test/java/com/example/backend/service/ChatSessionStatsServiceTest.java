@@ -0,0 +1,89 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.ChatMessageType;
+import com.example.backend.entity.ChatMessageEntity;
+import com.example.backend.repository.ChatMessageRepository;
+import com.example.backend.repository.ChatSessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatSessionStatsService 테스트")
+class ChatSessionStatsServiceTest {
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Spy
+    private ChatProperties chatProperties = new ChatProperties();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ChatSessionStatsService chatSessionStatsService;
+
+    @Test
+    @DisplayName("세션별로 묶어 UPDATE 1회, 가장 마지막 메시지로 미리보기")
+    void applyMessages_groupsBySession() {
+        LocalDateTime now = LocalDateTime.now();
+        ChatMessageEntity first = message(1L, "s1", now.minusSeconds(2), "안녕하세요");
+        ChatMessageEntity last = message(2L, "s1", now, "오늘 기분은 어떠세요?");
+        ChatMessageEntity other = message(3L, "s2", now.minusSeconds(1), "x".repeat(150));
+
+        chatSessionStatsService.applyMessages(List.of(last, first, other));
+
+        verify(chatSessionRepository).applyMessageStats("s1", 2, now, "오늘 기분은 어떠세요?");
+        verify(chatSessionRepository).applyMessageStats("s2", 1, now.minusSeconds(1), "x".repeat(100));
+        verifyNoMoreInteractions(chatSessionRepository);
+    }
+
+    @Test
+    @DisplayName("전체 재계산은 세션 id 키셋으로 청크 단위 순회")
+    void reconcileAll_walksSessionIdsInChunks() {
+        chatProperties.getStats().setReconcileChunkSize(2);
+        when(chatSessionRepository.findSessionIdsAfter("", PageRequest.of(0, 2))).thenReturn(List.of("a", "b"));
+        when(chatSessionRepository.findSessionIdsAfter("b", PageRequest.of(0, 2))).thenReturn(List.of("c"));
+        when(chatSessionRepository.findSessionIdsAfter("c", PageRequest.of(0, 2))).thenReturn(List.of());
+        when(chatSessionRepository.reconcileStats(List.of("a", "b"))).thenReturn(2);
+        when(chatSessionRepository.reconcileStats(List.of("c"))).thenReturn(1);
+        when(chatMessageRepository.findLatestBySessionIds(List.of("a", "b")))
+                .thenReturn(List.of(message(7L, "a", LocalDateTime.now(), "마지막 메시지")));
+        when(chatMessageRepository.findLatestBySessionIds(List.of("c"))).thenReturn(List.of());
+
+        int reconciled = chatSessionStatsService.reconcileAll();
+
+        assertThat(reconciled).isEqualTo(3);
+        verify(transactionManager, times(2)).commit(any()); // 청크마다 별도 트랜잭션
+        verify(chatSessionRepository).updateLastMessagePreview("a", "마지막 메시지");
+        verify(chatSessionRepository, never()).updateLastMessagePreview(eq("b"), any());
+    }
+
+    private ChatMessageEntity message(Long id, String sessionId, LocalDateTime createdAt, String content) {
+        return ChatMessageEntity.builder()
+                .messageId(id)
+                .sessionId(sessionId)
+                .messageType(ChatMessageType.USER)
+                .messageContent(content)
+                .createdAt(createdAt)
+                .build();
+    }
+}
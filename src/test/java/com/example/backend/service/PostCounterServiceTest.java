@@ -0,0 +1,125 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.backend.config.properties.PostProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCounterService 테스트")
+class PostCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PostRankingService postRankingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PostCounterService(jdbcTemplate, postRankingService, transactionManager,
+                new PostProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("증가는 posts 가 아니라 슬롯 테이블의 임의 슬롯 1행에 더함")
+    void like_incrementsOneShard() {
+        service.like(7L);
+
+        verify(jdbcTemplate).update(contains("ON DUPLICATE KEY UPDATE"),
+                eq(7L), eq("LIKE"), intThat(shard -> shard >= 0 && shard < 16), eq(1L), eq(1L));
+        verify(jdbcTemplate, never()).update(contains("UPDATE posts"), any(Object[].class));
+        verify(postRankingService).adjust(7L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("슬롯 합계는 캐시하고, 이 인스턴스의 증가는 캐시에 바로 더함")
+    void pending_cachesShardSums() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getString(2)).thenReturn("LIKE");
+        when(rs.getLong(3)).thenReturn(4L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("SUM(value)"), any(RowCallbackHandler.class), any(Object[].class));
+
+        assertThat(service.pending(7L)).isEqualTo(new PostCounterService.Counts(4, 0));
+        service.like(7L);
+        service.commentAdded(7L);
+
+        assertThat(service.pending(7L)).isEqualTo(new PostCounterService.Counts(5, 1));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("접는 중에는 캐시를 쓰지도 채우지도 않고, 접은 뒤에는 슬롯 합계를 다시 읽음")
+    @SuppressWarnings("unchecked")
+    void fold_invalidatesCacheBeforeCommit() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getString(2)).thenReturn("LIKE");
+        when(rs.getLong(3)).thenReturn(4L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("SUM(value)"), any(RowCallbackHandler.class), any(Object[].class));
+        when(jdbcTemplate.queryForList(contains("SELECT DISTINCT post_id"), eq(Long.class), anyLong(), anyInt()))
+                .thenReturn(List.of(7L), List.of());
+        PostCounterService.Counts[] duringFold = new PostCounterService.Counts[1];
+        when(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    duringFold[0] = service.pending(7L); // 접기 트랜잭션이 커밋되기 전의 동시 읽기
+                    return List.<Object[]>of(new Object[]{7L, "LIKE", 0, 4L});
+                });
+
+        service.pending(7L);
+        service.fold();
+        service.pending(7L);
+
+        assertThat(duringFold[0]).isEqualTo(new PostCounterService.Counts(4, 0));
+        // 처음 1번 + 접는 중 1번(캐시 무시) + 접은 뒤 1번(이전 세대 항목 무시)
+        verify(jdbcTemplate, times(3)).query(contains("SUM(value)"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("접기: 잠근 슬롯 값을 posts 에 한 문장으로 더하고 같은 값을 슬롯에서 뺌")
+    @SuppressWarnings("unchecked")
+    void foldBatch_movesShardSumsIntoPosts() {
+        when(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(List.of(
+                        new Object[]{1L, "LIKE", 0, 3L},
+                        new Object[]{1L, "LIKE", 5, 2L},
+                        new Object[]{2L, "COMMENT", 1, 1L}));
+
+        int folded = service.foldBatch(List.of(1L, 2L));
+
+        assertThat(folded).isEqualTo(2);
+        verify(jdbcTemplate).update(contains("like_count = like_count + CASE post_id"),
+                eq(new Object[]{1L, 5L, 2L, 0L, 1L, 0L, 2L, 1L, 1L, 2L}));
+        verify(jdbcTemplate).batchUpdate(contains("SET value = value - ?"), anyList());
+        verify(jdbcTemplate).update(contains("DELETE FROM post_counter_shards"), any(Object[].class));
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.example.backend.config.properties.PostProperties;
+import com.example.backend.entity.PostEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostRankingService 테스트")
+class PostRankingServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 16, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    private PostRankingService ranking;
+
+    @BeforeEach
+    void setUp() {
+        PostProperties postProperties = new PostProperties();
+        postProperties.getRanking().setTopK(3);
+        ranking = new PostRankingService(jdbcTemplate, postViewCounter, postProperties, new SimpleMeterRegistry());
+        ranking.rebuild(); // 빈 DB 로 초기화 (이후 page 가 DB 를 다시 읽지 않음)
+    }
+
+    @Test
+    @DisplayName("반응이 같으면 최신 글이 위, 하루(half-life) 늦은 글은 반응이 두 배 남짓이어야 앞선다")
+    void offer_decaysByAge() {
+        ranking.offer(1L, NOW.minusHours(24), 3, 0, 0); // (1 + 3) × 1/2 = 2
+        ranking.offer(2L, NOW, 0, 0, 0);                 // (1 + 0) × 1   = 1
+        ranking.offer(3L, NOW, 2, 0, 0);                 // (1 + 2) × 1   = 3
+
+        assertThat(ids(ranking.page(null, 10))).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("top-K 를 넘으면 가장 낮은 점수를 버리고, 순위 안 게시글은 좋아요 증가로 다시 정렬")
+    void offer_keepsTopK_andAdjustReorders() {
+        ranking.offer(1L, NOW, 1, 0, 0);
+        ranking.offer(2L, NOW, 2, 0, 0);
+        ranking.offer(3L, NOW, 3, 0, 0);
+        ranking.offer(4L, NOW, 0, 0, 0); // 최하위라 들어오지 못함
+
+        ranking.adjust(1L, 5, 0);
+
+        List<PostRankingService.Ranked> all = ranking.page(null, 10);
+        assertThat(ids(all)).containsExactly(1L, 3L, 2L);
+        assertThat(ids(ranking.page(all.get(0), 1))).containsExactly(3L);
+        assertThat(ranking.page(all.get(2), 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 순위 키 다음부터라 앞 페이지 게시글이 빠져도 건너뛰거나 반복하지 않음")
+    void page_afterKey_stableWhenEntriesRemoved() {
+        ranking.offer(1L, NOW, 3, 0, 0);
+        ranking.offer(2L, NOW, 2, 0, 0);
+        ranking.offer(3L, NOW, 1, 0, 0);
+        List<PostRankingService.Ranked> first = ranking.page(null, 1);
+
+        ranking.remove(1L); // 첫 페이지의 게시글이 삭제됨
+
+        assertThat(ids(first)).containsExactly(1L);
+        assertThat(ids(ranking.page(first.get(0), 1))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("비공개로 바뀐 게시글은 순위에서 제거")
+    void offer_privatePost_removes() {
+        ranking.offer(1L, NOW, 1, 0, 0);
+
+        ranking.offer(PostEntity.builder().postId(1L).visibility("private").status("active").createdAt(NOW).build());
+
+        assertThat(ranking.page(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성은 최근 게시글을 한 번 훑어 top-K 만 남기고 미반영 조회수를 더함")
+    void rebuild_keepsTopKFromDatabase() {
+        clearInvocations(jdbcTemplate);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long id = 1; id <= 5; id++) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(id);
+                when(rs.getTimestamp(2)).thenReturn(Timestamp.valueOf(NOW));
+                when(rs.getLong(3)).thenReturn(id); // 좋아요 = id
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(contains("post_counter_shards"), any(RowCallbackHandler.class), any(LocalDateTime.class));
+
+        int size = ranking.rebuild();
+
+        assertThat(size).isEqualTo(3);
+        assertThat(ids(ranking.page(null, 10))).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("재구성이 DB 를 훑는 동안 들어온 offer/remove 는 교체 후에도 남음")
+    void rebuild_replaysChangesDuringScan() {
+        ranking.offer(9L, NOW, 1, 0, 0);
+        clearInvocations(jdbcTemplate);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(1L);
+            when(rs.getTimestamp(2)).thenReturn(Timestamp.valueOf(NOW));
+            handler.processRow(rs);
+            ranking.offer(2L, NOW, 5, 0, 0); // 스캔 도중 새 글 상세 조회
+            ranking.remove(1L);              // 스캔 도중 삭제 (스캔은 이미 읽음)
+            return null;
+        }).when(jdbcTemplate).query(contains("post_counter_shards"), any(RowCallbackHandler.class), any(LocalDateTime.class));
+
+        ranking.rebuild();
+
+        assertThat(ids(ranking.page(null, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("만들기 전 동시 첫 조회는 한 번만 DB 를 훑음")
+    void page_beforeBuilt_rebuildsOnce() throws Exception {
+        PostProperties postProperties = new PostProperties();
+        PostRankingService fresh = new PostRankingService(jdbcTemplate, postViewCounter, postProperties, new SimpleMeterRegistry());
+        clearInvocations(jdbcTemplate);
+        doAnswer(invocation -> {
+            Thread.sleep(50); // 다른 조회가 도착할 시간
+            return null;
+        }).when(jdbcTemplate).query(contains("post_counter_shards"), any(RowCallbackHandler.class), any(LocalDateTime.class));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<PostRankingService.Ranked>>> pages = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                pages.add(pool.submit(() -> fresh.page(null, 10)));
+            }
+            for (Future<List<PostRankingService.Ranked>> page : pages) {
+                assertThat(page.get()).isEmpty();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(jdbcTemplate, times(1)).query(contains("post_counter_shards"), any(RowCallbackHandler.class), any(LocalDateTime.class));
+    }
+
+    private static List<Long> ids(List<PostRankingService.Ranked> page) {
+        return page.stream().map(PostRankingService.Ranked::postId).toList();
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +17,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.example.backend.common.error.BadRequestException;
 import com.example.backend.common.error.ForbiddenException;
 import com.example.backend.common.error.NotFoundException;
+import com.example.backend.dto.common.CursorPage;
 import com.example.backend.dto.post.CreateRequest;
 import com.example.backend.dto.post.Detail;
 import com.example.backend.dto.post.Summary;
@@ -46,6 +49,15 @@ class PostServiceTest {
     @Mock  // ✅ PostMapper Mock 추가
     private PostMapper postMapper;
     
+    @Mock
+    private PostViewCounter postViewCounter;
+    
+    @Mock
+    private PostCounterService postCounterService;
+    
+    @Mock
+    private PostRankingService postRankingService;
+    
     private UserEntity testUser;
     private UserEntity adminUser;
     private PostEntity testPost;
@@ -175,7 +187,7 @@ class PostServiceTest {
             // given
             given(userRepository.findByEmail("user@example.com"))
                     .willReturn(Optional.of(testUser));
-            given(postRepository.findByUserIdOrderByCreatedAtDesc(1L))
+            given(postRepository.findPageByUserId(1L, PageRequest.of(0, 21)))
                     .willReturn(List.of(testPost));
             
             // ✅ PostMapper Mock 설정
@@ -183,11 +195,12 @@ class PostServiceTest {
                     .willReturn(List.of(testDetail));
             
             // when
-            List<Detail> result = postService.getPostsByUser("user@example.com");
+            CursorPage<Detail> result = postService.getPostsByUser("user@example.com", null, null);
             
             // then
-            assertThat(result).hasSize(1);
-            Detail detail = result.get(0);
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            Detail detail = result.items().get(0);
             assertThat(detail.getUserEmail()).isEqualTo("user@example.com");
             assertThat(detail.getUserNickname()).isEqualTo("테스트사용자");
             
@@ -198,7 +211,7 @@ class PostServiceTest {
         @DisplayName("전체 게시글 조회 성공")
         void getAllPosts_성공() {
             // given
-            given(postRepository.findAllByOrderByCreatedAtDesc())
+            given(postRepository.findPage(PageRequest.of(0, 21)))
                     .willReturn(List.of(testPost));
             
             // ✅ PostMapper Mock 설정
@@ -206,11 +219,11 @@ class PostServiceTest {
                     .willReturn(List.of(testDetail));
             
             // when
-            List<Detail> result = postService.getAllPosts();
+            CursorPage<Detail> result = postService.getAllPosts(null, null);
             
             // then
-            assertThat(result).hasSize(1);
-            Detail detail = result.get(0);
+            assertThat(result.items()).hasSize(1);
+            Detail detail = result.items().get(0);
             assertThat(detail.getUserEmail()).isEqualTo("user@example.com");
             
             verify(postMapper).toDetailList(List.of(testPost), userRepository);
@@ -220,7 +233,7 @@ class PostServiceTest {
         @DisplayName("공개 게시글 조회 성공")
         void getPublicPosts_성공() {
             // given
-            given(postRepository.findByVisibilityOrderByCreatedAtDesc("public"))
+            given(postRepository.findPageByVisibility("public", PageRequest.of(0, 21)))
                     .willReturn(List.of(testPost));
             
             // ✅ PostMapper Mock 설정
@@ -228,16 +241,87 @@ class PostServiceTest {
                     .willReturn(List.of(testSummary));
             
             // when
-            List<Summary> result = postService.getPublicPosts();
+            CursorPage<Summary> result = postService.getPublicPosts(null, null);
             
             // then
-            assertThat(result).hasSize(1);
-            Summary summary = result.get(0);
+            assertThat(result.items()).hasSize(1);
+            Summary summary = result.items().get(0);
             assertThat(summary.getUserNickname()).isEqualTo("테스트사용자");
             
             verify(postMapper).toSummaryList(List.of(testPost), userRepository);
         }
         
+        @Test
+        @DisplayName("공개 게시글 페이지: size+1 건이면 nextCursor 로 이어서 더 오래된 게시글 조회")
+        void getPublicPosts_nextCursor() {
+            // given
+            PostEntity older = PostEntity.builder()
+                    .postId(0L)
+                    .userId(1L)
+                    .content("이전 게시글")
+                    .createdAt(testPost.getCreatedAt().minusDays(1))
+                    .build();
+            given(postRepository.findPageByVisibility("public", PageRequest.of(0, 2)))
+                    .willReturn(List.of(testPost, older));
+            given(postMapper.toSummaryList(List.of(testPost), userRepository))
+                    .willReturn(List.of(testSummary));
+            
+            // when
+            CursorPage<Summary> first = postService.getPublicPosts(null, 1);
+            postService.getPublicPosts(first.nextCursor(), 1);
+            
+            // then
+            assertThat(first.hasNext()).isTrue();
+            verify(postRepository).findPageByVisibilityBefore(
+                    "public", testPost.getCreatedAt(), testPost.getPostId(), PageRequest.of(0, 2));
+        }
+        
+        @Test
+        @DisplayName("잘못된 커서는 400")
+        void getAllPosts_invalidCursor() {
+            assertThatThrownBy(() -> postService.getAllPosts("not-a-cursor", null))
+                    .isInstanceOf(BadRequestException.class);
+        }
+        
+        @Test
+        @DisplayName("인기 게시글: 메모리 순위 구간을 PK 로 읽고, nextCursor 는 마지막 항목의 순위 키")
+        void getPopularPosts_pagesRanking() {
+            // given
+            PostRankingService.Ranked top = new PostRankingService.Ranked(1L, 2.5);
+            given(postRankingService.page(null, 2))
+                    .willReturn(List.of(top, new PostRankingService.Ranked(2L, 1.5)));
+            given(postRepository.findAllById(List.of(1L))).willReturn(List.of(testPost));
+            given(postMapper.toSummaryList(List.of(testPost), userRepository))
+                    .willReturn(List.of(testSummary));
+            
+            // when
+            CursorPage<Summary> first = postService.getPopularPosts(null, 1);
+            postService.getPopularPosts(first.nextCursor(), 1);
+            
+            // then
+            assertThat(first.items()).containsExactly(testSummary);
+            assertThat(first.hasNext()).isTrue();
+            verify(postRankingService).page(top, 2);
+            verify(postRepository, never()).findPage(any());
+        }
+        
+        @Test
+        @DisplayName("인기 게시글: 순위 재구성 전에 비공개로 바뀐 게시글은 빼고 순위에서도 제거")
+        void getPopularPosts_dropsStaleEntries() {
+            // given
+            testPost.setVisibility("private");
+            given(postRankingService.page(null, 21)).willReturn(List.of(new PostRankingService.Ranked(1L, 1.0)));
+            given(postRepository.findAllById(List.of(1L))).willReturn(List.of(testPost));
+            
+            // when
+            CursorPage<Summary> result = postService.getPopularPosts(null, null);
+            
+            // then
+            assertThat(result.items()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            verify(postRankingService).remove(1L);
+        }
+        
         @Test
         @DisplayName("게시글 상세 조회 성공")
         void getPostDetail_성공() {
@@ -248,6 +332,10 @@ class PostServiceTest {
             // ✅ PostMapper Mock 설정
             given(postMapper.toDetail(testPost, userRepository))
                     .willReturn(testDetail);
+            testDetail.setViewCount(40);
+            given(postViewCounter.pending(1L)).willReturn(2L);
+            given(postCounterService.pending(List.of(1L)))
+                    .willReturn(Map.of(1L, new PostCounterService.Counts(3, 1)));
             
             // when
             Optional<Detail> result = postService.getPostDetail(1L);
@@ -256,8 +344,13 @@ class PostServiceTest {
             assertThat(result).isPresent();
             Detail detail = result.get();
             assertThat(detail.getUserEmail()).isEqualTo("user@example.com");
+            assertThat(detail.getViewCount()).isEqualTo(42);
+            assertThat(detail.getLikeCount()).isEqualTo(13);
+            verify(postRankingService).offer(eq(1L), any(LocalDateTime.class), eq(13L), eq(6L), eq(42L));
             
             verify(postMapper).toDetail(testPost, userRepository);
+            verify(postViewCounter).record(1L);
+            verify(postRepository, never()).incrementViewCount(any());
         }
     }
     
@@ -353,6 +446,7 @@ class PostServiceTest {
             
             // then
             verify(postRepository).deleteById(1L);
+            verify(postRankingService).remove(1L);
         }
         
         @Test
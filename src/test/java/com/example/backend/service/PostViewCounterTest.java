@@ -0,0 +1,60 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.config.properties.PostProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCounter 테스트")
+class PostViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new PostViewCounter(jdbcTemplate, new PostProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("조회는 메모리에만 모으고, 플러시는 게시글 여러 건을 UPDATE ... CASE 한 문장으로 반영")
+    void flush_coalescesIntoOneUpdate() {
+        counter.record(1L);
+        counter.record(1L);
+        counter.record(2L);
+
+        assertThat(counter.pending(1L)).isEqualTo(2);
+        verifyNoInteractions(jdbcTemplate);
+
+        long flushed = counter.flush();
+
+        assertThat(flushed).isEqualTo(3);
+        assertThat(counter.pending(1L)).isZero();
+        verify(jdbcTemplate, times(1)).update(contains("CASE post_id"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 되돌려 다음 플러시에 재시도")
+    void flush_failure_keepsPendingViews() {
+        counter.record(7L);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThat(counter.flush()).isZero();
+        assertThat(counter.pending(7L)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.backend.common.error.BadRequestException;
+import com.example.backend.config.properties.ChatProperties;
+import com.example.backend.dto.chat.RiskLevel;
+import com.example.backend.dto.chat.RiskTimelineEntry;
+import com.example.backend.dto.common.CursorPage;
+import com.example.backend.entity.ChatSessionEntity;
+import com.example.backend.entity.RiskTimelineEntity;
+import com.example.backend.repository.ChatSessionRepository;
+import com.example.backend.repository.RiskTimelineRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RiskTimelineService 테스트")
+class RiskTimelineServiceTest {
+
+    private static final String USER_EMAIL = "test@example.com";
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    @Mock
+    private RiskTimelineRepository riskTimelineRepository;
+
+    @Mock
+    private ChatSessionRepository chatSessionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RiskTimelineService riskTimelineService;
+
+    @BeforeEach
+    void setUp() {
+        riskTimelineService = new RiskTimelineService(riskTimelineRepository, chatSessionRepository,
+                transactionManager, new ChatProperties());
+    }
+
+    @Test
+    @DisplayName("갱신 경로(created_at 없는 엔티티)에서도 occurred_at 을 지금 시각으로 채우지 않고 upsert 가 세션 행에서 읽게 둠")
+    void record_updatePath_leavesOccurredAtToSessionRow() {
+        ChatSessionEntity session = ChatSessionEntity.builder()
+                .sessionId("s-1")
+                .userEmail(USER_EMAIL)
+                .primaryRisk("자해 사고")
+                .riskFactors("자해: 0.2")
+                .build();
+
+        riskTimelineService.record(session);
+
+        RiskTimelineEntity row = captureUpserted().iterator().next();
+        assertThat(row.getSessionId()).isEqualTo("s-1");
+        assertThat(row.getUserEmail()).isEqualTo(USER_EMAIL);
+        assertThat(row.getRiskLevel()).isEqualTo(RiskLevel.HIGH);
+        assertThat(row.getOccurredAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("타임라인은 최신순 키셋: 다음 페이지는 마지막 항목의 (occurred_at, session_id) 이전부터")
+    void getUserTimeline_pagesByOccurredAtThenSessionId() {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 2, 10, 0);
+        RiskTimelineEntry newest = entry("s-3", at.plusDays(1));
+        RiskTimelineEntry sameTimeHigherId = entry("s-2", at);
+        RiskTimelineEntry sameTimeLowerId = entry("s-1", at);
+        when(riskTimelineRepository.findUserPage(USER_EMAIL, MIN_TIME, MAX_TIME, PageRequest.of(0, 3)))
+                .thenReturn(List.of(newest, sameTimeHigherId, sameTimeLowerId));
+        when(riskTimelineRepository.findUserPageBefore(USER_EMAIL, MIN_TIME, MAX_TIME, at, "s-2", PageRequest.of(0, 3)))
+                .thenReturn(List.of(sameTimeLowerId));
+
+        CursorPage<RiskTimelineEntry> first = riskTimelineService.getUserTimeline(USER_EMAIL, null, null, null, 2);
+        CursorPage<RiskTimelineEntry> second =
+                riskTimelineService.getUserTimeline(USER_EMAIL, null, null, first.nextCursor(), 2);
+
+        assertThat(first.items()).containsExactly(newest, sameTimeHigherId);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.items()).containsExactly(sameTimeLowerId);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("기간은 [시작일 0시, 종료일 다음 날 0시) 로 조회")
+    void getUserTimeline_dateRange_includesEndDate() {
+        riskTimelineService.getUserTimeline(USER_EMAIL, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 2), null, null);
+
+        verify(riskTimelineRepository).findUserPage(USER_EMAIL, LocalDateTime.of(2025, 3, 1, 0, 0),
+                LocalDateTime.of(2025, 3, 3, 0, 0), PageRequest.of(0, 51));
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 BadRequestException")
+    void getUserTimeline_invalidRange_throwsBadRequest() {
+        assertThatThrownBy(() -> riskTimelineService.getUserTimeline(USER_EMAIL,
+                LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 1), null, null))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("code").isEqualTo("INVALID_DATE_RANGE");
+        verifyNoInteractions(riskTimelineRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<RiskTimelineEntity> captureUpserted() {
+        ArgumentCaptor<Collection<RiskTimelineEntity>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(riskTimelineRepository).upsertAll(rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        return rows.getValue();
+    }
+
+    private static RiskTimelineEntry entry(String sessionId, LocalDateTime occurredAt) {
+        return new RiskTimelineEntry(sessionId, USER_EMAIL, RiskLevel.MEDIUM, 0.5, "대인관계 갈등", occurredAt);
+    }
+}